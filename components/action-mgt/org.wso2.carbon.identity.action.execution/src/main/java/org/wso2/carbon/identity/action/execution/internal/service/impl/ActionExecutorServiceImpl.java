@@ -59,6 +59,7 @@ import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorCon
 import org.wso2.carbon.identity.action.execution.internal.util.AuthMethods;
 import org.wso2.carbon.identity.action.execution.internal.util.OperationComparator;
 import org.wso2.carbon.identity.action.execution.internal.util.RequestFilter;
+import org.wso2.carbon.identity.action.execution.internal.util.TenantInFlightRequestLimiter;
 import org.wso2.carbon.identity.action.management.api.exception.ActionMgtException;
 import org.wso2.carbon.identity.action.management.api.model.Action;
 import org.wso2.carbon.identity.action.management.api.model.AuthProperty;
@@ -93,6 +94,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
     private static final String API_VERSION_HEADER = "x-wso2-api-version";
     private final APIClient apiClient;
     private final ExecutorService executorService = ThreadLocalAwareExecutors.newFixedThreadPool(THREAD_POOL_SIZE);
+    private final TenantInFlightRequestLimiter inFlightRequestLimiter = new TenantInFlightRequestLimiter();
 
     private ActionExecutorServiceImpl() {
 
@@ -180,7 +182,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
                 actionType, action, flowContext, actionExecutionRequestContext);
         ActionExecutionResponseProcessor actionExecutionResponseProcessor = getResponseProcessor(actionType);
 
-        return executeAction(action, actionRequest, flowContext, actionExecutionResponseProcessor);
+        return executeAction(action, actionRequest, flowContext, actionExecutionResponseProcessor, tenantDomain);
     }
 
     private Action getActionByActionId(ActionType actionType, String actionId, String tenantDomain)
@@ -264,7 +266,8 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
     private ActionExecutionStatus<?> executeAction(Action action,
                                                    ActionExecutionRequest actionRequest,
                                                    FlowContext flowContext,
-                                                   ActionExecutionResponseProcessor actionExecutionResponseProcessor)
+                                                   ActionExecutionResponseProcessor actionExecutionResponseProcessor,
+                                                   String tenantDomain)
             throws ActionExecutionException {
 
         Authentication endpointAuthentication = action.getEndpoint().getAuthentication();
@@ -277,7 +280,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
             logActionRequest(action, payload);
 
             ActionInvocationResponse actionInvocationResponse =
-                    executeActionAsynchronously(action, authenticationMethod, payload);
+                    executeActionAsynchronously(action, authenticationMethod, payload, tenantDomain);
             return processActionResponse(action, actionInvocationResponse, flowContext, actionRequest,
                     actionExecutionResponseProcessor);
         } catch (ActionMgtException | JsonProcessingException | ActionExecutionResponseProcessorException e) {
@@ -339,19 +342,34 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
     private ActionInvocationResponse executeActionAsynchronously(Action action,
                                                                  AuthMethods.AuthMethod authenticationMethod,
-                                                                 String payload) throws ActionExecutionException {
+                                                                 String payload, String tenantDomain)
+            throws ActionExecutionException {
 
         String apiEndpoint = action.getEndpoint().getUri();
         Map<String, String> headers = new HashMap<>();
         headers.put(API_VERSION_HEADER, action.getActionVersion());
-        CompletableFuture<ActionInvocationResponse> actionExecutor = CompletableFuture.supplyAsync(
-                () -> apiClient.callAPI(ActionType.valueOf(action.getType().getActionType()),
-                        apiEndpoint, authenticationMethod, headers, payload), executorService);
+        ActionType actionType = ActionType.valueOf(action.getType().getActionType());
+
+        if (!inFlightRequestLimiter.tryAcquire(tenantDomain,
+                ActionExecutorConfig.getInstance().getMaxInFlightRequestsPerTenant())) {
+            throw new ActionExecutionException("Maximum number of in flight action requests reached for tenant: " +
+                    tenantDomain + ". Skipped executing action: " + action.getId());
+        }
         try {
+            if (ActionExecutorConfig.getInstance().isExecuteOnCallerThreadEnabled()) {
+                // The caller waits for the response in either case. Making the request on the caller thread avoids
+                // queueing behind requests of other tenants in the shared pool, and keeps the carbon context as is.
+                return apiClient.callAPI(actionType, apiEndpoint, authenticationMethod, headers, payload);
+            }
+            CompletableFuture<ActionInvocationResponse> actionExecutor = CompletableFuture.supplyAsync(
+                    () -> apiClient.callAPI(actionType, apiEndpoint, authenticationMethod, headers, payload),
+                    executorService);
             return actionExecutor.get();
         } catch (InterruptedException | ExecutionException e) {
             throw new ActionExecutionException("Error occurred while executing action: " + action.getId(),
                     e);
+        } finally {
+            inFlightRequestLimiter.release(tenantDomain);
         }
     }
 
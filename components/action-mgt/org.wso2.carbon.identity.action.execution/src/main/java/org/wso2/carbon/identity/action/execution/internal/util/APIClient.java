@@ -50,6 +50,8 @@ import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This class is responsible for making API calls to the external services.
@@ -60,6 +62,12 @@ public class APIClient {
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private static final String ACTION_STATUS = "actionStatus";
     private final CloseableHttpClient httpClient;
+    private final Map<String, EndpointCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final boolean circuitBreakerEnabled;
+    private final int circuitBreakerFailureThreshold;
+    private final int circuitBreakerOpenDuration;
+    private final int retryBackoffInitialInterval;
+    private final int retryBackoffMaxInterval;
 
     public APIClient() {
 
@@ -77,8 +85,16 @@ public class APIClient {
                 .build();
         PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
         connectionManager.setMaxTotal(ActionExecutorConfig.getInstance().getHttpConnectionPoolSize());
+        // Allow requests to a single action endpoint to use the whole pool, instead of the default of 2 per route.
+        connectionManager.setDefaultMaxPerRoute(ActionExecutorConfig.getInstance().getHttpConnectionPoolSize());
         httpClient = HttpClientBuilder.create().setDefaultRequestConfig(config).setConnectionManager(connectionManager)
                 .build();
+
+        circuitBreakerEnabled = ActionExecutorConfig.getInstance().isCircuitBreakerEnabled();
+        circuitBreakerFailureThreshold = ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold();
+        circuitBreakerOpenDuration = ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis();
+        retryBackoffInitialInterval = ActionExecutorConfig.getInstance().getRetryBackoffInitialIntervalInMillis();
+        retryBackoffMaxInterval = ActionExecutorConfig.getInstance().getRetryBackoffMaxIntervalInMillis();
     }
 
     /**
@@ -115,24 +131,62 @@ public class APIClient {
         }
     }
 
+    /**
+     * Returns the circuit breaker, which also holds the latency statistics, of the given action endpoint.
+     *
+     * @param url URL of the API endpoint.
+     * @return EndpointCircuitBreaker of the endpoint, or null if no call has been made to the endpoint.
+     */
+    public EndpointCircuitBreaker getEndpointCircuitBreaker(String url) {
+
+        return circuitBreakers.get(url);
+    }
+
     private ActionInvocationResponse executeRequest(ActionType actionType, HttpPost request) {
 
         int attempts = 0;
         int retryCount = ActionExecutorConfig.getInstance().getHttpRequestRetryCount();
         ActionInvocationResponse actionInvocationResponse = null;
         Throwable throwable = null;
+        EndpointCircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(request.getURI().toString(),
+                endpoint -> new EndpointCircuitBreaker(endpoint, circuitBreakerEnabled,
+                        circuitBreakerFailureThreshold, circuitBreakerOpenDuration));
 
         while (attempts < retryCount) {
+            if (!circuitBreaker.allowRequest()) {
+                LOG.debug("Circuit breaker is open for API: " + request.getURI() + ". Skipping the request.");
+                return actionInvocationResponse != null ? actionInvocationResponse :
+                        new ActionInvocationResponse.Builder().errorLog("Failed to execute the action request as " +
+                                "the API endpoint is temporarily unavailable.").build();
+            }
+            if (attempts > 0 && !waitBeforeRetry(attempts)) {
+                break;
+            }
+            long startTime = System.nanoTime();
             try (CloseableHttpResponse response = httpClient.execute(request)) {
                 actionInvocationResponse = handleResponse(actionType, response);
+                // Only server errors count towards opening the circuit, since the endpoint handled any other request.
+                if (response.getStatusLine().getStatusCode() >= HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+                    circuitBreaker.recordFailure(System.nanoTime() - startTime);
+                } else {
+                    circuitBreaker.recordSuccess(System.nanoTime() - startTime);
+                }
                 if (!actionInvocationResponse.isError() || !actionInvocationResponse.isRetry()) {
                     return actionInvocationResponse;
                 }
                 logEndpointUnavailability(request, attempts + 1, retryCount);
             } catch (ConnectTimeoutException | SocketTimeoutException e) {
+                circuitBreaker.recordFailure(System.nanoTime() - startTime);
                 throwable = e;
                 logEndpointTimeout(request, attempts + 1, retryCount);
+            } catch (IOException e) {
+                circuitBreaker.recordFailure(System.nanoTime() - startTime);
+                DIAGNOSTIC_LOGGER.logAPICallError(request);
+                LOG.error("Request for API: " + request.getURI() + " failed due to an error.", e);
+                break;
             } catch (Exception e) {
+                // Not a failure of the endpoint, hence it does not count towards opening the circuit.
+                circuitBreaker.recordIgnoredCall();
                 DIAGNOSTIC_LOGGER.logAPICallError(request);
                 LOG.error("Request for API: " + request.getURI() + " failed due to an error.", e);
                 break;
@@ -147,6 +201,30 @@ public class APIClient {
                 .errorLog("Failed to execute the action request or maximum retry attempts reached.").build();
     }
 
+    /**
+     * Wait before retrying a request. The wait grows exponentially with the attempt, up to the configured maximum,
+     * and is randomized between half and the full interval so that retries of concurrent requests are spread out.
+     *
+     * @param attempt Number of attempts made so far.
+     * @return False if the thread was interrupted while waiting, true otherwise.
+     */
+    private boolean waitBeforeRetry(int attempt) {
+
+        if (retryBackoffInitialInterval <= 0) {
+            return true;
+        }
+        long interval = Math.min((long) retryBackoffInitialInterval << Math.min(attempt - 1, 30),
+                Math.max(retryBackoffMaxInterval, retryBackoffInitialInterval));
+        long backoff = interval / 2 + ThreadLocalRandom.current().nextLong(interval / 2 + 1);
+        try {
+            Thread.sleep(backoff);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private ActionInvocationResponse handleResponse(ActionType actionType, HttpResponse response) {
 
         int statusCode = response.getStatusLine().getStatusCode();
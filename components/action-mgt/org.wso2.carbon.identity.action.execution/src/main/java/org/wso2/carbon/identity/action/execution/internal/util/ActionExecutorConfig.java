@@ -50,11 +50,27 @@ public class ActionExecutorConfig {
     private static final String HTTP_CONNECTION_TIMEOUT_PROPERTY = "Actions.HTTPClient.HTTPConnectionTimeout";
     private static final String HTTP_CONNECTION_POOL_SIZE_PROPERTY = "Actions.HTTPClient.HTTPConnectionPoolSize";
     private static final String HTTP_REQUEST_RETRY_COUNT_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryCount";
+    private static final String CIRCUIT_BREAKER_ENABLE_PROPERTY = "Actions.HTTPClient.CircuitBreaker.Enable";
+    private static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.FailureThreshold";
+    private static final String CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.OpenDuration";
+    private static final String RETRY_BACKOFF_INITIAL_INTERVAL_PROPERTY =
+            "Actions.HTTPClient.RetryBackoff.InitialInterval";
+    private static final String RETRY_BACKOFF_MAX_INTERVAL_PROPERTY = "Actions.HTTPClient.RetryBackoff.MaxInterval";
+    private static final String EXECUTE_ON_CALLER_THREAD_PROPERTY = "Actions.HTTPClient.ExecuteOnCallerThread";
+    private static final String MAX_IN_FLIGHT_REQUESTS_PER_TENANT_PROPERTY =
+            "Actions.HTTPClient.MaxInFlightRequestsPerTenant";
     private static final int DEFAULT_HTTP_REQUEST_RETRY_COUNT = 2;
     private static final int DEFAULT_HTTP_CONNECTION_POOL_SIZE = 20;
     private static final int DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS = 5000;
     private static final int DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS = 2000;
     private static final int DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS = 2000;
+    private static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = 5;
+    private static final int DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS = 30000;
+    private static final int DEFAULT_RETRY_BACKOFF_INITIAL_INTERVAL_IN_MILLIS = 0;
+    private static final int DEFAULT_RETRY_BACKOFF_MAX_INTERVAL_IN_MILLIS = 1000;
+    private static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS_PER_TENANT = 0;
 
     private ActionExecutorConfig() {
 
@@ -166,6 +182,111 @@ public class ActionExecutorConfig {
         return parseTimeoutConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
     }
 
+    /**
+     * Returns a boolean value based on the system configuration: 'actions.http_client.circuit_breaker.enable' that
+     * enables or disables failing fast on action endpoints which are found to be unavailable.
+     *
+     * @return 'true' if configuration is 'true', return 'false' otherwise.
+     */
+    public boolean isCircuitBreakerEnabled() {
+
+        String circuitBreakerEnabledValue =
+                (String) IdentityConfigParser.getInstance().getConfiguration().get(CIRCUIT_BREAKER_ENABLE_PROPERTY);
+        return Boolean.parseBoolean(circuitBreakerEnabledValue);
+    }
+
+    /**
+     * Returns the number of consecutive failed calls which opens the circuit breaker of an action endpoint.
+     *
+     * @return The failure threshold, or the default if the property is missing or invalid.
+     */
+    public int getCircuitBreakerFailureThreshold() {
+
+        int failureThresholdPropertyValue = DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD;
+        String failureThresholdValue = (String) IdentityConfigParser.getInstance().getConfiguration().
+                get(CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY);
+        if (StringUtils.isNotBlank(failureThresholdValue)) {
+            try {
+                failureThresholdPropertyValue = Integer.parseInt(failureThresholdValue);
+            } catch (NumberFormatException e) {
+                LOG.debug("Failed to read circuit breaker failure threshold property in identity.xml." +
+                        " Expects a number. Using the default value: " +
+                        DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD, e);
+            }
+        }
+        return failureThresholdPropertyValue;
+    }
+
+    /**
+     * Retrieves the time the circuit breaker of an action endpoint stays open before a trial call is allowed.
+     *
+     * @return The open duration int value in milliseconds.
+     */
+    public int getCircuitBreakerOpenDurationInMillis() {
+
+        return parseTimeoutConfig(CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the interval to wait before the first retry of a failed action request. The interval is doubled for
+     * each subsequent retry. Retries are made without waiting if the interval is 0, which is the default.
+     *
+     * @return The initial retry backoff int value in milliseconds.
+     */
+    public int getRetryBackoffInitialIntervalInMillis() {
+
+        return parseTimeoutConfig(RETRY_BACKOFF_INITIAL_INTERVAL_PROPERTY,
+                DEFAULT_RETRY_BACKOFF_INITIAL_INTERVAL_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the maximum interval to wait before retrying a failed action request.
+     *
+     * @return The maximum retry backoff int value in milliseconds.
+     */
+    public int getRetryBackoffMaxIntervalInMillis() {
+
+        return parseTimeoutConfig(RETRY_BACKOFF_MAX_INTERVAL_PROPERTY, DEFAULT_RETRY_BACKOFF_MAX_INTERVAL_IN_MILLIS);
+    }
+
+    /**
+     * Returns a boolean value based on the system configuration: 'actions.http_client.execute_on_caller_thread' that
+     * makes action requests on the thread which executes the action, instead of handing them off to the action
+     * execution thread pool.
+     *
+     * @return 'true' if configuration is 'true', return 'false' otherwise.
+     */
+    public boolean isExecuteOnCallerThreadEnabled() {
+
+        String executeOnCallerThreadValue =
+                (String) IdentityConfigParser.getInstance().getConfiguration().get(EXECUTE_ON_CALLER_THREAD_PROPERTY);
+        return Boolean.parseBoolean(executeOnCallerThreadValue);
+    }
+
+    /**
+     * Returns the maximum number of action requests which can be in flight at once for a tenant.
+     *
+     * @return The maximum number of in flight requests, or the default if the property is missing or invalid.
+     * A value below 1 means there is no limit.
+     */
+    public int getMaxInFlightRequestsPerTenant() {
+
+        int maxInFlightRequestsPropertyValue = DEFAULT_MAX_IN_FLIGHT_REQUESTS_PER_TENANT;
+        String maxInFlightRequestsValue = (String) IdentityConfigParser.getInstance().getConfiguration().
+                get(MAX_IN_FLIGHT_REQUESTS_PER_TENANT_PROPERTY);
+        if (StringUtils.isNotBlank(maxInFlightRequestsValue)) {
+            try {
+                maxInFlightRequestsPropertyValue = Integer.parseInt(maxInFlightRequestsValue);
+            } catch (NumberFormatException e) {
+                LOG.debug("Failed to read max in flight requests per tenant property in identity.xml." +
+                        " Expects a number. Using the default value: " +
+                        DEFAULT_MAX_IN_FLIGHT_REQUESTS_PER_TENANT, e);
+            }
+        }
+        return maxInFlightRequestsPropertyValue;
+    }
+
     private int parseTimeoutConfig(String timeoutTypeName, int defaultTimeout) {
 
         int timeoutPropertyValue = defaultTimeout;
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker which tracks the availability of a single action endpoint.
+ * <p>
+ * The breaker starts {@link State#CLOSED}, where all calls are allowed. Once the configured number of consecutive
+ * calls fail, the breaker moves to {@link State#OPEN} and calls are rejected without reaching the endpoint. After the
+ * open duration elapses, the breaker moves to {@link State#HALF_OPEN} and allows a single trial call. The breaker is
+ * closed again if the trial call succeeds, and re-opened otherwise.
+ * The latencies of the calls made to the endpoint are recorded regardless of whether the breaker is enabled.
+ */
+public class EndpointCircuitBreaker {
+
+    /**
+     * States of the circuit breaker.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String endpoint;
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final long openDurationInNanos;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final EndpointLatencyHistogram latencyHistogram = new EndpointLatencyHistogram();
+    private volatile long openedAtInNanos;
+
+    /**
+     * Create a circuit breaker for the given endpoint.
+     *
+     * @param endpoint             Endpoint URI.
+     * @param enabled              Whether calls should be rejected while the breaker is open.
+     * @param failureThreshold     Number of consecutive failures which opens the breaker.
+     * @param openDurationInMillis Time the breaker stays open before a trial call is allowed.
+     */
+    public EndpointCircuitBreaker(String endpoint, boolean enabled, int failureThreshold,
+                                  long openDurationInMillis) {
+
+        this.endpoint = endpoint;
+        this.enabled = enabled;
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.openDurationInNanos = TimeUnit.MILLISECONDS.toNanos(openDurationInMillis);
+    }
+
+    /**
+     * Check whether a call can be made to the endpoint.
+     *
+     * @return True if the call is allowed, false if the call should fail fast.
+     */
+    public boolean allowRequest() {
+
+        if (!enabled) {
+            return true;
+        }
+        State currentState = state.get();
+        if (currentState == State.CLOSED) {
+            return true;
+        }
+        if (currentState == State.OPEN && System.nanoTime() - openedAtInNanos >= openDurationInNanos) {
+            // Only the caller which moves the breaker to half open is allowed to make the trial call.
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    /**
+     * Record a call for which the endpoint responded without a server error.
+     *
+     * @param latencyInNanos Latency of the call in nanoseconds.
+     */
+    public void recordSuccess(long latencyInNanos) {
+
+        latencyHistogram.record(latencyInNanos);
+        consecutiveFailures.set(0);
+        if (state.get() != State.CLOSED) {
+            state.set(State.CLOSED);
+        }
+    }
+
+    /**
+     * Record a call which failed due to the endpoint being unavailable, timing out or responding with a server error.
+     *
+     * @param latencyInNanos Latency of the call in nanoseconds.
+     */
+    public void recordFailure(long latencyInNanos) {
+
+        latencyHistogram.record(latencyInNanos);
+        int failures = consecutiveFailures.incrementAndGet();
+        State currentState = state.get();
+        if (currentState == State.HALF_OPEN || (currentState == State.CLOSED && failures >= failureThreshold)) {
+            // The open time is set before the transition so that it is visible to callers which observe the state.
+            openedAtInNanos = System.nanoTime();
+            state.compareAndSet(currentState, State.OPEN);
+        }
+    }
+
+    /**
+     * Record a call which neither succeeded nor failed due to the endpoint, such as a call which failed while the
+     * request or the response was being processed. Such a call is not counted as a failure, and if it was the trial
+     * call of a half open breaker, another trial call is allowed.
+     */
+    public void recordIgnoredCall() {
+
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    public String getEndpoint() {
+
+        return endpoint;
+    }
+
+    public State getState() {
+
+        return state.get();
+    }
+
+    public int getConsecutiveFailures() {
+
+        return consecutiveFailures.get();
+    }
+
+    public EndpointLatencyHistogram getLatencyHistogram() {
+
+        return latencyHistogram;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed bucket histogram of the latencies observed for calls made to an action endpoint.
+ */
+public class EndpointLatencyHistogram {
+
+    /**
+     * Upper bounds of the histogram buckets in milliseconds. Latencies above the last bound are counted in an
+     * additional overflow bucket.
+     */
+    private static final long[] BUCKET_UPPER_BOUNDS_IN_MILLIS =
+            {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_UPPER_BOUNDS_IN_MILLIS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalLatencyInMillis = new AtomicLong();
+    private final AtomicLong maxLatencyInMillis = new AtomicLong();
+
+    /**
+     * Record the latency of a call.
+     *
+     * @param latencyInNanos Latency of the call in nanoseconds.
+     */
+    public void record(long latencyInNanos) {
+
+        long latencyInMillis = TimeUnit.NANOSECONDS.toMillis(latencyInNanos);
+        bucketCounts.incrementAndGet(bucketOf(latencyInMillis));
+        count.incrementAndGet();
+        totalLatencyInMillis.addAndGet(latencyInMillis);
+        maxLatencyInMillis.accumulateAndGet(latencyInMillis, Math::max);
+    }
+
+    public long getCount() {
+
+        return count.get();
+    }
+
+    public long getMaxLatencyInMillis() {
+
+        return maxLatencyInMillis.get();
+    }
+
+    public long getAverageLatencyInMillis() {
+
+        long calls = count.get();
+        return calls == 0 ? 0 : totalLatencyInMillis.get() / calls;
+    }
+
+    /**
+     * Returns the upper bound of the bucket which contains the given percentile of the recorded latencies.
+     *
+     * @param percentile Percentile in the range of 0 to 100.
+     * @return Upper bound of the bucket in milliseconds, the maximum recorded latency if the percentile falls in the
+     * overflow bucket, or 0 if nothing was recorded.
+     */
+    public long getPercentileInMillis(double percentile) {
+
+        long total = 0;
+        long[] counts = getBucketCounts();
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_IN_MILLIS.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank && cumulative > 0) {
+                return BUCKET_UPPER_BOUNDS_IN_MILLIS[i];
+            }
+        }
+        return maxLatencyInMillis.get();
+    }
+
+    /**
+     * Returns a snapshot of the bucket counts. The last element holds the count of the overflow bucket.
+     *
+     * @return Bucket counts.
+     */
+    public long[] getBucketCounts() {
+
+        long[] counts = new long[bucketCounts.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = bucketCounts.get(i);
+        }
+        return counts;
+    }
+
+    public static long[] getBucketUpperBoundsInMillis() {
+
+        return BUCKET_UPPER_BOUNDS_IN_MILLIS.clone();
+    }
+
+    private static int bucketOf(long latencyInMillis) {
+
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_IN_MILLIS.length; i++) {
+            if (latencyInMillis <= BUCKET_UPPER_BOUNDS_IN_MILLIS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_BOUNDS_IN_MILLIS.length;
+    }
+
+    @Override
+    public String toString() {
+
+        return "EndpointLatencyHistogram{" +
+                "count=" + getCount() +
+                ", averageLatencyInMillis=" + getAverageLatencyInMillis() +
+                ", p50=" + getPercentileInMillis(50) +
+                ", p99=" + getPercentileInMillis(99) +
+                ", maxLatencyInMillis=" + getMaxLatencyInMillis() +
+                '}';
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the action requests in flight for each tenant and limits them to a maximum, so that slow action endpoints
+ * of one tenant cannot hold all the connections and threads available for action execution.
+ */
+public class TenantInFlightRequestLimiter {
+
+    private final Map<String, AtomicInteger> inFlightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Try to acquire a slot for a request of the given tenant. A successful call must be followed by a call to
+     * {@link #release(String)} once the request completes.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param limit        Maximum number of requests in flight for the tenant. Values below 1 mean no limit.
+     * @return True if the request can proceed, false if the tenant has reached the limit.
+     */
+    public boolean tryAcquire(String tenantDomain, int limit) {
+
+        AtomicInteger counter = inFlightRequests.computeIfAbsent(tenantDomain, key -> new AtomicInteger());
+        if (limit < 1) {
+            counter.incrementAndGet();
+            return true;
+        }
+        while (true) {
+            int current = counter.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a slot acquired for a request of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void release(String tenantDomain) {
+
+        AtomicInteger counter = inFlightRequests.get(tenantDomain);
+        if (counter != null) {
+            counter.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of requests in flight for the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Number of requests in flight.
+     */
+    public int getInFlightRequestCount(String tenantDomain) {
+
+        AtomicInteger counter = inFlightRequests.get(tenantDomain);
+        return counter == null ? 0 : counter.get();
+    }
+}
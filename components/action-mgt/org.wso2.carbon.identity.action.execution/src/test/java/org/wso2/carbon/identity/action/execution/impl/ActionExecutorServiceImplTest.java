@@ -68,6 +68,7 @@ import org.wso2.carbon.identity.action.execution.internal.util.APIClient;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutionDiagnosticLogger;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorConfig;
 import org.wso2.carbon.identity.action.execution.internal.util.RequestFilter;
+import org.wso2.carbon.identity.action.execution.internal.util.TenantInFlightRequestLimiter;
 import org.wso2.carbon.identity.action.management.api.exception.ActionMgtException;
 import org.wso2.carbon.identity.action.management.api.model.Action;
 import org.wso2.carbon.identity.action.management.api.model.ActionRule;
@@ -86,15 +87,18 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
 
 public class ActionExecutorServiceImplTest {
 
@@ -712,6 +716,69 @@ public class ActionExecutorServiceImplTest {
         assertEquals(actionExecutionStatusWithActionIds.getStatus(), expectedStatus.getStatus());
     }
 
+    @Test
+    public void testExecuteActionOnCallerThread() throws Exception {
+
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        mockActionExecution(actionType);
+        when(actionExecutorConfig.isExecuteOnCallerThreadEnabled()).thenReturn(true);
+
+        ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
+        AtomicReference<Thread> apiCallThread = new AtomicReference<>();
+        when(apiClient.callAPI(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            apiCallThread.set(Thread.currentThread());
+            return actionInvocationResponse;
+        });
+
+        actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
+
+        assertEquals(apiCallThread.get(), Thread.currentThread());
+        assertEquals(getInFlightRequestLimiter().getInFlightRequestCount("tenantDomain"), 0);
+    }
+
+    @Test
+    public void testExecuteActionWhenInFlightRequestLimitReached() throws Exception {
+
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        mockActionExecution(actionType);
+        when(actionExecutorConfig.getMaxInFlightRequestsPerTenant()).thenReturn(1);
+
+        TenantInFlightRequestLimiter inFlightRequestLimiter = getInFlightRequestLimiter();
+        inFlightRequestLimiter.tryAcquire("tenantDomain", 1);
+        try {
+            actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
+            fail("Expected the action execution to be rejected.");
+        } catch (ActionExecutionException e) {
+            assertEquals(e.getMessage(), "Maximum number of in flight action requests reached for tenant: " +
+                    "tenantDomain. Skipped executing action: actionId");
+        } finally {
+            inFlightRequestLimiter.release("tenantDomain");
+        }
+        verify(apiClient, never()).callAPI(any(), any(), any(), any(), any());
+    }
+
+    private void mockActionExecution(ActionType actionType) throws Exception {
+
+        when(actionManagementService.getActionsByActionType(any(), any())).thenReturn(
+                Collections.singletonList(createAction()));
+        actionExecutionRequestBuilderFactory.when(
+                        () -> ActionExecutionRequestBuilderFactory.getActionExecutionRequestBuilder(any()))
+                .thenReturn(actionExecutionRequestBuilder);
+        actionExecutionResponseProcessorFactory.when(() -> ActionExecutionResponseProcessorFactory
+                        .getActionExecutionResponseProcessor(any()))
+                .thenReturn(actionExecutionResponseProcessor);
+        when(actionExecutionRequestBuilder.getSupportedActionType()).thenReturn(actionType);
+        when(actionExecutionRequestBuilder.buildActionExecutionRequest(any(), any())).thenReturn(
+                createActionExecutionRequest(actionType));
+    }
+
+    private TenantInFlightRequestLimiter getInFlightRequestLimiter() throws Exception {
+
+        Field field = ActionExecutorServiceImpl.class.getDeclaredField("inFlightRequestLimiter");
+        field.setAccessible(true);
+        return (TenantInFlightRequestLimiter) field.get(actionExecutorService);
+    }
+
     private String getJSONRequestPayload(ActionExecutionRequest actionExecutionRequest) throws JsonProcessingException {
 
         ObjectMapper requestObjectmapper = new ObjectMapper();
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+import org.wso2.carbon.identity.action.execution.internal.util.APIClient;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorConfig;
+import org.wso2.carbon.identity.action.execution.internal.util.EndpointCircuitBreaker;
+import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the circuit breaker and retry backoff of the {@link APIClient} against a local stub HTTP server.
+ */
+public class APIClientCircuitBreakerTest {
+
+    private static final String SUCCESS_RESPONSE = "{\"actionStatus\":\"SUCCESS\",\"operations\":[]}";
+    private static final String ERROR_RESPONSE =
+            "{\"actionStatus\":\"ERROR\",\"errorMessage\":\"error\",\"errorDescription\":\"description\"}";
+    private static final int READ_TIMEOUT = 200;
+    private static final int OPEN_DURATION = 300;
+
+    private HttpServer stubServer;
+    private ExecutorService stubServerExecutor;
+    private String baseUrl;
+    private final AtomicInteger failingEndpointCalls = new AtomicInteger();
+    private final AtomicInteger slowEndpointCalls = new AtomicInteger();
+    private final AtomicInteger serverErrorEndpointCalls = new AtomicInteger();
+    private volatile boolean failingEndpointRecovered;
+
+    private MockedStatic<ActionExecutorConfig> actionExecutorConfigStatic;
+    private MockedStatic<LoggerUtils> loggerUtils;
+    private APIClient apiClient;
+
+    @BeforeClass
+    public void startStubServer() throws IOException {
+
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/failing", exchange -> {
+            failingEndpointCalls.incrementAndGet();
+            if (failingEndpointRecovered) {
+                respond(exchange, 200, SUCCESS_RESPONSE);
+            } else {
+                respond(exchange, 503, "");
+            }
+        });
+        stubServer.createContext("/slow", exchange -> {
+            slowEndpointCalls.incrementAndGet();
+            try {
+                Thread.sleep(READ_TIMEOUT * 3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, SUCCESS_RESPONSE);
+        });
+        stubServer.createContext("/serverError", exchange -> {
+            serverErrorEndpointCalls.incrementAndGet();
+            respond(exchange, 500, ERROR_RESPONSE);
+        });
+        stubServer.createContext("/badRequest", exchange -> respond(exchange, 400, ERROR_RESPONSE));
+        stubServerExecutor = Executors.newCachedThreadPool();
+        stubServer.setExecutor(stubServerExecutor);
+        stubServer.start();
+        baseUrl = "http://localhost:" + stubServer.getAddress().getPort();
+    }
+
+    @AfterClass
+    public void stopStubServer() {
+
+        stubServer.stop(0);
+        stubServerExecutor.shutdownNow();
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        actionExecutorConfigStatic = mockStatic(ActionExecutorConfig.class);
+        loggerUtils = mockStatic(LoggerUtils.class);
+        loggerUtils.when(LoggerUtils::isDiagnosticLogsEnabled).thenReturn(false);
+        ActionExecutorConfig actionExecutorConfig = mock(ActionExecutorConfig.class);
+        actionExecutorConfigStatic.when(ActionExecutorConfig::getInstance).thenReturn(actionExecutorConfig);
+        when(actionExecutorConfig.getHttpConnectionPoolSize()).thenReturn(20);
+        when(actionExecutorConfig.getHttpReadTimeoutInMillis()).thenReturn(READ_TIMEOUT);
+        when(actionExecutorConfig.getHttpConnectionTimeoutInMillis()).thenReturn(READ_TIMEOUT);
+        when(actionExecutorConfig.getHttpConnectionRequestTimeoutInMillis()).thenReturn(READ_TIMEOUT);
+        when(actionExecutorConfig.getHttpRequestRetryCount()).thenReturn(2);
+        when(actionExecutorConfig.isCircuitBreakerEnabled()).thenReturn(true);
+        when(actionExecutorConfig.getCircuitBreakerFailureThreshold()).thenReturn(2);
+        when(actionExecutorConfig.getCircuitBreakerOpenDurationInMillis()).thenReturn(OPEN_DURATION);
+        when(actionExecutorConfig.getRetryBackoffInitialIntervalInMillis()).thenReturn(20);
+        when(actionExecutorConfig.getRetryBackoffMaxIntervalInMillis()).thenReturn(50);
+        apiClient = new APIClient();
+
+        failingEndpointCalls.set(0);
+        slowEndpointCalls.set(0);
+        serverErrorEndpointCalls.set(0);
+        failingEndpointRecovered = false;
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        actionExecutorConfigStatic.close();
+        loggerUtils.close();
+    }
+
+    @Test
+    public void testBreakerOpensAndRecoversForFailingEndpoint() throws Exception {
+
+        String url = baseUrl + "/failing";
+
+        ActionInvocationResponse response = callAPI(url);
+        assertTrue(response.isError());
+        assertEquals(failingEndpointCalls.get(), 2);
+        assertEquals(apiClient.getEndpointCircuitBreaker(url).getState(), EndpointCircuitBreaker.State.OPEN);
+
+        // The breaker is open, hence the endpoint must not be called.
+        response = callAPI(url);
+        assertTrue(response.isError());
+        assertNotNull(response.getErrorLog());
+        assertEquals(failingEndpointCalls.get(), 2);
+
+        failingEndpointRecovered = true;
+        Thread.sleep(OPEN_DURATION + 100);
+
+        response = callAPI(url);
+        assertTrue(response.isSuccess());
+        assertEquals(failingEndpointCalls.get(), 3);
+        assertEquals(apiClient.getEndpointCircuitBreaker(url).getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertEquals(apiClient.getEndpointCircuitBreaker(url).getLatencyHistogram().getCount(), 3);
+    }
+
+    @Test
+    public void testFailFastForSlowEndpoint() {
+
+        String url = baseUrl + "/slow";
+
+        ActionInvocationResponse response = callAPI(url);
+        assertTrue(response.isError());
+        assertEquals(slowEndpointCalls.get(), 2);
+        EndpointCircuitBreaker circuitBreaker = apiClient.getEndpointCircuitBreaker(url);
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.OPEN);
+        assertTrue(circuitBreaker.getLatencyHistogram().getMaxLatencyInMillis() >= READ_TIMEOUT);
+
+        long startTime = System.nanoTime();
+        response = callAPI(url);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        assertTrue(response.isError());
+        assertEquals(slowEndpointCalls.get(), 2);
+        assertTrue(elapsedMillis < READ_TIMEOUT, "Request to an open circuit took " + elapsedMillis + " ms.");
+    }
+
+    @Test
+    public void testServerErrorResponsesOpenBreaker() {
+
+        String url = baseUrl + "/serverError";
+
+        // Server errors are not retried, but each of them counts as a failure of the endpoint.
+        assertTrue(callAPI(url).isError());
+        assertEquals(apiClient.getEndpointCircuitBreaker(url).getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertTrue(callAPI(url).isError());
+        assertEquals(serverErrorEndpointCalls.get(), 2);
+        assertEquals(apiClient.getEndpointCircuitBreaker(url).getState(), EndpointCircuitBreaker.State.OPEN);
+
+        assertTrue(callAPI(url).isError());
+        assertEquals(serverErrorEndpointCalls.get(), 2);
+    }
+
+    @Test
+    public void testClientErrorResponsesDoNotOpenBreaker() {
+
+        String url = baseUrl + "/badRequest";
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(callAPI(url).isError());
+        }
+        EndpointCircuitBreaker circuitBreaker = apiClient.getEndpointCircuitBreaker(url);
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertEquals(circuitBreaker.getConsecutiveFailures(), 0);
+        assertEquals(circuitBreaker.getLatencyHistogram().getCount(), 3);
+    }
+
+    private ActionInvocationResponse callAPI(String url) {
+
+        return apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, url, null, Collections.emptyMap(), "{}");
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode, String body) throws IOException {
+
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, payload.length == 0 ? -1 : payload.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(payload);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.action.execution.internal.util.EndpointCircuitBreaker;
+import org.wso2.carbon.identity.action.execution.internal.util.EndpointLatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class EndpointCircuitBreakerTest {
+
+    private static final String ENDPOINT = "http://localhost/action";
+
+    @Test
+    public void testBreakerOpensAfterConsecutiveFailures() {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(ENDPOINT, true, 3, 60000);
+
+        circuitBreaker.recordFailure(0);
+        circuitBreaker.recordFailure(0);
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertTrue(circuitBreaker.allowRequest());
+
+        circuitBreaker.recordFailure(0);
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.OPEN);
+        assertFalse(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void testSuccessResetsConsecutiveFailures() {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(ENDPOINT, true, 2, 60000);
+
+        circuitBreaker.recordFailure(0);
+        circuitBreaker.recordSuccess(0);
+        circuitBreaker.recordFailure(0);
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertEquals(circuitBreaker.getConsecutiveFailures(), 1);
+    }
+
+    @Test
+    public void testHalfOpenAllowsSingleTrialRequest() throws Exception {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(ENDPOINT, true, 1, 50);
+
+        circuitBreaker.recordFailure(0);
+        assertFalse(circuitBreaker.allowRequest());
+        Thread.sleep(100);
+
+        assertTrue(circuitBreaker.allowRequest());
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.HALF_OPEN);
+        assertFalse(circuitBreaker.allowRequest());
+
+        circuitBreaker.recordSuccess(0);
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void testFailedTrialRequestReopensBreaker() throws Exception {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(ENDPOINT, true, 1, 50);
+
+        circuitBreaker.recordFailure(0);
+        Thread.sleep(100);
+        assertTrue(circuitBreaker.allowRequest());
+
+        circuitBreaker.recordFailure(0);
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.OPEN);
+        assertFalse(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void testIgnoredTrialRequestAllowsAnotherTrial() throws Exception {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(ENDPOINT, true, 1, 50);
+
+        circuitBreaker.recordFailure(0);
+        Thread.sleep(100);
+        assertTrue(circuitBreaker.allowRequest());
+        assertFalse(circuitBreaker.allowRequest());
+
+        circuitBreaker.recordIgnoredCall();
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.OPEN);
+        assertTrue(circuitBreaker.allowRequest());
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    public void testIgnoredCallDoesNotCountAsFailure() {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(ENDPOINT, true, 1, 60000);
+
+        circuitBreaker.recordIgnoredCall();
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertEquals(circuitBreaker.getConsecutiveFailures(), 0);
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void testDisabledBreakerAllowsAllRequests() {
+
+        EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(ENDPOINT, false, 1, 60000);
+
+        circuitBreaker.recordFailure(0);
+        circuitBreaker.recordFailure(0);
+        assertTrue(circuitBreaker.allowRequest());
+        assertEquals(circuitBreaker.getLatencyHistogram().getCount(), 2);
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+
+        EndpointLatencyHistogram histogram = new EndpointLatencyHistogram();
+        for (int i = 0; i < 98; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(400));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(20000));
+
+        assertEquals(histogram.getCount(), 100);
+        assertEquals(histogram.getPercentileInMillis(50), 5);
+        assertEquals(histogram.getPercentileInMillis(99), 500);
+        assertEquals(histogram.getPercentileInMillis(100), 20000);
+        assertEquals(histogram.getMaxLatencyInMillis(), 20000);
+        long[] bucketCounts = histogram.getBucketCounts();
+        assertEquals(bucketCounts[0], 98);
+        assertEquals(bucketCounts[bucketCounts.length - 1], 1);
+    }
+}
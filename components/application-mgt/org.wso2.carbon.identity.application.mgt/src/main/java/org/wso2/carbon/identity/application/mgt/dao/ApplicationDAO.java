@@ -30,6 +30,8 @@ import org.wso2.carbon.identity.application.common.util.IdentityApplicationConst
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -64,6 +66,49 @@ public interface ApplicationDAO {
      */
     ServiceProvider getApplication(int applicationId) throws IdentityApplicationManagementException;
 
+    /**
+     * Get the service providers of the given application ids.
+     *
+     * @param applicationIds The application ids.
+     * @return Service providers mapped by their application ids. Ids of which there is no application are skipped.
+     * @throws IdentityApplicationManagementException throws when an error occurs in retrieving the service providers.
+     */
+    default Map<Integer, ServiceProvider> getApplications(Collection<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = getApplication(applicationId);
+            if (serviceProvider != null) {
+                serviceProviders.put(applicationId, serviceProvider);
+            }
+        }
+        return serviceProviders;
+    }
+
+    /**
+     * Get the service providers of the given resource ids in the given tenant.
+     *
+     * @param resourceIds  The resource ids of the applications.
+     * @param tenantDomain The tenant domain of the applications.
+     * @return Service providers mapped by their resource ids. Resource ids of which there is no application in the
+     * tenant are skipped.
+     * @throws IdentityApplicationManagementException throws when an error occurs in retrieving the service providers.
+     */
+    default Map<String, ServiceProvider> getApplicationsByResourceIds(Collection<String> resourceIds,
+                                                                      String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        Map<String, ServiceProvider> serviceProviders = new HashMap<>();
+        for (String resourceId : resourceIds) {
+            ServiceProvider serviceProvider = getApplicationByResourceId(resourceId, tenantDomain);
+            if (serviceProvider != null) {
+                serviceProviders.put(resourceId, serviceProvider);
+            }
+        }
+        return serviceProviders;
+    }
+
     /**
      * @return
      * @throws IdentityApplicationManagementException
@@ -235,6 +235,8 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private static final String AUDIT_FAIL = "Fail";
     private static final String ASTERISK = "*";
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    // Number of applications of which the sections are loaded with a single query.
+    private static final int APPLICATION_LOAD_BATCH_SIZE = 100;
 
     private List<String> standardInboundAuthTypes;
     public static final String USE_DOMAIN_IN_ROLES = "USE_DOMAIN_IN_ROLES";
@@ -287,11 +289,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             prepStmt.setInt(1, spId);
             rs = prepStmt.executeQuery();
             while (rs.next()) {
-                ServiceProviderProperty property = new ServiceProviderProperty();
-                property.setName(rs.getString("NAME"));
-                property.setValue(rs.getString("VALUE"));
-                property.setDisplayName(rs.getString("DISPLAY_NAME"));
-                idpProperties.add(property);
+                idpProperties.add(buildServiceProviderProperty(rs));
             }
         } catch (DataAccessException e) {
             throw new SQLException("Error while retrieving SP metadata for SP ID: " + spId, e);
@@ -302,6 +300,15 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return idpProperties;
     }
 
+    private ServiceProviderProperty buildServiceProviderProperty(ResultSet rs) throws SQLException {
+
+        ServiceProviderProperty property = new ServiceProviderProperty();
+        property.setName(rs.getString("NAME"));
+        property.setValue(rs.getString("VALUE"));
+        property.setDisplayName(rs.getString("DISPLAY_NAME"));
+        return property;
+    }
+
     /**
      * Add Service provider properties
      *
@@ -1327,104 +1334,34 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
-    /**
-     * @param applicationId
-     * @param connection
-     * @return
-     * @throws SQLException
-     */
-    private InboundProvisioningConfig getInboundProvisioningConfiguration(int applicationId,
-                                                                          Connection connection, int tenantID)
-            throws SQLException {
+    private IdentityProvider buildProvisioningIdentityProvider(ResultSet resultSet) throws SQLException {
 
-        PreparedStatement inboundProConfigPrepStmt = null;
-        InboundProvisioningConfig inBoundProvisioningConfig = new InboundProvisioningConfig();
-        ResultSet resultSet = null;
+        IdentityProvider fedIdp = new IdentityProvider();
+        fedIdp.setIdentityProviderName(resultSet.getString(1));
 
-        try {
+        ProvisioningConnectorConfig proConnector = new ProvisioningConnectorConfig();
+        proConnector.setName(resultSet.getString(2));
 
-            inboundProConfigPrepStmt = connection.prepareStatement(
-                    ApplicationMgtDBQueries.LOAD_PRO_PROPERTIES_BY_APP_ID);
-            // PROVISIONING_USERSTORE_DOMAIN
-            inboundProConfigPrepStmt.setInt(1, tenantID);
-            inboundProConfigPrepStmt.setInt(2, applicationId);
-            resultSet = inboundProConfigPrepStmt.executeQuery();
-
-            while (resultSet.next()) {
-                inBoundProvisioningConfig.setProvisioningUserStore(resultSet.getString(1));
-                inBoundProvisioningConfig.setDumbMode("1".equals(resultSet.getString(2)));
-            }
-
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(inboundProConfigPrepStmt);
+        if ("1".equals(resultSet.getString(3))) {
+            JustInTimeProvisioningConfig jitConfig = new JustInTimeProvisioningConfig();
+            jitConfig.setProvisioningEnabled(true);
+            fedIdp.setJustInTimeProvisioningConfig(jitConfig);
         }
-        return inBoundProvisioningConfig;
-    }
-
-    /**
-     * @param applicationId
-     * @param connection
-     * @return
-     * @throws SQLException
-     */
-    private OutboundProvisioningConfig getOutboundProvisioningConfiguration(int applicationId,
-                                                                            Connection connection, int tenantID)
-            throws SQLException {
 
-        PreparedStatement outboundProConfigPrepStmt = null;
-        OutboundProvisioningConfig outBoundProvisioningConfig = new OutboundProvisioningConfig();
-        ResultSet resultSet = null;
-        List<IdentityProvider> idpProConnectors = new ArrayList<IdentityProvider>();
-
-        try {
-
-            outboundProConfigPrepStmt = connection.prepareStatement(
-                    ApplicationMgtDBQueries.LOAD_PRO_CONNECTORS_BY_APP_ID);
-            // IDP_NAME, CONNECTOR_NAM
-            outboundProConfigPrepStmt.setInt(1, applicationId);
-            outboundProConfigPrepStmt.setInt(2, tenantID);
-            resultSet = outboundProConfigPrepStmt.executeQuery();
-
-            while (resultSet.next()) {
-                ProvisioningConnectorConfig proConnector = null;
-                IdentityProvider fedIdp = null;
-
-                fedIdp = new IdentityProvider();
-                fedIdp.setIdentityProviderName(resultSet.getString(1));
-
-                proConnector = new ProvisioningConnectorConfig();
-                proConnector.setName(resultSet.getString(2));
-
-                if ("1".equals(resultSet.getString(3))) {
-                    JustInTimeProvisioningConfig jitConfig = new JustInTimeProvisioningConfig();
-                    jitConfig.setProvisioningEnabled(true);
-                    fedIdp.setJustInTimeProvisioningConfig(jitConfig);
-                }
-
-                if ("1".equals(resultSet.getString(4))) {
-                    proConnector.setBlocking(true);
-                } else {
-                    proConnector.setBlocking(false);
-                }
-
-                if ("1".equals(resultSet.getString(5))) {
-                    proConnector.setRulesEnabled(true);
-                } else {
-                    proConnector.setRulesEnabled(false);
-                }
-
-                fedIdp.setDefaultProvisioningConnectorConfig(proConnector);
-                idpProConnectors.add(fedIdp);
-
-            }
-
-            outBoundProvisioningConfig.setProvisioningIdentityProviders(idpProConnectors.toArray(new
-                    IdentityProvider[idpProConnectors.size()]));
+        if ("1".equals(resultSet.getString(4))) {
+            proConnector.setBlocking(true);
+        } else {
+            proConnector.setBlocking(false);
+        }
 
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(outboundProConfigPrepStmt);
+        if ("1".equals(resultSet.getString(5))) {
+            proConnector.setRulesEnabled(true);
+        } else {
+            proConnector.setRulesEnabled(false);
         }
-        return outBoundProvisioningConfig;
+
+        fedIdp.setDefaultProvisioningConnectorConfig(proConnector);
+        return fedIdp;
     }
 
     /**
@@ -2237,95 +2174,403 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     @Override
     public ServiceProvider getApplication(int applicationId) throws IdentityApplicationManagementException {
 
+        return getApplications(Collections.singletonList(applicationId)).get(applicationId);
+    }
+
+    @Override
+    public Map<Integer, ServiceProvider> getApplications(Collection<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        if (CollectionUtils.isEmpty(applicationIds)) {
+            return serviceProviders;
+        }
+
+        List<Integer> distinctApplicationIds = new ArrayList<>(new HashSet<>(applicationIds));
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (int from = 0; from < distinctApplicationIds.size(); from += APPLICATION_LOAD_BATCH_SIZE) {
+                List<Integer> batch = distinctApplicationIds.subList(from,
+                        Math.min(from + APPLICATION_LOAD_BATCH_SIZE, distinctApplicationIds.size()));
+                serviceProviders.putAll(getApplicationBatch(batch, connection));
+            }
+        } catch (SQLException | CertificateRetrievingException e) {
+            throw new IdentityApplicationManagementException("Failed to get service providers with ids: " +
+                    applicationIds, e);
+        }
+        return serviceProviders;
+    }
 
-            // Load basic application data
-            ServiceProvider serviceProvider = getBasicApplicationData(applicationId, connection);
-            if (serviceProvider == null) {
-                return null;
+    @Override
+    public Map<String, ServiceProvider> getApplicationsByResourceIds(Collection<String> resourceIds,
+                                                                     String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        Map<String, ServiceProvider> serviceProviders = new HashMap<>();
+        if (CollectionUtils.isEmpty(resourceIds)) {
+            return serviceProviders;
+        }
+
+        List<String> distinctResourceIds = new ArrayList<>(new HashSet<>(resourceIds));
+        List<Integer> applicationIds = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (int from = 0; from < distinctResourceIds.size(); from += APPLICATION_LOAD_BATCH_SIZE) {
+                List<String> batch = distinctResourceIds.subList(from,
+                        Math.min(from + APPLICATION_LOAD_BATCH_SIZE, distinctResourceIds.size()));
+                String placeholders = IntStream.range(0, batch.size())
+                        .mapToObj(i -> ":" + ApplicationMgtDBQueries.SQLPlaceholders.UUID_PLACEHOLDER_PREFIX + i + ";")
+                        .collect(Collectors.joining(", "));
+                try (NamedPreparedStatement statement = new NamedPreparedStatement(connection,
+                        ApplicationMgtDBQueries.LOAD_APP_IDS_BY_UUIDS_AND_TENANT_ID.replace(
+                                ApplicationMgtDBQueries.SQLPlaceholders.UUID_LIST_PLACEHOLDER, placeholders))) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        statement.setString(ApplicationMgtDBQueries.SQLPlaceholders.UUID_PLACEHOLDER_PREFIX + i,
+                                batch.get(i));
+                    }
+                    statement.setInt(ApplicationTableColumns.TENANT_ID, IdentityTenantUtil.getTenantId(tenantDomain));
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            applicationIds.add(resultSet.getInt(ApplicationTableColumns.ID));
+                        }
+                    }
+                }
             }
-            int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
-            List<ServiceProviderProperty> propertyList = getServicePropertiesBySpId(connection, applicationId);
-
-            serviceProvider.setJwksUri(getJwksUri(propertyList));
-            serviceProvider.setTemplateId(getTemplateId(propertyList));
-            serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
-            serviceProvider.setApplicationEnabled(getIsApplicationEnabled(propertyList));
-            serviceProvider.setManagementApp(getIsManagementApp(propertyList));
-            serviceProvider.setB2BSelfServiceApp(getIsB2BSSApp(propertyList));
-            serviceProvider.setAPIBasedAuthenticationEnabled(getIsAPIBasedAuthenticationEnabled(propertyList));
-            ClientAttestationMetaData clientAttestationMetaData = new ClientAttestationMetaData();
-            clientAttestationMetaData.setAttestationEnabled(getIsAttestationEnabled(propertyList));
-            clientAttestationMetaData.setAndroidPackageName(getAndroidPackageName(propertyList));
-            clientAttestationMetaData.setAppleAppId(getAppleAppId(propertyList));
-            if (StringUtils.isNotEmpty(clientAttestationMetaData.getAndroidPackageName())
-                    && clientAttestationMetaData.isAttestationEnabled()) {
-                clientAttestationMetaData.setAndroidAttestationServiceCredentials
-                        (getAndroidAttestationServiceCredentials(serviceProvider));
-            }
-            serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
-            serviceProvider.setTrustedAppMetadata(
-                    getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
-            serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
-                    applicationId, connection, tenantID));
-            serviceProvider
-                    .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
-                            applicationId, connection, tenantID, propertyList));
-
-            serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            // Load Claim Mapping
-            serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, connection,
-                    tenantID));
-
-            // Load Role Mappings
-            List<RoleMapping> roleMappings = getRoleMappingOfApplication(applicationId, connection,
-                    tenantID);
-            PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
-            permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
-            serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
-
-            RequestPathAuthenticatorConfig[] requestPathAuthenticators = getRequestPathAuthenticators(
-                    applicationId, connection, tenantID);
-            serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators);
-
-            serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
-            serviceProvider.setCertificateContent(getCertificateContent(propertyList, tenantID));
-
-            // Set role associations.
-            serviceProvider.setAssociatedRolesConfig(
-                    getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
-            // Will be supported with 'Advance Consent Management Feature'.
-            /*
-            ConsentConfig consentConfig = serviceProvider.getConsentConfig();
-            if (isNull(consentConfig)) {
-                consentConfig = new ConsentConfig();
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Error while retrieving the application ids for " +
+                    "resourceIds: " + resourceIds + " in tenantDomain: " + tenantDomain, e);
+        }
+
+        for (ServiceProvider serviceProvider : getApplications(applicationIds).values()) {
+            serviceProviders.put(serviceProvider.getApplicationResourceId(), serviceProvider);
+        }
+        return serviceProviders;
+    }
+
+    /**
+     * Load the given applications. The sections stored as plain rows, the authentication steps and the discoverable
+     * groups are loaded for all the applications with a single query each, while the remaining sections are loaded
+     * per application.
+     *
+     * @param applicationIds Ids of the applications.
+     * @param connection     Database connection.
+     * @return Applications keyed by their ids.
+     */
+    private Map<Integer, ServiceProvider> getApplicationBatch(List<Integer> applicationIds, Connection connection)
+            throws SQLException, IdentityApplicationManagementException, CertificateRetrievingException {
+
+        // Load basic application data
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        Map<Integer, List<Integer>> applicationIdsByTenant = new HashMap<>();
+        Map<Integer, ClaimConfig> claimConfigs = new HashMap<>();
+        Map<Integer, LocalAndOutboundAuthenticationConfig> localAndOutboundConfigs = new HashMap<>();
+        Map<Integer, String> authTypes = new HashMap<>();
+        Map<Integer, InboundProvisioningConfig> inboundProvisioningConfigs = new HashMap<>();
+        loadApplicationSection(connection, ApplicationMgtDBQueries.LOAD_BASIC_APP_INFO_BY_APP_IDS, applicationIds,
+                resultSet -> {
+                    ServiceProvider serviceProvider = buildBasicApplicationData(resultSet);
+                    int applicationId = serviceProvider.getApplicationID();
+                    serviceProviders.put(applicationId, serviceProvider);
+                    applicationIdsByTenant.computeIfAbsent(resultSet.getInt(ApplicationTableColumns.TENANT_ID),
+                            id -> new ArrayList<>()).add(applicationId);
+
+                    ClaimConfig claimConfig = new ClaimConfig();
+                    claimConfig.setRoleClaimURI(resultSet.getString(ApplicationTableColumns.ROLE_CLAIM));
+                    claimConfig.setLocalClaimDialect(
+                            getBooleanValue(resultSet.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
+                    setMappedLocalSubjectConfig(claimConfig,
+                            resultSet.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID));
+                    claimConfigs.put(applicationId, claimConfig);
+
+                    LocalAndOutboundAuthenticationConfig localAndOutboundConfig =
+                            new LocalAndOutboundAuthenticationConfig();
+                    localAndOutboundConfig.setUseTenantDomainInLocalSubjectIdentifier("1".equals(
+                            resultSet.getString(ApplicationTableColumns.IS_USE_TENANT_DOMAIN_SUBJECT)));
+                    localAndOutboundConfig.setUseUserstoreDomainInLocalSubjectIdentifier("1".equals(
+                            resultSet.getString(ApplicationTableColumns.IS_USE_USER_DOMAIN_SUBJECT)));
+                    localAndOutboundConfig.setEnableAuthorization("1".equals(
+                            resultSet.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
+                    localAndOutboundConfig.setAlwaysSendBackAuthenticatedListOfIdPs("1".equals(
+                            resultSet.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
+                    localAndOutboundConfig.setSubjectClaimUri(
+                            resultSet.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
+                    localAndOutboundConfigs.put(applicationId, localAndOutboundConfig);
+                    authTypes.put(applicationId, resultSet.getString(ApplicationTableColumns.AUTH_TYPE));
+
+                    InboundProvisioningConfig inboundProvisioningConfig = new InboundProvisioningConfig();
+                    inboundProvisioningConfig.setProvisioningUserStore(
+                            resultSet.getString(ApplicationTableColumns.PROVISIONING_USERSTORE_DOMAIN));
+                    inboundProvisioningConfig.setDumbMode(
+                            "1".equals(resultSet.getString(ApplicationTableColumns.IS_DUMB_MODE)));
+                    inboundProvisioningConfigs.put(applicationId, inboundProvisioningConfig);
+                });
+        if (serviceProviders.isEmpty()) {
+            return serviceProviders;
+        }
+        List<Integer> loadedApplicationIds = new ArrayList<>(serviceProviders.keySet());
+
+        Map<Integer, List<ServiceProviderProperty>> properties = new HashMap<>();
+        String propertiesQuery;
+        try {
+            propertiesQuery = isH2DB() ? ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS_H2 :
+                    ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS;
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving SP metadata for SP IDs: " + loadedApplicationIds, e);
+        }
+        loadApplicationSection(connection, propertiesQuery, loadedApplicationIds,
+                resultSet -> properties.computeIfAbsent(resultSet.getInt("SP_ID"), id -> new ArrayList<>())
+                        .add(buildServiceProviderProperty(resultSet)));
+
+        Map<Integer, Map<String, InboundAuthenticationRequestConfig>> inboundAuthRequestConfigs = new HashMap<>();
+        loadApplicationSection(connection, ApplicationMgtDBQueries.LOAD_CLIENTS_INFO_BY_APP_IDS,
+                applicationIdsByTenant, resultSet -> addInboundAuthenticationRequestConfig(
+                        inboundAuthRequestConfigs.computeIfAbsent(resultSet.getInt("APP_ID"), id -> new HashMap<>()),
+                        resultSet));
+
+        // Load the authentication steps, along with the authenticators and the federation hub IdPs engaged in them.
+        Map<Integer, List<AuthenticationStepInfo>> stepInfos = new HashMap<>();
+        loadApplicationSection(connection, ApplicationMgtDBQueries.LOAD_STEPS_INFO_BY_APP_IDS, loadedApplicationIds,
+                resultSet -> stepInfos.computeIfAbsent(resultSet.getInt("APP_ID"), id -> new ArrayList<>())
+                        .add(buildAuthenticationStepInfo(resultSet)));
+        Map<Integer, Map<Integer, Map<String, String>>> stepAuthenticatorInfo = new HashMap<>();
+        Map<Integer, Map<String, Boolean>> federationHubIdPs = new HashMap<>();
+        for (Entry<Integer, List<Integer>> tenantApplicationIds : applicationIdsByTenant.entrySet()) {
+            Map<Integer, Map<String, String>> tenantAuthenticatorInfo = new HashMap<>();
+            Map<String, Boolean> tenantFederationHubIdPs = new HashMap<>();
+            stepAuthenticatorInfo.put(tenantApplicationIds.getKey(), tenantAuthenticatorInfo);
+            federationHubIdPs.put(tenantApplicationIds.getKey(), tenantFederationHubIdPs);
+
+            Map<String, Integer> namedParameters = new HashMap<>();
+            namedParameters.put(ApplicationMgtDBQueries.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID,
+                    tenantApplicationIds.getKey());
+            namedParameters.put(ApplicationMgtDBQueries.SQLPlaceholders.SUPER_TENANT_ID_PLACEHOLDER,
+                    MultitenantConstants.SUPER_TENANT_ID);
+            loadApplicationSection(connection, ApplicationMgtDBQueries.LOAD_IDP_AND_AUTHENTICATOR_NAMES_BY_APP_IDS,
+                    tenantApplicationIds.getValue(), namedParameters, resultSet -> addStepAuthenticatorInfo(
+                            resultSet, tenantAuthenticatorInfo, tenantFederationHubIdPs));
+        }
+        Map<Integer, AuthenticationScriptConfig> scriptConfigs = new HashMap<>();
+        loadApplicationSection(connection, ApplicationMgtDBQueries.LOAD_SCRIPTS_BY_APP_IDS, loadedApplicationIds,
+                resultSet -> {
+                    int applicationId = resultSet.getInt("APP_ID");
+                    if (!scriptConfigs.containsKey(applicationId)) {
+                        scriptConfigs.put(applicationId, buildAuthenticationScriptConfig(applicationId, resultSet));
+                    }
+                });
+
+        Map<Integer, List<IdentityProvider>> provisioningIdPs = new HashMap<>();
+        loadApplicationSection(connection, ApplicationMgtDBQueries.LOAD_PRO_CONNECTORS_BY_APP_IDS,
+                applicationIdsByTenant, resultSet -> provisioningIdPs.computeIfAbsent(resultSet.getInt("APP_ID"),
+                        id -> new ArrayList<>()).add(buildProvisioningIdentityProvider(resultSet)));
+
+        Map<Integer, List<ClaimMapping>> claimMappings = new HashMap<>();
+        loadApplicationSection(connection, ApplicationMgtDBQueries.LOAD_CLAIM_MAPPING_BY_APP_IDS,
+                applicationIdsByTenant, resultSet -> claimMappings.computeIfAbsent(resultSet.getInt("APP_ID"),
+                        id -> new ArrayList<>()).add(buildClaimMapping(resultSet)));
+
+        Map<Integer, List<String>> spDialects = new HashMap<>();
+        loadApplicationSection(connection, ApplicationMgtDBQueries.LOAD_SP_DIALECTS_BY_APP_IDS,
+                applicationIdsByTenant, resultSet -> {
+                    String spDialect = resultSet.getString(1);
+                    if (spDialect != null && !spDialect.isEmpty()) {
+                        spDialects.computeIfAbsent(resultSet.getInt("APP_ID"), id -> new ArrayList<>())
+                                .add(spDialect);
+                    }
+                });
+
+        Map<Integer, List<RoleMapping>> roleMappings = new HashMap<>();
+        loadApplicationSection(connection, ApplicationMgtDBQueries.LOAD_ROLE_MAPPING_BY_APP_IDS,
+                applicationIdsByTenant, resultSet -> roleMappings.computeIfAbsent(resultSet.getInt("APP_ID"),
+                        id -> new ArrayList<>()).add(buildRoleMapping(resultSet)));
+
+        Map<Integer, List<RequestPathAuthenticatorConfig>> requestPathAuthenticators = new HashMap<>();
+        loadApplicationSection(connection, ApplicationMgtDBQueries.LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS,
+                applicationIdsByTenant, resultSet -> requestPathAuthenticators.computeIfAbsent(
+                        resultSet.getInt("APP_ID"), id -> new ArrayList<>())
+                        .add(buildRequestPathAuthenticator(resultSet)));
+
+        // The group names are resolved from the user store, so they are resolved after the cursor is closed.
+        Map<Integer, List<GroupAssociation>> groupAssociations = new HashMap<>();
+        loadApplicationSection(connection, ApplicationMgtDBQueries.GET_GROUP_ASSOCIATIONS_BY_APP_IDS,
+                loadedApplicationIds, resultSet -> groupAssociations.computeIfAbsent(resultSet.getInt("APP_ID"),
+                        id -> new ArrayList<>()).add(new GroupAssociation(resultSet.getString(1),
+                        resultSet.getString(2))));
+
+        for (Entry<Integer, List<Integer>> tenantApplicationIds : applicationIdsByTenant.entrySet()) {
+            int tenantID = tenantApplicationIds.getKey();
+            for (int applicationId : tenantApplicationIds.getValue()) {
+                ServiceProvider serviceProvider = serviceProviders.get(applicationId);
+                List<ServiceProviderProperty> propertyList =
+                        properties.getOrDefault(applicationId, new ArrayList<>());
+
+                serviceProvider.setDiscoverableGroups(buildDiscoverableGroups(groupAssociations.getOrDefault(
+                        applicationId, Collections.emptyList()), serviceProvider.getTenantDomain()));
+                serviceProvider.setJwksUri(getJwksUri(propertyList));
+                serviceProvider.setTemplateId(getTemplateId(propertyList));
+                serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
+                serviceProvider.setApplicationEnabled(getIsApplicationEnabled(propertyList));
+                serviceProvider.setManagementApp(getIsManagementApp(propertyList));
+                serviceProvider.setB2BSelfServiceApp(getIsB2BSSApp(propertyList));
+                serviceProvider.setAPIBasedAuthenticationEnabled(getIsAPIBasedAuthenticationEnabled(propertyList));
+                ClientAttestationMetaData clientAttestationMetaData = new ClientAttestationMetaData();
+                clientAttestationMetaData.setAttestationEnabled(getIsAttestationEnabled(propertyList));
+                clientAttestationMetaData.setAndroidPackageName(getAndroidPackageName(propertyList));
+                clientAttestationMetaData.setAppleAppId(getAppleAppId(propertyList));
+                if (StringUtils.isNotEmpty(clientAttestationMetaData.getAndroidPackageName())
+                        && clientAttestationMetaData.isAttestationEnabled()) {
+                    clientAttestationMetaData.setAndroidAttestationServiceCredentials
+                            (getAndroidAttestationServiceCredentials(serviceProvider));
+                }
+                serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
+                serviceProvider.setTrustedAppMetadata(
+                        getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
+                serviceProvider.setInboundAuthenticationConfig(buildInboundAuthenticationConfig(
+                        inboundAuthRequestConfigs.getOrDefault(applicationId, new HashMap<>())));
+
+                LocalAndOutboundAuthenticationConfig localAndOutboundConfig =
+                        localAndOutboundConfigs.get(applicationId);
+                AuthenticationStep[] authenticationSteps = buildAuthenticationSteps(applicationId,
+                        stepInfos.getOrDefault(applicationId, Collections.emptyList()),
+                        stepAuthenticatorInfo.get(tenantID), federationHubIdPs.get(tenantID));
+                localAndOutboundConfig.setAuthenticationSteps(authenticationSteps);
+                localAndOutboundConfig.setAuthenticationType(resolveAuthenticationType(applicationId,
+                        authTypes.get(applicationId), authenticationSteps));
+                localAndOutboundConfig.setAuthenticationScriptConfig(scriptConfigs.get(applicationId));
+                readAndSetConfigurationsFromProperties(propertyList, localAndOutboundConfig);
+                serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundConfig);
+
+                serviceProvider.setInboundProvisioningConfig(inboundProvisioningConfigs.get(applicationId));
+
+                OutboundProvisioningConfig outboundProvisioningConfig = new OutboundProvisioningConfig();
+                outboundProvisioningConfig.setProvisioningIdentityProviders(provisioningIdPs.getOrDefault(
+                        applicationId, Collections.emptyList()).toArray(new IdentityProvider[0]));
+                serviceProvider.setOutboundProvisioningConfig(outboundProvisioningConfig);
+
+                // Load Claim Mapping
+                ClaimConfig claimConfig = claimConfigs.get(applicationId);
+                claimConfig.setClaimMappings(claimMappings.getOrDefault(applicationId, Collections.emptyList())
+                        .toArray(new ClaimMapping[0]));
+                claimConfig.setSpClaimDialects(spDialects.getOrDefault(applicationId, Collections.emptyList())
+                        .toArray(new String[0]));
+                serviceProvider.setClaimConfig(claimConfig);
+
+                // Load Role Mappings
+                PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
+                permissionAndRoleConfig.setRoleMappings(roleMappings.getOrDefault(applicationId,
+                        Collections.emptyList()).toArray(new RoleMapping[0]));
+                serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
+
+                serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators.getOrDefault(
+                        applicationId, Collections.emptyList()).toArray(new RequestPathAuthenticatorConfig[0]));
+
+                serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
+                serviceProvider.setCertificateContent(getCertificateContent(propertyList, tenantID));
+
+                // Set role associations.
+                serviceProvider.setAssociatedRolesConfig(
+                        getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID,
+                                getAllowedRoleAudience(propertyList)));
+                // Will be supported with 'Advance Consent Management Feature'.
+                /*
+                ConsentConfig consentConfig = serviceProvider.getConsentConfig();
+                if (isNull(consentConfig)) {
+                    consentConfig = new ConsentConfig();
+                }
+                consentConfig.setConsentPurposeConfigs(getConsentPurposeConfigs(connection, applicationId, tenantID));
+                serviceProvider.setConsentConfig(consentConfig);
+                */
+
+                String serviceProviderName = serviceProvider.getApplicationName();
+                loadApplicationPermissions(serviceProviderName, serviceProvider);
             }
-            consentConfig.setConsentPurposeConfigs(getConsentPurposeConfigs(connection, applicationId, tenantID));
-            serviceProvider.setConsentConfig(consentConfig);
-            */
+        }
+        return serviceProviders;
+    }
 
-            String serviceProviderName = serviceProvider.getApplicationName();
-            loadApplicationPermissions(serviceProviderName, serviceProvider);
-            return serviceProvider;
-        } catch (SQLException | CertificateRetrievingException e) {
-            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
-                    e);
+    /**
+     * Run the given query, which selects the rows of a section of the given applications, and pass each of the
+     * rows to the given handler.
+     *
+     * @param connection     Database connection.
+     * @param query          Query with the application id list placeholder.
+     * @param applicationIds Ids of the applications.
+     * @param rowHandler     Handler of the rows.
+     */
+    private void loadApplicationSection(Connection connection, String query, List<Integer> applicationIds,
+                                        ApplicationRowHandler rowHandler)
+            throws SQLException, IdentityApplicationManagementException {
+
+        loadApplicationSection(connection, query, applicationIds, Collections.emptyMap(), rowHandler);
+    }
+
+    /**
+     * Run the given query, which selects the rows of a section of the given applications of a tenant, once per
+     * tenant and pass each of the rows to the given handler.
+     *
+     * @param connection             Database connection.
+     * @param query                  Query with the application id list and the tenant id placeholders.
+     * @param applicationIdsByTenant Ids of the applications keyed by the id of their tenant.
+     * @param rowHandler             Handler of the rows.
+     */
+    private void loadApplicationSection(Connection connection, String query,
+                                        Map<Integer, List<Integer>> applicationIdsByTenant,
+                                        ApplicationRowHandler rowHandler)
+            throws SQLException, IdentityApplicationManagementException {
+
+        for (Entry<Integer, List<Integer>> tenantApplicationIds : applicationIdsByTenant.entrySet()) {
+            loadApplicationSection(connection, query, tenantApplicationIds.getValue(), Collections.singletonMap(
+                    ApplicationMgtDBQueries.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID,
+                    tenantApplicationIds.getKey()), rowHandler);
+        }
+    }
+
+    /**
+     * Run the given query, which selects the rows of a section of the given applications, with the given named
+     * parameters and pass each of the rows to the given handler.
+     *
+     * @param connection      Database connection.
+     * @param query           Query with the application id list placeholder.
+     * @param applicationIds  Ids of the applications.
+     * @param namedParameters Values of the other named parameters of the query.
+     * @param rowHandler      Handler of the rows.
+     */
+    private void loadApplicationSection(Connection connection, String query, List<Integer> applicationIds,
+                                        Map<String, Integer> namedParameters, ApplicationRowHandler rowHandler)
+            throws SQLException, IdentityApplicationManagementException {
+
+        String placeholders = IntStream.range(0, applicationIds.size())
+                .mapToObj(i -> ":" + ApplicationMgtDBQueries.SQLPlaceholders.APP_ID_PLACEHOLDER_PREFIX + i + ";")
+                .collect(Collectors.joining(", "));
+        try (NamedPreparedStatement statement = new NamedPreparedStatement(connection,
+                query.replace(ApplicationMgtDBQueries.SQLPlaceholders.APP_ID_LIST_PLACEHOLDER, placeholders))) {
+            for (int i = 0; i < applicationIds.size(); i++) {
+                statement.setInt(ApplicationMgtDBQueries.SQLPlaceholders.APP_ID_PLACEHOLDER_PREFIX + i,
+                        applicationIds.get(i));
+            }
+            for (Entry<String, Integer> namedParameter : namedParameters.entrySet()) {
+                statement.setInt(namedParameter.getKey(), namedParameter.getValue());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rowHandler.handle(resultSet);
+                }
+            }
         }
     }
 
     private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID)
             throws IdentityApplicationManagementException {
 
+        String allowedAudience = getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME,
+                IdentityTenantUtil.getTenantDomain(tenantID));
+        return getAssociatedRoles(applicationId, connection, tenantID, allowedAudience);
+    }
+
+    private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID,
+                                                     String allowedAudience)
+            throws IdentityApplicationManagementException {
+
         String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantID);
         AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
         List<String> associatedRoleIds = new ArrayList<>();
-        String allowedAudience =
-                getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME, tenantDomain);
         if (RoleConstants.APPLICATION.equalsIgnoreCase(allowedAudience)) {
             try (NamedPreparedStatement preparedStatement = new NamedPreparedStatement(connection,
                     ApplicationMgtDBQueries.LOAD_ASSOCIATED_ROLES)) {
@@ -2363,9 +2608,10 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                         }
                     } while (chunkOfRoles.size() == maximumPage);
 
-                    List<String> roleIds = allRoles.stream().map(RoleBasicInfo::getId).collect(Collectors.
-                            toList());
-                    associatedRolesConfig.setRoles(buildAssociatedRolesWithRoleName(roleIds, tenantDomain));
+                    // The listed roles already carry their names, hence they are not resolved again by id.
+                    associatedRolesConfig.setRoles(allRoles.stream()
+                            .map(role -> new RoleV2(role.getId(), role.getName()))
+                            .toArray(RoleV2[]::new));
                 }
             } catch (IdentityRoleManagementException e) {
                 throw new IdentityApplicationManagementException("Error while retrieving associated roles for " +
@@ -2379,6 +2625,15 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return associatedRolesConfig;
     }
 
+    private String getAllowedRoleAudience(List<ServiceProviderProperty> propertyList) {
+
+        return propertyList.stream()
+                .filter(property -> ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME.equals(property.getName()))
+                .map(ServiceProviderProperty::getValue)
+                .findFirst()
+                .orElse(StringUtils.EMPTY);
+    }
+
     private RoleV2[] buildAssociatedRolesWithRoleName(List<String> roleIds, String tenantDomain)
             throws IdentityRoleManagementException {
 
@@ -2664,89 +2919,112 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             rs = prepStmt.executeQuery();
 
             if (rs.next()) {
-                serviceProvider = new ServiceProvider();
-                serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
-                serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
-                serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
-                serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
-                serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
-                serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
-
-                serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
-                if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
-                    serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
-                            rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
-                }
-                String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
-                if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
-                    String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(consoleAccessUrl)) {
-                        serviceProvider.setAccessUrl(consoleAccessUrl);
-                    }
-                }
-                if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
-                    String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(myAccountAccessUrl)) {
-                        serviceProvider.setAccessUrl(myAccountAccessUrl);
-                    }
-                }
-
-                serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
-                serviceProvider.setDiscoverableGroups(getDiscoverableGroups(appId, connection, tenantDomain));
-
-                User owner = new User();
-                owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
-                owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
-                owner.setTenantDomain(getUserTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
-                        rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
-                                rs.getString(ApplicationTableColumns.USERNAME)));
-                serviceProvider.setOwner(owner);
-                serviceProvider.setTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+                serviceProvider = buildBasicApplicationData(rs);
+            }
+        } finally {
+            IdentityApplicationManagementUtil.closeResultSet(rs);
+            IdentityApplicationManagementUtil.closeStatement(prepStmt);
+        }
+        if (serviceProvider != null) {
+            serviceProvider.setDiscoverableGroups(getDiscoverableGroups(serviceProvider.getApplicationID(),
+                    connection, serviceProvider.getTenantDomain()));
+        }
+        return serviceProvider;
+    }
 
-                ClaimConfig claimConfig = new ClaimConfig();
-                claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
-                claimConfig.setLocalClaimDialect(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
-                claimConfig.setAlwaysSendMappedLocalSubjectId(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
-                serviceProvider.setClaimConfig(claimConfig);
+    /**
+     * Build the service provider with the basic application data of the current row of the given result set.
+     *
+     * The discoverable groups are not loaded here, as resolving them while the result set is open would keep the
+     * cursor open across the user store calls.
+     *
+     * @param rs Result set positioned at a row of the SP_APP table.
+     * @return Service provider with the basic application data.
+     * @throws SQLException If an error occurs while reading the row.
+     * @throws IdentityApplicationManagementException If an error occurs while resolving the access URL.
+     */
+    private ServiceProvider buildBasicApplicationData(ResultSet rs)
+            throws SQLException, IdentityApplicationManagementException {
 
-                LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
-                        new LocalAndOutboundAuthenticationConfig();
-                localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
-                localAndOutboundAuthenticationConfig.setEnableAuthorization(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
-                localAndOutboundAuthenticationConfig.setSubjectClaimUri(
-                        rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
-                serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+        try {
+            ServiceProvider serviceProvider = new ServiceProvider();
+            serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
+            serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
+            serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
+            serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
+            serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
+            serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
+
+            serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
+            if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
+                serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
+                        rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
+            }
+            String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
+            if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
+                String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
+                if (StringUtils.isNotBlank(consoleAccessUrl)) {
+                    serviceProvider.setAccessUrl(consoleAccessUrl);
+                }
+            }
+            if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
+                String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
+                if (StringUtils.isNotBlank(myAccountAccessUrl)) {
+                    serviceProvider.setAccessUrl(myAccountAccessUrl);
+                }
+            }
 
-                serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+            serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
+
+            User owner = new User();
+            owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
+            owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
+            owner.setTenantDomain(getUserTenantDomain(
+                    IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
+                    rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
+                            rs.getString(ApplicationTableColumns.USERNAME)));
+            serviceProvider.setOwner(owner);
+            serviceProvider.setTenantDomain(
+                    IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+
+            ClaimConfig claimConfig = new ClaimConfig();
+            claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
+            claimConfig.setLocalClaimDialect(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
+            claimConfig.setAlwaysSendMappedLocalSubjectId(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
+            serviceProvider.setClaimConfig(claimConfig);
+
+            LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                    new LocalAndOutboundAuthenticationConfig();
+            localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
+            localAndOutboundAuthenticationConfig.setEnableAuthorization(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
+            localAndOutboundAuthenticationConfig.setSubjectClaimUri(
+                    rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
+            serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+
+            serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
 
-                // Will be supported with 'Advance Consent Management Feature'.
-                /*
-                ConsentConfig consentConfig = new ConsentConfig();
-                consentConfig.setEnabled("1".equals(rs.getString(18)));
-                serviceProvider.setConsentConfig(consentConfig);
-                */
+            // Will be supported with 'Advance Consent Management Feature'.
+            /*
+            ConsentConfig consentConfig = new ConsentConfig();
+            consentConfig.setEnabled("1".equals(rs.getString(18)));
+            serviceProvider.setConsentConfig(consentConfig);
+            */
 
-                if (log.isDebugEnabled()) {
-                    log.debug("ApplicationID: " + serviceProvider.getApplicationID()
-                            + " ApplicationName: " + serviceProvider.getApplicationName()
-                            + " UserName: " + serviceProvider.getOwner().getUserName()
-                            + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
-                }
+            if (log.isDebugEnabled()) {
+                log.debug("ApplicationID: " + serviceProvider.getApplicationID()
+                        + " ApplicationName: " + serviceProvider.getApplicationName()
+                        + " UserName: " + serviceProvider.getOwner().getUserName()
+                        + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
             }
 
             return serviceProvider;
         } catch (URLBuilderException e) {
             throw new IdentityApplicationManagementException(
                     "Error occurred when resolving origin of the access URL with placeholders", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeResultSet(rs);
-            IdentityApplicationManagementUtil.closeStatement(prepStmt);
         }
     }
 
@@ -2998,51 +3276,64 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = getClientInfo.executeQuery();
 
             while (resultSet.next()) {
-                String authKey = resultSet.getString(1);
-                //this is done to handle empty string added to oracle database as null.
-                if (authKey == null) {
-                    authKey = new String();
-                }
-                String authType = resultSet.getString(2);
-                String propName = resultSet.getString(3);
-                String propValue = resultSet.getString(4);
-                String configType = resultSet.getString(5);
-
-                String mapKey = authType + ":" + authKey;
-
-                InboundAuthenticationRequestConfig inboundAuthRequest = null;
-                if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
-                    inboundAuthRequest = new InboundAuthenticationRequestConfig();
-                }
-                inboundAuthRequest.setInboundAuthKey(authKey);
-                inboundAuthRequest.setInboundAuthType(authType);
-                inboundAuthRequest.setInboundConfigType(configType);
-
-                boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
-                AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
-                        .getInboundAuthenticatorConfig(authType + ":" + configType);
-                if (isCustomAuthenticator && customAuthenticator != null) {
-                    inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
-                }
-                if (propName != null) {
-                    Property prop = new Property();
-                    prop.setName(propName);
-                    prop.setValue(propValue);
-                    if (isCustomAuthenticator && customAuthenticator != null) {
-                        Property mappedProperty = getMappedProperty(customAuthenticator, propName);
-                        if (mappedProperty != null) {
-                            prop.setDisplayName(mappedProperty.getDisplayName());
-                        }
-                    }
-                    inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[] {prop},
-                            inboundAuthRequest.getProperties())));
-                }
-                inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
+                addInboundAuthenticationRequestConfig(inboundAuthenticationRequestConfigMap, resultSet);
             }
         } finally {
             IdentityApplicationManagementUtil.closeStatement(getClientInfo);
             IdentityApplicationManagementUtil.closeResultSet(resultSet);
         }
+        return buildInboundAuthenticationConfig(inboundAuthenticationRequestConfigMap);
+    }
+
+    private void addInboundAuthenticationRequestConfig(
+            Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap,
+            ResultSet resultSet) throws SQLException {
+
+        String authKey = resultSet.getString(1);
+        //this is done to handle empty string added to oracle database as null.
+        if (authKey == null) {
+            authKey = new String();
+        }
+        String authType = resultSet.getString(2);
+        String propName = resultSet.getString(3);
+        String propValue = resultSet.getString(4);
+        String configType = resultSet.getString(5);
+
+        String mapKey = authType + ":" + authKey;
+
+        InboundAuthenticationRequestConfig inboundAuthRequest = null;
+        if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
+            inboundAuthRequest = new InboundAuthenticationRequestConfig();
+        }
+        inboundAuthRequest.setInboundAuthKey(authKey);
+        inboundAuthRequest.setInboundAuthType(authType);
+        inboundAuthRequest.setInboundConfigType(configType);
+
+        boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
+        AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
+                .getInboundAuthenticatorConfig(authType + ":" + configType);
+        if (isCustomAuthenticator && customAuthenticator != null) {
+            inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
+        }
+        if (propName != null) {
+            Property prop = new Property();
+            prop.setName(propName);
+            prop.setValue(propValue);
+            if (isCustomAuthenticator && customAuthenticator != null) {
+                Property mappedProperty = getMappedProperty(customAuthenticator, propName);
+                if (mappedProperty != null) {
+                    prop.setDisplayName(mappedProperty.getDisplayName());
+                }
+            }
+            inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[] {prop},
+                    inboundAuthRequest.getProperties())));
+        }
+        inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
+    }
+
+    private InboundAuthenticationConfig buildInboundAuthenticationConfig(
+            Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap) {
+
         Map<String, AbstractInboundAuthenticatorConfig> allCustomAuthenticators = new HashMap<>
                 (ApplicationManagementServiceComponentHolder.getAllInboundAuthenticatorConfig());
         for (Map.Entry<String, InboundAuthenticationRequestConfig> entry : inboundAuthenticationRequestConfigMap
@@ -3104,205 +3395,235 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             int applicationId, Connection connection, int tenantId, List<ServiceProviderProperty> propertyList)
             throws SQLException, IdentityApplicationManagementException {
 
-        PreparedStatement getStepInfoPrepStmt = null;
-        ResultSet stepInfoResultSet = null;
-
         if (log.isDebugEnabled()) {
             log.debug("Reading Steps of Application " + applicationId);
         }
 
-        try {
-            getStepInfoPrepStmt = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_STEPS_INFO_BY_APP_ID);
+        List<AuthenticationStepInfo> stepInfos = new ArrayList<>();
+        try (PreparedStatement getStepInfoPrepStmt = connection
+                .prepareStatement(ApplicationMgtDBQueries.LOAD_STEPS_INFO_BY_APP_ID)) {
             // STEP_ORDER, AUTHENTICATOR_ID, IS_SUBJECT_STEP, IS_ATTRIBUTE_STEP
             getStepInfoPrepStmt.setInt(1, applicationId);
-            stepInfoResultSet = getStepInfoPrepStmt.executeQuery();
-
-            Map<String, AuthenticationStep> authSteps = new HashMap<>();
-            Map<String, Map<String, List<FederatedAuthenticatorConfig>>> stepFedIdPAuthenticators = new HashMap<>();
-            Map<String, List<LocalAuthenticatorConfig>> stepLocalAuth = new HashMap<>();
-
-            while (stepInfoResultSet.next()) {
-
-                String step = String.valueOf(stepInfoResultSet.getInt(1));
-                AuthenticationStep authStep;
-
-                if (authSteps.containsKey(step)) {
-                    authStep = authSteps.get(step);
-                } else {
-                    authStep = new AuthenticationStep();
-                    authStep.setStepOrder(stepInfoResultSet.getInt(1));
-                    stepLocalAuth.put(step, new ArrayList<LocalAuthenticatorConfig>());
-                    stepFedIdPAuthenticators.put(step,
-                            new HashMap<String, List<FederatedAuthenticatorConfig>>());
+            try (ResultSet stepInfoResultSet = getStepInfoPrepStmt.executeQuery()) {
+                while (stepInfoResultSet.next()) {
+                    stepInfos.add(buildAuthenticationStepInfo(stepInfoResultSet));
                 }
+            }
+        }
 
-                int authenticatorId = stepInfoResultSet.getInt(2);
-                Map<String, String> authenticatorInfo = getAuthenticatorInfo(connection, tenantId,
-                        authenticatorId);
-
-                if (authenticatorInfo != null
-                        && authenticatorInfo.get(ApplicationConstants.IDP_NAME) != null
-                        && ApplicationConstants.LOCAL_IDP_NAME.equals(authenticatorInfo
-                        .get("idpName"))) {
-                    LocalAuthenticatorConfig localAuthenticator = new LocalAuthenticatorConfig();
-                    localAuthenticator.setName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_NAME));
-                    localAuthenticator.setDisplayName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME));
-                    localAuthenticator.setDefinedByType(DefinedByType.valueOf(
-                            authenticatorInfo.get(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE)));
-                    stepLocalAuth.get(step).add(localAuthenticator);
-                } else {
-                    Map<String, List<FederatedAuthenticatorConfig>> stepFedIdps = stepFedIdPAuthenticators
-                            .get(step);
+        // Resolve the authenticators and the federation hub IdPs of all the steps at once, instead of querying
+        // them per authenticator and per IdP.
+        Map<String, Boolean> federationHubIdPs = new HashMap<>();
+        Map<Integer, Map<String, String>> stepAuthenticatorInfo = getStepAuthenticatorInfo(connection,
+                applicationId, tenantId, federationHubIdPs);
 
-                    if (!stepFedIdps.containsKey(authenticatorInfo
-                            .get(ApplicationConstants.IDP_NAME))) {
-                        stepFedIdps.put(authenticatorInfo.get(ApplicationConstants.IDP_NAME),
-                                new ArrayList<FederatedAuthenticatorConfig>());
-                    }
+        LocalAndOutboundAuthenticationConfig localAndOutboundConfiguration
+                = new LocalAndOutboundAuthenticationConfig();
 
-                    List<FederatedAuthenticatorConfig> idpAuths = stepFedIdps.get(authenticatorInfo
-                            .get(ApplicationConstants.IDP_NAME));
-                    FederatedAuthenticatorConfig fedAuthenticator = new FederatedAuthenticatorConfig();
-                    fedAuthenticator.setName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_NAME));
-                    fedAuthenticator.setDisplayName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME));
-                    fedAuthenticator.setDefinedByType(DefinedByType.valueOf(
-                            authenticatorInfo.get(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE)));
-                    idpAuths.add(fedAuthenticator);
-                }
+        AuthenticationStep[] authenticationSteps = buildAuthenticationSteps(applicationId, stepInfos,
+                stepAuthenticatorInfo, federationHubIdPs);
+        localAndOutboundConfiguration.setAuthenticationSteps(authenticationSteps);
+        localAndOutboundConfiguration.setAuthenticationType(resolveAuthenticationType(applicationId,
+                getAuthenticationType(applicationId, tenantId, connection), authenticationSteps));
+
+        AuthenticationScriptConfig authenticationScriptConfig = getScriptConfiguration(applicationId, connection);
+        if (authenticationScriptConfig != null) {
+            localAndOutboundConfiguration.setAuthenticationScriptConfig(authenticationScriptConfig);
+        }
 
-                authStep.setSubjectStep("1".equals(stepInfoResultSet.getString(3)));
-                authStep.setAttributeStep("1".equals(stepInfoResultSet.getString(4)));
+        PreparedStatement localAndOutboundConfigPrepStmt = null;
+        ResultSet localAndOutboundConfigResultSet = null;
 
-                authSteps.put(step, authStep);
+        try {
+            localAndOutboundConfigPrepStmt = connection
+                    .prepareStatement(ApplicationMgtDBQueries.LOAD_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID);
+            localAndOutboundConfigPrepStmt.setInt(1, tenantId);
+            localAndOutboundConfigPrepStmt.setInt(2, applicationId);
+            localAndOutboundConfigResultSet = localAndOutboundConfigPrepStmt.executeQuery();
+
+            if (localAndOutboundConfigResultSet.next()) {
+                localAndOutboundConfiguration.setUseTenantDomainInLocalSubjectIdentifier("1"
+                        .equals(localAndOutboundConfigResultSet.getString(1)));
+                localAndOutboundConfiguration.setUseUserstoreDomainInLocalSubjectIdentifier("1"
+                        .equals(localAndOutboundConfigResultSet.getString(2)));
+                localAndOutboundConfiguration.setEnableAuthorization("1"
+                        .equals(localAndOutboundConfigResultSet.getString(3)));
+                localAndOutboundConfiguration.setAlwaysSendBackAuthenticatedListOfIdPs("1"
+                        .equals(localAndOutboundConfigResultSet.getString(4)));
+                localAndOutboundConfiguration.setSubjectClaimUri(localAndOutboundConfigResultSet
+                        .getString(5));
+
+                readAndSetConfigurationsFromProperties(propertyList, localAndOutboundConfiguration);
             }
+        } finally {
+            IdentityApplicationManagementUtil.closeStatement(localAndOutboundConfigPrepStmt);
+            IdentityApplicationManagementUtil.closeResultSet(localAndOutboundConfigResultSet);
+        }
 
-            LocalAndOutboundAuthenticationConfig localAndOutboundConfiguration
-                    = new LocalAndOutboundAuthenticationConfig();
+        return localAndOutboundConfiguration;
+    }
 
-            AuthenticationStep[] authenticationSteps = new AuthenticationStep[authSteps.size()];
+    private AuthenticationStepInfo buildAuthenticationStepInfo(ResultSet resultSet) throws SQLException {
 
-            int authStepCount = 0;
+        return new AuthenticationStepInfo(resultSet.getInt(1), resultSet.getInt(2),
+                "1".equals(resultSet.getString(3)), "1".equals(resultSet.getString(4)));
+    }
 
-            for (Entry<String, AuthenticationStep> entry : authSteps.entrySet()) {
+    /**
+     * Build the authentication steps of an application from its step rows, ordered by the step order.
+     *
+     * @param applicationId         Application id.
+     * @param stepInfos             Step rows of the application.
+     * @param stepAuthenticatorInfo Information of the authenticators engaged in the steps, keyed by their ids.
+     * @param federationHubIdPs     Whether each of the IdPs engaged in the steps is a federation hub.
+     * @return Authentication steps of the application.
+     */
+    private AuthenticationStep[] buildAuthenticationSteps(int applicationId, List<AuthenticationStepInfo> stepInfos,
+                                                          Map<Integer, Map<String, String>> stepAuthenticatorInfo,
+                                                          Map<String, Boolean> federationHubIdPs) {
 
-                AuthenticationStep authStep = entry.getValue();
-                String stepId = entry.getKey();
+        Map<String, AuthenticationStep> authSteps = new HashMap<>();
+        Map<String, Map<String, List<FederatedAuthenticatorConfig>>> stepFedIdPAuthenticators = new HashMap<>();
+        Map<String, List<LocalAuthenticatorConfig>> stepLocalAuth = new HashMap<>();
 
-                List<LocalAuthenticatorConfig> localAuthenticatorList = stepLocalAuth.get(stepId);
+        for (AuthenticationStepInfo stepInfo : stepInfos) {
 
-                if (localAuthenticatorList != null && localAuthenticatorList.size() > 0) {
-                    authStep.setLocalAuthenticatorConfigs(
-                            localAuthenticatorList.toArray(
-                                    new LocalAuthenticatorConfig[localAuthenticatorList.size()]));
-                }
+            String step = String.valueOf(stepInfo.getStepOrder());
+            AuthenticationStep authStep;
 
-                Map<String, List<FederatedAuthenticatorConfig>> idpList = stepFedIdPAuthenticators
-                        .get(stepId);
-
-                if (idpList != null && idpList.size() > 0) {
-                    IdentityProvider[] fedIdpList = new IdentityProvider[idpList.size()];
-                    int idpCount = 0;
-
-                    for (Entry<String, List<FederatedAuthenticatorConfig>> idpEntry : idpList
-                            .entrySet()) {
-                        String idpName = idpEntry.getKey();
-                        List<FederatedAuthenticatorConfig> fedAuthenticators = idpEntry.getValue();
-                        IdentityProvider idp = new IdentityProvider();
-                        idp.setIdentityProviderName(idpName);
-                        idp.setFederationHub(isFederationHubIdP(idpName, connection, tenantId));
-                        idp.setFederatedAuthenticatorConfigs(
-                                fedAuthenticators.toArray(new FederatedAuthenticatorConfig[fedAuthenticators.size()]));
-                        idp.setDefaultAuthenticatorConfig(idp.getFederatedAuthenticatorConfigs()[0]);
-                        fedIdpList[idpCount++] = idp;
-                    }
-                    authStep.setFederatedIdentityProviders(fedIdpList);
+            if (authSteps.containsKey(step)) {
+                authStep = authSteps.get(step);
+            } else {
+                authStep = new AuthenticationStep();
+                authStep.setStepOrder(stepInfo.getStepOrder());
+                stepLocalAuth.put(step, new ArrayList<LocalAuthenticatorConfig>());
+                stepFedIdPAuthenticators.put(step,
+                        new HashMap<String, List<FederatedAuthenticatorConfig>>());
+            }
+
+            Map<String, String> authenticatorInfo = stepAuthenticatorInfo.getOrDefault(
+                    stepInfo.getAuthenticatorId(), Collections.emptyMap());
+
+            if (authenticatorInfo != null
+                    && authenticatorInfo.get(ApplicationConstants.IDP_NAME) != null
+                    && ApplicationConstants.LOCAL_IDP_NAME.equals(authenticatorInfo
+                    .get("idpName"))) {
+                LocalAuthenticatorConfig localAuthenticator = new LocalAuthenticatorConfig();
+                localAuthenticator.setName(authenticatorInfo
+                        .get(ApplicationConstants.IDP_AUTHENTICATOR_NAME));
+                localAuthenticator.setDisplayName(authenticatorInfo
+                        .get(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME));
+                localAuthenticator.setDefinedByType(DefinedByType.valueOf(
+                        authenticatorInfo.get(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE)));
+                stepLocalAuth.get(step).add(localAuthenticator);
+            } else {
+                Map<String, List<FederatedAuthenticatorConfig>> stepFedIdps = stepFedIdPAuthenticators
+                        .get(step);
+
+                if (!stepFedIdps.containsKey(authenticatorInfo
+                        .get(ApplicationConstants.IDP_NAME))) {
+                    stepFedIdps.put(authenticatorInfo.get(ApplicationConstants.IDP_NAME),
+                            new ArrayList<FederatedAuthenticatorConfig>());
                 }
 
-                authenticationSteps[authStepCount++] = authStep;
+                List<FederatedAuthenticatorConfig> idpAuths = stepFedIdps.get(authenticatorInfo
+                        .get(ApplicationConstants.IDP_NAME));
+                FederatedAuthenticatorConfig fedAuthenticator = new FederatedAuthenticatorConfig();
+                fedAuthenticator.setName(authenticatorInfo
+                        .get(ApplicationConstants.IDP_AUTHENTICATOR_NAME));
+                fedAuthenticator.setDisplayName(authenticatorInfo
+                        .get(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME));
+                fedAuthenticator.setDefinedByType(DefinedByType.valueOf(
+                        authenticatorInfo.get(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE)));
+                idpAuths.add(fedAuthenticator);
             }
 
-            Arrays.sort(authenticationSteps, Comparator.comparingInt(AuthenticationStep::getStepOrder));
+            authStep.setSubjectStep(stepInfo.isSubjectStep());
+            authStep.setAttributeStep(stepInfo.isAttributeStep());
 
-            int numSteps = authenticationSteps.length;
-            // We check if the steps have consecutive step numbers.
-            if (numSteps > 0 && authenticationSteps[numSteps - 1].getStepOrder() != numSteps) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Authentication steps of Application with id: " + applicationId + "  do not have " +
-                            "consecutive numbers. This was possibility due to a IDP force deletion. Fixing the step " +
-                            "order.");
-                }
-                // Iterate through the steps and fix step order.
-                int count = 1;
-                for (AuthenticationStep step : authenticationSteps) {
-                    step.setStepOrder(count++);
-                }
+            authSteps.put(step, authStep);
+        }
+
+        AuthenticationStep[] authenticationSteps = new AuthenticationStep[authSteps.size()];
+
+        int authStepCount = 0;
+
+        for (Entry<String, AuthenticationStep> entry : authSteps.entrySet()) {
+
+            AuthenticationStep authStep = entry.getValue();
+            String stepId = entry.getKey();
+
+            List<LocalAuthenticatorConfig> localAuthenticatorList = stepLocalAuth.get(stepId);
+
+            if (localAuthenticatorList != null && localAuthenticatorList.size() > 0) {
+                authStep.setLocalAuthenticatorConfigs(
+                        localAuthenticatorList.toArray(
+                                new LocalAuthenticatorConfig[localAuthenticatorList.size()]));
             }
 
-            localAndOutboundConfiguration.setAuthenticationSteps(authenticationSteps);
+            Map<String, List<FederatedAuthenticatorConfig>> idpList = stepFedIdPAuthenticators
+                    .get(stepId);
 
-            String authType = getAuthenticationType(applicationId, tenantId, connection);
-            if (StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FEDERATED)
-                    || StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FLOW)) {
-                if (ArrayUtils.isEmpty(authenticationSteps)) {
-                    // Although auth type is 'federated' or 'flow' we don't have any authentication steps. This can
-                    // happen due to a force delete of a federated identity provider referred by the SP. So we change
-                    // the authType to 'default'.
-                    if (log.isDebugEnabled()) {
-                        log.debug("Authentication type is '" + authType + "' eventhough the application with id: " +
-                                applicationId +
-                                " has zero authentication step. This was possibility due to a IDP force deletion. " +
-                                " Defaulting authentication type to " + ApplicationConstants.AUTH_TYPE_DEFAULT);
-                    }
-                    authType = ApplicationConstants.AUTH_TYPE_DEFAULT;
+            if (idpList != null && idpList.size() > 0) {
+                IdentityProvider[] fedIdpList = new IdentityProvider[idpList.size()];
+                int idpCount = 0;
+
+                for (Entry<String, List<FederatedAuthenticatorConfig>> idpEntry : idpList
+                        .entrySet()) {
+                    String idpName = idpEntry.getKey();
+                    List<FederatedAuthenticatorConfig> fedAuthenticators = idpEntry.getValue();
+                    IdentityProvider idp = new IdentityProvider();
+                    idp.setIdentityProviderName(idpName);
+                    idp.setFederationHub(Boolean.TRUE.equals(federationHubIdPs.get(idpName)));
+                    idp.setFederatedAuthenticatorConfigs(
+                            fedAuthenticators.toArray(new FederatedAuthenticatorConfig[fedAuthenticators.size()]));
+                    idp.setDefaultAuthenticatorConfig(idp.getFederatedAuthenticatorConfigs()[0]);
+                    fedIdpList[idpCount++] = idp;
                 }
+                authStep.setFederatedIdentityProviders(fedIdpList);
             }
 
-            localAndOutboundConfiguration.setAuthenticationType(authType);
+            authenticationSteps[authStepCount++] = authStep;
+        }
+
+        Arrays.sort(authenticationSteps, Comparator.comparingInt(AuthenticationStep::getStepOrder));
 
-            AuthenticationScriptConfig authenticationScriptConfig = getScriptConfiguration(applicationId, connection);
-            if (authenticationScriptConfig != null) {
-                localAndOutboundConfiguration.setAuthenticationScriptConfig(authenticationScriptConfig);
+        int numSteps = authenticationSteps.length;
+        // We check if the steps have consecutive step numbers.
+        if (numSteps > 0 && authenticationSteps[numSteps - 1].getStepOrder() != numSteps) {
+            if (log.isDebugEnabled()) {
+                log.debug("Authentication steps of Application with id: " + applicationId + "  do not have " +
+                        "consecutive numbers. This was possibility due to a IDP force deletion. Fixing the step " +
+                        "order.");
+            }
+            // Iterate through the steps and fix step order.
+            int count = 1;
+            for (AuthenticationStep step : authenticationSteps) {
+                step.setStepOrder(count++);
             }
+        }
+        return authenticationSteps;
+    }
 
-            PreparedStatement localAndOutboundConfigPrepStmt = null;
-            ResultSet localAndOutboundConfigResultSet = null;
+    private String resolveAuthenticationType(int applicationId, String authType,
+                                             AuthenticationStep[] authenticationSteps) {
 
-            try {
-                localAndOutboundConfigPrepStmt = connection
-                        .prepareStatement(ApplicationMgtDBQueries.LOAD_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID);
-                localAndOutboundConfigPrepStmt.setInt(1, tenantId);
-                localAndOutboundConfigPrepStmt.setInt(2, applicationId);
-                localAndOutboundConfigResultSet = localAndOutboundConfigPrepStmt.executeQuery();
-
-                if (localAndOutboundConfigResultSet.next()) {
-                    localAndOutboundConfiguration.setUseTenantDomainInLocalSubjectIdentifier("1"
-                            .equals(localAndOutboundConfigResultSet.getString(1)));
-                    localAndOutboundConfiguration.setUseUserstoreDomainInLocalSubjectIdentifier("1"
-                            .equals(localAndOutboundConfigResultSet.getString(2)));
-                    localAndOutboundConfiguration.setEnableAuthorization("1"
-                            .equals(localAndOutboundConfigResultSet.getString(3)));
-                    localAndOutboundConfiguration.setAlwaysSendBackAuthenticatedListOfIdPs("1"
-                            .equals(localAndOutboundConfigResultSet.getString(4)));
-                    localAndOutboundConfiguration.setSubjectClaimUri(localAndOutboundConfigResultSet
-                            .getString(5));
-
-                    readAndSetConfigurationsFromProperties(propertyList, localAndOutboundConfiguration);
+        if (StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FEDERATED)
+                || StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FLOW)) {
+            if (ArrayUtils.isEmpty(authenticationSteps)) {
+                // Although auth type is 'federated' or 'flow' we don't have any authentication steps. This can
+                // happen due to a force delete of a federated identity provider referred by the SP. So we change
+                // the authType to 'default'.
+                if (log.isDebugEnabled()) {
+                    log.debug("Authentication type is '" + authType + "' eventhough the application with id: " +
+                            applicationId +
+                            " has zero authentication step. This was possibility due to a IDP force deletion. " +
+                            " Defaulting authentication type to " + ApplicationConstants.AUTH_TYPE_DEFAULT);
                 }
-            } finally {
-                IdentityApplicationManagementUtil.closeStatement(localAndOutboundConfigPrepStmt);
-                IdentityApplicationManagementUtil.closeResultSet(localAndOutboundConfigResultSet);
+                return ApplicationConstants.AUTH_TYPE_DEFAULT;
             }
-
-            return localAndOutboundConfiguration;
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(getStepInfoPrepStmt);
-            IdentityApplicationManagementUtil.closeResultSet(stepInfoResultSet);
         }
+        return authType;
     }
 
     private void readAndSetConfigurationsFromProperties(List<ServiceProviderProperty> propertyList,
@@ -3337,232 +3658,102 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             try (ResultSet localAndOutboundConfigScriptResultSet = localAndOutboundConfigScriptPrepStmt
                     .executeQuery()) {
                 if (localAndOutboundConfigScriptResultSet.next()) {
-                    AuthenticationScriptConfig authenticationScriptConfig = new AuthenticationScriptConfig();
-
-                    try {
-                        boolean isEnabled = "1".equals(localAndOutboundConfigScriptResultSet.getString(2));
-                        InputStream scriptBinaryStream = localAndOutboundConfigScriptResultSet.getBinaryStream(1);
-                        String targetString = StringUtils.EMPTY;
-                        if (scriptBinaryStream != null) {
-                            targetString = IOUtils.toString(scriptBinaryStream);
-                        }
-                        authenticationScriptConfig.setContent(targetString);
-                        authenticationScriptConfig.setEnabled(isEnabled);
-                    } catch (IOException e) {
-                        throw new IdentityApplicationManagementException(
-                                "Could not read the Script for application : " + applicationId, e);
-                    }
-
-                    return authenticationScriptConfig;
+                    return buildAuthenticationScriptConfig(applicationId, localAndOutboundConfigScriptResultSet);
                 }
             }
         }
         return null;
     }
 
-    private boolean isFederationHubIdP(String idPName, Connection connection, int tenantId)
-            throws SQLException {
-
-        PreparedStatement get = null;
-        ResultSet resultSet = null;
+    private AuthenticationScriptConfig buildAuthenticationScriptConfig(int applicationId, ResultSet resultSet)
+            throws SQLException, IdentityApplicationManagementException {
 
+        AuthenticationScriptConfig authenticationScriptConfig = new AuthenticationScriptConfig();
         try {
-            get = connection.prepareStatement(ApplicationMgtDBQueries.LOAD_HUB_IDP_BY_NAME);
-
-            get.setString(1, idPName);
-            get.setInt(2, tenantId);
-            resultSet = get.executeQuery();
-
-            if (resultSet.next()) {
-                return "1".equals(resultSet.getString(1));
-            }
-
-            return false;
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(get);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
+            boolean isEnabled = "1".equals(resultSet.getString(2));
+            InputStream scriptBinaryStream = resultSet.getBinaryStream(1);
+            String targetString = StringUtils.EMPTY;
+            if (scriptBinaryStream != null) {
+                targetString = IOUtils.toString(scriptBinaryStream);
+            }
+            authenticationScriptConfig.setContent(targetString);
+            authenticationScriptConfig.setEnabled(isEnabled);
+        } catch (IOException e) {
+            throw new IdentityApplicationManagementException(
+                    "Could not read the Script for application : " + applicationId, e);
         }
-
+        return authenticationScriptConfig;
     }
 
-    /**
-     * @param applicationId
-     * @param connection
-     * @return
-     * @throws IdentityApplicationManagementException
-     */
-    private ClaimConfig getClaimConfiguration(int applicationId, Connection connection, int tenantID)
-            throws IdentityApplicationManagementException {
-
-        ClaimConfig claimConfig = new ClaimConfig();
-        ArrayList<ClaimMapping> claimMappingList = new ArrayList<ClaimMapping>();
-        List<String> spDialectList = new ArrayList<String>();
+    private ClaimMapping buildClaimMapping(ResultSet resultSet) throws SQLException {
 
-        if (log.isDebugEnabled()) {
-            log.debug("Reading Claim Mappings of Application " + applicationId);
-        }
+        ClaimMapping claimMapping = new ClaimMapping();
+        Claim localClaim = new Claim();
+        Claim remoteClaim = new Claim();
 
-        PreparedStatement get = null;
-        ResultSet resultSet = null;
-        try {
-            get = connection.prepareStatement(ApplicationMgtDBQueries.LOAD_CLAIM_MAPPING_BY_APP_ID);
-            // IDP_CLAIM, SP_CLAIM, IS_REQUESTED
-            get.setInt(1, applicationId);
-            get.setInt(2, tenantID);
-            resultSet = get.executeQuery();
-
-            while (resultSet.next()) {
-                ClaimMapping claimMapping = new ClaimMapping();
-                Claim localClaim = new Claim();
-                Claim remoteClaim = new Claim();
-
-                localClaim.setClaimUri(resultSet.getString(1));
-                remoteClaim.setClaimUri(resultSet.getString(2));
-
-                String requested = resultSet.getString(3);
-
-                if ("1".equalsIgnoreCase(requested)) {
-                    claimMapping.setRequested(true);
-                } else {
-                    claimMapping.setRequested(false);
-                }
-
-                String mandatory = resultSet.getString(4);
-
-                if ("1".equalsIgnoreCase(mandatory)) {
-                    claimMapping.setMandatory(true);
-                } else {
-                    claimMapping.setMandatory(false);
-                }
-
-                if (remoteClaim.getClaimUri() == null
-                        || remoteClaim.getClaimUri().trim().length() == 0) {
-                    remoteClaim.setClaimUri(localClaim.getClaimUri());
-                }
-
-                if (localClaim.getClaimUri() == null
-                        || localClaim.getClaimUri().trim().length() == 0) {
-                    localClaim.setClaimUri(remoteClaim.getClaimUri());
-                }
+        localClaim.setClaimUri(resultSet.getString(1));
+        remoteClaim.setClaimUri(resultSet.getString(2));
 
-                claimMapping.setDefaultValue(resultSet.getString(5));
+        String requested = resultSet.getString(3);
 
-                claimMapping.setLocalClaim(localClaim);
-                claimMapping.setRemoteClaim(remoteClaim);
-
-                claimMappingList.add(claimMapping);
-
-                if (log.isDebugEnabled()) {
-                    log.debug("Local Claim: " + claimMapping.getLocalClaim().getClaimUri()
-                            + " SPClaim: " + claimMapping.getRemoteClaim().getClaimUri());
-                }
-            }
-
-            claimConfig.setClaimMappings(claimMappingList.toArray(new ClaimMapping[claimMappingList
-                    .size()]));
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(get);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
+        if ("1".equalsIgnoreCase(requested)) {
+            claimMapping.setRequested(true);
+        } else {
+            claimMapping.setRequested(false);
         }
 
-        PreparedStatement loadClaimConfigsPrepStmt = null;
-        ResultSet loadClaimConfigsResultSet = null;
+        String mandatory = resultSet.getString(4);
 
-        try {
-            loadClaimConfigsPrepStmt = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_CLAIM_CONIFG_BY_APP_ID);
-            loadClaimConfigsPrepStmt.setInt(1, tenantID);
-            loadClaimConfigsPrepStmt.setInt(2, applicationId);
-            loadClaimConfigsResultSet = loadClaimConfigsPrepStmt.executeQuery();
-
-            while (loadClaimConfigsResultSet.next()) {
-                claimConfig.setRoleClaimURI(loadClaimConfigsResultSet.getString(1));
-                claimConfig.setLocalClaimDialect("1".equals(loadClaimConfigsResultSet.getString(2)));
-
-                switch (loadClaimConfigsResultSet.getString(3)) {
-                    case "1":
-                        claimConfig.setAlwaysSendMappedLocalSubjectId(true);
-                        claimConfig.setMappedLocalSubjectMandatory(false);
-                        break;
-                    case "2":
-                        claimConfig.setAlwaysSendMappedLocalSubjectId(true);
-                        claimConfig.setMappedLocalSubjectMandatory(true);
-                        break;
-                    default:
-                        claimConfig.setAlwaysSendMappedLocalSubjectId(false);
-                        claimConfig.setMappedLocalSubjectMandatory(false);
-                }
-            }
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(loadClaimConfigsPrepStmt);
-            IdentityApplicationManagementUtil.closeResultSet(loadClaimConfigsResultSet);
+        if ("1".equalsIgnoreCase(mandatory)) {
+            claimMapping.setMandatory(true);
+        } else {
+            claimMapping.setMandatory(false);
         }
 
-        PreparedStatement loadSPDialectsPrepStmt = null;
-        ResultSet loadSPDialectsResultSet = null;
+        if (remoteClaim.getClaimUri() == null
+                || remoteClaim.getClaimUri().trim().length() == 0) {
+            remoteClaim.setClaimUri(localClaim.getClaimUri());
+        }
 
-        try {
-            loadSPDialectsPrepStmt = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_SP_DIALECTS_BY_APP_ID);
-            loadSPDialectsPrepStmt.setInt(1, tenantID);
-            loadSPDialectsPrepStmt.setInt(2, applicationId);
-            loadSPDialectsResultSet = loadSPDialectsPrepStmt.executeQuery();
-
-            while (loadSPDialectsResultSet.next()) {
-                String spDialect = loadSPDialectsResultSet.getString(1);
-                if (spDialect != null && !spDialect.isEmpty()) {
-                    spDialectList.add(spDialect);
-                }
-            }
-            claimConfig.setSpClaimDialects(spDialectList.toArray(new String[spDialectList.size()]));
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(loadClaimConfigsPrepStmt);
-            IdentityApplicationManagementUtil.closeResultSet(loadClaimConfigsResultSet);
+        if (localClaim.getClaimUri() == null
+                || localClaim.getClaimUri().trim().length() == 0) {
+            localClaim.setClaimUri(remoteClaim.getClaimUri());
         }
 
-        return claimConfig;
-    }
+        claimMapping.setDefaultValue(resultSet.getString(5));
 
-    /**
-     * @param applicationId
-     * @param connection
-     * @return
-     * @throws IdentityApplicationManagementException
-     */
-    private RequestPathAuthenticatorConfig[] getRequestPathAuthenticators(int applicationId,
-                                                                          Connection connection, int tenantID)
-            throws IdentityApplicationManagementException {
+        claimMapping.setLocalClaim(localClaim);
+        claimMapping.setRemoteClaim(remoteClaim);
 
-        PreparedStatement loadReqPathAuthenticators = null;
-        ResultSet authResultSet = null;
-        List<RequestPathAuthenticatorConfig> authenticators = new ArrayList<RequestPathAuthenticatorConfig>();
+        if (log.isDebugEnabled()) {
+            log.debug("Local Claim: " + claimMapping.getLocalClaim().getClaimUri()
+                    + " SPClaim: " + claimMapping.getRemoteClaim().getClaimUri());
+        }
+        return claimMapping;
+    }
 
-        try {
-            loadReqPathAuthenticators = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_ID);
-            loadReqPathAuthenticators.setInt(1, applicationId);
-            loadReqPathAuthenticators.setInt(2, tenantID);
-            authResultSet = loadReqPathAuthenticators.executeQuery();
+    private void setMappedLocalSubjectConfig(ClaimConfig claimConfig, String sendLocalSubjectId) {
 
-            while (authResultSet.next()) {
-                RequestPathAuthenticatorConfig reqAuth = new RequestPathAuthenticatorConfig();
-                reqAuth.setName(authResultSet.getString(1));
-                authenticators.add(reqAuth);
-            }
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(loadReqPathAuthenticators);
-            IdentityApplicationManagementUtil.closeResultSet(authResultSet);
+        switch (sendLocalSubjectId) {
+            case "1":
+                claimConfig.setAlwaysSendMappedLocalSubjectId(true);
+                claimConfig.setMappedLocalSubjectMandatory(false);
+                break;
+            case "2":
+                claimConfig.setAlwaysSendMappedLocalSubjectId(true);
+                claimConfig.setMappedLocalSubjectMandatory(true);
+                break;
+            default:
+                claimConfig.setAlwaysSendMappedLocalSubjectId(false);
+                claimConfig.setMappedLocalSubjectMandatory(false);
         }
+    }
 
-        return authenticators.toArray(new RequestPathAuthenticatorConfig[authenticators.size()]);
+    private RequestPathAuthenticatorConfig buildRequestPathAuthenticator(ResultSet resultSet) throws SQLException {
+
+        RequestPathAuthenticatorConfig reqAuth = new RequestPathAuthenticatorConfig();
+        reqAuth.setName(resultSet.getString(1));
+        return reqAuth;
     }
 
     /**
@@ -3754,54 +3945,19 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
-    /**
-     * Reads the claim mappings for a given appID
-     *
-     * @param applicationId
-     * @param connection
-     * @return
-     * @throws IdentityApplicationManagementException
-     */
-    private List<RoleMapping> getRoleMappingOfApplication(int applicationId, Connection connection,
-                                                          int tenantID) throws IdentityApplicationManagementException {
+    private RoleMapping buildRoleMapping(ResultSet resultSet) throws SQLException {
 
-        ArrayList<RoleMapping> roleMappingList = new ArrayList<RoleMapping>();
+        RoleMapping roleMapping = new RoleMapping();
+        LocalRole localRole = new LocalRole();
+        localRole.setLocalRoleName(resultSet.getString(1));
+        roleMapping.setLocalRole(localRole);
+        roleMapping.setRemoteRole(resultSet.getString(2));
 
         if (log.isDebugEnabled()) {
-            log.debug("Reading Role Mapping of Application " + applicationId);
-        }
-
-        PreparedStatement getClientInfo = null;
-        ResultSet resultSet = null;
-        try {
-            getClientInfo = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_ROLE_MAPPING_BY_APP_ID);
-            // IDP_ROLE, SP_ROLE
-            getClientInfo.setInt(1, applicationId);
-            getClientInfo.setInt(2, tenantID);
-            resultSet = getClientInfo.executeQuery();
-
-            while (resultSet.next()) {
-                RoleMapping roleMapping = new RoleMapping();
-                LocalRole localRole = new LocalRole();
-                localRole.setLocalRoleName(resultSet.getString(1));
-                roleMapping.setLocalRole(localRole);
-                roleMapping.setRemoteRole(resultSet.getString(2));
-                roleMappingList.add(roleMapping);
-
-                if (log.isDebugEnabled()) {
-                    log.debug("Local Role: " + roleMapping.getLocalRole().getLocalRoleName()
-                            + " SPRole: " + roleMapping.getRemoteRole());
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(getClientInfo);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
+            log.debug("Local Role: " + roleMapping.getLocalRole().getLocalRoleName()
+                    + " SPRole: " + roleMapping.getRemoteRole());
         }
-        return roleMappingList;
+        return roleMapping;
     }
 
     /**
@@ -5064,38 +5220,49 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     }
 
     /**
-     * @param conn
-     * @param tenantId
-     * @param authenticatorId
-     * @return
-     * @throws SQLException
+     * Load the IdP and authenticator information of all the authenticators engaged in the authentication steps of
+     * the given application.
+     *
+     * @param conn              Database connection.
+     * @param applicationId     Application id.
+     * @param tenantId          Tenant id of the application.
+     * @param federationHubIdPs Map to be populated with whether each of the resolved IdPs is a federation hub.
+     * @return Authenticator information keyed by the authenticator id.
+     * @throws SQLException If an error occurs while loading the authenticator information.
      */
-    private Map<String, String> getAuthenticatorInfo(Connection conn, int tenantId,
-                                                     int authenticatorId) throws SQLException {
+    private Map<Integer, Map<String, String>> getStepAuthenticatorInfo(Connection conn, int applicationId,
+                                                                       int tenantId,
+                                                                       Map<String, Boolean> federationHubIdPs)
+            throws SQLException {
 
-        PreparedStatement prepStmt = null;
-        ResultSet rs = null;
-        String sqlStmt = ApplicationMgtDBQueries.LOAD_IDP_AND_AUTHENTICATOR_NAMES;
-        Map<String, String> returnData = new HashMap<String, String>();
-        try {
-            prepStmt = conn.prepareStatement(sqlStmt);
-            prepStmt.setInt(1, authenticatorId);
-            prepStmt.setInt(2, tenantId);
+        Map<Integer, Map<String, String>> authenticatorInfo = new HashMap<>();
+        try (PreparedStatement prepStmt = conn.prepareStatement(
+                ApplicationMgtDBQueries.LOAD_IDP_AND_AUTHENTICATOR_NAMES_BY_APP_ID)) {
+            prepStmt.setInt(1, tenantId);
+            prepStmt.setInt(2, applicationId);
             prepStmt.setInt(3, tenantId);
-            prepStmt.setInt(4, MultitenantConstants.SUPER_TENANT_ID);
+            prepStmt.setInt(4, tenantId);
             prepStmt.setInt(5, MultitenantConstants.SUPER_TENANT_ID);
-            rs = prepStmt.executeQuery();
-            while (rs.next()) {
-                returnData.put(ApplicationConstants.IDP_NAME, rs.getString(1));
-                returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_NAME, rs.getString(2));
-                returnData
-                        .put(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME, rs.getString(3));
-                returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE, rs.getString(4));
+            prepStmt.setInt(6, MultitenantConstants.SUPER_TENANT_ID);
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    addStepAuthenticatorInfo(rs, authenticatorInfo, federationHubIdPs);
+                }
             }
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(prepStmt);
         }
-        return returnData;
+        return authenticatorInfo;
+    }
+
+    private void addStepAuthenticatorInfo(ResultSet rs, Map<Integer, Map<String, String>> authenticatorInfo,
+                                          Map<String, Boolean> federationHubIdPs) throws SQLException {
+
+        Map<String, String> returnData = new HashMap<>();
+        returnData.put(ApplicationConstants.IDP_NAME, rs.getString(2));
+        returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_NAME, rs.getString(3));
+        returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME, rs.getString(4));
+        returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE, rs.getString(5));
+        authenticatorInfo.put(rs.getInt(1), returnData);
+        federationHubIdPs.put(rs.getString(2), "1".equals(rs.getString(6)));
     }
 
     /**
@@ -6695,6 +6862,83 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
+    /**
+     * Step row of an application, selected when loading its authentication steps.
+     */
+    private static class AuthenticationStepInfo {
+
+        private final int stepOrder;
+
+        private final int authenticatorId;
+
+        private final boolean subjectStep;
+
+        private final boolean attributeStep;
+
+        AuthenticationStepInfo(int stepOrder, int authenticatorId, boolean subjectStep, boolean attributeStep) {
+
+            this.stepOrder = stepOrder;
+            this.authenticatorId = authenticatorId;
+            this.subjectStep = subjectStep;
+            this.attributeStep = attributeStep;
+        }
+
+        int getStepOrder() {
+
+            return stepOrder;
+        }
+
+        int getAuthenticatorId() {
+
+            return authenticatorId;
+        }
+
+        boolean isSubjectStep() {
+
+            return subjectStep;
+        }
+
+        boolean isAttributeStep() {
+
+            return attributeStep;
+        }
+    }
+
+    /**
+     * Group associated with an application, selected when loading its discoverable groups.
+     */
+    private static class GroupAssociation {
+
+        private final String groupId;
+
+        private final String domainName;
+
+        GroupAssociation(String groupId, String domainName) {
+
+            this.groupId = groupId;
+            this.domainName = domainName;
+        }
+
+        String getGroupId() {
+
+            return groupId;
+        }
+
+        String getDomainName() {
+
+            return domainName;
+        }
+    }
+
+    /**
+     * Handler of a row selected when loading a section of multiple applications.
+     */
+    @FunctionalInterface
+    private interface ApplicationRowHandler {
+
+        void handle(ResultSet resultSet) throws SQLException, IdentityApplicationManagementException;
+    }
+
     private boolean isApplicationAlreadyExistsError(IdentityApplicationManagementException ex) {
 
         return ex instanceof IdentityApplicationRegistrationFailureException
@@ -6862,26 +7106,44 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             log.debug("Retrieving discoverable groups for application with ID: " + applicationId);
         }
 
-        List<DiscoverableGroup> discoverableGroups = new ArrayList<>();
-        List<GroupBasicInfo> currentIteratingDomainGroups = new ArrayList<>();
+        List<GroupAssociation> groupAssociations = new ArrayList<>();
         try (PreparedStatement statement = connection.prepareStatement(
                 ApplicationMgtDBQueries.GET_GROUP_ASSOCIATIONS_BY_APP_ID)) {
             statement.setInt(1, applicationId);
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    String groupID = resultSet.getString(1);
-                    String domainName = resultSet.getString(2);
-                    addDiscoverableGroup(discoverableGroups, currentIteratingDomainGroups, tenantDomain, domainName,
-                            groupID);
-                }
-                if (!currentIteratingDomainGroups.isEmpty()) {
-                    addDiscoverableGroup(discoverableGroups, currentIteratingDomainGroups, tenantDomain, null, null);
+                    groupAssociations.add(new GroupAssociation(resultSet.getString(1), resultSet.getString(2)));
                 }
             }
         } catch (SQLException e) {
             throw new IdentityApplicationManagementException(
                     "Error while retrieving discoverable groups for the application", e);
         }
+        return buildDiscoverableGroups(groupAssociations, tenantDomain);
+    }
+
+    /**
+     * Build the discoverable groups of an application from its group associations. The group names are resolved
+     * from the user store, so this is called only after the result set of the associations is closed.
+     *
+     * @param groupAssociations Group associations of the application, ordered by the domain name.
+     * @param tenantDomain      Tenant domain of the application.
+     * @return Discoverable groups, or null if the application has no group associations.
+     * @throws IdentityApplicationManagementException If an error occurred while resolving the group names.
+     */
+    private DiscoverableGroup[] buildDiscoverableGroups(List<GroupAssociation> groupAssociations,
+                                                        String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        List<DiscoverableGroup> discoverableGroups = new ArrayList<>();
+        List<GroupBasicInfo> currentIteratingDomainGroups = new ArrayList<>();
+        for (GroupAssociation groupAssociation : groupAssociations) {
+            addDiscoverableGroup(discoverableGroups, currentIteratingDomainGroups, tenantDomain,
+                    groupAssociation.getDomainName(), groupAssociation.getGroupId());
+        }
+        if (!currentIteratingDomainGroups.isEmpty()) {
+            addDiscoverableGroup(discoverableGroups, currentIteratingDomainGroups, tenantDomain, null, null);
+        }
         if (!discoverableGroups.isEmpty()) {
             return discoverableGroups.toArray(new DiscoverableGroup[0]);
         }
@@ -221,6 +221,58 @@ public class ApplicationMgtDBQueries {
             "ACCESS_URL, IS_DISCOVERABLE " +
             "FROM SP_APP WHERE ID = ?";
 
+    // Queries to load a section of multiple applications at once.
+    public static final String LOAD_BASIC_APP_INFO_BY_APP_IDS = "SELECT ID, TENANT_ID, APP_NAME, VERSION, " +
+            "USER_STORE, USERNAME, DESCRIPTION, ROLE_CLAIM, AUTH_TYPE, PROVISIONING_USERSTORE_DOMAIN, " +
+            "IS_LOCAL_CLAIM_DIALECT, IS_SEND_LOCAL_SUBJECT_ID, IS_SEND_AUTH_LIST_OF_IDPS, " +
+            "IS_USE_TENANT_DOMAIN_SUBJECT, IS_USE_USER_DOMAIN_SUBJECT, ENABLE_AUTHORIZATION, " +
+            "SUBJECT_CLAIM_URI, IS_SAAS_APP, UUID, IMAGE_URL, " +
+            "ACCESS_URL, IS_DISCOVERABLE, IS_DUMB_MODE " +
+            "FROM SP_APP WHERE ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String GET_SP_METADATA_BY_SP_IDS = "SELECT SP_ID, NAME, VALUE, DISPLAY_NAME FROM " +
+            "SP_METADATA WHERE SP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String GET_SP_METADATA_BY_SP_IDS_H2 = "SELECT SP_ID, NAME, `VALUE`, DISPLAY_NAME FROM " +
+            "SP_METADATA WHERE SP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String LOAD_CLIENTS_INFO_BY_APP_IDS = "SELECT INBOUND_AUTH_KEY, INBOUND_AUTH_TYPE, " +
+            "PROP_NAME, PROP_VALUE, INBOUND_CONFIG_TYPE, APP_ID FROM SP_INBOUND_AUTH WHERE APP_ID IN (" +
+            SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ") AND TENANT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID + ";";
+    public static final String LOAD_CLAIM_MAPPING_BY_APP_IDS = "SELECT IDP_CLAIM, SP_CLAIM, IS_REQUESTED, " +
+            "IS_MANDATORY, DEFAULT_VALUE, APP_ID FROM SP_CLAIM_MAPPING WHERE APP_ID IN (" +
+            SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ") AND TENANT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID + ";";
+    public static final String LOAD_SP_DIALECTS_BY_APP_IDS = "SELECT SP_DIALECT, APP_ID FROM SP_CLAIM_DIALECT " +
+            "WHERE APP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ") AND TENANT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID + ";";
+    public static final String LOAD_ROLE_MAPPING_BY_APP_IDS = "SELECT IDP_ROLE, SP_ROLE, APP_ID FROM " +
+            "SP_ROLE_MAPPING WHERE APP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ") AND TENANT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID + ";";
+    public static final String LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS = "SELECT AUTHENTICATOR_NAME, APP_ID FROM " +
+            "SP_REQ_PATH_AUTHENTICATOR WHERE APP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER +
+            ") AND TENANT_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID + ";";
+    public static final String LOAD_PRO_CONNECTORS_BY_APP_IDS = "SELECT IDP_NAME, CONNECTOR_NAME, IS_JIT_ENABLED, " +
+            "BLOCKING, RULE_ENABLED, APP_ID FROM SP_PROVISIONING_CONNECTOR WHERE APP_ID IN (" +
+            SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ") AND TENANT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID + ";";
+    public static final String LOAD_STEPS_INFO_BY_APP_IDS = "SELECT STEP_ORDER, AUTHENTICATOR_ID, " +
+            "IS_SUBJECT_STEP, IS_ATTRIBUTE_STEP, APP_ID FROM SP_AUTH_STEP INNER JOIN SP_FEDERATED_IDP " +
+            "ON SP_AUTH_STEP.ID=SP_FEDERATED_IDP.ID WHERE APP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String LOAD_IDP_AND_AUTHENTICATOR_NAMES_BY_APP_IDS = "SELECT B.ID, A.NAME, B.NAME, " +
+            "B.DISPLAY_NAME, B.DEFINED_BY, H.IS_FEDERATION_HUB FROM IDP A JOIN IDP_AUTHENTICATOR B ON " +
+            "A.ID = B.IDP_ID LEFT JOIN IDP H ON H.NAME = A.NAME AND H.TENANT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID + "; WHERE B.ID IN (SELECT AUTHENTICATOR_ID FROM " +
+            "SP_AUTH_STEP INNER JOIN SP_FEDERATED_IDP ON SP_AUTH_STEP.ID=SP_FEDERATED_IDP.ID WHERE APP_ID IN (" +
+            SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")) AND ((A.TENANT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID + "; AND B.TENANT_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_TENANT_ID + ";) OR (A.TENANT_ID = :" +
+            SQLPlaceholders.SUPER_TENANT_ID_PLACEHOLDER + "; AND A.NAME LIKE 'SHARED_%' AND B.TENANT_ID = :" +
+            SQLPlaceholders.SUPER_TENANT_ID_PLACEHOLDER + ";))";
+    public static final String LOAD_SCRIPTS_BY_APP_IDS = "SELECT CONTENT, IS_ENABLED, APP_ID FROM SP_AUTH_SCRIPT " +
+            "WHERE APP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String GET_GROUP_ASSOCIATIONS_BY_APP_IDS = "SELECT GROUP_ID, DOMAIN_NAME, APP_ID FROM " +
+            "APP_GROUP_ASSOCIATION WHERE APP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER +
+            ") ORDER BY APP_ID, DOMAIN_NAME";
+
     public static final String LOAD_AUTH_TYPE_BY_APP_ID = "SELECT AUTH_TYPE FROM SP_APP WHERE ID = ? AND TENANT_ID = ?";
     public static final String LOAD_APP_NAME_BY_APP_ID = "SELECT APP_NAME FROM SP_APP WHERE ID = ? AND TENANT_ID = ?";
     public static final String LOAD_CLIENTS_INFO_BY_APP_ID = "SELECT INBOUND_AUTH_KEY, INBOUND_AUTH_TYPE, PROP_NAME, " +
@@ -231,8 +283,6 @@ public class ApplicationMgtDBQueries {
             + "ON SP_AUTH_STEP.ID=SP_FEDERATED_IDP.ID "
             + "WHERE APP_ID = ?";
     public static final String LOAD_STEP_ID_BY_APP_ID = "SELECT ID FROM SP_AUTH_STEP WHERE APP_ID = ?";
-    public static final String LOAD_HUB_IDP_BY_NAME =
-            "SELECT IS_FEDERATION_HUB FROM IDP WHERE NAME = ? AND TENANT_ID = ?";
 
     public static final String LOAD_CLAIM_MAPPING_BY_APP_ID = "SELECT IDP_CLAIM, SP_CLAIM, IS_REQUESTED, " +
             "IS_MANDATORY, DEFAULT_VALUE " +
@@ -261,9 +311,6 @@ public class ApplicationMgtDBQueries {
             " FROM SP_AUTH_SCRIPT WHERE APP_ID = ?";
     public static final String LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_ID = "SELECT AUTHENTICATOR_NAME FROM " +
             "SP_REQ_PATH_AUTHENTICATOR WHERE APP_ID = ? AND TENANT_ID = ?";
-    public static final String LOAD_PRO_PROPERTIES_BY_APP_ID =
-            "SELECT PROVISIONING_USERSTORE_DOMAIN, IS_DUMB_MODE FROM " +
-                    "SP_APP WHERE TENANT_ID= ? AND ID = ?";
     public static final String LOAD_PRO_CONNECTORS_BY_APP_ID = "SELECT IDP_NAME, CONNECTOR_NAME, IS_JIT_ENABLED, " +
             "BLOCKING, RULE_ENABLED FROM " +
             "SP_PROVISIONING_CONNECTOR WHERE " +
@@ -309,9 +356,12 @@ public class ApplicationMgtDBQueries {
     public static final String LOAD_IDP_AUTHENTICATOR_ID = "SELECT A.ID FROM IDP_AUTHENTICATOR A JOIN IDP B ON A" +
             ".IDP_ID= B.ID WHERE A.NAME =? AND B.NAME=? AND ((A.TENANT_ID =? AND B.TENANT_ID =?) OR (B.TENANT_ID=? " +
             "AND B.NAME LIKE 'SHARED_%'))";
-    public static final String LOAD_IDP_AND_AUTHENTICATOR_NAMES = "SELECT A.NAME, B.NAME, B.DISPLAY_NAME," +
-            " B.DEFINED_BY FROM IDP A JOIN IDP_AUTHENTICATOR B ON A.ID = B.IDP_ID WHERE B.ID =? AND ((A.TENANT_ID =?" +
-            " AND B.TENANT_ID =?) OR  (A.TENANT_ID=? AND A.NAME LIKE 'SHARED_%' AND B.TENANT_ID=?))";
+    public static final String LOAD_IDP_AND_AUTHENTICATOR_NAMES_BY_APP_ID = "SELECT B.ID, A.NAME, B.NAME, " +
+            "B.DISPLAY_NAME, B.DEFINED_BY, H.IS_FEDERATION_HUB FROM IDP A JOIN IDP_AUTHENTICATOR B ON " +
+            "A.ID = B.IDP_ID LEFT JOIN IDP H ON H.NAME = A.NAME AND H.TENANT_ID = ? WHERE B.ID IN (" +
+            "SELECT AUTHENTICATOR_ID FROM " +
+            "SP_AUTH_STEP INNER JOIN SP_FEDERATED_IDP ON SP_AUTH_STEP.ID=SP_FEDERATED_IDP.ID WHERE APP_ID = ?) AND " +
+            "((A.TENANT_ID =? AND B.TENANT_ID =?) OR  (A.TENANT_ID=? AND A.NAME LIKE 'SHARED_%' AND B.TENANT_ID=?))";
     public static final String STORE_LOCAL_AUTHENTICATOR = "INSERT INTO IDP_AUTHENTICATOR (TENANT_ID, IDP_ID, NAME," +
             "IS_ENABLED, DISPLAY_NAME, DEFINED_BY, AUTHENTICATION_TYPE) VALUES " +
             "(?, (SELECT ID FROM IDP WHERE IDP.NAME=? AND IDP.TENANT_ID =?), ?, ?, ?, ?, ?)";
@@ -427,6 +477,9 @@ public class ApplicationMgtDBQueries {
 
     public static final String LOAD_APP_ID_BY_UUID = "SELECT ID FROM SP_APP WHERE UUID = :UUID;";
 
+    public static final String LOAD_APP_IDS_BY_UUIDS_AND_TENANT_ID = "SELECT ID FROM SP_APP WHERE UUID IN (" +
+            SQLPlaceholders.UUID_LIST_PLACEHOLDER + ") AND TENANT_ID = :TENANT_ID;";
+
     public static final String LOAD_UUID_BY_APP_ID = "SELECT UUID FROM SP_APP WHERE ID = :ID; " +
             "AND TENANT_ID = :TENANT_ID;";
 
@@ -700,6 +753,14 @@ public class ApplicationMgtDBQueries {
         public static final String SHARED_ORG_ID_LIST_PLACEHOLDER = "_SHARED_ORG_ID_LIST_";
         public static final String SHARED_ORG_ID_PLACEHOLDER_PREFIX = "SHARED_ORG_ID_";
 
+        // Related to loading multiple applications at once.
+        public static final String APP_ID_LIST_PLACEHOLDER = "_APP_ID_LIST_";
+        public static final String APP_ID_PLACEHOLDER_PREFIX = "APP_ID_";
+        public static final String DB_SCHEMA_COLUMN_NAME_TENANT_ID = "TENANT_ID";
+        public static final String SUPER_TENANT_ID_PLACEHOLDER = "SUPER_TENANT_ID";
+        public static final String UUID_LIST_PLACEHOLDER = "_UUID_LIST_";
+        public static final String UUID_PLACEHOLDER_PREFIX = "UUID_";
+
         // Related to APP_GROUP_ASSOCIATION table.
         public static final String GROUP_ID_CONDITION_PLACEHOLDER = "_GROUP_ID_CONDITION_";
         public static final String GROUP_ID_LIST_PLACEHOLDER = "_GROUP_ID_LIST_";
@@ -60,6 +60,7 @@ import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatfor
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -132,6 +133,33 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         return serviceProvider;
     }
 
+    @Override
+    public Map<Integer, ServiceProvider> getApplications(Collection<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        List<Integer> uncachedApplicationIds = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = getApplicationFromCache(applicationId, tenantDomain);
+            if (serviceProvider != null) {
+                serviceProviders.put(applicationId, serviceProvider);
+            } else {
+                uncachedApplicationIds.add(applicationId);
+            }
+        }
+
+        if (!uncachedApplicationIds.isEmpty()) {
+            // Load all the cache misses at once, and then populate the caches with them.
+            Map<Integer, ServiceProvider> loadedServiceProviders = appDAO.getApplications(uncachedApplicationIds);
+            for (ServiceProvider serviceProvider : loadedServiceProviders.values()) {
+                addToCache(serviceProvider, serviceProvider.getTenantDomain());
+            }
+            serviceProviders.putAll(loadedServiceProviders);
+        }
+        return serviceProviders;
+    }
+
     public String getApplicationName(int applicationID) throws IdentityApplicationManagementException {
 
         ServiceProvider applicationFromCache = getApplicationFromCache(applicationID,
@@ -484,6 +512,34 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         return application;
     }
 
+    @Override
+    public Map<String, ServiceProvider> getApplicationsByResourceIds(Collection<String> resourceIds,
+                                                                     String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        Map<String, ServiceProvider> serviceProviders = new HashMap<>();
+        List<String> uncachedResourceIds = new ArrayList<>();
+        for (String resourceId : resourceIds) {
+            ServiceProvider serviceProvider = getApplicationFromCacheByResourceId(resourceId, tenantDomain);
+            if (serviceProvider != null) {
+                serviceProviders.put(resourceId, serviceProvider);
+            } else {
+                uncachedResourceIds.add(resourceId);
+            }
+        }
+
+        if (!uncachedResourceIds.isEmpty()) {
+            // Load all the cache misses at once, and then populate the caches with them.
+            Map<String, ServiceProvider> loadedServiceProviders =
+                    appDAO.getApplicationsByResourceIds(uncachedResourceIds, tenantDomain);
+            for (ServiceProvider serviceProvider : loadedServiceProviders.values()) {
+                addToCache(serviceProvider, tenantDomain);
+            }
+            serviceProviders.putAll(loadedServiceProviders);
+        }
+        return serviceProviders;
+    }
+
     @Override
     public String addApplication(ServiceProvider application,
                                       String tenantDomain) throws IdentityApplicationManagementException {
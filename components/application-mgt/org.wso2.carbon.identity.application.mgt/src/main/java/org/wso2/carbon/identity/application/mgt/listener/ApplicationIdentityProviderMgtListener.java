@@ -36,6 +36,9 @@ import org.wso2.carbon.idp.mgt.IdentityProviderManager;
 import org.wso2.carbon.idp.mgt.listener.AbstractIdentityProviderMgtListener;
 import org.wso2.carbon.idp.mgt.model.ConnectedAppsResult;
 
+import java.util.Arrays;
+import java.util.Map;
+
 /**
  * Internal implementation to listen to IdP CRUD events.
  * Changes the Application/Service Provider data according to IdP changes.
@@ -73,10 +76,11 @@ public class ApplicationIdentityProviderMgtListener extends AbstractIdentityProv
                         connectedApplications =
                                 identityProviderManager.getConnectedApplications(idpId, null, offset, tenantDomain);
 
-                        for (String appResourceId : connectedApplications.getApps()) {
-                            ServiceProvider serviceProvider =
-                                    ApplicationMgtSystemConfig.getInstance().getApplicationDAO()
-                                            .getApplicationByResourceId(appResourceId, tenantDomain);
+                        Map<String, ServiceProvider> connectedServiceProviders =
+                                ApplicationMgtSystemConfig.getInstance().getApplicationDAO()
+                                        .getApplicationsByResourceIds(connectedApplications.getApps(),
+                                                tenantDomain);
+                        for (ServiceProvider serviceProvider : connectedServiceProviders.values()) {
                             CacheBackedApplicationDAO.clearAllAppCache(serviceProvider, tenantDomain);
                         }
 
@@ -112,9 +116,9 @@ public class ApplicationIdentityProviderMgtListener extends AbstractIdentityProv
             String[] spResourceIDs = applicationDAO.getSPsAssociatedWithFederatedIDPAuthenticator(
                     oldIdentityProvider.getIdentityProviderName(), oldDefaultAuthenticator.getName(), tenantDomain);
 
-            for (String spResourceId : spResourceIDs) {
-                ServiceProvider serviceProvider =
-                        applicationDAO.getApplicationByResourceId(spResourceId, tenantDomain);
+            Map<String, ServiceProvider> serviceProviders =
+                    applicationDAO.getApplicationsByResourceIds(Arrays.asList(spResourceIDs), tenantDomain);
+            for (ServiceProvider serviceProvider : serviceProviders.values()) {
                 IdentityProvider fedIdp = serviceProvider.getLocalAndOutBoundAuthenticationConfig()
                         .getAuthenticationSteps()[0].getFederatedIdentityProviders()[0];
                 fedIdp.setDefaultAuthenticatorConfig(newDefaultAuthenticator);
@@ -28,20 +28,29 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig;
+import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.DiscoverableGroup;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.GroupBasicInfo;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.RoleV2;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
 import org.wso2.carbon.identity.application.mgt.dao.ApplicationDAO;
 import org.wso2.carbon.identity.application.mgt.internal.ApplicationManagementServiceComponentHolder;
 import org.wso2.carbon.identity.application.mgt.provider.ApplicationPermissionProvider;
+import org.wso2.carbon.identity.base.AuthenticatorPropertyConstants.DefinedByType;
 import org.wso2.carbon.identity.common.testng.WithH2Database;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
 import org.wso2.carbon.user.core.UserRealm;
 import org.wso2.carbon.user.core.UserStoreException;
 import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
@@ -49,22 +58,32 @@ import org.wso2.carbon.user.core.common.Group;
 import org.wso2.carbon.user.core.service.RealmService;
 
 import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.IS_FRAGMENT_APP;
 import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_ID;
@@ -419,6 +438,244 @@ public class ApplicationDAOImplTest {
         assertEquals(serviceProvider2.getAssociatedRolesConfig().getRoles().length, 0);
     }
 
+    @Test(description = "Test retrieving multiple applications at once.",
+            dependsOnMethods = { "testUpdateApplicationForFragmentApp" })
+    public void testGetApplications() throws IdentityApplicationManagementException {
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        ServiceProvider updateApp = applicationDAO.getApplication("test-update-app", SUPER_TENANT_DOMAIN_NAME);
+        ServiceProvider fragmentApp = applicationDAO.getApplication("test-update-fragment-app",
+                SUPER_TENANT_DOMAIN_NAME);
+
+        Map<Integer, ServiceProvider> serviceProviders = applicationDAO.getApplications(Arrays.asList(
+                updateApp.getApplicationID(), fragmentApp.getApplicationID(), Integer.MAX_VALUE));
+        assertEquals(serviceProviders.size(), 2);
+
+        ServiceProvider loadedUpdateApp = serviceProviders.get(updateApp.getApplicationID());
+        assertEquals(loadedUpdateApp.getApplicationName(), "test-update-app");
+        assertEquals(loadedUpdateApp.getAssociatedRolesConfig().getRoles().length, 1);
+        assertEquals(loadedUpdateApp.getAssociatedRolesConfig().getRoles()[0].getName(), "test-role");
+
+        ServiceProvider loadedFragmentApp = serviceProviders.get(fragmentApp.getApplicationID());
+        assertEquals(loadedFragmentApp.getApplicationName(), "test-update-fragment-app");
+        assertEquals(loadedFragmentApp.getSpProperties().length, fragmentApp.getSpProperties().length);
+
+        assertTrue(applicationDAO.getApplications(Collections.emptyList()).isEmpty());
+    }
+
+    @Test(description = "Test retrieving the authentication steps of an application with local and federated " +
+            "authenticators.", dependsOnMethods = { "testGetApplications" })
+    public void testGetApplicationWithAuthenticationSteps() throws Exception {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            addIdentityProvider(connection, ApplicationConstants.LOCAL_IDP_NAME, false, "BasicAuthenticator",
+                    "totp");
+            addIdentityProvider(connection, "hub-idp", true, "HubAuthenticator");
+            addIdentityProvider(connection, "social-idp", false, "GoogleAuthenticator", "FacebookAuthenticator");
+            IdentityDatabaseUtil.commitTransaction(connection);
+        }
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName("test-steps-app");
+        serviceProvider.setApplicationVersion("v1.0.0");
+        serviceProvider.setApplicationID(applicationDAO.createApplication(serviceProvider, SUPER_TENANT_DOMAIN_NAME));
+
+        AuthenticationStep firstStep = new AuthenticationStep();
+        firstStep.setStepOrder(1);
+        firstStep.setSubjectStep(true);
+        firstStep.setLocalAuthenticatorConfigs(new LocalAuthenticatorConfig[] {
+                newLocalAuthenticator("BasicAuthenticator")});
+        firstStep.setFederatedIdentityProviders(new IdentityProvider[] {
+                newFederatedIdP("social-idp", "GoogleAuthenticator")});
+        AuthenticationStep secondStep = new AuthenticationStep();
+        secondStep.setStepOrder(2);
+        secondStep.setAttributeStep(true);
+        secondStep.setLocalAuthenticatorConfigs(new LocalAuthenticatorConfig[] {newLocalAuthenticator("totp")});
+        secondStep.setFederatedIdentityProviders(new IdentityProvider[] {
+                newFederatedIdP("hub-idp", "HubAuthenticator"),
+                newFederatedIdP("social-idp", "FacebookAuthenticator")});
+        AuthenticationStep thirdStep = new AuthenticationStep();
+        thirdStep.setStepOrder(3);
+        thirdStep.setFederatedIdentityProviders(new IdentityProvider[] {
+                newFederatedIdP("social-idp", "GoogleAuthenticator", "FacebookAuthenticator")});
+        LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                new LocalAndOutboundAuthenticationConfig();
+        localAndOutboundAuthenticationConfig.setAuthenticationType(ApplicationConstants.AUTH_TYPE_FLOW);
+        localAndOutboundAuthenticationConfig.setAuthenticationSteps(
+                new AuthenticationStep[] {firstStep, secondStep, thirdStep});
+        serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+        applicationDAO.updateApplication(serviceProvider, SUPER_TENANT_DOMAIN_NAME);
+
+        AuthenticationStep[] steps = applicationDAO.getApplication("test-steps-app", SUPER_TENANT_DOMAIN_NAME)
+                .getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps();
+        assertEquals(steps.length, 3);
+
+        assertEquals(steps[0].getStepOrder(), 1);
+        assertTrue(steps[0].isSubjectStep());
+        assertFalse(steps[0].isAttributeStep());
+        assertEquals(steps[0].getLocalAuthenticatorConfigs().length, 1);
+        assertEquals(steps[0].getLocalAuthenticatorConfigs()[0].getName(), "BasicAuthenticator");
+        assertEquals(steps[0].getLocalAuthenticatorConfigs()[0].getDisplayName(), "BasicAuthenticator-display");
+        assertEquals(steps[0].getLocalAuthenticatorConfigs()[0].getDefinedByType(), DefinedByType.SYSTEM);
+        assertFederatedIdPs(steps[0], "social-idp:GoogleAuthenticator");
+        assertFalse(steps[0].getFederatedIdentityProviders()[0].isFederationHub());
+
+        assertEquals(steps[1].getStepOrder(), 2);
+        assertFalse(steps[1].isSubjectStep());
+        assertTrue(steps[1].isAttributeStep());
+        assertEquals(steps[1].getLocalAuthenticatorConfigs().length, 1);
+        assertEquals(steps[1].getLocalAuthenticatorConfigs()[0].getName(), "totp");
+        assertFederatedIdPs(steps[1], "hub-idp:HubAuthenticator", "social-idp:FacebookAuthenticator");
+        for (IdentityProvider identityProvider : steps[1].getFederatedIdentityProviders()) {
+            assertEquals(identityProvider.isFederationHub(),
+                    "hub-idp".equals(identityProvider.getIdentityProviderName()));
+            assertEquals(identityProvider.getDefaultAuthenticatorConfig(),
+                    identityProvider.getFederatedAuthenticatorConfigs()[0]);
+        }
+
+        assertEquals(steps[2].getStepOrder(), 3);
+        assertNull(steps[2].getLocalAuthenticatorConfigs());
+        assertFederatedIdPs(steps[2], "social-idp:FacebookAuthenticator,GoogleAuthenticator");
+        assertTrue(steps[2].getFederatedIdentityProviders()[0].getFederatedAuthenticatorConfigs()[0]
+                .getDisplayName().endsWith("-display"));
+    }
+
+    @Test(description = "Test retrieving the associated roles of an application with the organization audience.",
+            dependsOnMethods = { "testGetApplicationWithAuthenticationSteps" })
+    public void testGetApplicationWithOrganizationAudienceRoles() throws Exception {
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName("test-org-audience-app");
+        serviceProvider.setApplicationVersion("v1.0.0");
+        serviceProvider.setApplicationID(applicationDAO.createApplication(serviceProvider, SUPER_TENANT_DOMAIN_NAME));
+        AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
+        associatedRolesConfig.setAllowedAudience(RoleConstants.ORGANIZATION);
+        serviceProvider.setAssociatedRolesConfig(associatedRolesConfig);
+        applicationDAO.updateApplication(serviceProvider, SUPER_TENANT_DOMAIN_NAME);
+
+        mockIdentityUtil.when(IdentityUtil::getMaximumItemPerPage).thenReturn(100);
+        when(mockRoleManagementService.getRoles(anyString(), anyInt(), anyInt(), nullable(String.class),
+                nullable(String.class), eq(SUPER_TENANT_DOMAIN_NAME))).thenReturn(Arrays.asList(
+                new RoleBasicInfo("org-role-id-1", "org-role-1"), new RoleBasicInfo("org-role-id-2", "org-role-2")));
+
+        ServiceProvider loadedServiceProvider = applicationDAO.getApplication("test-org-audience-app",
+                SUPER_TENANT_DOMAIN_NAME);
+        AssociatedRolesConfig loadedAssociatedRolesConfig = loadedServiceProvider.getAssociatedRolesConfig();
+        assertEquals(loadedAssociatedRolesConfig.getAllowedAudience(), RoleConstants.ORGANIZATION);
+        assertEquals(loadedAssociatedRolesConfig.getRoles().length, 2);
+        assertEquals(loadedAssociatedRolesConfig.getRoles()[0].getId(), "org-role-id-1");
+        assertEquals(loadedAssociatedRolesConfig.getRoles()[0].getName(), "org-role-1");
+        assertEquals(loadedAssociatedRolesConfig.getRoles()[1].getId(), "org-role-id-2");
+        assertEquals(loadedAssociatedRolesConfig.getRoles()[1].getName(), "org-role-2");
+        // The role names are taken from the listed roles, instead of being resolved by id.
+        verify(mockRoleManagementService, never()).getRoleNameByRoleId(eq("org-role-id-1"), anyString());
+        assertTrue(Arrays.stream(loadedServiceProvider.getSpProperties()).anyMatch(property ->
+                ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME.equals(property.getName()) &&
+                        RoleConstants.ORGANIZATION.equals(property.getValue())));
+    }
+
+    @Test(description = "Test retrieving multiple applications at once by their resource ids.",
+            dependsOnMethods = { "testGetApplicationWithAuthenticationSteps" })
+    public void testGetApplicationsByResourceIds() throws IdentityApplicationManagementException {
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        ServiceProvider stepsApp = applicationDAO.getApplication("test-steps-app", SUPER_TENANT_DOMAIN_NAME);
+        ServiceProvider updateApp = applicationDAO.getApplication("test-update-app", SUPER_TENANT_DOMAIN_NAME);
+
+        Map<String, ServiceProvider> serviceProviders = applicationDAO.getApplicationsByResourceIds(Arrays.asList(
+                stepsApp.getApplicationResourceId(), updateApp.getApplicationResourceId(),
+                UUID.randomUUID().toString()), SUPER_TENANT_DOMAIN_NAME);
+        assertEquals(serviceProviders.size(), 2);
+
+        LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig = serviceProviders
+                .get(stepsApp.getApplicationResourceId()).getLocalAndOutBoundAuthenticationConfig();
+        assertEquals(localAndOutboundAuthenticationConfig.getAuthenticationType(),
+                ApplicationConstants.AUTH_TYPE_FLOW);
+        AuthenticationStep[] steps = localAndOutboundAuthenticationConfig.getAuthenticationSteps();
+        assertEquals(steps.length, 3);
+        assertEquals(steps[0].getLocalAuthenticatorConfigs()[0].getName(), "BasicAuthenticator");
+        assertFederatedIdPs(steps[1], "hub-idp:HubAuthenticator", "social-idp:FacebookAuthenticator");
+        assertFederatedIdPs(steps[2], "social-idp:FacebookAuthenticator,GoogleAuthenticator");
+
+        assertEquals(serviceProviders.get(updateApp.getApplicationResourceId()).getApplicationName(),
+                "test-update-app");
+
+        assertTrue(applicationDAO.getApplicationsByResourceIds(Collections.emptyList(), SUPER_TENANT_DOMAIN_NAME)
+                .isEmpty());
+    }
+
+    private void addIdentityProvider(Connection connection, String idpName, boolean federationHub,
+                                     String... authenticatorNames) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO IDP (TENANT_ID, NAME, " +
+                "IS_FEDERATION_HUB, UUID) VALUES (?, ?, ?, ?)")) {
+            statement.setInt(1, SUPER_TENANT_ID);
+            statement.setString(2, idpName);
+            statement.setString(3, federationHub ? "1" : "0");
+            statement.setString(4, UUID.randomUUID().toString());
+            statement.executeUpdate();
+        }
+        for (String authenticatorName : authenticatorNames) {
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO IDP_AUTHENTICATOR " +
+                    "(TENANT_ID, IDP_ID, NAME, DISPLAY_NAME, DEFINED_BY, AUTHENTICATION_TYPE) VALUES (?, " +
+                    "(SELECT ID FROM IDP WHERE NAME = ? AND TENANT_ID = ?), ?, ?, ?, ?)")) {
+                statement.setInt(1, SUPER_TENANT_ID);
+                statement.setString(2, idpName);
+                statement.setInt(3, SUPER_TENANT_ID);
+                statement.setString(4, authenticatorName);
+                statement.setString(5, authenticatorName + "-display");
+                statement.setString(6, DefinedByType.SYSTEM.toString());
+                statement.setString(7, "IDENTIFICATION");
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private LocalAuthenticatorConfig newLocalAuthenticator(String authenticatorName) {
+
+        LocalAuthenticatorConfig localAuthenticatorConfig = new LocalAuthenticatorConfig();
+        localAuthenticatorConfig.setName(authenticatorName);
+        localAuthenticatorConfig.setDisplayName(authenticatorName + "-display");
+        return localAuthenticatorConfig;
+    }
+
+    private IdentityProvider newFederatedIdP(String idpName, String... authenticatorNames) {
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setIdentityProviderName(idpName);
+        FederatedAuthenticatorConfig[] federatedAuthenticatorConfigs =
+                new FederatedAuthenticatorConfig[authenticatorNames.length];
+        for (int i = 0; i < authenticatorNames.length; i++) {
+            federatedAuthenticatorConfigs[i] = new FederatedAuthenticatorConfig();
+            federatedAuthenticatorConfigs[i].setName(authenticatorNames[i]);
+        }
+        identityProvider.setFederatedAuthenticatorConfigs(federatedAuthenticatorConfigs);
+        identityProvider.setDefaultAuthenticatorConfig(federatedAuthenticatorConfigs[0]);
+        return identityProvider;
+    }
+
+    /**
+     * Assert the federated IdPs of the given step, each given as the IdP name followed by the sorted, comma
+     * separated names of its authenticators.
+     *
+     * @param step         Authentication step.
+     * @param expectedIdPs Expected IdPs, in the order of their names.
+     */
+    private void assertFederatedIdPs(AuthenticationStep step, String... expectedIdPs) {
+
+        List<String> idps = new ArrayList<>();
+        for (IdentityProvider identityProvider : step.getFederatedIdentityProviders()) {
+            idps.add(identityProvider.getIdentityProviderName() + ":" +
+                    Arrays.stream(identityProvider.getFederatedAuthenticatorConfigs())
+                            .map(FederatedAuthenticatorConfig::getName).sorted()
+                            .collect(Collectors.joining(",")));
+        }
+        Collections.sort(idps);
+        assertEquals(idps, Arrays.asList(expectedIdPs));
+    }
+
     /**
      * Get a new DiscoverableGroup object.
      *
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.graalvm.polyglot.Source;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
+
+/**
+ * Cache of the polyglot sources of the adaptive authentication scripts.
+ * Contexts created on a shared engine reuse the parsed and compiled code of a source evaluated earlier on the same
+ * engine, hence the same source instance is served for a script of an application until the script is changed.
+ */
+public class GraalSourceCache {
+
+    private static final GraalSourceCache INSTANCE = new GraalSourceCache();
+    private static final int MAX_ENTRIES = 10000;
+
+    private final Map<String, Source> sources = new ConcurrentHashMap<>();
+
+    private GraalSourceCache() {
+
+    }
+
+    public static GraalSourceCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the source of the given script.
+     *
+     * @param applicationKey Key of the application the script belongs to, or null for scripts shared by all the
+     *                       applications.
+     * @param script         Script.
+     * @return Source of the script.
+     */
+    public Source getSource(String applicationKey, String script) {
+
+        String cacheKey = applicationKey + ":" + Integer.toHexString(script.hashCode());
+        Source source = sources.get(cacheKey);
+        if (source != null && script.contentEquals(source.getCharacters())) {
+            return source;
+        }
+
+        source = Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).buildLiteral();
+        if (sources.size() >= MAX_ENTRIES) {
+            // Entries of removed applications and changed scripts are not removed otherwise, hence start over once
+            // the limit is reached.
+            sources.clear();
+        }
+        sources.put(cacheKey, source);
+        return source;
+    }
+
+    /**
+     * Clear the cached sources.
+     */
+    public void clear() {
+
+        sources.clear();
+    }
+}
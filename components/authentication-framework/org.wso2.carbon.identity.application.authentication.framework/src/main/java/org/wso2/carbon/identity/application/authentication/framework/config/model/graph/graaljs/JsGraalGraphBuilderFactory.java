@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.application.authentication.framework.config.mod
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.ResourceLimits;
 import org.graalvm.polyglot.Value;
@@ -47,6 +48,7 @@ import java.util.Map;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SHARED_ENGINE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SELECT_ACR_FROM;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_LOG;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
@@ -54,6 +56,9 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
 /**
  * Factory to create a Javascript based sequence builder.
  * This factory is there to reuse of GraalJS Polyglot Context and any related expensive objects.
+ * The contexts are created on a polyglot engine shared by the node, so that the scripts parsed and compiled for one
+ * context are reused by the contexts created later. A context holds the bindings of a single authentication request,
+ * hence contexts are not reused across requests.
  * <p>
  * Since Nashorn is deprecated in JDK 11 and onwards. We are introducing GraalJS engine.
  */
@@ -61,11 +66,18 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     private static final Log LOG = LogFactory.getLog(JsGraalGraphBuilderFactory.class);
     private static final String JS_BINDING_CURRENT_CONTEXT = "JS_BINDING_CURRENT_CONTEXT";
+    private static volatile Engine sharedEngine;
     private int javascriptResourceLimit = 0;
+    private boolean sharedEngineEnabled = true;
+    private HostAccess hostAccess;
+    private ResourceLimits resourceLimits;
 
     public void init() {
 
         setJavascriptResourceLimit();
+        resourceLimits = null;
+        sharedEngineEnabled = !Boolean.FALSE.toString().equalsIgnoreCase(
+                IdentityUtil.getProperty(GRAALJS_SHARED_ENGINE));
     }
 
     @SuppressWarnings("unchecked")
@@ -106,11 +118,16 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public Context createEngine(AuthenticationContext authenticationContext) {
 
-        Context context = Context.newBuilder(POLYGLOT_LANGUAGE)
+        Context.Builder contextBuilder = Context.newBuilder(POLYGLOT_LANGUAGE)
                 .allowHostAccess(getHostAccess())
-                .resourceLimits(getResourceLimits())
-                .option("engine.WarnInterpreterOnly", "false")
-                .build();
+                .resourceLimits(getResourceLimits());
+        if (sharedEngineEnabled) {
+            // Contexts of an explicitly given engine cannot set engine options, hence they are set on the engine.
+            contextBuilder.engine(getSharedEngine());
+        } else {
+            contextBuilder.option("engine.WarnInterpreterOnly", "false");
+        }
+        Context context = contextBuilder.build();
 
         Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
         bindings.putMember(JS_FUNC_SELECT_ACR_FROM, new GraalSelectAcrFromFunction());
@@ -120,13 +137,58 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public ResourceLimits getResourceLimits() {
 
-        ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
-        resourceLimitsBuilder.statementLimit(javascriptResourceLimit, null);
-        return resourceLimitsBuilder.build();
+        if (resourceLimits == null) {
+            ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
+            resourceLimitsBuilder.statementLimit(javascriptResourceLimit, null);
+            resourceLimits = resourceLimitsBuilder.build();
+        }
+        return resourceLimits;
     }
 
     public HostAccess getHostAccess() {
 
+        if (hostAccess == null) {
+            hostAccess = buildHostAccess();
+        }
+        return hostAccess;
+    }
+
+    private static Engine getSharedEngine() {
+
+        if (sharedEngine == null) {
+            synchronized (JsGraalGraphBuilderFactory.class) {
+                if (sharedEngine == null) {
+                    sharedEngine = Engine.newBuilder()
+                            .option("engine.WarnInterpreterOnly", "false")
+                            .build();
+                }
+            }
+        }
+        return sharedEngine;
+    }
+
+    /**
+     * Close the engine shared by the contexts, releasing its compiled code. A new engine is created when a context is
+     * created after this.
+     */
+    public static void closeSharedEngine() {
+
+        synchronized (JsGraalGraphBuilderFactory.class) {
+            if (sharedEngine == null) {
+                return;
+            }
+            try {
+                sharedEngine.close();
+            } catch (IllegalStateException e) {
+                LOG.warn("Error while closing the shared GraalJS engine, as it is still used by a context.", e);
+            } finally {
+                sharedEngine = null;
+            }
+        }
+    }
+
+    private static HostAccess buildHostAccess() {
+
         /*
          * We need to map the graaljs proxy objects be exposed as their abstract classes to be able to use the current
          * functional interfaces we have for existing conditional authentication functions.
@@ -53,6 +53,7 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsFunctionRegistryImpl;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGenericGraphBuilderFactory;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.CacheBackedLongWaitStatusDAO;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.LongWaitStatusDAOImpl;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
@@ -90,6 +91,7 @@ import org.wso2.carbon.identity.application.authentication.framework.servlet.Lon
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.processor.SessionExtenderProcessor;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.request.SessionExtenderRequestFactory;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.response.SessionExtenderResponseFactory;
+import org.wso2.carbon.identity.application.authentication.framework.store.CompactSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.JavaSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
 import org.wso2.carbon.identity.application.authentication.framework.store.PushedAuthDataStore;
@@ -153,6 +155,8 @@ public class FrameworkServiceComponent {
     private static final String LOGIN_CONTEXT_SERVLET_URL = "/logincontext";
     private static final String LONGWAITSTATUS_SERVLET_URL = "/longwaitstatus";
     private static final Log log = LogFactory.getLog(FrameworkServiceComponent.class);
+    private static final String COMPACT_SESSION_SERIALIZER = "compact";
+    private static final int DEFAULT_SESSION_SERIALIZER_COMPRESSION_THRESHOLD = 512;
     private static final String API_AUTH = "APIAuth";
 
     private HttpService httpService;
@@ -364,7 +368,7 @@ public class FrameworkServiceComponent {
         FrameworkServiceDataHolder.getInstance().setUserSessionMappingEnabled(FrameworkUtils
                 .isUserSessionMappingEnabled());
         if (FrameworkServiceDataHolder.getInstance().getSessionSerializer() == null) {
-            FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+            FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
         }
 
         // Set skip local user search for authentication flow handlers enabled.
@@ -377,6 +381,40 @@ public class FrameworkServiceComponent {
         // to make sure the server doesn't start up if any activation failures
     }
 
+    /**
+     * Get the session serializer to be used when no serializer is registered as a service. The compact serializer is
+     * used when configured, which can still read session data written by the Java serializer.
+     *
+     * @return Default session serializer.
+     */
+    private static SessionSerializer getDefaultSessionSerializer() {
+
+        String serializerType = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Serializer.Type");
+        if (!COMPACT_SESSION_SERIALIZER.equalsIgnoreCase(serializerType)) {
+            return new JavaSessionSerializer();
+        }
+
+        boolean compressionEnabled = true;
+        String compressionEnabledString = IdentityUtil.getProperty(
+                "JDBCPersistenceManager.SessionDataPersist.Serializer.Compression.Enable");
+        if (StringUtils.isNotBlank(compressionEnabledString)) {
+            compressionEnabled = Boolean.parseBoolean(compressionEnabledString);
+        }
+        int compressionThreshold = DEFAULT_SESSION_SERIALIZER_COMPRESSION_THRESHOLD;
+        String compressionThresholdString = IdentityUtil.getProperty(
+                "JDBCPersistenceManager.SessionDataPersist.Serializer.Compression.Threshold");
+        if (StringUtils.isNotBlank(compressionThresholdString)) {
+            try {
+                compressionThreshold = Integer.parseInt(compressionThresholdString);
+            } catch (NumberFormatException e) {
+                log.error("Error while parsing session serializer compression threshold config: "
+                        + compressionThresholdString + ", setting threshold to default value: "
+                        + compressionThreshold, e);
+            }
+        }
+        return new CompactSessionSerializer(compressionEnabled, compressionThreshold);
+    }
+
     private void setAdaptiveAuthExecutionSupervisor() {
 
         String isEnabled = IdentityUtil.getProperty(
@@ -454,6 +492,7 @@ public class FrameworkServiceComponent {
         if (FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor() != null) {
             FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor().shutdown();
         }
+        JsGraalGraphBuilderFactory.closeSharedEngine();
     }
 
     @Reference(
@@ -596,7 +635,7 @@ public class FrameworkServiceComponent {
 
     protected void unsetSessionSerializer(SessionSerializer sessionSerializer) {
 
-        FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+        FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
 
         if (log.isDebugEnabled()) {
             log.debug("Removed session serializer.");
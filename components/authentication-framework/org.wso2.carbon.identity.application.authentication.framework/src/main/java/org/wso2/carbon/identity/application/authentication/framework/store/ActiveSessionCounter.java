@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.exception.UserSessionException;
+import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Maintains the number of active sessions of each tenant.
+ * The count of a tenant is read from the database once and then kept up to date with the sessions created and
+ * terminated on this node, so that reading it does not scan the sessions of the tenant. Sessions which expire on idle
+ * timeout and sessions of the other nodes are not observed, hence the count is reconciled against the database once
+ * the reconcile interval has passed, and the difference found at the last reconciliation is reported as the
+ * approximation error of the count.
+ */
+public class ActiveSessionCounter {
+
+    private static final Log log = LogFactory.getLog(ActiveSessionCounter.class);
+    private static final long DEFAULT_RECONCILE_INTERVAL = 60;
+    private static volatile ActiveSessionCounter instance;
+
+    private final Map<String, TenantSessionCount> tenantSessionCounts = new ConcurrentHashMap<>();
+    private final long reconcileIntervalNanos;
+    private final ActiveSessionCountReader activeSessionCountReader;
+
+    ActiveSessionCounter(long reconcileIntervalNanos, ActiveSessionCountReader activeSessionCountReader) {
+
+        this.reconcileIntervalNanos = reconcileIntervalNanos;
+        this.activeSessionCountReader = activeSessionCountReader;
+    }
+
+    public static ActiveSessionCounter getInstance() {
+
+        if (instance == null) {
+            synchronized (ActiveSessionCounter.class) {
+                if (instance == null) {
+                    instance = new ActiveSessionCounter(readReconcileInterval(),
+                            tenantDomain -> UserSessionStore.getInstance().getActiveSessionCount(tenantDomain));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Record a session created for the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void sessionCreated(String tenantDomain) {
+
+        TenantSessionCount tenantSessionCount = tenantSessionCounts.get(tenantDomain);
+        if (tenantSessionCount != null) {
+            tenantSessionCount.delta.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record a session terminated for the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void sessionTerminated(String tenantDomain) {
+
+        TenantSessionCount tenantSessionCount = tenantSessionCounts.get(tenantDomain);
+        if (tenantSessionCount != null) {
+            tenantSessionCount.delta.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of active sessions of the given tenant. The count is read from the database when the tenant
+     * is not counted yet or the reconcile interval of the count has passed.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Number of active sessions.
+     * @throws UserSessionException If an error occurs while reading the count from the database.
+     */
+    public int getActiveSessionCount(String tenantDomain) throws UserSessionException {
+
+        if (reconcileIntervalNanos <= 0) {
+            return activeSessionCountReader.read(tenantDomain);
+        }
+
+        TenantSessionCount tenantSessionCount = tenantSessionCounts.computeIfAbsent(tenantDomain,
+                key -> new TenantSessionCount());
+        if (!tenantSessionCount.reconciled || System.nanoTime() - tenantSessionCount.reconciledTime
+                >= reconcileIntervalNanos) {
+            reconcile(tenantDomain, tenantSessionCount);
+        }
+        return tenantSessionCount.getCount();
+    }
+
+    /**
+     * Returns the difference between the maintained count and the count read from the database at the last
+     * reconciliation of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Approximation error of the count, or 0 if the tenant is not counted yet.
+     */
+    public int getApproximationError(String tenantDomain) {
+
+        TenantSessionCount tenantSessionCount = tenantSessionCounts.get(tenantDomain);
+        return tenantSessionCount == null ? 0 : tenantSessionCount.approximationError;
+    }
+
+    private void reconcile(String tenantDomain, TenantSessionCount tenantSessionCount) throws UserSessionException {
+
+        if (tenantSessionCount.reconciled && !tenantSessionCount.reconciling.compareAndSet(false, true)) {
+            // Another thread is reconciling the count, hence serve the current count meanwhile.
+            return;
+        }
+        synchronized (tenantSessionCount) {
+            try {
+                if (tenantSessionCount.reconciled && System.nanoTime() - tenantSessionCount.reconciledTime
+                        < reconcileIntervalNanos) {
+                    return;
+                }
+                // Sessions created or terminated while the database is read are counted on top of the read count.
+                long deltaBeforeRead = tenantSessionCount.delta.get();
+                int estimatedCount = tenantSessionCount.getCount();
+                int activeSessionCount = activeSessionCountReader.read(tenantDomain);
+                tenantSessionCount.delta.addAndGet(-deltaBeforeRead);
+                tenantSessionCount.approximationError = tenantSessionCount.reconciled ?
+                        Math.abs(estimatedCount - activeSessionCount) : 0;
+                tenantSessionCount.base = activeSessionCount;
+                tenantSessionCount.reconciledTime = System.nanoTime();
+                tenantSessionCount.reconciled = true;
+                if (log.isDebugEnabled()) {
+                    log.debug("Reconciled the active session count of the tenant domain: " + tenantDomain +
+                            ". Count: " + activeSessionCount + ", approximation error: " +
+                            tenantSessionCount.approximationError);
+                }
+            } finally {
+                tenantSessionCount.reconciling.set(false);
+            }
+        }
+    }
+
+    private static long readReconcileInterval() {
+
+        String reconcileInterval = IdentityUtil.getProperty(
+                FrameworkConstants.Config.ACTIVE_SESSION_COUNT_RECONCILE_INTERVAL);
+        long reconcileIntervalInSeconds = DEFAULT_RECONCILE_INTERVAL;
+        if (StringUtils.isNotBlank(reconcileInterval)) {
+            try {
+                reconcileIntervalInSeconds = Long.parseLong(reconcileInterval.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid active session count reconcile interval: " + reconcileInterval +
+                        ". Using the default value: " + DEFAULT_RECONCILE_INTERVAL);
+            }
+        }
+        return TimeUnit.SECONDS.toNanos(reconcileIntervalInSeconds);
+    }
+
+    /**
+     * Reads the number of active sessions of a tenant from the database.
+     */
+    interface ActiveSessionCountReader {
+
+        int read(String tenantDomain) throws UserSessionException;
+    }
+
+    /**
+     * Active session count of a tenant.
+     */
+    private static final class TenantSessionCount {
+
+        private final AtomicLong delta = new AtomicLong();
+        private final AtomicBoolean reconciling = new AtomicBoolean();
+        private volatile int base;
+        private volatile boolean reconciled;
+        private volatile long reconciledTime;
+        private volatile int approximationError;
+
+        private int getCount() {
+
+            return (int) Math.max(0, base + delta.get());
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Session serializer which writes a compact binary representation of the session object.
+ * <p>
+ * The object graph is written with class descriptors reduced to the class name, the serialVersionUID and a hash of
+ * the serializable field layout, since the full descriptors of the authentication context graph otherwise dominate
+ * the serialized size. On read, a class is resolved against the local class definition only if both the
+ * serialVersionUID and the field layout match, and an {@link InvalidClassException} is raised otherwise, so that data
+ * written by a node with a different class definition is rejected instead of being read against the local layout.
+ * The payload is prefixed with a header
+ * containing a format version and the codec used, and payloads above a threshold are Deflate compressed.
+ * Rows written by {@link JavaSessionSerializer} are detected by the Java serialization stream magic and are still
+ * read, so that existing session data remains readable after switching serializers.
+ */
+public class CompactSessionSerializer implements SessionSerializer {
+
+    static final byte HEADER_MAGIC_1 = (byte) 0xC5;
+    static final byte HEADER_MAGIC_2 = (byte) 0x5E;
+    static final byte FORMAT_VERSION = 2;
+    static final byte CODEC_NONE = 0;
+    static final byte CODEC_DEFLATE = 1;
+
+    private static final int HEADER_LENGTH = 4;
+    private static final byte JAVA_STREAM_MAGIC_1 = (byte) 0xAC;
+    private static final byte JAVA_STREAM_MAGIC_2 = (byte) 0xED;
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 512;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final boolean compressionEnabled;
+    private final int compressionThreshold;
+
+    public CompactSessionSerializer() {
+
+        this(true, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * Create a compact session serializer.
+     *
+     * @param compressionEnabled   Whether payloads should be Deflate compressed.
+     * @param compressionThreshold Minimum payload size in bytes, for compression to be applied.
+     */
+    public CompactSessionSerializer(boolean compressionEnabled, int compressionThreshold) {
+
+        this.compressionEnabled = compressionEnabled;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public InputStream serializeSessionObject(Object value) throws SessionSerializerException {
+
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new CompactObjectOutputStream(payload)) {
+                oos.writeObject(value);
+            }
+
+            byte codec = compressionEnabled && payload.size() >= compressionThreshold ? CODEC_DEFLATE : CODEC_NONE;
+            ByteArrayOutputStream output = new ByteArrayOutputStream(payload.size() + HEADER_LENGTH);
+            output.write(HEADER_MAGIC_1);
+            output.write(HEADER_MAGIC_2);
+            output.write(FORMAT_VERSION);
+            output.write(codec);
+            if (codec == CODEC_DEFLATE) {
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (OutputStream deflaterOutputStream = new DeflaterOutputStream(output, deflater)) {
+                    payload.writeTo(deflaterOutputStream);
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                payload.writeTo(output);
+            }
+            return new ByteArrayInputStream(output.toByteArray());
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while serializing the session object", e);
+        }
+    }
+
+    @Override
+    public Object deSerializeSessionObject(InputStream inputStream) throws SessionSerializerException {
+
+        try {
+            InputStream bufferedInputStream = inputStream.markSupported() ? inputStream :
+                    new BufferedInputStream(inputStream);
+            bufferedInputStream.mark(HEADER_LENGTH);
+            DataInputStream dataInputStream = new DataInputStream(bufferedInputStream);
+            byte magic1 = dataInputStream.readByte();
+            byte magic2 = dataInputStream.readByte();
+
+            if (magic1 == JAVA_STREAM_MAGIC_1 && magic2 == JAVA_STREAM_MAGIC_2) {
+                // Data written by the Java session serializer.
+                bufferedInputStream.reset();
+                try (ObjectInputStream ois = new ObjectInputStream(bufferedInputStream)) {
+                    return ois.readObject();
+                }
+            }
+            if (magic1 != HEADER_MAGIC_1 || magic2 != HEADER_MAGIC_2) {
+                throw new SessionSerializerException("Unknown session object format.");
+            }
+            byte version = dataInputStream.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new SessionSerializerException("Unsupported session object format version: " + version);
+            }
+
+            byte codec = dataInputStream.readByte();
+            InputStream payload;
+            if (codec == CODEC_DEFLATE) {
+                payload = new InflaterInputStream(bufferedInputStream);
+            } else if (codec == CODEC_NONE) {
+                payload = bufferedInputStream;
+            } else {
+                throw new SessionSerializerException("Unsupported session object codec: " + codec);
+            }
+            try (ObjectInputStream ois = new CompactObjectInputStream(payload)) {
+                return ois.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SessionSerializerException("Error while de serializing the session object", e);
+        }
+    }
+
+    /**
+     * Compute a hash of the serializable fields of a class descriptor, covering the name and the type of each field
+     * in the order they are serialized.
+     *
+     * @param descriptor Class descriptor.
+     * @return Hash of the serializable field layout.
+     */
+    static long getFieldLayoutHash(ObjectStreamClass descriptor) {
+
+        long hash = FNV_OFFSET_BASIS;
+        for (ObjectStreamField field : descriptor.getFields()) {
+            hash = updateHash(hash, field.getName());
+            hash = updateHash(hash, field.getTypeString() != null ? field.getTypeString() :
+                    String.valueOf(field.getTypeCode()));
+        }
+        return hash;
+    }
+
+    private static long updateHash(long hash, String value) {
+
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // Separate consecutive values, so that the hash of ("ab", "c") differs from the hash of ("a", "bc").
+        return (hash ^ 0xFFFF) * FNV_PRIME;
+    }
+
+    /**
+     * Object output stream which writes the class name, the serialVersionUID and the field layout hash in place of
+     * the full class descriptor.
+     */
+    private static class CompactObjectOutputStream extends ObjectOutputStream {
+
+        CompactObjectOutputStream(OutputStream out) throws IOException {
+
+            super(out);
+        }
+
+        @Override
+        protected void writeStreamHeader() {
+
+            // The stream header is replaced by the serializer header.
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+
+            writeUTF(desc.getName());
+            writeLong(desc.getSerialVersionUID());
+            writeLong(getFieldLayoutHash(desc));
+        }
+    }
+
+    /**
+     * Object input stream which resolves class descriptors written by {@link CompactObjectOutputStream} against the
+     * local class definitions, after verifying that the local definitions match the ones the data was written with.
+     */
+    private static class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(InputStream in) throws IOException {
+
+            super(in);
+        }
+
+        @Override
+        protected void readStreamHeader() {
+
+            // The stream header is replaced by the serializer header.
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+
+            String className = readUTF();
+            long serialVersionUID = readLong();
+            long fieldLayoutHash = readLong();
+            ObjectStreamClass descriptor = ObjectStreamClass.lookupAny(loadClass(className));
+            if (descriptor == null) {
+                throw new InvalidClassException(className, "Class descriptor could not be resolved.");
+            }
+            if (descriptor.getSerialVersionUID() != serialVersionUID) {
+                throw new InvalidClassException(className, "Local class incompatible: stream classdesc " +
+                        "serialVersionUID = " + serialVersionUID + ", local class serialVersionUID = " +
+                        descriptor.getSerialVersionUID());
+            }
+            if (getFieldLayoutHash(descriptor) != fieldLayoutHash) {
+                throw new InvalidClassException(className, "Local class incompatible: serializable fields of the " +
+                        "local class differ from the fields the stream was written with.");
+            }
+            return descriptor;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+
+            try {
+                return loadClass(desc.getName());
+            } catch (ClassNotFoundException e) {
+                // Primitive types and classes not visible to the above class loaders.
+                return super.resolveClass(desc);
+            }
+        }
+
+        private Class<?> loadClass(String className) throws ClassNotFoundException {
+
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            if (contextClassLoader != null) {
+                try {
+                    return Class.forName(className, false, contextClassLoader);
+                } catch (ClassNotFoundException e) {
+                    // Fall back to the class loader of the framework.
+                }
+            }
+            return Class.forName(className, false, CompactSessionSerializer.class.getClassLoader());
+        }
+    }
+}
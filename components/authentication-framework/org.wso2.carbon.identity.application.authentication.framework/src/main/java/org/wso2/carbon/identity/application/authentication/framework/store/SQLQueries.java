@@ -63,6 +63,17 @@ public class SQLQueries {
             "SELECT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" + SESSION_CONTEXT_CACHE_NAME
                     + "' AND EXPIRY_TIME < ?";
 
+    /**
+     * Queries to page through the terminated session IDs in the order of the session ID.
+     */
+    public static final String SQL_SELECT_TERMINATED_SESSION_IDS_FIRST_PAGE =
+            "SELECT DISTINCT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" +
+                    SESSION_CONTEXT_CACHE_NAME + "' AND EXPIRY_TIME < ? ORDER BY SESSION_ID";
+
+    public static final String SQL_SELECT_TERMINATED_SESSION_IDS_NEXT_PAGE =
+            "SELECT DISTINCT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" +
+                    SESSION_CONTEXT_CACHE_NAME + "' AND EXPIRY_TIME < ? AND SESSION_ID > ? ORDER BY SESSION_ID";
+
     /**
      * Query to retrieve user session mapping.
      */
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task to persist and remove session data in batches. The task drains up to the configured batch size of entries
+ * from the queue, or whatever is available once the flush interval elapses, and writes them to the session store
+ * in a single transaction.
+ */
+public class SessionDataBatchPersistTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(SessionDataBatchPersistTask.class);
+    private static volatile boolean running;
+    private final BlockingDeque<SessionContextDO> sessionContextQueue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    public SessionDataBatchPersistTask(BlockingDeque<SessionContextDO> sessionContextQueue, int batchSize,
+                                       long flushIntervalMillis) {
+
+        this.sessionContextQueue = sessionContextQueue;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    @Override
+    public void run() {
+
+        log.debug("Session Context batch persist consumer is started");
+
+        running = true;
+        List<SessionContextDO> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // Block until at least one entry is available, then collect more until the batch is full or the
+                // flush interval has elapsed.
+                SessionContextDO first = sessionContextQueue.take();
+                batch.add(first);
+                long flushDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    sessionContextQueue.drainTo(batch, batchSize - batch.size());
+                    long remainingNanos = flushDeadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+                    SessionContextDO next = sessionContextQueue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                SessionDataStore.getInstance().persistSessionDataBatch(batch);
+            } catch (InterruptedException e) {
+                log.error("Session Context batch persist consumer is interrupted.", e);
+                // Flush whatever was already taken off the queue so that it is not lost.
+                if (!batch.isEmpty()) {
+                    SessionDataStore.getInstance().persistSessionDataBatch(batch);
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Error while persisting a batch of session data.", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    public static void shutdown() {
+
+        running = false;
+    }
+}
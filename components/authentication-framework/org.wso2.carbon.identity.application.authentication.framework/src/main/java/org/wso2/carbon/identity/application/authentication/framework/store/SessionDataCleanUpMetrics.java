@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters and progress of the expired session data cleanup, which deletes the expired rows of a session data table
+ * in chunks.
+ */
+public class SessionDataCleanUpMetrics {
+
+    /**
+     * Backlog of a run for which the expired rows were not counted.
+     */
+    public static final long UNKNOWN_BACKLOG = -1;
+
+    private static final SessionDataCleanUpMetrics instance = new SessionDataCleanUpMetrics();
+
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong chunkCount = new AtomicLong();
+    private final AtomicLong deletedRowCount = new AtomicLong();
+    private final AtomicLong totalChunkDurationNanos = new AtomicLong();
+    private final AtomicLong maxChunkDurationNanos = new AtomicLong();
+    private final AtomicLong remainingBacklog = new AtomicLong();
+    private volatile String currentTableName;
+    private volatile long cleanedUpToExpiryTime;
+    private volatile long lastRunDeletedRowCount;
+    private volatile long lastRunDurationNanos;
+
+    private SessionDataCleanUpMetrics() {
+
+    }
+
+    public static SessionDataCleanUpMetrics getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Record the start of a cleanup run of a table.
+     *
+     * @param tableName Name of the table being cleaned.
+     * @param backlog   Number of expired rows in the table when the run started, or {@link #UNKNOWN_BACKLOG}.
+     */
+    void recordRunStart(String tableName, long backlog) {
+
+        runCount.incrementAndGet();
+        currentTableName = tableName;
+        remainingBacklog.set(backlog);
+        lastRunDeletedRowCount = 0;
+    }
+
+    /**
+     * Record a committed delete chunk.
+     *
+     * @param deletedRows           Number of rows deleted by the chunk.
+     * @param durationNanos         Time taken to delete and commit the chunk.
+     * @param cleanedUpToExpiryTime Expiry time up to which the rows of the table are being deleted.
+     */
+    void recordChunk(int deletedRows, long durationNanos, long cleanedUpToExpiryTime) {
+
+        chunkCount.incrementAndGet();
+        deletedRowCount.addAndGet(deletedRows);
+        totalChunkDurationNanos.addAndGet(durationNanos);
+        maxChunkDurationNanos.accumulateAndGet(durationNanos, Math::max);
+        remainingBacklog.accumulateAndGet(deletedRows,
+                (backlog, deleted) -> backlog == UNKNOWN_BACKLOG ? backlog : Math.max(0, backlog - deleted));
+        this.cleanedUpToExpiryTime = cleanedUpToExpiryTime;
+        lastRunDeletedRowCount += deletedRows;
+    }
+
+    /**
+     * Record the end of a cleanup run of a table.
+     *
+     * @param durationNanos Time taken for the run.
+     * @param completed     Whether all the expired rows were deleted.
+     */
+    void recordRunEnd(long durationNanos, boolean completed) {
+
+        lastRunDurationNanos = durationNanos;
+        if (completed) {
+            remainingBacklog.set(0);
+        }
+    }
+
+    public long getRunCount() {
+
+        return runCount.get();
+    }
+
+    public long getChunkCount() {
+
+        return chunkCount.get();
+    }
+
+    public long getDeletedRowCount() {
+
+        return deletedRowCount.get();
+    }
+
+    public long getAverageChunkDurationNanos() {
+
+        long chunks = chunkCount.get();
+        return chunks == 0 ? 0 : totalChunkDurationNanos.get() / chunks;
+    }
+
+    public long getMaxChunkDurationNanos() {
+
+        return maxChunkDurationNanos.get();
+    }
+
+    /**
+     * Returns the estimated number of expired rows not deleted yet by the current, or the last, cleanup run. The
+     * expired rows are only counted when a delete chunk pause or a time bucket size is configured.
+     *
+     * @return Remaining backlog, or {@link #UNKNOWN_BACKLOG} if the expired rows were not counted.
+     */
+    public long getRemainingBacklog() {
+
+        return remainingBacklog.get();
+    }
+
+    public String getCurrentTableName() {
+
+        return currentTableName;
+    }
+
+    public long getCleanedUpToExpiryTime() {
+
+        return cleanedUpToExpiryTime;
+    }
+
+    public long getLastRunDeletedRowCount() {
+
+        return lastRunDeletedRowCount;
+    }
+
+    public long getLastRunDurationNanos() {
+
+        return lastRunDurationNanos;
+    }
+
+    @Override
+    public String toString() {
+
+        return "SessionDataCleanUpMetrics{" +
+                "runCount=" + getRunCount() +
+                ", chunkCount=" + getChunkCount() +
+                ", deletedRowCount=" + getDeletedRowCount() +
+                ", averageChunkDurationNanos=" + getAverageChunkDurationNanos() +
+                ", maxChunkDurationNanos=" + getMaxChunkDurationNanos() +
+                ", remainingBacklog=" + getRemainingBacklog() +
+                ", currentTableName=" + getCurrentTableName() +
+                ", cleanedUpToExpiryTime=" + getCleanedUpToExpiryTime() +
+                ", lastRunDeletedRowCount=" + getLastRunDeletedRowCount() +
+                ", lastRunDurationNanos=" + getLastRunDurationNanos() +
+                '}';
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters for the session data lookups served by the {@link SessionDataLoader}.
+ */
+public class SessionDataLoadMetrics {
+
+    private static final SessionDataLoadMetrics instance = new SessionDataLoadMetrics();
+
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong coalescedLoadCount = new AtomicLong();
+    private final AtomicLong negativeCacheHitCount = new AtomicLong();
+
+    private SessionDataLoadMetrics() {
+
+    }
+
+    public static SessionDataLoadMetrics getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Record a lookup which read the session data from the database.
+     */
+    void recordLoad() {
+
+        loadCount.incrementAndGet();
+    }
+
+    /**
+     * Record a lookup which waited for the database read of a concurrent lookup of the same key and type.
+     */
+    void recordCoalescedLoad() {
+
+        coalescedLoadCount.incrementAndGet();
+    }
+
+    /**
+     * Record a lookup which was served from the cache of keys known to be absent in the database.
+     */
+    void recordNegativeCacheHit() {
+
+        negativeCacheHitCount.incrementAndGet();
+    }
+
+    public long getLoadCount() {
+
+        return loadCount.get();
+    }
+
+    public long getCoalescedLoadCount() {
+
+        return coalescedLoadCount.get();
+    }
+
+    public long getNegativeCacheHitCount() {
+
+        return negativeCacheHitCount.get();
+    }
+
+    @Override
+    public String toString() {
+
+        return "SessionDataLoadMetrics{" +
+                "loadCount=" + getLoadCount() +
+                ", coalescedLoadCount=" + getCoalescedLoadCount() +
+                ", negativeCacheHitCount=" + getNegativeCacheHitCount() +
+                '}';
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Read-through loader of session data, which coalesces concurrent database reads of the same key and type.
+ * The first lookup of a key and type reads the database while the concurrent lookups of the same key and type wait
+ * for, and share, the result of that read. The keys found to be absent in the database can also be remembered for a
+ * short time, so that repeated lookups of unknown keys are not sent to the database.
+ * The absence of a key is only remembered if the key was not written while it was read, and it is forgotten as soon
+ * as the key is written on this node. Writes done on other nodes become visible after the negative cache timeout.
+ */
+public class SessionDataLoader {
+
+    private static final int MAX_NEGATIVE_CACHE_ENTRIES = 10000;
+    private static final int WRITE_VERSION_STRIPES = 64;
+
+    private final boolean singleFlightEnabled;
+    private final long negativeCacheTimeoutNanos;
+    private final Map<Map.Entry<String, String>, CompletableFuture<SessionContextDO>> inFlightLoads =
+            new ConcurrentHashMap<>();
+    private final Map<Map.Entry<String, String>, Long> absentEntries = new ConcurrentHashMap<>();
+    private final AtomicLongArray writeVersions = new AtomicLongArray(WRITE_VERSION_STRIPES);
+
+    /**
+     * Create a session data loader.
+     *
+     * @param singleFlightEnabled         Whether the concurrent reads of the same key and type are coalesced.
+     * @param negativeCacheTimeoutInMillis Time to remember the absence of a key. Values below 1 disable the negative
+     *                                     cache.
+     */
+    SessionDataLoader(boolean singleFlightEnabled, long negativeCacheTimeoutInMillis) {
+
+        this.singleFlightEnabled = singleFlightEnabled;
+        this.negativeCacheTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, negativeCacheTimeoutInMillis));
+    }
+
+    /**
+     * Load the session data of the given key and type.
+     *
+     * @param key    Session data key.
+     * @param type   Session data type.
+     * @param reader Reads the session data from the database. Returns null if the session data does not exist.
+     * @return Session data, or null if it does not exist.
+     * @throws Exception If the database read failed. The failure is thrown to all the coalesced lookups.
+     */
+    SessionContextDO load(String key, String type, Callable<SessionContextDO> reader) throws Exception {
+
+        Map.Entry<String, String> loadKey = new AbstractMap.SimpleImmutableEntry<>(key, type);
+        if (isKnownToBeAbsent(loadKey)) {
+            SessionDataLoadMetrics.getInstance().recordNegativeCacheHit();
+            return null;
+        }
+        if (!singleFlightEnabled) {
+            return read(loadKey, reader);
+        }
+
+        CompletableFuture<SessionContextDO> load = new CompletableFuture<>();
+        CompletableFuture<SessionContextDO> inFlightLoad = inFlightLoads.putIfAbsent(loadKey, load);
+        if (inFlightLoad != null) {
+            SessionDataLoadMetrics.getInstance().recordCoalescedLoad();
+            try {
+                return inFlightLoad.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        }
+        try {
+            SessionContextDO sessionContextDO = read(loadKey, reader);
+            load.complete(sessionContextDO);
+            return sessionContextDO;
+        } catch (Exception | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(loadKey, load);
+        }
+    }
+
+    /**
+     * Invalidate the in flight read and the remembered absence of the given key and type, once the session data of
+     * the key and type is written.
+     *
+     * @param key  Session data key.
+     * @param type Session data type.
+     */
+    void invalidate(String key, String type) {
+
+        Map.Entry<String, String> loadKey = new AbstractMap.SimpleImmutableEntry<>(key, type);
+        writeVersions.incrementAndGet(getWriteVersionStripe(loadKey));
+        if (negativeCacheTimeoutNanos > 0) {
+            absentEntries.remove(loadKey);
+        }
+        if (singleFlightEnabled) {
+            // Lookups after the write must not join a read which may have started before the write.
+            inFlightLoads.remove(loadKey);
+        }
+    }
+
+    private SessionContextDO read(Map.Entry<String, String> loadKey, Callable<SessionContextDO> reader)
+            throws Exception {
+
+        int writeVersionStripe = getWriteVersionStripe(loadKey);
+        long writeVersion = writeVersions.get(writeVersionStripe);
+        SessionContextDO sessionContextDO = reader.call();
+        SessionDataLoadMetrics.getInstance().recordLoad();
+        if (sessionContextDO == null && negativeCacheTimeoutNanos > 0
+                && writeVersions.get(writeVersionStripe) == writeVersion) {
+            if (absentEntries.size() >= MAX_NEGATIVE_CACHE_ENTRIES) {
+                absentEntries.clear();
+            }
+            Long expiryTime = System.nanoTime() + negativeCacheTimeoutNanos;
+            absentEntries.put(loadKey, expiryTime);
+            if (writeVersions.get(writeVersionStripe) != writeVersion) {
+                // The key was written while the absence was being remembered.
+                absentEntries.remove(loadKey, expiryTime);
+            }
+        }
+        return sessionContextDO;
+    }
+
+    private boolean isKnownToBeAbsent(Map.Entry<String, String> loadKey) {
+
+        if (negativeCacheTimeoutNanos <= 0) {
+            return false;
+        }
+        Long expiryTime = absentEntries.get(loadKey);
+        if (expiryTime == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiryTime < 0) {
+            return true;
+        }
+        absentEntries.remove(loadKey, expiryTime);
+        return false;
+    }
+
+    private static int getWriteVersionStripe(Map.Entry<String, String> loadKey) {
+
+        return (loadKey.hashCode() & Integer.MAX_VALUE) % WRITE_VERSION_STRIPES;
+    }
+}
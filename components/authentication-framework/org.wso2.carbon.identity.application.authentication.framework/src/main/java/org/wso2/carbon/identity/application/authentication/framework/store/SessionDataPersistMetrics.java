@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters for the session data persistence queue and its batch writer.
+ */
+public class SessionDataPersistMetrics {
+
+    private static final SessionDataPersistMetrics instance = new SessionDataPersistMetrics();
+
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedEntryCount = new AtomicLong();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final AtomicLong totalFlushLatencyNanos = new AtomicLong();
+    private final AtomicLong maxFlushLatencyNanos = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private final AtomicLong rejectedEntryCount = new AtomicLong();
+
+    private SessionDataPersistMetrics() {
+
+    }
+
+    public static SessionDataPersistMetrics getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Record a completed batch flush.
+     *
+     * @param batchSize    Number of entries written in the batch.
+     * @param latencyNanos Time taken to write the batch.
+     * @param successful   Whether the batch was committed.
+     */
+    void recordFlush(int batchSize, long latencyNanos, boolean successful) {
+
+        flushCount.incrementAndGet();
+        flushedEntryCount.addAndGet(batchSize);
+        totalFlushLatencyNanos.addAndGet(latencyNanos);
+        maxBatchSize.accumulateAndGet(batchSize, Math::max);
+        maxFlushLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        if (!successful) {
+            failedFlushCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record an entry which could not be queued due to a full queue and was written on the caller thread instead.
+     */
+    void recordRejectedEntry() {
+
+        rejectedEntryCount.incrementAndGet();
+    }
+
+    public long getFlushCount() {
+
+        return flushCount.get();
+    }
+
+    public long getFlushedEntryCount() {
+
+        return flushedEntryCount.get();
+    }
+
+    public long getMaxBatchSize() {
+
+        return maxBatchSize.get();
+    }
+
+    public double getAverageBatchSize() {
+
+        long flushes = flushCount.get();
+        return flushes == 0 ? 0 : (double) flushedEntryCount.get() / flushes;
+    }
+
+    public long getAverageFlushLatencyNanos() {
+
+        long flushes = flushCount.get();
+        return flushes == 0 ? 0 : totalFlushLatencyNanos.get() / flushes;
+    }
+
+    public long getMaxFlushLatencyNanos() {
+
+        return maxFlushLatencyNanos.get();
+    }
+
+    public long getFailedFlushCount() {
+
+        return failedFlushCount.get();
+    }
+
+    public long getRejectedEntryCount() {
+
+        return rejectedEntryCount.get();
+    }
+
+    public int getQueueDepth() {
+
+        return SessionDataStore.getSessionContextQueueDepth();
+    }
+
+    @Override
+    public String toString() {
+
+        return "SessionDataPersistMetrics{" +
+                "queueDepth=" + getQueueDepth() +
+                ", flushCount=" + getFlushCount() +
+                ", flushedEntryCount=" + getFlushedEntryCount() +
+                ", averageBatchSize=" + getAverageBatchSize() +
+                ", maxBatchSize=" + getMaxBatchSize() +
+                ", averageFlushLatencyNanos=" + getAverageFlushLatencyNanos() +
+                ", maxFlushLatencyNanos=" + getMaxFlushLatencyNanos() +
+                ", failedFlushCount=" + getFailedFlushCount() +
+                ", rejectedEntryCount=" + getRejectedEntryCount() +
+                '}';
+    }
+}
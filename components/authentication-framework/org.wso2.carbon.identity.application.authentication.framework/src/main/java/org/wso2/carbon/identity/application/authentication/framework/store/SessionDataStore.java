@@ -42,6 +42,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -166,6 +168,9 @@ public class SessionDataStore {
             "DELETE FROM IDN_AUTH_SESSION_STORE WHERE (SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED) IN " +
                     "(SELECT SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE " +
                     "EXPIRY_TIME < ? FETCH FIRST %d ROWS ONLY)";
+    private static final String SQL_SELECT_MIN_EXPIRY_TIME = "SELECT MIN(EXPIRY_TIME) FROM IDN_AUTH_SESSION_STORE";
+    private static final String SQL_COUNT_EXPIRED_DATA =
+            "SELECT COUNT(*) FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME < ?";
     private static final String MYSQL_DATABASE = "MySQL";
     private static final String MARIA_DATABASE = "MariaDB";
     private static final String H2_DATABASE = "H2";
@@ -176,12 +181,23 @@ public class SessionDataStore {
     private static final String INFORMIX_DATABASE = "Informix";
 
     private static final int DEFAULT_DELETE_LIMIT = 50000;
+    private static final int DEFAULT_PERSIST_BATCH_SIZE = 100;
+    private static final long DEFAULT_PERSIST_BATCH_FLUSH_INTERVAL_MILLIS = 100;
+    private static final long DEFAULT_QUEUE_OFFER_TIMEOUT_MILLIS = 1000;
+    private static final String QUEUE_FULL_POLICY_BLOCK = "BLOCK";
+    private static final String QUEUE_FULL_POLICY_CALLER_RUNS = "CALLER_RUNS";
     public static final String DEFAULT_SESSION_STORE_TABLE_NAME = "IDN_AUTH_SESSION_STORE";
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
     public static final String DEFAULT_TEMP_SESSION_STORE_TABLE_NAME = "IDN_AUTH_TEMP_SESSION_STORE";
     private static int maxSessionDataPoolSize = 100;
     private static int maxTempDataPoolSize = 50;
-    private static BlockingDeque<SessionContextDO> sessionContextQueue = new LinkedBlockingDeque();
+    private static int sessionContextQueueCapacity = Integer.MAX_VALUE;
+    private static String sessionContextQueueFullPolicy = QUEUE_FULL_POLICY_CALLER_RUNS;
+    private static long sessionContextQueueOfferTimeout = DEFAULT_QUEUE_OFFER_TIMEOUT_MILLIS;
+    private static boolean batchPersistEnabled = false;
+    private static int persistBatchSize = DEFAULT_PERSIST_BATCH_SIZE;
+    private static long persistBatchFlushInterval = DEFAULT_PERSIST_BATCH_FLUSH_INTERVAL_MILLIS;
+    private static BlockingDeque<SessionContextDO> sessionContextQueue;
     private static BlockingDeque<SessionContextDO> tempAuthnContextDataDeleteQueue = new LinkedBlockingDeque();
     private static volatile SessionDataStore instance;
     private boolean enablePersist;
@@ -195,6 +211,9 @@ public class SessionDataStore {
     private String sqlDeleteExpiredDataTask;
     private String sqlGetLastOperation;
     private int deleteChunkSize = DEFAULT_DELETE_LIMIT;
+    private long deleteChunkPause = 0;
+    private long deleteTimeBucketSize = 0;
+    private SessionDataLoader sessionDataLoader;
     private boolean sessionDataCleanupEnabled = true;
     private boolean operationDataCleanupEnabled = false;
     private static boolean tempDataCleanupEnabled = false;
@@ -236,17 +255,59 @@ public class SessionDataStore {
                 maxTempDataPoolSize = Integer.parseInt(maxTempDataPoolSizeValue);
             }
 
+            String queueCapacityValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.QueueCapacity");
+            if (StringUtils.isNotBlank(queueCapacityValue) && Integer.parseInt(queueCapacityValue) > 0) {
+                sessionContextQueueCapacity = Integer.parseInt(queueCapacityValue);
+            }
+
+            String queueFullPolicyValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.QueueFullPolicy");
+            if (QUEUE_FULL_POLICY_BLOCK.equalsIgnoreCase(queueFullPolicyValue)) {
+                sessionContextQueueFullPolicy = QUEUE_FULL_POLICY_BLOCK;
+            }
+
+            String queueOfferTimeoutValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.QueueOfferTimeout");
+            if (StringUtils.isNotBlank(queueOfferTimeoutValue)) {
+                sessionContextQueueOfferTimeout = Long.parseLong(queueOfferTimeoutValue);
+            }
+
+            batchPersistEnabled = Boolean.parseBoolean(
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Enable"));
+
+            String batchSizeValue = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Size");
+            if (StringUtils.isNotBlank(batchSizeValue) && Integer.parseInt(batchSizeValue) > 0) {
+                persistBatchSize = Integer.parseInt(batchSizeValue);
+            }
+
+            String batchFlushIntervalValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.FlushInterval");
+            if (StringUtils.isNotBlank(batchFlushIntervalValue)) {
+                persistBatchFlushInterval = Long.parseLong(batchFlushIntervalValue);
+            }
+
         } catch (NumberFormatException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Exception ignored : ", e);
             }
             log.warn("One or more pool size configurations cause NumberFormatException. Default values would be used");
         }
+        sessionContextQueue = new LinkedBlockingDeque<>(sessionContextQueueCapacity);
         if (maxSessionDataPoolSize > 0) {
             log.info("Thread pool size for session persistent consumer : " + maxSessionDataPoolSize);
             ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
             for (int i = 0; i < maxSessionDataPoolSize; i++) {
-                threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+                if (batchPersistEnabled) {
+                    threadPool.execute(new SessionDataBatchPersistTask(sessionContextQueue, persistBatchSize,
+                            persistBatchFlushInterval));
+                } else {
+                    threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+                }
+            }
+            if (batchPersistEnabled) {
+                log.info(String.format("Batch persistence enabled for session data with batch size: %d and flush " +
+                        "interval: %d ms", persistBatchSize, persistBatchFlushInterval));
             }
         }
         if (tempDataCleanupEnabled && maxTempDataPoolSize > 0) {
@@ -311,6 +372,30 @@ public class SessionDataStore {
         if (StringUtils.isNotBlank(deleteChunkSizeString)) {
             deleteChunkSize = Integer.parseInt(deleteChunkSizeString);
         }
+        String deleteChunkPauseString = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist" +
+                ".SessionDataCleanUp.DeleteChunkPause");
+        if (StringUtils.isNotBlank(deleteChunkPauseString)) {
+            deleteChunkPause = Long.parseLong(deleteChunkPauseString);
+        }
+        String deleteTimeBucketSizeString = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist" +
+                ".SessionDataCleanUp.DeleteTimeBucketSize");
+        if (StringUtils.isNotBlank(deleteTimeBucketSizeString)) {
+            deleteTimeBucketSize = TimeUnit.MINUTES.toNanos(Long.parseLong(deleteTimeBucketSizeString));
+        }
+
+        boolean singleFlightLoadEnabled = true;
+        String singleFlightLoadEnabledString = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist" +
+                ".SessionDataLoad.SingleFlight");
+        if (StringUtils.isNotBlank(singleFlightLoadEnabledString)) {
+            singleFlightLoadEnabled = Boolean.parseBoolean(singleFlightLoadEnabledString);
+        }
+        long negativeCacheTimeout = 0;
+        String negativeCacheTimeoutString = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist" +
+                ".SessionDataLoad.NegativeCacheTimeout");
+        if (StringUtils.isNotBlank(negativeCacheTimeoutString)) {
+            negativeCacheTimeout = Long.parseLong(negativeCacheTimeoutString);
+        }
+        sessionDataLoader = new SessionDataLoader(singleFlightLoadEnabled, negativeCacheTimeout);
 
         if (StringUtils.isNotBlank(deleteExpiredDataTaskSQL)) {
             sqlDeleteExpiredDataTask = String.format(deleteExpiredDataTaskSQL, deleteChunkSize);
@@ -391,13 +476,27 @@ public class SessionDataStore {
         if (!enablePersist) {
             return null;
         }
-        Connection connection = null;
         try {
-            connection = IdentityDatabaseUtil.getSessionDBConnection(false);
+            return sessionDataLoader.load(key, type, () -> readSessionContextData(key, type));
         } catch (IdentityRuntimeException e) {
             log.error(e.getMessage(), e);
-            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (log.isDebugEnabled()) {
+                log.debug("Interrupted while waiting for session data. key : " + key + " type : " + type, e);
+            }
+        } catch (Exception e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while retrieving session data", e);
+            }
         }
+        return null;
+    }
+
+    private SessionContextDO readSessionContextData(String key, String type) throws ClassNotFoundException,
+            IOException, SQLException, SessionSerializerException, IdentityApplicationManagementException {
+
+        Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false);
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
         try {
@@ -431,11 +530,6 @@ public class SessionDataStore {
                     return new SessionContextDO(key, type, getBlobObject(resultSet.getBinaryStream(2)), nanoTime);
                 }
             }
-        } catch (ClassNotFoundException | IOException | SQLException | SessionSerializerException |
-                 IdentityApplicationManagementException e) {
-            if (log.isDebugEnabled()) {
-                log.debug("Error while retrieving session data", e);
-            }
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, resultSet, preparedStatement);
         }
@@ -579,9 +673,10 @@ public class SessionDataStore {
         if (!enablePersist) {
             return;
         }
+        sessionDataLoader.invalidate(key, type);
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, entry, nanoTime, tenantId));
+            enqueueSessionContext(new SessionContextDO(key, type, entry, nanoTime, tenantId));
         } else {
             persistSessionData(key, type, entry, nanoTime, tenantId);
         }
@@ -591,14 +686,58 @@ public class SessionDataStore {
         if (!enablePersist) {
             return;
         }
+        sessionDataLoader.invalidate(key, type);
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, null, nanoTime));
+            enqueueSessionContext(new SessionContextDO(key, type, null, nanoTime));
         } else {
             removeSessionData(key, type, nanoTime);
         }
     }
 
+    /**
+     * Add the given operation to the persistence queue. When the queue is full, the operation is either retried
+     * until the configured offer timeout elapses (BLOCK policy) or written immediately (CALLER_RUNS policy). In both
+     * cases an operation which could not be queued is written on the caller thread so that it is never lost.
+     *
+     * @param sessionContextDO Session data operation to be queued.
+     */
+    private void enqueueSessionContext(SessionContextDO sessionContextDO) {
+
+        boolean queued;
+        if (QUEUE_FULL_POLICY_BLOCK.equals(sessionContextQueueFullPolicy)) {
+            try {
+                queued = sessionContextQueue.offerFirst(sessionContextDO, sessionContextQueueOfferTimeout,
+                        TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queued = false;
+            }
+        } else {
+            queued = sessionContextQueue.offerFirst(sessionContextDO);
+        }
+        if (queued) {
+            return;
+        }
+
+        SessionDataPersistMetrics.getInstance().recordRejectedEntry();
+        if (log.isDebugEnabled()) {
+            log.debug("Session data persistence queue is full. Persisting the operation on the caller thread. key : "
+                    + sessionContextDO.getKey() + " type : " + sessionContextDO.getType());
+        }
+        persistSingleOperation(sessionContextDO);
+    }
+
+    /**
+     * Get the number of session data operations waiting in the persistence queue.
+     *
+     * @return Current depth of the persistence queue.
+     */
+    public static int getSessionContextQueueDepth() {
+
+        return sessionContextQueue == null ? 0 : sessionContextQueue.size();
+    }
+
     /**
      * Method to stop running tasks, when the component is deactivated.
      */
@@ -606,6 +745,7 @@ public class SessionDataStore {
 
         TempAuthContextDataDeleteTask.shutdown();
         SessionDataPersistTask.shutdown();
+        SessionDataBatchPersistTask.shutdown();
     }
 
     /**
@@ -649,34 +789,146 @@ public class SessionDataStore {
 
     /**
      * Removes the records related to expired sessions from DB.
+     * Rows are deleted in chunks of at most the configured chunk size, each committed on its own and followed by the
+     * configured pause. When a time bucket size is configured, the expired rows are deleted bucket by bucket starting
+     * from the oldest expiry time, so that each chunk only scans a bounded range of the expiry time index.
+     *
+     * @param sqlQuery  DB specific chunked delete query.
+     * @param tableName Name of the table to be cleaned.
      */
-    private void removeExpiredSessionData(String sqlQuery) {
+    private void removeExpiredSessionData(String sqlQuery, String tableName) {
 
         if (log.isDebugEnabled()) {
             log.debug("DB query for removing expired data: " + sqlQuery);
         }
         long currentTime = FrameworkUtils.getCurrentStandardNano();
+        long runStartTime = System.nanoTime();
+        boolean deleteCompleted = false;
+        SessionDataCleanUpMetrics metrics = SessionDataCleanUpMetrics.getInstance();
         try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
-            boolean deleteCompleted = false;
+            // The backlog is only counted for a paced cleanup, since the count scans the expired rows once more.
+            long backlog = isPacedCleanUp() ? countExpiredSessionData(connection, tableName, currentTime)
+                    : SessionDataCleanUpMetrics.UNKNOWN_BACKLOG;
+            metrics.recordRunStart(tableName, backlog);
+            long bucketUpperBound = getNextCleanUpBucketUpperBound(connection, tableName, Long.MIN_VALUE,
+                    currentTime);
             int totalDeletedEntries = 0;
             while (!deleteCompleted) {
+                long chunkStartTime = System.nanoTime();
+                int noOfDeletedRecords;
                 try (PreparedStatement statement = connection.prepareStatement(sqlQuery)) {
-                    statement.setLong(1, currentTime);
-                    int noOfDeletedRecords = statement.executeUpdate();
-                    deleteCompleted = noOfDeletedRecords < deleteChunkSize;
-                    totalDeletedEntries += noOfDeletedRecords;
+                    statement.setLong(1, bucketUpperBound);
+                    noOfDeletedRecords = statement.executeUpdate();
                     // Commit the chunk deletion.
                     IdentityDatabaseUtil.commitTransaction(connection);
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Removed %d expired session records.", noOfDeletedRecords));
+                }
+                metrics.recordChunk(noOfDeletedRecords, System.nanoTime() - chunkStartTime, bucketUpperBound);
+                totalDeletedEntries += noOfDeletedRecords;
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Removed %d expired session records from %s expired before %d.",
+                            noOfDeletedRecords, tableName, bucketUpperBound));
+                }
+                if (noOfDeletedRecords < deleteChunkSize) {
+                    if (bucketUpperBound == currentTime) {
+                        deleteCompleted = true;
+                    } else {
+                        bucketUpperBound = getNextCleanUpBucketUpperBound(connection, tableName, bucketUpperBound,
+                                currentTime);
                     }
                 }
+                if (!deleteCompleted && noOfDeletedRecords > 0 && !pauseBetweenDeleteChunks()) {
+                    break;
+                }
             }
             if (log.isDebugEnabled()) {
                 log.debug(String.format("Deleted total of %d entries", totalDeletedEntries));
             }
         } catch (SQLException | IdentityRuntimeException e) {
             log.error("Error while removing session data from the database for nano time: " + currentTime, e);
+        } finally {
+            metrics.recordRunEnd(System.nanoTime() - runStartTime, deleteCompleted);
+            if (log.isDebugEnabled()) {
+                log.debug("Session data cleanup metrics: " + metrics);
+            }
+        }
+    }
+
+    /**
+     * Returns the upper bound of the expiry times to be deleted by the next chunks of the cleanup. Without a time
+     * bucket size, all the rows expired before the current time are deleted at once.
+     *
+     * @param connection         DB connection.
+     * @param tableName          Name of the table to be cleaned.
+     * @param previousUpperBound Upper bound of the previous time bucket.
+     * @param currentTime        Current time. Rows expired before this time are deleted.
+     * @return Upper bound of the next time bucket.
+     * @throws SQLException If an error occurs while retrieving the oldest expiry time.
+     */
+    private long getNextCleanUpBucketUpperBound(Connection connection, String tableName, long previousUpperBound,
+                                                long currentTime) throws SQLException {
+
+        if (deleteTimeBucketSize <= 0) {
+            return currentTime;
+        }
+        long bucketLowerBound = previousUpperBound;
+        try (PreparedStatement statement = connection.prepareStatement(
+                SQL_SELECT_MIN_EXPIRY_TIME.replace(DEFAULT_SESSION_STORE_TABLE_NAME, tableName));
+             ResultSet resultSet = statement.executeQuery()) {
+            if (resultSet.next()) {
+                long oldestExpiryTime = resultSet.getLong(1);
+                if (!resultSet.wasNull()) {
+                    // Skip the empty buckets, while making sure the bucket always moves forward.
+                    bucketLowerBound = Math.max(oldestExpiryTime, previousUpperBound);
+                }
+            }
+        }
+        IdentityDatabaseUtil.commitTransaction(connection);
+        if (bucketLowerBound == Long.MIN_VALUE || currentTime - bucketLowerBound <= deleteTimeBucketSize) {
+            return currentTime;
+        }
+        return bucketLowerBound + deleteTimeBucketSize;
+    }
+
+    private boolean isPacedCleanUp() {
+
+        return deleteChunkPause > 0 || deleteTimeBucketSize > 0;
+    }
+
+    private long countExpiredSessionData(Connection connection, String tableName, long currentTime)
+            throws SQLException {
+
+        long expiredRowCount = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                SQL_COUNT_EXPIRED_DATA.replace(DEFAULT_SESSION_STORE_TABLE_NAME, tableName))) {
+            statement.setLong(1, currentTime);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    expiredRowCount = resultSet.getLong(1);
+                }
+            }
+        }
+        IdentityDatabaseUtil.commitTransaction(connection);
+        return expiredRowCount;
+    }
+
+    /**
+     * Pause between two delete chunks of the cleanup, so that the deletes do not saturate the database and its
+     * replication.
+     *
+     * @return False if the cleanup thread was interrupted while pausing.
+     */
+    private boolean pauseBetweenDeleteChunks() {
+
+        if (deleteChunkPause <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(deleteChunkPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Session data cleanup was interrupted. Remaining expired data will be removed in the next run.");
+            return false;
         }
     }
 
@@ -693,10 +945,11 @@ public class SessionDataStore {
             }
         }
         if (sessionDataCleanupEnabled) {
-            removeExpiredSessionData(sqlDeleteExpiredDataTask);
+            removeExpiredSessionData(sqlDeleteExpiredDataTask, DEFAULT_SESSION_STORE_TABLE_NAME);
         }
         if (tempDataCleanupEnabled && periodicTempDataCleanupEnabled) {
-            removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask));
+            removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask),
+                    DEFAULT_TEMP_SESSION_STORE_TABLE_NAME);
         }
         if (operationDataCleanupEnabled) {
             removeInvalidatedSTOREOperations();
@@ -747,6 +1000,7 @@ public class SessionDataStore {
             preparedStatement.setInt(7, tenantId);
             preparedStatement.executeUpdate();
             IdentityDatabaseUtil.commitTransaction(connection);
+            sessionDataLoader.invalidate(key, type);
         } catch (SQLException | IOException | SessionSerializerException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
             log.error("Error while storing session data", e);
@@ -804,6 +1058,125 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Persists a batch of STORE and DELETE operations using JDBC batch statements within a single transaction.
+     * If the batch cannot be committed, each operation is retried individually so that a single bad entry does not
+     * discard the rest of the batch.
+     *
+     * @param sessionContextDOs Session data operations to be persisted. An operation without an entry is a DELETE.
+     */
+    public void persistSessionDataBatch(List<SessionContextDO> sessionContextDOs) {
+
+        if (!enablePersist || sessionContextDOs == null || sessionContextDOs.isEmpty()) {
+            return;
+        }
+
+        List<SessionContextDO> storeOperations = new ArrayList<>();
+        List<SessionContextDO> deleteOperations = new ArrayList<>();
+        for (SessionContextDO sessionContextDO : sessionContextDOs) {
+            if (isTempCache(sessionContextDO.getType())) {
+                // Temporary data may be routed to a different table or queue, hence handled individually.
+                persistSingleOperation(sessionContextDO);
+            } else if (sessionContextDO.getEntry() != null) {
+                storeOperations.add(sessionContextDO);
+            } else if (!checkExistingEntryForDeleteOperationInsert || !validateLastOperationOnSessionData(
+                    sessionContextDO.getKey(), sessionContextDO.getType(), OPERATION_DELETE)) {
+                deleteOperations.add(sessionContextDO);
+            }
+        }
+        if (storeOperations.isEmpty() && deleteOperations.isEmpty()) {
+            return;
+        }
+
+        Connection connection;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+
+        int batchSize = storeOperations.size() + deleteOperations.size();
+        long startTime = System.nanoTime();
+        boolean committed = false;
+        try {
+            if (!storeOperations.isEmpty()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(sqlInsertSTORE)) {
+                    for (SessionContextDO sessionContextDO : storeOperations) {
+                        long validityPeriodNano = 0L;
+                        if (sessionContextDO.getEntry() instanceof CacheEntry) {
+                            validityPeriodNano = ((CacheEntry) sessionContextDO.getEntry()).getValidityPeriod();
+                        }
+                        if (validityPeriodNano == 0L) {
+                            validityPeriodNano = getCleanupTimeout(sessionContextDO.getType(),
+                                    sessionContextDO.getTenantId());
+                        }
+                        preparedStatement.setString(1, sessionContextDO.getKey());
+                        preparedStatement.setString(2, sessionContextDO.getType());
+                        preparedStatement.setString(3, OPERATION_STORE);
+                        setBlobObject(preparedStatement, sessionContextDO.getEntry(), 4);
+                        preparedStatement.setLong(5, sessionContextDO.getNanoTime());
+                        preparedStatement.setLong(6, sessionContextDO.getNanoTime() + validityPeriodNano);
+                        preparedStatement.setInt(7, sessionContextDO.getTenantId());
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            if (!deleteOperations.isEmpty()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(sqlInsertDELETE)) {
+                    for (SessionContextDO sessionContextDO : deleteOperations) {
+                        long timeoutNano = sessionContextDO.getNanoTime() + getCleanupTimeout(
+                                sessionContextDO.getType(), MultitenantConstants.INVALID_TENANT_ID);
+                        preparedStatement.setString(1, sessionContextDO.getKey());
+                        preparedStatement.setString(2, sessionContextDO.getType());
+                        preparedStatement.setString(3, OPERATION_DELETE);
+                        preparedStatement.setLong(4, sessionContextDO.getNanoTime());
+                        preparedStatement.setLong(5, timeoutNano);
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            committed = true;
+            for (SessionContextDO sessionContextDO : storeOperations) {
+                sessionDataLoader.invalidate(sessionContextDO.getKey(), sessionContextDO.getType());
+            }
+        } catch (SQLException | IOException | SessionSerializerException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while persisting a batch of " + batchSize + " session data operations. Retrying the " +
+                    "operations individually.", e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(connection, null, null);
+        }
+
+        SessionDataPersistMetrics metrics = SessionDataPersistMetrics.getInstance();
+        metrics.recordFlush(batchSize, System.nanoTime() - startTime, committed);
+        if (log.isDebugEnabled()) {
+            log.debug("Persisted a batch of " + batchSize + " session data operations. " + metrics);
+        }
+
+        if (!committed) {
+            for (SessionContextDO sessionContextDO : storeOperations) {
+                persistSingleOperation(sessionContextDO);
+            }
+            for (SessionContextDO sessionContextDO : deleteOperations) {
+                persistSingleOperation(sessionContextDO);
+            }
+        }
+    }
+
+    private void persistSingleOperation(SessionContextDO sessionContextDO) {
+
+        if (sessionContextDO.getEntry() == null) {
+            removeSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getNanoTime());
+        } else {
+            persistSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getEntry(),
+                    sessionContextDO.getNanoTime(), sessionContextDO.getTenantId());
+        }
+    }
+
     /**
      * Removes temporary authn context data from the table if temporary data cleanup is enabled.
      *
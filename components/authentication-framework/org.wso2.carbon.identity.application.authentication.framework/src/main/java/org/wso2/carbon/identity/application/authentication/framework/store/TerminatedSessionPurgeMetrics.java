@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters and progress of the purge of the terminated session records, which deletes the user session mapping,
+ * application and metadata records of the expired sessions page by page.
+ */
+public class TerminatedSessionPurgeMetrics {
+
+    private static final TerminatedSessionPurgeMetrics instance = new TerminatedSessionPurgeMetrics();
+
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong pageCount = new AtomicLong();
+    private final AtomicLong purgedSessionCount = new AtomicLong();
+    private final AtomicLong deletedRowCount = new AtomicLong();
+    private volatile String checkpoint;
+    private volatile long lastRunPurgedSessionCount;
+    private volatile long lastRunDeletedRowCount;
+    private volatile long lastRunDurationNanos;
+
+    private TerminatedSessionPurgeMetrics() {
+
+    }
+
+    public static TerminatedSessionPurgeMetrics getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Record the start of a purge run.
+     *
+     * @param checkpoint Session ID after which the run resumes, or null if the run starts from the beginning.
+     */
+    void recordRunStart(String checkpoint) {
+
+        runCount.incrementAndGet();
+        this.checkpoint = checkpoint;
+        lastRunPurgedSessionCount = 0;
+        lastRunDeletedRowCount = 0;
+    }
+
+    /**
+     * Record a committed page.
+     *
+     * @param purgedSessions Number of sessions of the page.
+     * @param deletedRows    Number of rows deleted for the sessions of the page.
+     * @param checkpoint     Last session ID of the page.
+     */
+    void recordPage(int purgedSessions, long deletedRows, String checkpoint) {
+
+        pageCount.incrementAndGet();
+        purgedSessionCount.addAndGet(purgedSessions);
+        deletedRowCount.addAndGet(deletedRows);
+        this.checkpoint = checkpoint;
+        lastRunPurgedSessionCount += purgedSessions;
+        lastRunDeletedRowCount += deletedRows;
+    }
+
+    /**
+     * Record the end of a purge run.
+     *
+     * @param durationNanos Time taken by the run.
+     * @param completed     Whether all the terminated sessions were purged.
+     */
+    void recordRunEnd(long durationNanos, boolean completed) {
+
+        lastRunDurationNanos = durationNanos;
+        if (completed) {
+            checkpoint = null;
+        }
+    }
+
+    public long getRunCount() {
+
+        return runCount.get();
+    }
+
+    public long getPageCount() {
+
+        return pageCount.get();
+    }
+
+    public long getPurgedSessionCount() {
+
+        return purgedSessionCount.get();
+    }
+
+    public long getDeletedRowCount() {
+
+        return deletedRowCount.get();
+    }
+
+    /**
+     * Returns the session ID up to which the terminated sessions are purged by an incomplete run.
+     *
+     * @return Checkpoint of the purge, or null if the last run purged all the terminated sessions.
+     */
+    public String getCheckpoint() {
+
+        return checkpoint;
+    }
+
+    public long getLastRunPurgedSessionCount() {
+
+        return lastRunPurgedSessionCount;
+    }
+
+    public long getLastRunDeletedRowCount() {
+
+        return lastRunDeletedRowCount;
+    }
+
+    public long getLastRunDurationNanos() {
+
+        return lastRunDurationNanos;
+    }
+
+    /**
+     * Returns the number of rows deleted per second by the last run.
+     *
+     * @return Deleted rows per second.
+     */
+    public long getLastRunDeletedRowsPerSecond() {
+
+        long durationNanos = lastRunDurationNanos;
+        return durationNanos <= 0 ? 0 : lastRunDeletedRowCount * TimeUnit.SECONDS.toNanos(1) / durationNanos;
+    }
+
+    @Override
+    public String toString() {
+
+        return "TerminatedSessionPurgeMetrics{" +
+                "runCount=" + getRunCount() +
+                ", pageCount=" + getPageCount() +
+                ", purgedSessionCount=" + getPurgedSessionCount() +
+                ", deletedRowCount=" + getDeletedRowCount() +
+                ", checkpoint=" + getCheckpoint() +
+                ", lastRunPurgedSessionCount=" + getLastRunPurgedSessionCount() +
+                ", lastRunDeletedRowCount=" + getLastRunDeletedRowCount() +
+                ", lastRunDeletedRowsPerSecond=" + getLastRunDeletedRowsPerSecond() +
+                '}';
+    }
+}
@@ -65,6 +65,7 @@ public class UserSessionStore {
     private static final String IDN_AUTH_SESSION_META_DATA_TABLE = "IDN_AUTH_SESSION_META_DATA";
 
     private int deleteChunkSize = 10000;
+    private volatile String purgeCheckpoint;
 
     private UserSessionStore() {
 
@@ -427,6 +428,9 @@ public class UserSessionStore {
 
     /**
      * Removes all the expired session records from relevant tables.
+     * The expired session IDs are read page by page in the order of the session ID, and the records of each page are
+     * deleted from all the tables in one transaction. A run which fails midway resumes after the last deleted page on
+     * the next run.
      */
     public void removeExpiredSessionRecords() {
 
@@ -434,33 +438,52 @@ public class UserSessionStore {
             log.debug("Removing information of expired and deleted sessions.");
         }
 
+        TerminatedSessionPurgeMetrics purgeMetrics = TerminatedSessionPurgeMetrics.getInstance();
+        String checkpoint = purgeCheckpoint;
+        purgeMetrics.recordRunStart(checkpoint);
+        long startTime = System.nanoTime();
+        boolean completed = false;
         try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
-            Set<String> terminatedAuthSessionIds = getSessionsTerminated(connection);
-            String[] sessionsToRemove = new String[terminatedAuthSessionIds.size()];
-            terminatedAuthSessionIds.toArray(sessionsToRemove);
-
-            if (!terminatedAuthSessionIds.isEmpty()) {
-
-                if (log.isDebugEnabled()) {
-                    log.debug(terminatedAuthSessionIds.size() + " number of sessions should be removed from the " +
-                            "database. Removing in " + deleteChunkSize + " size batches.");
-                }
-
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_USER_SESSION_MAPPING_TABLE,
-                        SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_APP_INFO_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_META_DATA_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA);
+            long expiryTime = FrameworkUtils.getCurrentStandardNano();
+            try {
+                while (true) {
+                    String[] sessionsToRemove = getTerminatedSessionPage(connection, expiryTime, checkpoint);
+                    if (sessionsToRemove.length == 0) {
+                        break;
+                    }
 
-                IdentityDatabaseUtil.commitTransaction(connection);
-            } else {
-                if (log.isDebugEnabled()) {
-                    log.debug("No expired sessions found to remove.");
+                    long deletedRows = deleteSessionDataFromTable(sessionsToRemove, connection,
+                            IDN_AUTH_USER_SESSION_MAPPING_TABLE, SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA);
+                    deletedRows += deleteSessionDataFromTable(sessionsToRemove, connection,
+                            IDN_AUTH_SESSION_APP_INFO_TABLE, SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO);
+                    deletedRows += deleteSessionDataFromTable(sessionsToRemove, connection,
+                            IDN_AUTH_SESSION_META_DATA_TABLE, SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA);
+                    IdentityDatabaseUtil.commitTransaction(connection);
+
+                    checkpoint = sessionsToRemove[sessionsToRemove.length - 1];
+                    purgeCheckpoint = checkpoint;
+                    purgeMetrics.recordPage(sessionsToRemove.length, deletedRows, checkpoint);
+                    if (sessionsToRemove.length < deleteChunkSize) {
+                        break;
+                    }
                 }
+                completed = true;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
             }
         } catch (SQLException e) {
             log.error("Error while removing expired session information from the database.", e);
+        } finally {
+            if (completed) {
+                purgeCheckpoint = null;
+            }
+            purgeMetrics.recordRunEnd(System.nanoTime() - startTime, completed);
+            if (log.isDebugEnabled()) {
+                log.debug("Removed information of " + purgeMetrics.getLastRunPurgedSessionCount() +
+                        " expired sessions. Deleted rows per second: " +
+                        purgeMetrics.getLastRunDeletedRowsPerSecond());
+            }
         }
     }
 
@@ -495,29 +518,36 @@ public class UserSessionStore {
         }
     }
 
-    private Set<String> getSessionsTerminated(Connection connection) throws SQLException {
-
-        Set<String> terminatedSessionIds = new HashSet<>();
-
-        /**
-         * Retrieve only sessions which have an expiry time less than the current time.
-         * As the session cleanup task deletes only entries matching the same condition, in case sessions that are
-         * being marked as deleted are also retrieved that might load a huge amount of entries to the memory all the
-         * time. Yet those entries will be removed from the IDN_AUTH_USER_SESSION_MAPPING_TABLE table on the first
-         * execution, and there after every time the loop will be executed and the table will be scanned for a non
-         * existing entry.
-         */
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SQLQueries
-                .SQL_SELECT_TERMINATED_SESSION_IDS)) {
-            preparedStatement.setLong(1, FrameworkUtils.getCurrentStandardNano());
+    /**
+     * Retrieve a page of the IDs of the sessions which have an expiry time less than the given time.
+     * Sessions which are being marked as deleted are not retrieved, as the session cleanup task deletes only the
+     * entries matching the same condition.
+     *
+     * @param connection db connection
+     * @param expiryTime sessions expired before this time are retrieved
+     * @param checkpoint session ID after which the page starts, or null to retrieve the first page
+     * @return session IDs of the page, in the order of the session ID
+     * @throws SQLException if the DB execution fails
+     */
+    private String[] getTerminatedSessionPage(Connection connection, long expiryTime, String checkpoint)
+            throws SQLException {
+
+        List<String> terminatedSessionIds = new ArrayList<>();
+        String query = checkpoint == null ? SQLQueries.SQL_SELECT_TERMINATED_SESSION_IDS_FIRST_PAGE :
+                SQLQueries.SQL_SELECT_TERMINATED_SESSION_IDS_NEXT_PAGE;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setMaxRows(deleteChunkSize);
+            preparedStatement.setLong(1, expiryTime);
+            if (checkpoint != null) {
+                preparedStatement.setString(2, checkpoint);
+            }
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                while (resultSet.next()) {
+                while (resultSet.next() && terminatedSessionIds.size() < deleteChunkSize) {
                     terminatedSessionIds.add(resultSet.getString(1));
                 }
             }
         }
-
-        return terminatedSessionIds;
+        return terminatedSessionIds.toArray(new String[0]);
     }
 
     /**
@@ -527,11 +557,13 @@ public class UserSessionStore {
      * @param connection       db connection
      * @param tableName        table name from which the records are removed
      * @param deleteQuery      delete query for the relevant table
+     * @return number of deleted records, as reported by the driver
      * @throws SQLException if the DB execution fails
      */
-    private void deleteSessionDataFromTable(String[] sessionsToRemove, Connection connection, String tableName,
+    private long deleteSessionDataFromTable(String[] sessionsToRemove, Connection connection, String tableName,
                                             String deleteQuery) throws SQLException {
 
+        long deletedRows = 0;
         int totalSessionsToRemove = sessionsToRemove.length;
         int iterations = (totalSessionsToRemove / deleteChunkSize) + 1;
         int startCount = 0;
@@ -548,7 +580,11 @@ public class UserSessionStore {
                     preparedStatementForDelete.setString(1, sessionsToRemove[j]);
                     preparedStatementForDelete.addBatch();
                 }
-                preparedStatementForDelete.executeBatch();
+                for (int updateCount : preparedStatementForDelete.executeBatch()) {
+                    if (updateCount > 0) {
+                        deletedRows += updateCount;
+                    }
+                }
 
                 if (log.isDebugEnabled()) {
                     log.debug("Removed  " + (endCount - startCount) + " records from " + tableName + ".");
@@ -560,6 +596,7 @@ public class UserSessionStore {
         if (log.isDebugEnabled()) {
             log.debug("Removed total " + totalSessionsToRemove + " records from " + tableName + ".");
         }
+        return deletedRows;
     }
 
     /**
@@ -403,6 +403,12 @@ public abstract class FrameworkConstants {
          */
         public static final String PUBLISH_ACTIVE_SESSION_COUNT = "Analytics.PublishActiveSessionCount";
 
+        /**
+         * Configuration of the interval in seconds to reconcile the active session count with the database.
+         */
+        public static final String ACTIVE_SESSION_COUNT_RECONCILE_INTERVAL =
+                "Analytics.ActiveSessionCountReconcileInterval";
+
         /**
          * Configuration to enable preserving user from being logged out at password update by skipping current
          * session and token from being terminated.
@@ -718,6 +724,7 @@ public abstract class FrameworkConstants {
         public static final String GRAALJS_SCRIPT_STATEMENTS_LIMIT
                 = "AdaptiveAuth.GraalJS.ScriptStatementsLimit";
         public static final int DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT = 0;
+        public static final String GRAALJS_SHARED_ENGINE = "AdaptiveAuth.GraalJS.SharedEngine";
     }
 
     /**
@@ -110,6 +110,7 @@ import org.wso2.carbon.identity.application.authentication.framework.model.Authe
 import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticationResult;
 import org.wso2.carbon.identity.application.authentication.framework.model.ImpersonatedUser;
 import org.wso2.carbon.identity.application.authentication.framework.model.OrganizationDiscoveryInput;
+import org.wso2.carbon.identity.application.authentication.framework.store.ActiveSessionCounter;
 import org.wso2.carbon.identity.application.authentication.framework.store.UserSessionStore;
 import org.wso2.carbon.identity.application.common.model.Claim;
 import org.wso2.carbon.identity.application.common.model.ClaimConfig;
@@ -2385,6 +2386,7 @@ public class FrameworkUtils {
     public static void publishSessionEvent(String sessionId, HttpServletRequest request, AuthenticationContext
             context, SessionContext sessionContext, AuthenticatedUser user, String status) {
 
+        updateActiveSessionCount(user, status);
         AuthenticationDataPublisher authnDataPublisherProxy = FrameworkServiceDataHolder.getInstance()
                 .getAuthnDataPublisherProxy();
 
@@ -2415,12 +2417,24 @@ public class FrameworkUtils {
         }
     }
 
+    private static void updateActiveSessionCount(AuthenticatedUser user, String status) {
+
+        if (user == null || !FrameworkServiceDataHolder.getInstance().isUserSessionMappingEnabled()) {
+            return;
+        }
+        if (FrameworkConstants.AnalyticsAttributes.SESSION_CREATE.equalsIgnoreCase(status)) {
+            ActiveSessionCounter.getInstance().sessionCreated(user.getTenantDomain());
+        } else if (FrameworkConstants.AnalyticsAttributes.SESSION_TERMINATE.equalsIgnoreCase(status)) {
+            ActiveSessionCounter.getInstance().sessionTerminated(user.getTenantDomain());
+        }
+    }
+
     private static int getActiveSessionCount(String tenantDomain) {
 
         int activeSessionCount = 0;
         try {
             if (FrameworkServiceDataHolder.getInstance().isUserSessionMappingEnabled()) {
-                activeSessionCount = UserSessionStore.getInstance().getActiveSessionCount(tenantDomain);
+                activeSessionCount = ActiveSessionCounter.getInstance().getActiveSessionCount(tenantDomain);
             }
         } catch (UserSessionException e) {
             activeSessionCount = -1;
@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.identity.application.authentication.framework.config.model.graph;
 
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
 import org.mockito.Mock;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeTest;
@@ -28,6 +30,7 @@ import org.wso2.carbon.identity.application.authentication.framework.FederatedAp
 import org.wso2.carbon.identity.application.authentication.framework.LocalApplicationAuthenticator;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.AuthenticatorConfig;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.GraalSourceCache;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilder;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
@@ -51,7 +54,9 @@ import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 @Test
@@ -142,6 +147,37 @@ public class JsGraalGraphBuilderTest extends AbstractFrameworkTest {
         assertTrue(firstStep.getNext() instanceof DynamicDecisionNode);
     }
 
+    @Test
+    public void testContextsShareEngine() throws Exception {
+
+        ServiceProvider sp1 = getTestServiceProvider("js-sp-1.xml");
+        Context firstContext = jsGraphBuilderFactory.createEngine(getAuthenticationContext(sp1));
+        Context secondContext = jsGraphBuilderFactory.createEngine(getAuthenticationContext(sp1));
+        try {
+            assertNotSame(firstContext, secondContext);
+            assertSame(firstContext.getEngine(), secondContext.getEngine());
+        } finally {
+            firstContext.close();
+            secondContext.close();
+        }
+    }
+
+    @Test
+    public void testSourceCache() {
+
+        String script = "var onLoginRequest = function(context) { executeStep(1); };";
+        GraalSourceCache sourceCache = GraalSourceCache.getInstance();
+
+        Source source = sourceCache.getSource("carbon.super:app-1", script);
+        assertSame(sourceCache.getSource("carbon.super:app-1", script), source);
+        assertEquals(source.getCharacters().toString(), script);
+
+        Source updatedSource = sourceCache.getSource("carbon.super:app-1", script + " ");
+        assertNotSame(updatedSource, source);
+        assertEquals(updatedSource.getCharacters().toString(), script + " ");
+        assertNotSame(sourceCache.getSource("carbon.super:app-2", script), source);
+    }
+
     @Test(dataProvider = "filterOptionsDataProvider")
     public void testFilterOptions(Map<String, Map<String, String>> options, StepConfig stepConfig,
                                   int expectedStepsAfterFilter) throws Exception {
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests of the {@link ActiveSessionCounter}.
+ */
+public class ActiveSessionCounterTest {
+
+    private static final String TENANT_DOMAIN = "wso2.com";
+
+    @Test
+    public void testCountIsMaintainedBetweenReconciliations() throws Exception {
+
+        AtomicInteger readCount = new AtomicInteger();
+        ActiveSessionCounter counter = new ActiveSessionCounter(TimeUnit.HOURS.toNanos(1), tenantDomain -> {
+            readCount.incrementAndGet();
+            return 10;
+        });
+
+        assertEquals(counter.getActiveSessionCount(TENANT_DOMAIN), 10);
+        counter.sessionCreated(TENANT_DOMAIN);
+        counter.sessionCreated(TENANT_DOMAIN);
+        counter.sessionTerminated(TENANT_DOMAIN);
+        assertEquals(counter.getActiveSessionCount(TENANT_DOMAIN), 11);
+        assertEquals(readCount.get(), 1);
+        assertEquals(counter.getApproximationError(TENANT_DOMAIN), 0);
+    }
+
+    @Test
+    public void testCountIsReconciledAfterInterval() throws Exception {
+
+        AtomicInteger activeSessionCount = new AtomicInteger(5);
+        ActiveSessionCounter counter = new ActiveSessionCounter(TimeUnit.MILLISECONDS.toNanos(50),
+                tenantDomain -> activeSessionCount.get());
+
+        assertEquals(counter.getActiveSessionCount(TENANT_DOMAIN), 5);
+        counter.sessionCreated(TENANT_DOMAIN);
+        // Two sessions expire on idle timeout and one session is created on another node.
+        activeSessionCount.set(4);
+        Thread.sleep(100);
+
+        assertEquals(counter.getActiveSessionCount(TENANT_DOMAIN), 4);
+        assertEquals(counter.getApproximationError(TENANT_DOMAIN), 2);
+        counter.sessionTerminated(TENANT_DOMAIN);
+        assertEquals(counter.getActiveSessionCount(TENANT_DOMAIN), 3);
+    }
+
+    @Test
+    public void testSessionsOfUncountedTenantAreIgnored() throws Exception {
+
+        ActiveSessionCounter counter = new ActiveSessionCounter(TimeUnit.HOURS.toNanos(1), tenantDomain -> 0);
+
+        counter.sessionTerminated(TENANT_DOMAIN);
+        assertEquals(counter.getActiveSessionCount(TENANT_DOMAIN), 0);
+        counter.sessionTerminated(TENANT_DOMAIN);
+        assertEquals(counter.getActiveSessionCount(TENANT_DOMAIN), 0);
+    }
+
+    @Test
+    public void testCountIsReadWhenReconcileIntervalIsDisabled() throws Exception {
+
+        AtomicInteger readCount = new AtomicInteger();
+        ActiveSessionCounter counter = new ActiveSessionCounter(0, tenantDomain -> readCount.incrementAndGet());
+
+        assertEquals(counter.getActiveSessionCount(TENANT_DOMAIN), 1);
+        counter.sessionCreated(TENANT_DOMAIN);
+        assertEquals(counter.getActiveSessionCount(TENANT_DOMAIN), 2);
+    }
+}
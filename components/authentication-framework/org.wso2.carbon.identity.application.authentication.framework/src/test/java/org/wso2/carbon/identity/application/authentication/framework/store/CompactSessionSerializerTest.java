@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+
+import java.io.ByteArrayInputStream;
+import java.io.InvalidClassException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for {@link CompactSessionSerializer}.
+ */
+public class CompactSessionSerializerTest {
+
+    private static final int STEP_COUNT = 3;
+
+    @DataProvider
+    public Object[][] getSerializers() {
+
+        return new Object[][]{
+                {new CompactSessionSerializer()},
+                {new CompactSessionSerializer(false, 0)}
+        };
+    }
+
+    @Test(dataProvider = "getSerializers")
+    public void testSerializeAndDeserialize(CompactSessionSerializer serializer) throws Exception {
+
+        AuthenticationContext context = buildAuthenticationContext();
+        byte[] serialized = IOUtils.toByteArray(serializer.serializeSessionObject(context));
+
+        assertEquals(serialized[0], CompactSessionSerializer.HEADER_MAGIC_1);
+        assertEquals(serialized[1], CompactSessionSerializer.HEADER_MAGIC_2);
+        assertEquals(serialized[2], CompactSessionSerializer.FORMAT_VERSION);
+        assertContextEquals((AuthenticationContext) serializer.deSerializeSessionObject(
+                new ByteArrayInputStream(serialized)), context);
+    }
+
+    @Test
+    public void testDeserializeJavaSerializedObject() throws Exception {
+
+        AuthenticationContext context = buildAuthenticationContext();
+        Object deserialized = new CompactSessionSerializer().deSerializeSessionObject(
+                new JavaSessionSerializer().serializeSessionObject(context));
+
+        assertContextEquals((AuthenticationContext) deserialized, context);
+    }
+
+    @Test
+    public void testSerializedSizeIsSmallerThanJavaSerialization() throws Exception {
+
+        AuthenticationContext context = buildAuthenticationContext();
+        int javaSize = IOUtils.toByteArray(new JavaSessionSerializer().serializeSessionObject(context)).length;
+        int compactSize = IOUtils.toByteArray(new CompactSessionSerializer(false, 0)
+                .serializeSessionObject(context)).length;
+        int compressedSize = IOUtils.toByteArray(new CompactSessionSerializer()
+                .serializeSessionObject(context)).length;
+
+        assertTrue(compactSize < javaSize);
+        assertTrue(compressedSize < compactSize);
+    }
+
+    @DataProvider
+    public Object[][] getClassDescriptorOffsets() {
+
+        // Offsets after the class name, of the serialVersionUID and of the field layout hash.
+        return new Object[][]{
+                {0},
+                {Long.BYTES}
+        };
+    }
+
+    @Test(dataProvider = "getClassDescriptorOffsets")
+    public void testDeserializeWithIncompatibleClass(int offset) throws Exception {
+
+        byte[] serialized = IOUtils.toByteArray(new CompactSessionSerializer(false, 0)
+                .serializeSessionObject(buildAuthenticationContext()));
+        int classNameEnd = indexOf(serialized, AuthenticationContext.class.getName()
+                .getBytes(StandardCharsets.UTF_8)) + AuthenticationContext.class.getName().length();
+        // Simulate data written with a different definition of the class.
+        serialized[classNameEnd + offset] ^= 1;
+
+        try {
+            new CompactSessionSerializer().deSerializeSessionObject(new ByteArrayInputStream(serialized));
+            fail("Data written with an incompatible class definition should not be de serialized.");
+        } catch (SessionSerializerException e) {
+            assertTrue(e.getCause() instanceof InvalidClassException);
+        }
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testDeserializeUnknownFormat() throws Exception {
+
+        new CompactSessionSerializer().deSerializeSessionObject(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}));
+    }
+
+    private int indexOf(byte[] data, byte[] target) {
+
+        for (int i = 0; i <= data.length - target.length; i++) {
+            boolean found = true;
+            for (int j = 0; j < target.length && found; j++) {
+                found = data[i + j] == target[j];
+            }
+            if (found) {
+                return i;
+            }
+        }
+        throw new AssertionError("Class name not found in the serialized data.");
+    }
+
+    private AuthenticationContext buildAuthenticationContext() {
+
+        AuthenticationContext context = new AuthenticationContext();
+        context.setContextIdentifier("c1a3b0e2-5f4d-4d6b-9a55-0d5f3c1c6f7e");
+        context.setTenantDomain("carbon.super");
+        context.setServiceProviderName("travelocity");
+        context.setRequestType("oidc");
+        context.setCurrentStep(STEP_COUNT);
+        context.setProperty("sampleProperty", "sampleValue");
+
+        AuthenticatedUser user = new AuthenticatedUser();
+        user.setUserName("alice");
+        user.setTenantDomain("carbon.super");
+        user.setUserStoreDomain("PRIMARY");
+        user.setAuthenticatedSubjectIdentifier("alice");
+
+        Map<Integer, StepConfig> stepMap = new HashMap<>();
+        for (int i = 1; i <= STEP_COUNT; i++) {
+            StepConfig stepConfig = new StepConfig();
+            stepConfig.setOrder(i);
+            stepConfig.setAuthenticatedIdP("LOCAL");
+            stepConfig.setAuthenticatedUser(user);
+            stepConfig.setCompleted(true);
+            stepMap.put(i, stepConfig);
+        }
+        SequenceConfig sequenceConfig = new SequenceConfig();
+        sequenceConfig.setName("default");
+        sequenceConfig.setStepMap(stepMap);
+        context.setSequenceConfig(sequenceConfig);
+        context.setSubject(user);
+        return context;
+    }
+
+    private void assertContextEquals(AuthenticationContext actual, AuthenticationContext expected) {
+
+        assertEquals(actual.getContextIdentifier(), expected.getContextIdentifier());
+        assertEquals(actual.getTenantDomain(), expected.getTenantDomain());
+        assertEquals(actual.getServiceProviderName(), expected.getServiceProviderName());
+        assertEquals(actual.getCurrentStep(), expected.getCurrentStep());
+        assertEquals(actual.getProperty("sampleProperty"), expected.getProperty("sampleProperty"));
+        assertEquals(actual.getSequenceConfig().getStepMap().size(), STEP_COUNT);
+        assertEquals(actual.getSubject().getUserName(), expected.getSubject().getUserName());
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests of the {@link SessionDataLoader}.
+ */
+public class SessionDataLoaderTest {
+
+    private static final String KEY = "00000001";
+    private static final String TYPE = "AuthenticationContextCache";
+
+    @Test
+    public void testConcurrentLoadsAreCoalesced() throws Exception {
+
+        SessionDataLoader sessionDataLoader = new SessionDataLoader(true, 0);
+        SessionContextDO sessionContextDO = new SessionContextDO(KEY, TYPE, "entry", 1000L);
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch releaseRead = new CountDownLatch(1);
+        AtomicInteger readCount = new AtomicInteger();
+        long coalescedLoadCount = SessionDataLoadMetrics.getInstance().getCoalescedLoadCount();
+
+        int lookups = 5;
+        ExecutorService executorService = Executors.newFixedThreadPool(lookups);
+        try {
+            List<Future<SessionContextDO>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> sessionDataLoader.load(KEY, TYPE, () -> {
+                readCount.incrementAndGet();
+                readStarted.countDown();
+                releaseRead.await();
+                return sessionContextDO;
+            })));
+            assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < lookups; i++) {
+                results.add(executorService.submit(() -> sessionDataLoader.load(KEY, TYPE, () -> {
+                    readCount.incrementAndGet();
+                    return null;
+                })));
+            }
+            waitForCoalescedLoads(coalescedLoadCount + lookups - 1);
+            releaseRead.countDown();
+
+            for (Future<SessionContextDO> result : results) {
+                assertSame(result.get(5, TimeUnit.SECONDS), sessionContextDO);
+            }
+            assertEquals(readCount.get(), 1);
+        } finally {
+            releaseRead.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReadFailureIsSharedWithCoalescedLoads() throws Exception {
+
+        SessionDataLoader sessionDataLoader = new SessionDataLoader(true, 0);
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch releaseRead = new CountDownLatch(1);
+        long coalescedLoadCount = SessionDataLoadMetrics.getInstance().getCoalescedLoadCount();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<SessionContextDO> leader = executorService.submit(() -> sessionDataLoader.load(KEY, TYPE, () -> {
+                readStarted.countDown();
+                releaseRead.await();
+                throw new IllegalStateException("Database unavailable.");
+            }));
+            assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+            Future<SessionContextDO> follower = executorService.submit(() -> sessionDataLoader.load(KEY, TYPE,
+                    () -> null));
+            waitForCoalescedLoads(coalescedLoadCount + 1);
+            releaseRead.countDown();
+
+            assertFailed(leader);
+            assertFailed(follower);
+        } finally {
+            releaseRead.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNegativeCache() throws Exception {
+
+        SessionDataLoader sessionDataLoader = new SessionDataLoader(true, 60000);
+        AtomicInteger readCount = new AtomicInteger();
+        long negativeCacheHitCount = SessionDataLoadMetrics.getInstance().getNegativeCacheHitCount();
+
+        assertNull(sessionDataLoader.load(KEY, TYPE, () -> {
+            readCount.incrementAndGet();
+            return null;
+        }));
+        assertNull(sessionDataLoader.load(KEY, TYPE, () -> {
+            readCount.incrementAndGet();
+            return null;
+        }));
+        assertEquals(readCount.get(), 1);
+        assertEquals(SessionDataLoadMetrics.getInstance().getNegativeCacheHitCount(), negativeCacheHitCount + 1);
+
+        // A write of the key must make the new session data visible immediately.
+        sessionDataLoader.invalidate(KEY, TYPE);
+        SessionContextDO sessionContextDO = new SessionContextDO(KEY, TYPE, "entry", 1000L);
+        assertSame(sessionDataLoader.load(KEY, TYPE, () -> {
+            readCount.incrementAndGet();
+            return sessionContextDO;
+        }), sessionContextDO);
+        assertEquals(readCount.get(), 2);
+    }
+
+    @Test
+    public void testAbsenceIsNotRememberedWhenKeyIsWrittenDuringRead() throws Exception {
+
+        SessionDataLoader sessionDataLoader = new SessionDataLoader(true, 60000);
+        AtomicInteger readCount = new AtomicInteger();
+
+        assertNull(sessionDataLoader.load(KEY, TYPE, () -> {
+            readCount.incrementAndGet();
+            sessionDataLoader.invalidate(KEY, TYPE);
+            return null;
+        }));
+        assertNull(sessionDataLoader.load(KEY, TYPE, () -> {
+            readCount.incrementAndGet();
+            return null;
+        }));
+        assertEquals(readCount.get(), 2);
+    }
+
+    private static void waitForCoalescedLoads(long expectedCount) throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (SessionDataLoadMetrics.getInstance().getCoalescedLoadCount() < expectedCount) {
+            if (System.nanoTime() - deadline > 0) {
+                fail("Lookups were not coalesced.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void assertFailed(Future<SessionContextDO> result) throws Exception {
+
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            fail("Read failure was not thrown.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+}
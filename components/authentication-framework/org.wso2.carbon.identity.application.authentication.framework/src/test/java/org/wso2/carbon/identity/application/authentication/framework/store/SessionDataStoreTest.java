@@ -34,23 +34,32 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
 import java.io.InputStream;
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test class that includes unit tests of Session Data Store.
@@ -224,9 +233,111 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
             mockCarbonContext(carbonContext);
             mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
             SessionDataStore.getInstance().removeExpiredSessionData();
+
+            // Expired rows are not counted when the cleanup is not paced.
+            verify(IdentityDatabaseUtil.getSessionDBConnection(true), never())
+                    .prepareStatement(contains("COUNT(*)"));
+        }
+    }
+
+    @Test(dependsOnMethods = "testRemoveExpiredSessionData")
+    public void testPersistSessionDataBatch() throws Exception {
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+
+            long flushCount = SessionDataPersistMetrics.getInstance().getFlushCount();
+            List<SessionContextDO> batch = new ArrayList<>();
+            batch.add(new SessionContextDO("00000003", "sessionType", "entry-3", 40000, 1));
+            batch.add(new SessionContextDO("00000004", "sessionType", "entry-4", 40001, 1));
+            batch.add(new SessionContextDO("00000004", "sessionType", null, 40002));
+            SessionDataStore.getInstance().persistSessionDataBatch(batch);
+
+            assertEquals(SessionDataPersistMetrics.getInstance().getFlushCount(), flushCount + 1);
+            assertTrue(SessionDataStore.getInstance()
+                    .validateLastOperationOnSessionData("00000003", "sessionType", OPERATION_STORE));
+            assertTrue(SessionDataStore.getInstance()
+                    .validateLastOperationOnSessionData("00000004", "sessionType", OPERATION_DELETE));
+        }
+    }
+
+    @Test(dependsOnMethods = "testPersistSessionDataBatch")
+    public void testRemoveExpiredSessionDataInTimeBuckets() throws Exception {
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO IDN_AUTH_SESSION_STORE " +
+                    "(SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, TENANT_ID, EXPIRY_TIME) " +
+                    "VALUES (?, 'sessionType', 'STORE', ?, 1, ?)")) {
+                for (int i = 1; i <= 5; i++) {
+                    statement.setString(1, "expired-" + i);
+                    statement.setLong(2, i);
+                    statement.setLong(3, i * 1000L);
+                    statement.addBatch();
+                }
+                statement.setString(1, "active");
+                statement.setLong(2, 6);
+                statement.setLong(3, Long.MAX_VALUE);
+                statement.addBatch();
+                statement.executeBatch();
+            }
+
+            SessionDataStore sessionDataStore = SessionDataStore.getInstance();
+            setField(sessionDataStore, "deleteChunkSize", 2);
+            setField(sessionDataStore, "deleteTimeBucketSize", 1500L);
+            setField(sessionDataStore, "sqlDeleteExpiredDataTask", null);
+            SessionDataCleanUpMetrics metrics = SessionDataCleanUpMetrics.getInstance();
+            long deletedRowCount = metrics.getDeletedRowCount();
+            try {
+                sessionDataStore.removeExpiredSessionData();
+            } finally {
+                setField(sessionDataStore, "deleteChunkSize", 50000);
+                setField(sessionDataStore, "deleteTimeBucketSize", 0L);
+                setField(sessionDataStore, "sqlDeleteExpiredDataTask", null);
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT SESSION_ID FROM IDN_AUTH_SESSION_STORE");
+                 ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertEquals(resultSet.getString(1), "active");
+                assertFalse(resultSet.next());
+            }
+            verify(IdentityDatabaseUtil.getSessionDBConnection(true), atLeastOnce())
+                    .prepareStatement(contains("COUNT(*)"));
+            assertTrue(metrics.getDeletedRowCount() - deletedRowCount >= 5);
+            assertEquals(metrics.getRemainingBacklog(), 0);
+            assertEquals(metrics.getCurrentTableName(), SessionDataStore.DEFAULT_SESSION_STORE_TABLE_NAME);
+            assertTrue(metrics.getMaxChunkDurationNanos() > 0);
         }
     }
 
+    private void setField(SessionDataStore sessionDataStore, String fieldName, Object value) throws Exception {
+
+        Field field = SessionDataStore.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(sessionDataStore, value);
+    }
+
     private void mockCarbonContext(MockedStatic<CarbonContext> carbonContext) {
 
         CarbonContext mockCarbonContext = mock(CarbonContext.class);
@@ -35,6 +35,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.JdbcUtils;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -320,6 +321,44 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
         cleanupTestData();
     }
 
+    @Test()
+    public void testRemoveExpiredSessionRecordsInPages() throws Exception {
+
+        mockIdentityDataBaseUtilConnection(getConnection(DB_NAME), true, mockedIdentityDatabaseUtil);
+        for (int i = 1; i <= 5; i++) {
+            createUserSessionMapping("user" + i, "expiredSession" + i);
+            addSessionMetadata("expiredSession" + i, "someTime");
+            createExpiringSession("expiredSession" + i, 1L);
+        }
+        createUserSessionMapping("user6", "activeSession");
+        addSessionMetadata("activeSession", "someTime");
+        createExpiringSession("activeSession", Long.MAX_VALUE);
+
+        Field deleteChunkSizeField = UserSessionStore.class.getDeclaredField("deleteChunkSize");
+        deleteChunkSizeField.setAccessible(true);
+        int deleteChunkSize = deleteChunkSizeField.getInt(UserSessionStore.getInstance());
+        TerminatedSessionPurgeMetrics purgeMetrics = TerminatedSessionPurgeMetrics.getInstance();
+        long pageCount = purgeMetrics.getPageCount();
+        try {
+            deleteChunkSizeField.setInt(UserSessionStore.getInstance(), 2);
+            UserSessionStore.getInstance().removeExpiredSessionRecords();
+        } finally {
+            deleteChunkSizeField.setInt(UserSessionStore.getInstance(), deleteChunkSize);
+        }
+
+        for (int i = 1; i <= 5; i++) {
+            Assert.assertEquals(countSessionRows("IDN_AUTH_USER_SESSION_MAPPING", "expiredSession" + i), 0);
+            Assert.assertEquals(countSessionRows("IDN_AUTH_SESSION_META_DATA", "expiredSession" + i), 0);
+        }
+        Assert.assertEquals(countSessionRows("IDN_AUTH_USER_SESSION_MAPPING", "activeSession"), 1);
+        Assert.assertEquals(countSessionRows("IDN_AUTH_SESSION_META_DATA", "activeSession"), 1);
+        Assert.assertEquals(purgeMetrics.getPageCount() - pageCount, 3);
+        Assert.assertEquals(purgeMetrics.getLastRunPurgedSessionCount(), 5);
+        Assert.assertEquals(purgeMetrics.getLastRunDeletedRowCount(), 10);
+        Assert.assertNull(purgeMetrics.getCheckpoint());
+        cleanupTestData();
+    }
+
     private void mockIdentityDataBaseUtilConnection(Connection connection, Boolean shouldApplyTransaction,
                                                     MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil)
             throws SQLException {
@@ -398,6 +437,38 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
         }
     }
 
+    private void createExpiringSession(String sessionId, long expiryTime) throws SQLException {
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            String sql = "INSERT INTO IDN_AUTH_SESSION_STORE (SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, " +
+                    "TENANT_ID, EXPIRY_TIME) VALUES (?, ?, ?, ?, ?, ?)";
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, sessionId);
+                stmt.setString(2, "AppAuthFrameworkSessionContextCache");
+                stmt.setString(3, "STORE");
+                stmt.setLong(4, System.currentTimeMillis());
+                stmt.setInt(5, TENANT_ID);
+                stmt.setLong(6, expiryTime);
+                stmt.executeUpdate();
+            }
+            connection.commit();
+        }
+    }
+
+    private int countSessionRows(String tableName, String sessionId) throws SQLException {
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            String sql = "SELECT COUNT(*) FROM " + tableName + " WHERE SESSION_ID = ?";
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, sessionId);
+                try (ResultSet resultSet = stmt.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getInt(1);
+                }
+            }
+        }
+    }
+
     private void addSessionMetadata(String sessionId, String value) throws SQLException {
 
         try (Connection connection = getConnection(DB_NAME)) {
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.central.log.mgt.internal;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
@@ -30,10 +31,24 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.central.log.mgt.hanlder.CentralLogger;
+import org.wso2.carbon.identity.central.log.mgt.utils.AsyncLogEventPublisher;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 
+import java.util.Locale;
+
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_PUBLISHING_BATCH_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_PUBLISHING_BLOCK_TIMEOUT;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_PUBLISHING_ENABLED;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_PUBLISHING_OVERFLOW_POLICY;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_PUBLISHING_QUEUE_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_PUBLISHING_SHUTDOWN_TIMEOUT;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_LOG_PUBLISHING_BATCH_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_LOG_PUBLISHING_BLOCK_TIMEOUT;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_LOG_PUBLISHING_QUEUE_SIZE;
+
 /**
  * OSGi declarative services component which handled activation and deactivation of central logger event handler.
  */
@@ -57,6 +72,9 @@ public class CentralLogMgtServiceComponent {
             log.debug("Central logger event handler is activated.");
         }
         LoggerUtils.getLogMaskingConfigValue();
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(ASYNC_LOG_PUBLISHING_ENABLED))) {
+            CentralLogMgtServiceComponentHolder.getInstance().setAsyncLogEventPublisher(createAsyncLogEventPublisher());
+        }
     }
 
     @Deactivate
@@ -65,12 +83,53 @@ public class CentralLogMgtServiceComponent {
         if (log.isDebugEnabled()) {
             log.debug("Central logger event handler is deactivated.");
         }
+        AsyncLogEventPublisher asyncLogEventPublisher =
+                CentralLogMgtServiceComponentHolder.getInstance().getAsyncLogEventPublisher();
+        if (asyncLogEventPublisher != null) {
+            CentralLogMgtServiceComponentHolder.getInstance().setAsyncLogEventPublisher(null);
+            asyncLogEventPublisher.shutdown(ASYNC_LOG_PUBLISHING_SHUTDOWN_TIMEOUT);
+        }
         // Unregistering Central logger event handler.
         if (serviceRegistration != null) {
             serviceRegistration.unregister();
         }
     }
 
+    private AsyncLogEventPublisher createAsyncLogEventPublisher() {
+
+        int queueSize = (int) getLongProperty(ASYNC_LOG_PUBLISHING_QUEUE_SIZE, DEFAULT_ASYNC_LOG_PUBLISHING_QUEUE_SIZE);
+        int batchSize = (int) getLongProperty(ASYNC_LOG_PUBLISHING_BATCH_SIZE, DEFAULT_ASYNC_LOG_PUBLISHING_BATCH_SIZE);
+        long blockTimeout = getLongProperty(ASYNC_LOG_PUBLISHING_BLOCK_TIMEOUT,
+                DEFAULT_ASYNC_LOG_PUBLISHING_BLOCK_TIMEOUT);
+        AsyncLogEventPublisher.OverflowPolicy overflowPolicy = AsyncLogEventPublisher.OverflowPolicy.BLOCK;
+        String overflowPolicyValue = IdentityUtil.getProperty(ASYNC_LOG_PUBLISHING_OVERFLOW_POLICY);
+        if (StringUtils.isNotBlank(overflowPolicyValue)) {
+            try {
+                overflowPolicy = AsyncLogEventPublisher.OverflowPolicy.valueOf(
+                        overflowPolicyValue.trim().toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid value: " + overflowPolicyValue + " for " + ASYNC_LOG_PUBLISHING_OVERFLOW_POLICY +
+                        ". Using the overflow policy: " + overflowPolicy);
+            }
+        }
+        return new AsyncLogEventPublisher(queueSize, batchSize, overflowPolicy, blockTimeout);
+    }
+
+    private long getLongProperty(String propertyName, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " for " + propertyName + ". Using the default value: " +
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
     @Reference(
             name = "identity.event.service",
             service = IdentityEventService.class,
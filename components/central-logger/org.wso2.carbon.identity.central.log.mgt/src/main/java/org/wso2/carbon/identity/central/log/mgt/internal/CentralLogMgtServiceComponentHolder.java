@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.central.log.mgt.internal;
 
+import org.wso2.carbon.identity.central.log.mgt.utils.AsyncLogEventPublisher;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 
 /**
@@ -38,6 +39,7 @@ public class CentralLogMgtServiceComponentHolder {
     }
 
     private IdentityEventService identityEventService;
+    private AsyncLogEventPublisher asyncLogEventPublisher;
 
     /**
      * Set identity event service.
@@ -58,4 +60,24 @@ public class CentralLogMgtServiceComponentHolder {
 
         return identityEventService;
     }
+
+    /**
+     * Set async log event publisher.
+     *
+     * @param asyncLogEventPublisher Async log event publisher.
+     */
+    public void setAsyncLogEventPublisher(AsyncLogEventPublisher asyncLogEventPublisher) {
+
+        this.asyncLogEventPublisher = asyncLogEventPublisher;
+    }
+
+    /**
+     * Return async log event publisher.
+     *
+     * @return Async log event publisher, or null if the log events are published synchronously.
+     */
+    public AsyncLogEventPublisher getAsyncLogEventPublisher() {
+
+        return asyncLogEventPublisher;
+    }
 }
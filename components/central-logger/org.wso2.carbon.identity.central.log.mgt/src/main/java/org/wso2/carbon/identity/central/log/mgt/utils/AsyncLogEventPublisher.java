@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.slf4j.MDC;
+import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.central.log.mgt.internal.CentralLogMgtServiceComponentHolder;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.services.IdentityEventService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes audit and diagnostic log events on a background thread. Log events are queued in a bounded queue
+ * together with the MDC and tenant context of the publishing thread, and the queued events are drained in batches
+ * and handled by the identity event service within the context they were published in. When the queue is full, the
+ * configured overflow policy decides whether the publisher waits for space or the event is dropped.
+ */
+public class AsyncLogEventPublisher {
+
+    private static final Log log = LogFactory.getLog(AsyncLogEventPublisher.class);
+    private static final long OVERFLOW_WARNING_INTERVAL = 1000;
+    private static final long STATISTICS_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * Behaviour when the queue is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Wait up to the block timeout for space in the queue, then publish the event on the publisher thread.
+         */
+        BLOCK,
+        /**
+         * Drop the event.
+         */
+        DROP
+    }
+
+    private final BlockingQueue<LogEventRecord> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final Thread worker;
+    private final AtomicLong publishedEventCount = new AtomicLong();
+    private final AtomicLong failedEventCount = new AtomicLong();
+    private final AtomicLong droppedEventCount = new AtomicLong();
+    private final AtomicLong callerRunsEventCount = new AtomicLong();
+    private final AtomicLong totalPublishLatencyNanos = new AtomicLong();
+    private final AtomicLong maxPublishLatencyNanos = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * Create and start an async log event publisher.
+     *
+     * @param queueCapacity      Maximum number of log events waiting to be published.
+     * @param batchSize          Maximum number of log events drained from the queue at once.
+     * @param overflowPolicy     Behaviour when the queue is full.
+     * @param blockTimeoutMillis Time to wait for space in a full queue with the BLOCK policy.
+     */
+    public AsyncLogEventPublisher(int queueCapacity, int batchSize, OverflowPolicy overflowPolicy,
+                                  long blockTimeoutMillis) {
+
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.worker = new Thread(this::drain, "CentralLogEventPublisher");
+        worker.setDaemon(true);
+        worker.start();
+        if (log.isDebugEnabled()) {
+            log.debug("Started async log event publisher with queue capacity " + queueCapacity + ", batch size " +
+                    batchSize + " and overflow policy " + overflowPolicy);
+        }
+    }
+
+    /**
+     * Queue the given log event to be published on the background thread.
+     *
+     * @param event Log event.
+     * @return False if the event could not be queued and should be published on the calling thread.
+     */
+    public boolean publish(Event event) {
+
+        if (!running) {
+            return false;
+        }
+        LogEventRecord record = new LogEventRecord(event);
+        if (queue.offer(record)) {
+            return isQueuedForWorker(record);
+        }
+
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            long droppedEvents = droppedEventCount.incrementAndGet();
+            if (isOverflowWarningDue(droppedEvents)) {
+                log.warn("Log event queue is full. " + droppedEvents + " log events have been dropped so far.");
+            } else if (log.isDebugEnabled()) {
+                log.debug("Log event queue is full. Dropped log event " + event.getEventName());
+            }
+            return true;
+        }
+        try {
+            if (queue.offer(record, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return isQueuedForWorker(record);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // The event could not be queued, hence it is published on the calling thread rather than being lost.
+        long callerRunsEvents = callerRunsEventCount.incrementAndGet();
+        if (isOverflowWarningDue(callerRunsEvents)) {
+            log.warn("Log event queue is full. " + callerRunsEvents + " log events have been published on the " +
+                    "calling thread so far.");
+        }
+        return false;
+    }
+
+    /**
+     * Check whether a queued log event will be picked up by the background thread. The publisher may have been shut
+     * down after the running check in {@link #publish(Event)}, in which case the worker may already have drained the
+     * queue and stopped. Such an event is taken back from the queue to be published on the calling thread.
+     *
+     * @param record Queued log event.
+     * @return False if the event was taken back from the queue and should be published on the calling thread.
+     */
+    private boolean isQueuedForWorker(LogEventRecord record) {
+
+        return running || !queue.remove(record);
+    }
+
+    /**
+     * Stop accepting log events, and wait for the queued log events to be published.
+     *
+     * @param timeoutMillis Maximum time to wait for the queued log events to be published.
+     */
+    public void shutdown(long timeoutMillis) {
+
+        running = false;
+        try {
+            worker.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn(queue.size() + " log events were not published before the log event publisher stopped.");
+        }
+        log.info("Stopped async log event publisher. " + getStatistics());
+    }
+
+    /**
+     * Returns the counters and latencies of the published log events, to be logged.
+     *
+     * @return Statistics of the log event publisher.
+     */
+    public String getStatistics() {
+
+        return "Published: " + getPublishedEventCount() + ", failed: " + getFailedEventCount() + ", dropped: " +
+                getDroppedEventCount() + ", published on the calling thread: " + getCallerRunsEventCount() +
+                ", queue depth: " + getQueueDepth() + ", average publish latency: " +
+                TimeUnit.NANOSECONDS.toMillis(getAveragePublishLatencyNanos()) + " ms, max publish latency: " +
+                TimeUnit.NANOSECONDS.toMillis(getMaxPublishLatencyNanos()) + " ms.";
+    }
+
+    private static boolean isOverflowWarningDue(long overflowedEvents) {
+
+        // Warn on the first overflow and periodically after, instead of on each log event.
+        return overflowedEvents == 1 || overflowedEvents % OVERFLOW_WARNING_INTERVAL == 0;
+    }
+
+    private void drain() {
+
+        List<LogEventRecord> batch = new ArrayList<>(batchSize);
+        long statisticsLoggedAtNanos = System.nanoTime();
+        while (running || !queue.isEmpty()) {
+            if (log.isDebugEnabled() && System.nanoTime() - statisticsLoggedAtNanos >= STATISTICS_LOG_INTERVAL_NANOS) {
+                log.debug("Async log event publisher statistics. " + getStatistics());
+                statisticsLoggedAtNanos = System.nanoTime();
+            }
+            try {
+                LogEventRecord record = queue.poll(1, TimeUnit.SECONDS);
+                if (record == null) {
+                    continue;
+                }
+                batch.add(record);
+                queue.drainTo(batch, batchSize - 1);
+                for (LogEventRecord batchRecord : batch) {
+                    handle(batchRecord);
+                }
+            } catch (InterruptedException e) {
+                log.error("Error while picking up log events from the log event queue", e);
+            } catch (Throwable e) {
+                // Keep the worker alive, as the log events queued after this would otherwise never be published.
+                log.error("Unexpected error while publishing log events from the log event queue", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void handle(LogEventRecord record) {
+
+        MDC.clear();
+        if (record.mdcContext != null) {
+            MDC.setContextMap(record.mdcContext);
+        }
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(record.tenantDomain);
+            carbonContext.setTenantId(record.tenantId);
+            IdentityEventService eventService =
+                    CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
+            if (eventService == null) {
+                failedEventCount.incrementAndGet();
+                log.error("Identity event service is not available. Unable to publish log event " +
+                        record.event.getEventName());
+                return;
+            }
+            eventService.handleEvent(record.event);
+            publishedEventCount.incrementAndGet();
+        } catch (Throwable e) {
+            failedEventCount.incrementAndGet();
+            log.error("Error occurred when firing the log event " + record.event.getEventName(), e);
+        } finally {
+            long latencyNanos = System.nanoTime() - record.queuedAtNanos;
+            totalPublishLatencyNanos.addAndGet(latencyNanos);
+            maxPublishLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+            PrivilegedCarbonContext.endTenantFlow();
+            MDC.clear();
+        }
+    }
+
+    /**
+     * Returns the number of log events waiting to be published.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+
+        return queue.size();
+    }
+
+    public long getPublishedEventCount() {
+
+        return publishedEventCount.get();
+    }
+
+    public long getFailedEventCount() {
+
+        return failedEventCount.get();
+    }
+
+    public long getDroppedEventCount() {
+
+        return droppedEventCount.get();
+    }
+
+    public long getCallerRunsEventCount() {
+
+        return callerRunsEventCount.get();
+    }
+
+    /**
+     * Returns the average time from queuing a log event until it is handled, over the handled log events.
+     *
+     * @return Average publish latency in nanoseconds.
+     */
+    public long getAveragePublishLatencyNanos() {
+
+        long handledEvents = publishedEventCount.get() + failedEventCount.get();
+        return handledEvents == 0 ? 0 : totalPublishLatencyNanos.get() / handledEvents;
+    }
+
+    public long getMaxPublishLatencyNanos() {
+
+        return maxPublishLatencyNanos.get();
+    }
+
+    private static final class LogEventRecord {
+
+        private final Event event;
+        private final Map<String, String> mdcContext;
+        private final String tenantDomain;
+        private final int tenantId;
+        private final long queuedAtNanos;
+
+        private LogEventRecord(Event event) {
+
+            CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+            this.event = event;
+            this.mdcContext = MDC.getCopyOfContextMap();
+            this.tenantDomain = carbonContext.getTenantDomain();
+            this.tenantId = carbonContext.getTenantId();
+            this.queuedAtNanos = System.nanoTime();
+        }
+    }
+}
@@ -37,6 +37,19 @@ public class LogConstants {
     public static final Pattern LOG_MASKING_PATTERN = Pattern.compile("(?<=.).(?=.)");
     public static final String LOGGABLE_USER_CLAIMS = "LoggableUserClaims.LoggableUserClaim";
 
+    /**
+     * Constants related to publishing audit and diagnostic logs asynchronously.
+     */
+    public static final String ASYNC_LOG_PUBLISHING_ENABLED = "CentralLogger.AsyncPublishing.Enabled";
+    public static final String ASYNC_LOG_PUBLISHING_QUEUE_SIZE = "CentralLogger.AsyncPublishing.QueueSize";
+    public static final String ASYNC_LOG_PUBLISHING_BATCH_SIZE = "CentralLogger.AsyncPublishing.BatchSize";
+    public static final String ASYNC_LOG_PUBLISHING_OVERFLOW_POLICY = "CentralLogger.AsyncPublishing.OverflowPolicy";
+    public static final String ASYNC_LOG_PUBLISHING_BLOCK_TIMEOUT = "CentralLogger.AsyncPublishing.BlockTimeout";
+    public static final int DEFAULT_ASYNC_LOG_PUBLISHING_QUEUE_SIZE = 10000;
+    public static final int DEFAULT_ASYNC_LOG_PUBLISHING_BATCH_SIZE = 100;
+    public static final long DEFAULT_ASYNC_LOG_PUBLISHING_BLOCK_TIMEOUT = 100;
+    public static final long ASYNC_LOG_PUBLISHING_SHUTDOWN_TIMEOUT = 5000;
+
 
     /**
      * Define common and reusable Input keys for diagnostic logs.
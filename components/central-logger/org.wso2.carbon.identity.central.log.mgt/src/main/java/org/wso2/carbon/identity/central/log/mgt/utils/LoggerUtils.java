@@ -46,9 +46,12 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ApplicationManagement.CONSOLE_APP_NAME;
@@ -72,6 +75,8 @@ public class LoggerUtils {
 
     private static final Gson GSON = new Gson();
 
+    private static volatile LoggableClaims loggableClaims;
+
     /**
      * Defines the Initiators of the logs.
      */
@@ -106,11 +111,9 @@ public class LoggerUtils {
             }
             AuditLog auditLog = auditLogBuilder.build();
             if (isEnableV2AuditLogs()) {
-                IdentityEventService eventMgtService =
-                        CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
                 Event auditEvent =
                         new Event(PUBLISH_AUDIT_LOG, Map.of(CarbonConstants.LogEventConstants.AUDIT_LOG, auditLog));
-                eventMgtService.handleEvent(auditEvent);
+                publishLogEvent(auditEvent);
             } else {
                 CarbonConstants.AUDIT_LOG.info(
                         String.format(CarbonConstants.AUDIT_MESSAGE, auditLog.getInitiatorId(), auditLog.getAction(),
@@ -157,14 +160,12 @@ public class LoggerUtils {
             String flowId = MDC.get(FLOW_ID_MDC);
             DiagnosticLog diagnosticLog = new DiagnosticLog(id, recordedAt, requestId, flowId, resultStatus,
                     resultMessage, actionId, componentId, input, configurations);
-            IdentityEventService eventMgtService =
-                    CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.DIAGNOSTIC_LOG, diagnosticLog);
             int tenantId =
                     IdentityTenantUtil.getTenantId(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, tenantId);
             Event diagnosticLogEvent = new Event(PUBLISH_DIAGNOSTIC_LOG, diagnosticLogProperties);
-            eventMgtService.handleEvent(diagnosticLogEvent);
+            publishLogEvent(diagnosticLogEvent);
         } catch (IdentityEventException e) {
             String errorLog = "Error occurred when firing the diagnostic log event.";
             log.error(errorLog, e);
@@ -186,18 +187,35 @@ public class LoggerUtils {
             if (isConsoleApp(diagnosticLog)) {
                 return;
             }
-            IdentityEventService eventMgtService =
-                    CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.DIAGNOSTIC_LOG, diagnosticLog);
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, resolveTenantId());
             Event diagnosticLogEvent = new Event(PUBLISH_DIAGNOSTIC_LOG, diagnosticLogProperties);
-            eventMgtService.handleEvent(diagnosticLogEvent);
+            publishLogEvent(diagnosticLogEvent);
         } catch (IdentityEventException e) {
             String errorLog = "Error occurred when firing the diagnostic log event.";
             log.error(errorLog, e);
         }
     }
 
+    /**
+     * Publish the log event through the async log event publisher if asynchronous log publishing is enabled, and
+     * through the identity event service otherwise.
+     *
+     * @param logEvent Audit or diagnostic log event.
+     * @throws IdentityEventException If an error occurs while handling the event on the calling thread.
+     */
+    private static void publishLogEvent(Event logEvent) throws IdentityEventException {
+
+        AsyncLogEventPublisher asyncLogEventPublisher =
+                CentralLogMgtServiceComponentHolder.getInstance().getAsyncLogEventPublisher();
+        if (asyncLogEventPublisher != null && asyncLogEventPublisher.publish(logEvent)) {
+            return;
+        }
+        IdentityEventService eventMgtService =
+                CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
+        eventMgtService.handleEvent(logEvent);
+    }
+
     /**
      * Resolves the tenant id
      *
@@ -264,10 +282,39 @@ public class LoggerUtils {
      */
     public static String getMaskedContent(String content) {
 
-        if (StringUtils.isNotEmpty(content)) {
-            return LogConstants.LOG_MASKING_PATTERN.matcher(content).replaceAll(LogConstants.MASKING_CHARACTER);
+        if (StringUtils.isEmpty(content)) {
+            return content;
         }
-        return content;
+        /* Masks every character which has a character before and after it on the same line, giving the same output
+         as replacing the matches of LOG_MASKING_PATTERN with the masking character. */
+        int length = content.length();
+        char[] maskedContent = null;
+        for (int i = 0; i < length; i++) {
+            if (Character.isSurrogate(content.charAt(i))) {
+                // The pattern matches a supplementary character as a whole, hence such content is masked with it.
+                return LogConstants.LOG_MASKING_PATTERN.matcher(content).replaceAll(LogConstants.MASKING_CHARACTER);
+            }
+            if (i > 0 && i < length - 1 && !isLineTerminator(content.charAt(i - 1)) &&
+                    !isLineTerminator(content.charAt(i)) && !isLineTerminator(content.charAt(i + 1))) {
+                if (maskedContent == null) {
+                    maskedContent = content.toCharArray();
+                }
+                maskedContent[i] = LogConstants.MASKING_CHARACTER.charAt(0);
+            }
+        }
+        return maskedContent == null ? content : new String(maskedContent);
+    }
+
+    /**
+     * Check whether the character is a line terminator, which is not matched by the '.' of a pattern.
+     *
+     * @param character Character.
+     * @return True if the character is a line terminator.
+     */
+    private static boolean isLineTerminator(char character) {
+
+        return character == '\n' || character == '\r' || character == '\u0085' || character == '\u2028' ||
+                character == '\u2029';
     }
 
     /**
@@ -279,7 +326,7 @@ public class LoggerUtils {
     public static Map<String, String> getMaskedClaimsMap(Map<String, String> claims) {
 
         Map<String, String> maskedClaims = new HashMap<>();
-        List<String> loggableClaims = getLoggableClaimURIs();
+        Set<String> loggableClaims = getLoggableClaimURISet();
         if (MapUtils.isNotEmpty(claims)) {
             for (Map.Entry<String, String> entry : claims.entrySet()) {
                 if (LogConstants.USER_ID_CLAIM_URI.equals(entry.getKey()) || loggableClaims.contains(entry.getKey())) {
@@ -301,7 +348,7 @@ public class LoggerUtils {
      */
     public static String getMaskedClaimValue(String claimURI, String claimValue) {
 
-        List<String> loggableClaims = getLoggableClaimURIs();
+        Set<String> loggableClaims = getLoggableClaimURISet();
         if (LogConstants.USER_ID_CLAIM_URI.equals(claimURI) || loggableClaims.contains(claimURI)) {
             return claimValue;
         }
@@ -382,7 +429,28 @@ public class LoggerUtils {
      */
     public static List<String> getLoggableClaimURIs() {
 
+        return getLoggableClaimURIs(IdentityConfigParser.getInstance().getConfiguration().get(LOGGABLE_USER_CLAIMS));
+    }
+
+    /**
+     * Get the loggable claim uris. The set is built once per loggable claims configuration value, and built again
+     * when the configuration value changes.
+     *
+     * @return unmodifiable set of loggable claim uris.
+     */
+    private static Set<String> getLoggableClaimURISet() {
+
         Object configValue = IdentityConfigParser.getInstance().getConfiguration().get(LOGGABLE_USER_CLAIMS);
+        LoggableClaims currentLoggableClaims = loggableClaims;
+        if (currentLoggableClaims == null || !currentLoggableClaims.isBuiltFrom(configValue)) {
+            currentLoggableClaims = new LoggableClaims(configValue);
+            loggableClaims = currentLoggableClaims;
+        }
+        return currentLoggableClaims.claimURIs;
+    }
+
+    private static List<String> getLoggableClaimURIs(Object configValue) {
+
         List<String> claimsFilters = new ArrayList<>();
         if (configValue instanceof ArrayList) {
             claimsFilters = (ArrayList) configValue;
@@ -431,4 +499,32 @@ public class LoggerUtils {
         }
         return false;
     }
+
+    /**
+     * Loggable claim uris built from a loggable claims configuration value.
+     */
+    private static final class LoggableClaims {
+
+        private final Object configValue;
+        private final int configValueSize;
+        private final Set<String> claimURIs;
+
+        private LoggableClaims(Object configValue) {
+
+            this.configValue = configValue;
+            this.configValueSize = getSize(configValue);
+            this.claimURIs = Collections.unmodifiableSet(new HashSet<>(getLoggableClaimURIs(configValue)));
+        }
+
+        private boolean isBuiltFrom(Object configValue) {
+
+            // List values of the configuration are only extended in place, hence the size reveals such changes.
+            return this.configValue == configValue && configValueSize == getSize(configValue);
+        }
+
+        private static int getSize(Object configValue) {
+
+            return configValue instanceof List ? ((List<?>) configValue).size() : 0;
+        }
+    }
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.utils;
+
+import org.slf4j.MDC;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.central.log.mgt.internal.CentralLogMgtServiceComponentHolder;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.services.IdentityEventService;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AsyncLogEventPublisher}.
+ */
+@WithCarbonHome
+public class AsyncLogEventPublisherTest {
+
+    private static final String CORRELATION_ID_MDC = "Correlation-ID";
+    private static final String FOO_TENANT_DOMAIN = "foo.com";
+    private static final int FOO_TENANT_ID = 1;
+    private static final long TIMEOUT_MILLIS = 10000;
+    private static final String ERROR_EVENT_NAME = "error";
+
+    private RecordingEventService eventService;
+    private AsyncLogEventPublisher publisher;
+
+    @BeforeMethod
+    public void setUp() {
+
+        eventService = new RecordingEventService();
+        CentralLogMgtServiceComponentHolder.getInstance().setIdentityEventService(eventService);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        eventService.release();
+        if (publisher != null) {
+            publisher.shutdown(TIMEOUT_MILLIS);
+        }
+        CentralLogMgtServiceComponentHolder.getInstance().setIdentityEventService(null);
+        MDC.clear();
+    }
+
+    @Test
+    public void testDropOverflowPolicy() throws Exception {
+
+        publisher = new AsyncLogEventPublisher(1, 10, AsyncLogEventPublisher.OverflowPolicy.DROP, 0);
+        fillQueue();
+
+        // The queue is full, hence the event is dropped and is not published on the calling thread.
+        assertTrue(publisher.publish(new Event("dropped")));
+        assertEquals(publisher.getDroppedEventCount(), 1);
+        assertEquals(publisher.getCallerRunsEventCount(), 0);
+
+        eventService.release();
+        publisher.shutdown(TIMEOUT_MILLIS);
+        assertEquals(eventService.getEventNames().size(), 2);
+        assertFalse(eventService.getEventNames().contains("dropped"));
+        assertEquals(publisher.getPublishedEventCount(), 2);
+    }
+
+    @Test
+    public void testBlockOverflowPolicy() throws Exception {
+
+        publisher = new AsyncLogEventPublisher(1, 10, AsyncLogEventPublisher.OverflowPolicy.BLOCK, 100);
+        fillQueue();
+
+        // The queue stays full for the block timeout, hence the event is handed back to the calling thread.
+        long startTime = System.nanoTime();
+        assertFalse(publisher.publish(new Event("callerRuns")));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) >= 100);
+        assertEquals(publisher.getCallerRunsEventCount(), 1);
+        assertEquals(publisher.getDroppedEventCount(), 0);
+
+        eventService.release();
+        publisher.shutdown(TIMEOUT_MILLIS);
+        assertEquals(eventService.getEventNames().size(), 2);
+        assertFalse(eventService.getEventNames().contains("callerRuns"));
+    }
+
+    @Test
+    public void testBlockOverflowPolicyQueuesEventWhenSpaceIsFreed() throws Exception {
+
+        publisher = new AsyncLogEventPublisher(1, 10, AsyncLogEventPublisher.OverflowPolicy.BLOCK, TIMEOUT_MILLIS);
+        fillQueue();
+
+        Thread releaser = releaseEventServiceLater();
+        assertTrue(publisher.publish(new Event("blocked")));
+        releaser.join();
+
+        publisher.shutdown(TIMEOUT_MILLIS);
+        assertEquals(eventService.getEventNames().size(), 3);
+        assertTrue(eventService.getEventNames().contains("blocked"));
+        assertEquals(publisher.getCallerRunsEventCount(), 0);
+    }
+
+    @Test
+    public void testContextHandOffToWorker() throws Exception {
+
+        eventService.release();
+        publisher = new AsyncLogEventPublisher(10, 10, AsyncLogEventPublisher.OverflowPolicy.BLOCK, 0);
+        MDC.put(CORRELATION_ID_MDC, "correlation-1");
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(FOO_TENANT_DOMAIN);
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(FOO_TENANT_ID);
+            assertTrue(publisher.publish(new Event("withContext")));
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        MDC.clear();
+        assertTrue(publisher.publish(new Event("withoutContext")));
+
+        publisher.shutdown(TIMEOUT_MILLIS);
+        assertEquals(eventService.getEventNames().size(), 2);
+        assertEquals(eventService.getCorrelationIds().get(0), "correlation-1");
+        assertEquals(eventService.getTenantDomains().get(0), FOO_TENANT_DOMAIN);
+        assertEquals(eventService.getTenantIds().get(0).intValue(), FOO_TENANT_ID);
+        // The context of an event does not leak into the events published after it.
+        assertNull(eventService.getCorrelationIds().get(1));
+        assertFalse(FOO_TENANT_DOMAIN.equals(eventService.getTenantDomains().get(1)));
+    }
+
+    @Test
+    public void testShutdownDrainsQueuedEvents() throws Exception {
+
+        publisher = new AsyncLogEventPublisher(10, 2, AsyncLogEventPublisher.OverflowPolicy.BLOCK, 0);
+        assertTrue(publisher.publish(new Event("event-0")));
+        assertTrue(eventService.awaitHandling());
+        for (int i = 1; i < 5; i++) {
+            assertTrue(publisher.publish(new Event("event-" + i)));
+        }
+        assertEquals(publisher.getQueueDepth(), 4);
+
+        // The worker is released only after the shutdown has stopped accepting events.
+        Thread releaser = releaseEventServiceLater();
+        publisher.shutdown(TIMEOUT_MILLIS);
+        releaser.join();
+        assertEquals(publisher.getQueueDepth(), 0);
+        assertEquals(publisher.getPublishedEventCount(), 5);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(eventService.getEventNames().get(i), "event-" + i);
+        }
+        // Events published after the shutdown are handed back to the calling thread.
+        assertFalse(publisher.publish(new Event("afterShutdown")));
+    }
+
+    @Test
+    public void testWorkerSurvivesErrorsOfEventHandlers() throws Exception {
+
+        eventService.release();
+        publisher = new AsyncLogEventPublisher(10, 10, AsyncLogEventPublisher.OverflowPolicy.BLOCK, 0);
+        assertTrue(publisher.publish(new Event(ERROR_EVENT_NAME)));
+        assertTrue(publisher.publish(new Event("afterError")));
+
+        publisher.shutdown(TIMEOUT_MILLIS);
+        assertEquals(publisher.getFailedEventCount(), 1);
+        assertEquals(publisher.getPublishedEventCount(), 1);
+        assertEquals(eventService.getEventNames().size(), 1);
+        assertEquals(eventService.getEventNames().get(0), "afterError");
+    }
+
+    private Thread releaseEventServiceLater() {
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            eventService.release();
+        });
+        releaser.start();
+        return releaser;
+    }
+
+    /**
+     * Occupy the worker with one event and the queue of capacity one with another.
+     */
+    private void fillQueue() throws InterruptedException {
+
+        assertTrue(publisher.publish(new Event("handling")));
+        assertTrue(eventService.awaitHandling());
+        assertTrue(publisher.publish(new Event("queued")));
+        assertEquals(publisher.getQueueDepth(), 1);
+    }
+
+    /**
+     * Event service which records the context the events are handled in, and holds the worker on the first event
+     * until released. Events named "error" fail with an error.
+     */
+    private static class RecordingEventService implements IdentityEventService {
+
+        private final CountDownLatch handling = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final List<String> eventNames = new CopyOnWriteArrayList<>();
+        private final List<String> correlationIds = new CopyOnWriteArrayList<>();
+        private final List<String> tenantDomains = new CopyOnWriteArrayList<>();
+        private final List<Integer> tenantIds = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void handleEvent(Event event) {
+
+            handling.countDown();
+            try {
+                released.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (ERROR_EVENT_NAME.equals(event.getEventName())) {
+                throw new LinkageError("Mocked error");
+            }
+            CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+            correlationIds.add(MDC.get(CORRELATION_ID_MDC));
+            tenantDomains.add(carbonContext.getTenantDomain());
+            tenantIds.add(carbonContext.getTenantId());
+            eventNames.add(event.getEventName());
+        }
+
+        boolean awaitHandling() throws InterruptedException {
+
+            return handling.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        void release() {
+
+            released.countDown();
+        }
+
+        List<String> getEventNames() {
+
+            return eventNames;
+        }
+
+        List<String> getCorrelationIds() {
+
+            return correlationIds;
+        }
+
+        List<String> getTenantDomains() {
+
+            return tenantDomains;
+        }
+
+        List<Integer> getTenantIds() {
+
+            return tenantIds;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.utils;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link LoggerUtils}.
+ */
+public class LoggerUtilsTest {
+
+    private static final char[] CONTENT_CHARACTERS = {'a', 'Z', '7', ' ', '*', '\t', '\u00e9', '\n', '\r',
+            '\u0085', '\u2028', '\u2029'};
+    private static final String SUPPLEMENTARY_CHARACTER = "\uD83D\uDE00";
+
+    @DataProvider
+    public Object[][] maskedContentData() {
+
+        return new Object[][]{
+                {null, null},
+                {"", ""},
+                {"a", "a"},
+                {"ab", "ab"},
+                {"abc", "a*c"},
+                {"john.doe@example.com", "j******************m"},
+                {"first line\nsecond", "f********e\ns****d"},
+                {"a\r\nb", "a\r\nb"},
+                {"ab" + SUPPLEMENTARY_CHARACTER + "cd", "a***d"}
+        };
+    }
+
+    @Test(dataProvider = "maskedContentData")
+    public void testGetMaskedContent(String content, String expectedMaskedContent) {
+
+        assertEquals(LoggerUtils.getMaskedContent(content), expectedMaskedContent);
+    }
+
+    @Test
+    public void testGetMaskedContentMatchesMaskingPattern() {
+
+        Random random = new Random(20261017L);
+        for (int i = 0; i < 100000; i++) {
+            StringBuilder content = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                content.append(CONTENT_CHARACTERS[random.nextInt(CONTENT_CHARACTERS.length)]);
+            }
+            if (random.nextInt(20) == 0) {
+                content.insert(random.nextInt(content.length() + 1), SUPPLEMENTARY_CHARACTER);
+            }
+            String expectedMaskedContent = LogConstants.LOG_MASKING_PATTERN.matcher(content)
+                    .replaceAll(LogConstants.MASKING_CHARACTER);
+            assertEquals(LoggerUtils.getMaskedContent(content.toString()), expectedMaskedContent,
+                    "Masked content differs for: " + content);
+        }
+    }
+}
@@ -16,20 +16,17 @@
 
 package org.wso2.carbon.identity.claim.metadata.mgt;
 
-import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.identity.claim.metadata.mgt.cache.AssociatedClaimCache;
-import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectCache;
-import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCache;
-import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCacheKey;
-import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimMetadataSnapshot;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimMetadataSnapshotCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.internal.IdentityClaimManagementServiceDataHolder;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
@@ -37,56 +34,47 @@ import org.wso2.carbon.identity.organization.management.service.util.Utils;
 import org.wso2.carbon.user.api.UserStoreException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Unified claim metadata manager which serves the claim metadata of a tenant from a cached
+ * {@link ClaimMetadataSnapshot}. Any change to the claim metadata of a tenant invalidates the snapshots of the tenant
+ * and its child organizations, and the next read builds a new snapshot.
+ */
 public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadataManager {
 
     private static final Log log = LogFactory.getLog(CacheBackedUnifiedClaimMetadataManager.class);
 
-    ClaimDialectCache claimDialectCache = ClaimDialectCache.getInstance();
-    LocalClaimCache localClaimCache = LocalClaimCache.getInstance();
-    ExternalClaimCache externalClaimCache = ExternalClaimCache.getInstance();
-    AssociatedClaimCache associatedClaimCache = AssociatedClaimCache.getInstance();
+    ClaimMetadataSnapshotCache claimMetadataSnapshotCache = ClaimMetadataSnapshotCache.getInstance();
+    private final Map<Integer, CompletableFuture<ClaimMetadataSnapshot>> inFlightSnapshotBuilds =
+            new ConcurrentHashMap<>();
 
     @Override
     public List<ClaimDialect> getClaimDialects(int tenantId) throws ClaimMetadataException {
 
-        List<ClaimDialect> claimDialectList = claimDialectCache.getClaimDialects(tenantId);
-        if (claimDialectList != null && !claimDialectList.isEmpty()) {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache hit for claim dialect list for tenant: " + tenantId + ". Claim dialect list size: "
-                        + claimDialectList.size());
-            }
-            return claimDialectList;
-        }
-
-        claimDialectList = super.getClaimDialects(tenantId);
-        claimDialectCache.putClaimDialects(tenantId, claimDialectList);
-
-        if (log.isDebugEnabled()) {
-            log.debug("Cache miss for claim dialect list for tenant: " + tenantId + ". Updated cache with claim " +
-                    "dialect list. Claim dialect list size: " + claimDialectList.size());
-        }
-        return claimDialectList;
+        return new ArrayList<>(getClaimMetadataSnapshot(tenantId).getClaimDialects());
     }
 
     @Override
     public Optional<ClaimDialect> getClaimDialect(String claimDialectURI, int tenantId) throws ClaimMetadataException {
 
-        return getClaimDialects(tenantId).stream()
-                .filter(claimDialect -> claimDialectURI.equals(claimDialect.getClaimDialectURI()))
-                .findFirst();
+        return getClaimMetadataSnapshot(tenantId).getClaimDialect(claimDialectURI);
     }
 
     @Override
     public void addClaimDialect(ClaimDialect claimDialect, int tenantId) throws ClaimMetadataException {
 
         super.addClaimDialect(claimDialect, tenantId);
-        removeClaimDialectCache(tenantId);
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + claimDialect.getClaimDialectURI() + " is added for tenant: " + tenantId +
-                    ". Invalidated ClaimDialectCache.");
+                    ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
@@ -95,12 +83,11 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
             throws ClaimMetadataException {
 
         super.renameClaimDialect(oldClaimDialect, newClaimDialect, tenantId);
-        removeClaimDialectCache(tenantId);
-        removeExternalClaimCache(oldClaimDialect.getClaimDialectURI(), tenantId);
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + oldClaimDialect.getClaimDialectURI() + " is renamed to new claim dialect: "
                     + newClaimDialect.getClaimDialectURI() + " for tenant: " + tenantId + ". Invalidated " +
-                    "ClaimDialectCache." );
+                    "ClaimMetadataSnapshotCache." );
         }
 
     }
@@ -109,50 +96,33 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void removeClaimDialect(ClaimDialect claimDialect, int tenantId) throws ClaimMetadataException {
 
         super.removeClaimDialect(claimDialect, tenantId);
-        removeClaimDialectCache(tenantId);
-        removeExternalClaimCache(claimDialect.getClaimDialectURI(), tenantId);
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + claimDialect.getClaimDialectURI() + " is removed for tenant: " + tenantId +
-                    ". Invalidated ClaimDialectCache.");
+                    ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
     @Override
     public List<LocalClaim> getLocalClaims(int tenantId) throws ClaimMetadataException {
 
-        List<LocalClaim> localClaimList = localClaimCache.getValueFromCache(tenantId, tenantId);
-
-        if (localClaimList == null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache miss for local claim list for tenant: " + tenantId);
-            }
-            localClaimList = super.getLocalClaims(tenantId);
-            localClaimCache.addToCache(tenantId, new ArrayList<>(localClaimList), tenantId);
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache hit for local claim list for tenant: " + tenantId);
-            }
-        }
-
-        return localClaimList;
+        return new ArrayList<>(getClaimMetadataSnapshot(tenantId).getLocalClaims());
     }
 
     @Override
     public Optional<LocalClaim> getLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
-        return getLocalClaims(tenantId).stream()
-                .filter(localClaim -> localClaimURI.equals(localClaim.getClaimURI()))
-                .findFirst();
+        return getClaimMetadataSnapshot(tenantId).getLocalClaim(localClaimURI);
     }
 
     @Override
     public void addLocalClaim(LocalClaim localClaim, int tenantId) throws ClaimMetadataException {
 
         super.addLocalClaim(localClaim, tenantId);
-        removeLocalClaimCache(tenantId);
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is added for tenant: " + tenantId +
-                    ". Invalidated LocalClaimCache.");
+                    ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
@@ -160,14 +130,10 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void updateLocalClaim(LocalClaim localClaim, int tenantId) throws ClaimMetadataException {
 
         super.updateLocalClaim(localClaim, tenantId);
-        List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
-        for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            localClaimCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
-            associatedClaimCache.clearCacheEntry(localClaim.getClaimURI(), tenantIdToBeInvalidated);
-        }
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is updated in tenant: " + tenantId +
-                    ". Invalidated LocalClaimCache.");
+                    ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
@@ -176,10 +142,10 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
             throws ClaimMetadataException {
 
         super.updateLocalClaimMappings(localClaimList, tenantId, userStoreDomain);
-        removeLocalClaimCache(tenantId);
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim mappings for user-store domain: " + userStoreDomain + " is updated in tenant: " +
-                    tenantId + ". Invalidated LocalClaimCache.");
+                    tenantId + ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
@@ -187,14 +153,10 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void removeLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
         super.removeLocalClaim(localClaimURI, tenantId);
-        List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
-        for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            localClaimCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
-            associatedClaimCache.clearCacheEntry(localClaimURI, tenantIdToBeInvalidated);
-        }
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaimURI + " is deleted in tenant: " + tenantId +
-                    ". Invalidated LocalClaimCache.");
+                    ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
@@ -202,33 +164,22 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public List<ExternalClaim> getExternalClaims(String externalClaimDialectURI, int tenantId)
             throws ClaimMetadataException {
 
-        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
-        List<ExternalClaim> externalClaimList = externalClaimCache.getValueFromCache(cacheKey, tenantId);
-
-        if (externalClaimList == null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache miss for external claim list for dialect: " + externalClaimDialectURI + " in tenant: " +
-                        tenantId);
-            }
-            externalClaimList = super.getExternalClaims(externalClaimDialectURI, tenantId);
-            externalClaimCache.addToCache(cacheKey, new ArrayList<>(externalClaimList), tenantId);
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache hit for external claim list for dialect: " + externalClaimDialectURI + " in tenant: " +
-                        tenantId);
-            }
+        ClaimMetadataSnapshot claimMetadataSnapshot = getClaimMetadataSnapshot(tenantId);
+        if (!claimMetadataSnapshot.containsExternalClaimDialect(externalClaimDialectURI)) {
+            return super.getExternalClaims(externalClaimDialectURI, tenantId);
         }
-
-        return externalClaimList;
+        return new ArrayList<>(claimMetadataSnapshot.getExternalClaims(externalClaimDialectURI));
     }
 
     @Override
     public Optional<ExternalClaim> getExternalClaim(String externalClaimDialectURI, String externalClaimURI,
                                                     int tenantId) throws ClaimMetadataException {
 
-        return getExternalClaims(externalClaimDialectURI, tenantId).stream()
-                .filter(externalClaim -> externalClaimURI.equals(externalClaim.getClaimURI()))
-                .findFirst();
+        ClaimMetadataSnapshot claimMetadataSnapshot = getClaimMetadataSnapshot(tenantId);
+        if (!claimMetadataSnapshot.containsExternalClaimDialect(externalClaimDialectURI)) {
+            return super.getExternalClaim(externalClaimDialectURI, externalClaimURI, tenantId);
+        }
+        return claimMetadataSnapshot.getExternalClaim(externalClaimDialectURI, externalClaimURI);
     }
 
     @Override
@@ -236,15 +187,10 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
             throws ClaimMetadataException {
 
         super.addExternalClaim(externalClaim, tenantId);
-        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaim.getClaimDialectURI());
-        List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
-        for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            externalClaimCache.clearCacheEntry(cacheKey, tenantIdToBeInvalidated);
-            associatedClaimCache.clearCacheEntry(externalClaim.getMappedLocalClaim(), tenantIdToBeInvalidated);
-        }
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaim.getClaimDialectURI() + ":" + externalClaim.getClaimURI() +
-                    " is added for tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
+                    " is added for tenant: " + tenantId + ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
@@ -253,15 +199,10 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
             throws ClaimMetadataException {
 
         super.updateExternalClaim(externalClaim, tenantId);
-        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaim.getClaimDialectURI());
-        List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
-        for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            externalClaimCache.clearCacheEntry(cacheKey, tenantIdToBeInvalidated);
-            associatedClaimCache.clearCacheEntry(externalClaim.getMappedLocalClaim(), tenantIdToBeInvalidated);
-        }
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaim.getClaimDialectURI() + ":" + externalClaim.getClaimURI() +
-                    " is updated in tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
+                    " is updated in tenant: " + tenantId + ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
@@ -269,27 +210,11 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void removeExternalClaim(String externalClaimDialectURI, String externalClaimURI, int tenantId)
             throws ClaimMetadataException {
 
-        List<ExternalClaim> externalClaimsList = getExternalClaims(externalClaimDialectURI, tenantId);
-        String mappedLocalClaim = null;
-        if (externalClaimsList != null) {
-            for (ExternalClaim externalClaim : externalClaimsList) {
-                if (externalClaim.getClaimURI().equals(externalClaimURI)) {
-                    mappedLocalClaim = externalClaim.getMappedLocalClaim();
-                }
-            }
-        }
         super.removeExternalClaim(externalClaimDialectURI, externalClaimURI, tenantId);
-        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
-        List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
-        for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            externalClaimCache.clearCacheEntry(cacheKey, tenantIdToBeInvalidated);
-            if (StringUtils.isNotBlank(mappedLocalClaim)) {
-                associatedClaimCache.clearCacheEntry(mappedLocalClaim, tenantIdToBeInvalidated);
-            }
-        }
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaimDialectURI + ":" + externalClaimURI +
-                    " is deleted in tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
+                    " is deleted in tenant: " + tenantId + ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
@@ -297,10 +222,10 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void removeClaimMappingAttributes(int tenantId, String userstoreDomain) throws ClaimMetadataException {
 
         super.removeClaimMappingAttributes(tenantId, userstoreDomain);
-        removeLocalClaimCache(tenantId);
+        removeClaimMetadataSnapshot(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim mappings for user-store domain: " + userstoreDomain + " is removed in tenant: " +
-                    tenantId + ". Invalidated LocalClaimCache.");
+                    tenantId + ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
@@ -308,79 +233,126 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void removeAllClaimDialects(int tenantId) throws ClaimMetadataException {
 
         super.removeAllClaimDialects(tenantId);
-        claimDialectCache.clearClaimDialects(tenantId);
-        localClaimCache.clear(tenantId);
-        externalClaimCache.clear(tenantId);
-        associatedClaimCache.clear(tenantId);
+        inFlightSnapshotBuilds.remove(tenantId);
+        claimMetadataSnapshotCache.clear(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("All claim dialects are removed for tenant: " + tenantId +
-                    ". Invalidated ClaimDialectCache, LocalClaimCache and ExternalClaimCache.");
+                    ". Invalidated ClaimMetadataSnapshotCache.");
         }
     }
 
     @Override
     public List<Claim> getMappedExternalClaims(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
-        List<Claim> associatedLocalClaims = associatedClaimCache.getValueFromCache(localClaimURI, tenantId);
-        if (associatedLocalClaims == null) {
+        return new ArrayList<>(getClaimMetadataSnapshot(tenantId).getMappedExternalClaims(localClaimURI));
+    }
+
+    @Override
+    public boolean isMappedLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
+
+        return getClaimMetadataSnapshot(tenantId).isMappedLocalClaim(localClaimURI);
+    }
+
+    /**
+     * Gets the claim metadata snapshot of the given tenant, building and caching it if it is not cached. For
+     * organizations, the snapshot holds the claim metadata merged across the organization hierarchy, hence the
+     * snapshot of an organization is also invalidated when the claim metadata of any of its ancestors change,
+     * through {@link #getOrganizationsToBeInvalidated(int)}. Concurrent cache misses of the same tenant wait for a
+     * single build of the snapshot.
+     *
+     * @param tenantId The id of the tenant for which the claim metadata is to be retrieved.
+     * @return The claim metadata snapshot of the tenant.
+     * @throws ClaimMetadataException If an error occurs while retrieving the claim metadata.
+     */
+    private ClaimMetadataSnapshot getClaimMetadataSnapshot(int tenantId) throws ClaimMetadataException {
+
+        ClaimMetadataSnapshot claimMetadataSnapshot = claimMetadataSnapshotCache.getValueFromCache(tenantId,
+                tenantId);
+        if (claimMetadataSnapshot != null) {
             if (log.isDebugEnabled()) {
-                log.debug(String.format("Cache miss for associated claims of local claim:%s in tenant:%s ",
-                        localClaimURI, tenantId));
+                log.debug("Cache hit for claim metadata snapshot for tenant: " + tenantId);
             }
-            associatedLocalClaims = super.getMappedExternalClaims(localClaimURI, tenantId);
-            associatedClaimCache.addToCache(localClaimURI, new ArrayList<>(associatedLocalClaims), tenantId);
-        } else {
+            return claimMetadataSnapshot;
+        }
+
+        CompletableFuture<ClaimMetadataSnapshot> build = new CompletableFuture<>();
+        CompletableFuture<ClaimMetadataSnapshot> inFlightBuild = inFlightSnapshotBuilds.putIfAbsent(tenantId, build);
+        if (inFlightBuild != null) {
             if (log.isDebugEnabled()) {
-                log.debug(String.format("Cache hit for associated claims of local claim:%s in tenant:%s ",
-                        localClaimURI, tenantId));
+                log.debug("Waiting for the in flight build of the claim metadata snapshot for tenant: " + tenantId);
             }
+            return waitForSnapshotBuild(inFlightBuild, tenantId);
         }
-        return associatedLocalClaims;
+
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for claim metadata snapshot for tenant: " + tenantId);
+        }
+        try {
+            claimMetadataSnapshot = buildClaimMetadataSnapshot(tenantId);
+            claimMetadataSnapshotCache.addToCache(tenantId, claimMetadataSnapshot, tenantId);
+            build.complete(claimMetadataSnapshot);
+        } catch (ClaimMetadataException | RuntimeException | Error e) {
+            build.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (!inFlightSnapshotBuilds.remove(tenantId, build)) {
+                // The claim metadata changed while the snapshot was built, hence the snapshot may be stale.
+                claimMetadataSnapshotCache.clearCacheEntry(tenantId, tenantId);
+            }
+        }
+        return claimMetadataSnapshot;
     }
 
-    private void removeExternalClaimCache(String externalClaimDialectURI, int tenantId) throws ClaimMetadataException {
+    private ClaimMetadataSnapshot buildClaimMetadataSnapshot(int tenantId) throws ClaimMetadataException {
 
-        List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
-        for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            List<ExternalClaim> externalClaimsList;
-            List<String> mappedLocalClaim = new ArrayList<>();
-            externalClaimsList = getExternalClaims(externalClaimDialectURI, tenantIdToBeInvalidated);
-            if (externalClaimsList != null) {
-                for (ExternalClaim externalClaim : externalClaimsList) {
-                    mappedLocalClaim.add(externalClaim.getMappedLocalClaim());
-                }
-            }
-            ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
-            externalClaimCache.clearCacheEntry(cacheKey, tenantIdToBeInvalidated);
-            for (String localClaim : mappedLocalClaim) {
-                associatedClaimCache.clearCacheEntry(localClaim, tenantIdToBeInvalidated);
+        List<ClaimDialect> claimDialects = super.getClaimDialects(tenantId);
+        Map<String, List<ExternalClaim>> externalClaimsByDialect = new HashMap<>();
+        for (ClaimDialect claimDialect : claimDialects) {
+            if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equals(claimDialect.getClaimDialectURI())) {
+                continue;
             }
+            externalClaimsByDialect.put(claimDialect.getClaimDialectURI(),
+                    super.getExternalClaims(claimDialect.getClaimDialectURI(), tenantId));
         }
+        return new ClaimMetadataSnapshot(claimDialects, super.getLocalClaims(tenantId), externalClaimsByDialect);
     }
 
-    /**
-     * Removes the local claim cache of the given tenant and its child organizations.
-     *
-     * @param tenantId The id of the tenant for which the cache needs to be cleared.
-     */
-    private void removeLocalClaimCache(int tenantId) {
+    private ClaimMetadataSnapshot waitForSnapshotBuild(CompletableFuture<ClaimMetadataSnapshot> inFlightBuild,
+                                                       int tenantId) throws ClaimMetadataException {
 
-        List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
-        for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            localClaimCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
+        try {
+            return inFlightBuild.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClaimMetadataException("Interrupted while waiting for the claim metadata snapshot of tenant: "
+                    + tenantId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ClaimMetadataException) {
+                throw (ClaimMetadataException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new ClaimMetadataException("Error while building the claim metadata snapshot of tenant: "
+                    + tenantId, e.getCause());
         }
     }
 
     /**
-     * Removes the claim dialect cache of the given tenant and its child organizations.
+     * Removes the claim metadata snapshot of the given tenant and its child organizations.
      *
      * @param tenantId The id of the tenant for which the cache needs to be cleared.
      */
-    private void removeClaimDialectCache(int tenantId) {
+    private void removeClaimMetadataSnapshot(int tenantId) {
 
         List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
         for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            claimDialectCache.clearClaimDialects(tenantIdToBeInvalidated);
+            // Reads after the change must not join a build which may have started before the change.
+            inFlightSnapshotBuilds.remove(tenantIdToBeInvalidated);
+            claimMetadataSnapshotCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
         }
     }
 
@@ -25,7 +25,10 @@ import java.util.ArrayList;
 
 /**
  * Cache implementation for AssociatedClaims for local claim.
+ *
+ * @deprecated Mapped external claims are cached per tenant in {@link ClaimMetadataSnapshotCache}.
  */
+@Deprecated
 public class AssociatedClaimCache extends BaseCache<String, ArrayList<Claim>> {
 
     private static final AssociatedClaimCache instance = new AssociatedClaimCache();
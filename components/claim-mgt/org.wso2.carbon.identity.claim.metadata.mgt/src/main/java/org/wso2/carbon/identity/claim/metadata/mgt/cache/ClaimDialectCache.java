@@ -27,7 +27,10 @@ import java.util.List;
 /**
  * Caches the claim dialect.
  * Cache can be configured with "identity.xml".
+ *
+ * @deprecated Claim dialects are cached per tenant in {@link ClaimMetadataSnapshotCache}.
  */
+@Deprecated
 public class ClaimDialectCache extends BaseCache<Integer, Serializable> {
 
     private static final String CACHE_NAME = "ClaimDialectCache";
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable view of the claim metadata of a tenant. Holds the claim dialects, the local claims and the external
+ * claims of each external dialect, indexed by URI, along with the external claims mapped to each local claim.
+ * A snapshot is not modified once built. Claim metadata changes invalidate the snapshot of the tenant and a new
+ * snapshot is built on the next read.
+ */
+public class ClaimMetadataSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 2417301953364271580L;
+
+    private final List<ClaimDialect> claimDialects;
+    private final Map<String, ClaimDialect> claimDialectsByURI;
+    private final List<LocalClaim> localClaims;
+    private final Map<String, LocalClaim> localClaimsByURI;
+    private final Map<String, List<ExternalClaim>> externalClaimsByDialect;
+    private final Map<String, Map<String, ExternalClaim>> externalClaimsByDialectAndURI;
+    private final Map<String, List<Claim>> mappedExternalClaims;
+
+    /**
+     * Build the snapshot of the claim metadata of a tenant.
+     *
+     * @param claimDialects           Claim dialects of the tenant.
+     * @param localClaims             Local claims of the tenant.
+     * @param externalClaimsByDialect External claims of the tenant keyed by the URI of each external claim dialect.
+     */
+    public ClaimMetadataSnapshot(List<ClaimDialect> claimDialects, List<LocalClaim> localClaims,
+                                 Map<String, List<ExternalClaim>> externalClaimsByDialect) {
+
+        Map<String, ClaimDialect> dialectsByURI = new HashMap<>();
+        for (ClaimDialect claimDialect : claimDialects) {
+            dialectsByURI.put(claimDialect.getClaimDialectURI(), claimDialect);
+        }
+
+        Map<String, LocalClaim> localClaimMap = new LinkedHashMap<>();
+        for (LocalClaim localClaim : localClaims) {
+            localClaimMap.put(localClaim.getClaimURI(), localClaim);
+        }
+
+        Map<String, List<ExternalClaim>> externalClaimLists = new HashMap<>();
+        Map<String, Map<String, ExternalClaim>> externalClaimMaps = new HashMap<>();
+        Map<String, List<Claim>> mappedExternalClaimLists = new HashMap<>();
+        for (Map.Entry<String, List<ExternalClaim>> entry : externalClaimsByDialect.entrySet()) {
+            Map<String, ExternalClaim> externalClaimMap = new HashMap<>();
+            for (ExternalClaim externalClaim : entry.getValue()) {
+                externalClaimMap.put(externalClaim.getClaimURI(), externalClaim);
+                mappedExternalClaimLists.computeIfAbsent(externalClaim.getMappedLocalClaim(),
+                        localClaimURI -> new ArrayList<>()).add(externalClaim);
+            }
+            externalClaimLists.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+            externalClaimMaps.put(entry.getKey(), Collections.unmodifiableMap(externalClaimMap));
+        }
+        mappedExternalClaimLists.replaceAll((localClaimURI, claims) -> Collections.unmodifiableList(claims));
+
+        this.claimDialects = Collections.unmodifiableList(new ArrayList<>(claimDialects));
+        this.claimDialectsByURI = Collections.unmodifiableMap(dialectsByURI);
+        this.localClaims = Collections.unmodifiableList(new ArrayList<>(localClaimMap.values()));
+        this.localClaimsByURI = Collections.unmodifiableMap(localClaimMap);
+        this.externalClaimsByDialect = Collections.unmodifiableMap(externalClaimLists);
+        this.externalClaimsByDialectAndURI = Collections.unmodifiableMap(externalClaimMaps);
+        this.mappedExternalClaims = Collections.unmodifiableMap(mappedExternalClaimLists);
+    }
+
+    public List<ClaimDialect> getClaimDialects() {
+
+        return claimDialects;
+    }
+
+    public Optional<ClaimDialect> getClaimDialect(String claimDialectURI) {
+
+        return Optional.ofNullable(claimDialectsByURI.get(claimDialectURI));
+    }
+
+    public List<LocalClaim> getLocalClaims() {
+
+        return localClaims;
+    }
+
+    public Optional<LocalClaim> getLocalClaim(String localClaimURI) {
+
+        return Optional.ofNullable(localClaimsByURI.get(localClaimURI));
+    }
+
+    /**
+     * Check whether the external claims of the given dialect are held in the snapshot.
+     *
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @return True if the snapshot holds the external claims of the dialect.
+     */
+    public boolean containsExternalClaimDialect(String externalClaimDialectURI) {
+
+        return externalClaimsByDialect.containsKey(externalClaimDialectURI);
+    }
+
+    public List<ExternalClaim> getExternalClaims(String externalClaimDialectURI) {
+
+        return externalClaimsByDialect.getOrDefault(externalClaimDialectURI, Collections.emptyList());
+    }
+
+    public Optional<ExternalClaim> getExternalClaim(String externalClaimDialectURI, String externalClaimURI) {
+
+        Map<String, ExternalClaim> externalClaims = externalClaimsByDialectAndURI.get(externalClaimDialectURI);
+        if (externalClaims == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(externalClaims.get(externalClaimURI));
+    }
+
+    /**
+     * Get the external claims of all the external dialects which are mapped to the given local claim.
+     *
+     * @param localClaimURI Local claim URI.
+     * @return Mapped external claims.
+     */
+    public List<Claim> getMappedExternalClaims(String localClaimURI) {
+
+        return mappedExternalClaims.getOrDefault(localClaimURI, Collections.emptyList());
+    }
+
+    public boolean isMappedLocalClaim(String localClaimURI) {
+
+        return mappedExternalClaims.containsKey(localClaimURI);
+    }
+}
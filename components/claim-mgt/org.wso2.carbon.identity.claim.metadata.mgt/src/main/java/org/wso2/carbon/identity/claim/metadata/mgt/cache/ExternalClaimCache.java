@@ -25,7 +25,10 @@ import java.util.ArrayList;
 
 /**
  * Cache implementation for ExternalClaims.
+ *
+ * @deprecated External claims are cached per tenant in {@link ClaimMetadataSnapshotCache}.
  */
+@Deprecated
 public class ExternalClaimCache extends BaseCache<ExternalClaimCacheKey, ArrayList<ExternalClaim>> {
 
     private static final String CACHE_NAME = "ExternalClaimCache";
@@ -25,7 +25,10 @@ import java.util.ArrayList;
 
 /**
  * Cache implementation for LocalClaims.
+ *
+ * @deprecated Local claims are cached per tenant in {@link ClaimMetadataSnapshotCache}.
  */
+@Deprecated
 public class LocalClaimCache extends BaseCache<Integer, ArrayList<LocalClaim>> {
 
     private static final LocalClaimCache instance = new LocalClaimCache();
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimMetadataSnapshot;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimMetadataSnapshotCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.internal.IdentityClaimManagementServiceDataHolder;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.service.util.Utils;
+import org.wso2.carbon.user.core.claim.inmemory.ClaimConfig;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+@WithCarbonHome
+@Test
+public class CacheBackedUnifiedClaimMetadataManagerTest {
+
+    private static final String LOCAL_CLAIM_1 = "http://wso2.org/claims/username";
+    private static final String LOCAL_CLAIM_2 = "http://wso2.org/claims/email";
+    private static final String LOCAL_CLAIM_3 = "http://wso2.org/claims/country";
+    private static final String NON_EXISTING_LOCAL_CLAIM = "http://wso2.org/claims/nonExisting";
+    private static final String FOO_TENANT_DOMAIN = "foo.com";
+    private static final int FOO_TENANT_ID = 1;
+
+    private CacheBackedUnifiedClaimMetadataManager claimMetadataManager;
+    private SystemDefaultClaimMetadataManager systemDefaultClaimMetadataManager;
+    private DBBasedClaimMetadataManager dbBasedClaimMetadataManager;
+    private Map<Integer, ClaimMetadataSnapshot> cachedSnapshots;
+    private MockedStatic<IdentityClaimManagementServiceDataHolder> dataHolderStaticMock;
+    private MockedStatic<IdentityUtil> identityUtilStaticMock;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtilStaticMock;
+    private MockedStatic<Utils> utilsStaticMock;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        dataHolderStaticMock = mockStatic(IdentityClaimManagementServiceDataHolder.class);
+        identityUtilStaticMock = mockStatic(IdentityUtil.class);
+        identityTenantUtilStaticMock = mockStatic(IdentityTenantUtil.class);
+        utilsStaticMock = mockStatic(Utils.class);
+        identityTenantUtilStaticMock.when(() -> IdentityTenantUtil.getTenantDomain(FOO_TENANT_ID))
+                .thenReturn(FOO_TENANT_DOMAIN);
+        identityTenantUtilStaticMock.when(() -> IdentityTenantUtil.getTenantId(FOO_TENANT_DOMAIN))
+                .thenReturn(FOO_TENANT_ID);
+        utilsStaticMock.when(() -> Utils.isClaimAndOIDCScopeInheritanceEnabled(FOO_TENANT_DOMAIN)).thenReturn(false);
+        IdentityClaimManagementServiceDataHolder dataHolder = mock(IdentityClaimManagementServiceDataHolder.class);
+        dataHolderStaticMock.when(IdentityClaimManagementServiceDataHolder::getInstance).thenReturn(dataHolder);
+        when(dataHolder.getClaimConfig()).thenReturn(new ClaimConfig());
+
+        systemDefaultClaimMetadataManager = mock(SystemDefaultClaimMetadataManager.class);
+        dbBasedClaimMetadataManager = mock(DBBasedClaimMetadataManager.class);
+        when(systemDefaultClaimMetadataManager.getClaimDialects(FOO_TENANT_ID)).thenReturn(
+                Collections.singletonList(new ClaimDialect(ClaimConstants.LOCAL_CLAIM_DIALECT_URI)));
+        when(dbBasedClaimMetadataManager.getClaimDialects(FOO_TENANT_ID)).thenReturn(new ArrayList<>());
+        List<LocalClaim> localClaimsInSystem = new ArrayList<>();
+        localClaimsInSystem.add(new LocalClaim(LOCAL_CLAIM_1));
+        localClaimsInSystem.add(new LocalClaim(LOCAL_CLAIM_2));
+        when(systemDefaultClaimMetadataManager.getLocalClaims(FOO_TENANT_ID)).thenReturn(localClaimsInSystem);
+        List<LocalClaim> localClaimsInDB = new ArrayList<>();
+        localClaimsInDB.add(new LocalClaim(LOCAL_CLAIM_3));
+        when(dbBasedClaimMetadataManager.getLocalClaims(FOO_TENANT_ID)).thenReturn(localClaimsInDB);
+
+        claimMetadataManager = new CacheBackedUnifiedClaimMetadataManager();
+        setPrivateField(claimMetadataManager, "systemDefaultClaimMetadataManager", systemDefaultClaimMetadataManager);
+        setPrivateField(claimMetadataManager, "dbBasedClaimMetadataManager", dbBasedClaimMetadataManager);
+        setPrivateField(claimMetadataManager, "cacheBackedDBBasedClaimMetadataManager",
+                mock(CacheBackedDBBasedClaimMetadataManager.class));
+        claimMetadataManager.claimMetadataSnapshotCache = mockClaimMetadataSnapshotCache();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        dataHolderStaticMock.close();
+        identityUtilStaticMock.close();
+        identityTenantUtilStaticMock.close();
+        utilsStaticMock.close();
+    }
+
+    @Test
+    public void testGetLocalClaimsFromSnapshot() throws ClaimMetadataException {
+
+        List<LocalClaim> localClaims = claimMetadataManager.getLocalClaims(FOO_TENANT_ID);
+        assertEquals(localClaims.size(), 3);
+        assertTrue(cachedSnapshots.containsKey(FOO_TENANT_ID));
+
+        // The returned list is a copy, hence changing it does not change the cached snapshot.
+        localClaims.clear();
+        assertEquals(claimMetadataManager.getLocalClaims(FOO_TENANT_ID).size(), 3);
+        verify(systemDefaultClaimMetadataManager, times(1)).getLocalClaims(FOO_TENANT_ID);
+        verify(dbBasedClaimMetadataManager, times(1)).getLocalClaims(FOO_TENANT_ID);
+    }
+
+    @Test
+    public void testGetLocalClaimFromSnapshot() throws ClaimMetadataException {
+
+        Optional<LocalClaim> systemClaim = claimMetadataManager.getLocalClaim(LOCAL_CLAIM_1, FOO_TENANT_ID);
+        assertTrue(systemClaim.isPresent());
+        assertEquals(systemClaim.get().getClaimURI(), LOCAL_CLAIM_1);
+        assertEquals(systemClaim.get().getClaimProperty(ClaimConstants.IS_SYSTEM_CLAIM), Boolean.TRUE.toString());
+
+        Optional<LocalClaim> claimInDB = claimMetadataManager.getLocalClaim(LOCAL_CLAIM_3, FOO_TENANT_ID);
+        assertTrue(claimInDB.isPresent());
+        assertEquals(claimInDB.get().getClaimURI(), LOCAL_CLAIM_3);
+
+        assertFalse(claimMetadataManager.getLocalClaim(NON_EXISTING_LOCAL_CLAIM, FOO_TENANT_ID).isPresent());
+
+        // All the lookups are served from the snapshot built by the first of them.
+        verify(systemDefaultClaimMetadataManager, times(1)).getLocalClaims(FOO_TENANT_ID);
+        verify(dbBasedClaimMetadataManager, times(1)).getLocalClaims(FOO_TENANT_ID);
+        verify(dbBasedClaimMetadataManager, never()).getLocalClaim(anyString(), anyInt());
+    }
+
+    @Test
+    public void testGetLocalClaimAfterInvalidation() throws ClaimMetadataException {
+
+        assertFalse(claimMetadataManager.getLocalClaim(NON_EXISTING_LOCAL_CLAIM, FOO_TENANT_ID).isPresent());
+
+        List<LocalClaim> updatedLocalClaimsInDB = new ArrayList<>();
+        updatedLocalClaimsInDB.add(new LocalClaim(LOCAL_CLAIM_3));
+        updatedLocalClaimsInDB.add(new LocalClaim(NON_EXISTING_LOCAL_CLAIM));
+        when(dbBasedClaimMetadataManager.getLocalClaims(FOO_TENANT_ID)).thenReturn(updatedLocalClaimsInDB);
+        claimMetadataManager.removeClaimMappingAttributes(FOO_TENANT_ID, "PRIMARY");
+        assertFalse(cachedSnapshots.containsKey(FOO_TENANT_ID));
+
+        assertTrue(claimMetadataManager.getLocalClaim(NON_EXISTING_LOCAL_CLAIM, FOO_TENANT_ID).isPresent());
+        assertEquals(claimMetadataManager.getLocalClaims(FOO_TENANT_ID).size(), 4);
+        verify(dbBasedClaimMetadataManager, times(2)).getLocalClaims(FOO_TENANT_ID);
+    }
+
+    @Test
+    public void testConcurrentCacheMissesBuildSnapshotOnce() throws Exception {
+
+        CountDownLatch buildStarted = new CountDownLatch(1);
+        CountDownLatch buildReleased = new CountDownLatch(1);
+        List<LocalClaim> localClaimsInDB = Collections.singletonList(new LocalClaim(LOCAL_CLAIM_3));
+        when(dbBasedClaimMetadataManager.getLocalClaims(FOO_TENANT_ID)).thenAnswer(invocation -> {
+            buildStarted.countDown();
+            buildReleased.await(10, TimeUnit.SECONDS);
+            return localClaimsInDB;
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<LocalClaim>> firstRead = executorService.submit(
+                    () -> claimMetadataManager.getLocalClaims(FOO_TENANT_ID));
+            assertTrue(buildStarted.await(10, TimeUnit.SECONDS));
+            Thread[] waitingReader = new Thread[1];
+            Future<List<LocalClaim>> secondRead = executorService.submit(() -> {
+                waitingReader[0] = Thread.currentThread();
+                return claimMetadataManager.getLocalClaims(FOO_TENANT_ID);
+            });
+            // Release the build only once the second read waits for it.
+            long deadline = System.currentTimeMillis() + 10000;
+            while ((waitingReader[0] == null || waitingReader[0].getState() != Thread.State.WAITING)
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            buildReleased.countDown();
+
+            assertEquals(firstRead.get(10, TimeUnit.SECONDS).size(), 3);
+            assertEquals(secondRead.get(10, TimeUnit.SECONDS).size(), 3);
+        } finally {
+            buildReleased.countDown();
+            executorService.shutdownNow();
+        }
+        verify(systemDefaultClaimMetadataManager, times(1)).getLocalClaims(FOO_TENANT_ID);
+        verify(dbBasedClaimMetadataManager, times(1)).getLocalClaims(FOO_TENANT_ID);
+    }
+
+    @Test
+    public void testSnapshotBuiltDuringInvalidationIsNotCached() throws Exception {
+
+        List<LocalClaim> localClaimsInDB = Collections.singletonList(new LocalClaim(LOCAL_CLAIM_3));
+        when(dbBasedClaimMetadataManager.getLocalClaims(FOO_TENANT_ID)).thenAnswer(invocation -> {
+            // The claim metadata changes while the snapshot is built.
+            claimMetadataManager.removeClaimMappingAttributes(FOO_TENANT_ID, "PRIMARY");
+            return localClaimsInDB;
+        });
+
+        assertEquals(claimMetadataManager.getLocalClaims(FOO_TENANT_ID).size(), 3);
+        assertFalse(cachedSnapshots.containsKey(FOO_TENANT_ID));
+    }
+
+    private ClaimMetadataSnapshotCache mockClaimMetadataSnapshotCache() {
+
+        cachedSnapshots = new ConcurrentHashMap<>();
+        ClaimMetadataSnapshotCache claimMetadataSnapshotCache = mock(ClaimMetadataSnapshotCache.class);
+        when(claimMetadataSnapshotCache.getValueFromCache(anyInt(), anyInt())).thenAnswer(invocation ->
+                cachedSnapshots.get(invocation.<Integer>getArgument(0)));
+        doAnswer(invocation -> cachedSnapshots.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(claimMetadataSnapshotCache).addToCache(anyInt(), any(ClaimMetadataSnapshot.class), anyInt());
+        doAnswer(invocation -> cachedSnapshots.remove(invocation.<Integer>getArgument(0)))
+                .when(claimMetadataSnapshotCache).clearCacheEntry(anyInt(), anyInt());
+        return claimMetadataSnapshotCache;
+    }
+
+    private void setPrivateField(Object target, String fieldName, Object value) throws Exception {
+
+        Field field = UnifiedClaimMetadataManager.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
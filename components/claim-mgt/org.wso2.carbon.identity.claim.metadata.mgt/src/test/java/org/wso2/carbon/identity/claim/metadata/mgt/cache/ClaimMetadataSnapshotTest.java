@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit test class for ClaimMetadataSnapshot.
+ */
+public class ClaimMetadataSnapshotTest {
+
+    private static final String LOCAL_CLAIM_DIALECT = "http://wso2.org/claims";
+    private static final String EXT_CLAIM_DIALECT_1 = "urn:ietf:params:scim:schemas:core:2.0";
+    private static final String EXT_CLAIM_DIALECT_2 = "http://wso2.org/oidc/claim";
+    private static final String LOCAL_CLAIM_1 = "http://wso2.org/claims/username";
+    private static final String LOCAL_CLAIM_2 = "http://wso2.org/claims/email";
+    private static final String LOCAL_CLAIM_3 = "http://wso2.org/claims/country";
+    private static final String EXT_CLAIM_DIALECT_1_CLAIM_1 = "urn:ietf:params:scim:schemas:core:2.0:User:userName";
+    private static final String EXT_CLAIM_DIALECT_1_CLAIM_2 = "urn:ietf:params:scim:schemas:core:2.0:User:emails";
+    private static final String EXT_CLAIM_DIALECT_2_CLAIM_1 = "email";
+
+    private ClaimMetadataSnapshot claimMetadataSnapshot;
+
+    @BeforeMethod
+    public void setUp() {
+
+        List<ClaimDialect> claimDialects = Arrays.asList(new ClaimDialect(LOCAL_CLAIM_DIALECT),
+                new ClaimDialect(EXT_CLAIM_DIALECT_1), new ClaimDialect(EXT_CLAIM_DIALECT_2));
+        List<LocalClaim> localClaims = Arrays.asList(new LocalClaim(LOCAL_CLAIM_1), new LocalClaim(LOCAL_CLAIM_2),
+                new LocalClaim(LOCAL_CLAIM_3));
+        Map<String, List<ExternalClaim>> externalClaims = new HashMap<>();
+        externalClaims.put(EXT_CLAIM_DIALECT_1, Arrays.asList(
+                new ExternalClaim(EXT_CLAIM_DIALECT_1, EXT_CLAIM_DIALECT_1_CLAIM_1, LOCAL_CLAIM_1),
+                new ExternalClaim(EXT_CLAIM_DIALECT_1, EXT_CLAIM_DIALECT_1_CLAIM_2, LOCAL_CLAIM_2)));
+        externalClaims.put(EXT_CLAIM_DIALECT_2, Arrays.asList(
+                new ExternalClaim(EXT_CLAIM_DIALECT_2, EXT_CLAIM_DIALECT_2_CLAIM_1, LOCAL_CLAIM_2)));
+        claimMetadataSnapshot = new ClaimMetadataSnapshot(claimDialects, localClaims, externalClaims);
+    }
+
+    @Test
+    public void testGetClaimDialects() {
+
+        assertEquals(claimMetadataSnapshot.getClaimDialects().size(), 3);
+        assertTrue(claimMetadataSnapshot.getClaimDialect(EXT_CLAIM_DIALECT_1).isPresent());
+        assertFalse(claimMetadataSnapshot.getClaimDialect("http://example.com/claims").isPresent());
+    }
+
+    @Test
+    public void testGetLocalClaims() {
+
+        List<String> localClaimURIs = claimMetadataSnapshot.getLocalClaims().stream()
+                .map(LocalClaim::getClaimURI)
+                .collect(Collectors.toList());
+        assertEquals(localClaimURIs, Arrays.asList(LOCAL_CLAIM_1, LOCAL_CLAIM_2, LOCAL_CLAIM_3));
+        assertEquals(claimMetadataSnapshot.getLocalClaim(LOCAL_CLAIM_2).get().getClaimURI(), LOCAL_CLAIM_2);
+        assertFalse(claimMetadataSnapshot.getLocalClaim("http://wso2.org/claims/unknown").isPresent());
+    }
+
+    @Test
+    public void testGetExternalClaims() {
+
+        assertTrue(claimMetadataSnapshot.containsExternalClaimDialect(EXT_CLAIM_DIALECT_1));
+        assertFalse(claimMetadataSnapshot.containsExternalClaimDialect(LOCAL_CLAIM_DIALECT));
+        assertEquals(claimMetadataSnapshot.getExternalClaims(EXT_CLAIM_DIALECT_1).size(), 2);
+        assertTrue(claimMetadataSnapshot.getExternalClaims(LOCAL_CLAIM_DIALECT).isEmpty());
+        assertEquals(claimMetadataSnapshot.getExternalClaim(EXT_CLAIM_DIALECT_1, EXT_CLAIM_DIALECT_1_CLAIM_2).get()
+                .getMappedLocalClaim(), LOCAL_CLAIM_2);
+        assertFalse(claimMetadataSnapshot.getExternalClaim(EXT_CLAIM_DIALECT_2, EXT_CLAIM_DIALECT_1_CLAIM_2)
+                .isPresent());
+        assertFalse(claimMetadataSnapshot.getExternalClaim(LOCAL_CLAIM_DIALECT, LOCAL_CLAIM_1).isPresent());
+    }
+
+    @Test
+    public void testGetMappedExternalClaims() {
+
+        List<Claim> mappedExternalClaims = claimMetadataSnapshot.getMappedExternalClaims(LOCAL_CLAIM_1);
+        assertEquals(mappedExternalClaims.size(), 1);
+        assertEquals(mappedExternalClaims.get(0).getClaimURI(), EXT_CLAIM_DIALECT_1_CLAIM_1);
+
+        List<String> claimURIsOfLocalClaim2 = claimMetadataSnapshot.getMappedExternalClaims(LOCAL_CLAIM_2).stream()
+                .map(Claim::getClaimURI)
+                .collect(Collectors.toList());
+        assertEquals(claimURIsOfLocalClaim2.size(), 2);
+        assertTrue(claimURIsOfLocalClaim2.contains(EXT_CLAIM_DIALECT_1_CLAIM_2));
+        assertTrue(claimURIsOfLocalClaim2.contains(EXT_CLAIM_DIALECT_2_CLAIM_1));
+
+        assertTrue(claimMetadataSnapshot.getMappedExternalClaims(LOCAL_CLAIM_3).isEmpty());
+        assertTrue(claimMetadataSnapshot.isMappedLocalClaim(LOCAL_CLAIM_1));
+        assertFalse(claimMetadataSnapshot.isMappedLocalClaim(LOCAL_CLAIM_3));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testSnapshotCannotBeModified() {
+
+        claimMetadataSnapshot.getLocalClaims().add(new LocalClaim("http://wso2.org/claims/unknown"));
+    }
+}
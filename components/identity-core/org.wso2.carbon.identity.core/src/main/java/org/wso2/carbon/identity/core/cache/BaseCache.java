@@ -29,14 +29,24 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import javax.cache.Cache;
 import javax.cache.CacheBuilder;
 import javax.cache.CacheConfiguration;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
+import javax.cache.Status;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
 
 /**
  * A base class for all cache implementations in Identity modules. This maintains  caches in the tenanted space.
@@ -49,6 +59,16 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
     private static final Log log = LogFactory.getLog(BaseCache.class);
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
+    private static final int DEFAULT_NEAR_CACHE_CAPACITY = 1000;
+    private static final int DEFAULT_NEAR_CACHE_TIMEOUT = 60;
+    private static final Set<BaseCache<?, ?>> BASE_CACHES =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    // Cache handles resolved through the cache manager, indexed by tenant id.
+    private final Map<Integer, Cache<K, V>> resolvedCaches = new ConcurrentHashMap<>();
+    // Node local caches kept in front of the caches, indexed by tenant id.
+    private final Map<Integer, NearCache<K, V>> nearCaches = new ConcurrentHashMap<>();
+    private final Set<Cache<K, V>> nearCacheListenedCaches =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
     private CacheBuilder<K, V> cacheBuilder;
     private final List<AbstractCacheListener<K, V>> cacheListeners;
     private String cacheName;
@@ -85,12 +105,95 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         } else {
             this.cacheListeners = Collections.emptyList();
         }
+        BASE_CACHES.add(this);
         if (log.isDebugEnabled()) {
             String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             log.debug("Cache : " + cacheName + "  is initialized for tenant domain : " + tenantDomain);
         }
     }
 
+    /**
+     * Get the cache of the tenant in the current tenant flow. The cache handle is resolved through the cache manager
+     * only on the first access of the tenant, or when the previously resolved cache is no longer active.
+     *
+     * @return Cache of the current tenant.
+     */
+    private Cache<K, V> getResolvedCache() {
+
+        int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+        Cache<K, V> cache = resolvedCaches.get(tenantId);
+        if (cache != null && cache.getStatus() == Status.STARTED) {
+            return cache;
+        }
+        cache = getBaseCache();
+        if (cache != null) {
+            resolvedCaches.put(tenantId, cache);
+            if (isNearCacheEnabled() && nearCacheListenedCaches.add(cache)) {
+                // Keep the near cache consistent with removals and updates, including cluster invalidations.
+                cache.registerCacheEntryListener(new NearCacheInvalidationListener());
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Get the near cache of the given tenant.
+     *
+     * @param tenantId Tenant id.
+     * @return Near cache of the tenant, or null if the near cache is not enabled for this cache.
+     */
+    private NearCache<K, V> getNearCache(int tenantId) {
+
+        if (!isNearCacheEnabled()) {
+            return null;
+        }
+        return nearCaches.computeIfAbsent(tenantId, id -> new NearCache<>(getNearCacheCapacity(),
+                getNearCacheTimeout()));
+    }
+
+    /**
+     * Get the counters of the near caches of all the caches and tenants.
+     *
+     * @return Near cache counters.
+     */
+    public static List<NearCacheStats> getNearCacheStats() {
+
+        List<BaseCache<?, ?>> baseCaches;
+        synchronized (BASE_CACHES) {
+            baseCaches = new ArrayList<>(BASE_CACHES);
+        }
+        List<NearCacheStats> stats = new ArrayList<>();
+        for (BaseCache<?, ?> baseCache : baseCaches) {
+            for (Map.Entry<Integer, ? extends NearCache<?, ?>> entry : baseCache.nearCaches.entrySet()) {
+                NearCache<?, ?> nearCache = entry.getValue();
+                stats.add(new NearCacheStats(baseCache.cacheName, entry.getKey(), nearCache.getHitCount(),
+                        nearCache.getMissCount(), nearCache.getEvictionCount(), nearCache.size()));
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Discard the cache handles resolved for the given tenant in all the caches. The handles will be resolved again
+     * through the cache manager on the next access. This does not remove any cache entries.
+     *
+     * @param tenantId Tenant id.
+     */
+    public static void invalidateResolvedCaches(int tenantId) {
+
+        List<BaseCache<?, ?>> baseCaches;
+        synchronized (BASE_CACHES) {
+            baseCaches = new ArrayList<>(BASE_CACHES);
+        }
+        for (BaseCache<?, ?> baseCache : baseCaches) {
+            baseCache.resolvedCaches.remove(tenantId);
+            baseCache.nearCaches.remove(tenantId);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated resolved cache handles of tenant: " + tenantId);
+        }
+    }
+
     private Cache<K, V> getBaseCache() {
 
         Cache<K, V> cache;
@@ -149,9 +252,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getResolvedCache();
             if (cache != null) {
                 cache.put(key, entry);
+                putToNearCache(key, entry);
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -173,9 +277,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getResolvedCache();
             if (cache != null) {
                 cache.put(key, entry);
+                putToNearCache(key, entry);
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -196,9 +301,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getResolvedCache();
             if (cache != null) {
                 cache.putIfNoDuplicate(key, entry);
+                removeFromNearCache(key);
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -219,9 +325,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getResolvedCache();
             if (cache != null) {
                 cache.putIfNoDuplicate(key, entry);
+                removeFromNearCache(key);
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -245,11 +352,27 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
+        NearCache<K, V> nearCache = isNearCacheEnabled() ?
+                getNearCache(IdentityTenantUtil.getTenantId(tenantDomain)) : null;
+        long nearCacheGeneration = 0;
+        if (nearCache != null) {
+            V value = nearCache.get(key);
+            if (value != null) {
+                return value;
+            }
+            // Read before the cache, so that an invalidation during the read prevents caching the value read.
+            nearCacheGeneration = nearCache.getGeneration();
+        }
+
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
+            Cache<K, V> cache = getResolvedCache();
+            if (cache != null) {
+                V value = cache.get(key);
+                if (value != null && nearCache != null) {
+                    nearCache.putIfNotInvalidated(key, value, nearCacheGeneration);
+                }
+                return value;
             }
             return null;
         } finally {
@@ -274,11 +397,26 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
+        NearCache<K, V> nearCache = getNearCache(tenantId);
+        long nearCacheGeneration = 0;
+        if (nearCache != null) {
+            V value = nearCache.get(key);
+            if (value != null) {
+                return value;
+            }
+            // Read before the cache, so that an invalidation during the read prevents caching the value read.
+            nearCacheGeneration = nearCache.getGeneration();
+        }
+
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
+            Cache<K, V> cache = getResolvedCache();
+            if (cache != null) {
+                V value = cache.get(key);
+                if (value != null && nearCache != null) {
+                    nearCache.putIfNotInvalidated(key, value, nearCacheGeneration);
+                }
+                return value;
             }
             return null;
         } finally {
@@ -300,9 +438,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getResolvedCache();
             if (cache != null) {
                 cache.remove(key);
+                removeFromNearCache(key);
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -323,9 +462,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getResolvedCache();
             if (cache != null) {
                 cache.remove(key);
+                removeFromNearCache(key);
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -345,9 +485,13 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getResolvedCache();
             if (cache != null) {
                 cache.removeAll();
+                NearCache<K, V> nearCache = getNearCache(CarbonContext.getThreadLocalCarbonContext().getTenantId());
+                if (nearCache != null) {
+                    nearCache.clear();
+                }
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -367,9 +511,13 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getResolvedCache();
             if (cache != null) {
                 cache.removeAll();
+                NearCache<K, V> nearCache = getNearCache(CarbonContext.getThreadLocalCarbonContext().getTenantId());
+                if (nearCache != null) {
+                    nearCache.clear();
+                }
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -400,6 +548,42 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         return -1;
     }
 
+    /**
+     * Whether a node local near cache is kept in front of this cache. Enabled per cache with the
+     * "nearCacheEnabled" attribute of the cache configuration.
+     *
+     * @return True if the near cache is enabled.
+     */
+    public boolean isNearCacheEnabled() {
+
+        return identityCacheConfig != null && identityCacheConfig.isNearCacheEnabled();
+    }
+
+    public int getNearCacheCapacity() {
+
+        if (identityCacheConfig != null && identityCacheConfig.getNearCacheCapacity() > 0) {
+            return identityCacheConfig.getNearCacheCapacity();
+        }
+        return DEFAULT_NEAR_CACHE_CAPACITY;
+    }
+
+    /**
+     * Get the time to live of near cache entries in seconds. This is bounded by the timeout of the cache.
+     *
+     * @return Near cache entry time to live.
+     */
+    public int getNearCacheTimeout() {
+
+        int nearCacheTimeout = DEFAULT_NEAR_CACHE_TIMEOUT;
+        if (identityCacheConfig != null && identityCacheConfig.getNearCacheTimeout() > 0) {
+            nearCacheTimeout = identityCacheConfig.getNearCacheTimeout();
+        }
+        if (getCacheTimeout() > 0) {
+            return Math.min(nearCacheTimeout, getCacheTimeout());
+        }
+        return nearCacheTimeout;
+    }
+
     public void setCapacity(CacheImpl<K, V> cache) {
 
         if (getCapacity() > 0) {
@@ -407,6 +591,22 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         }
     }
 
+    private void putToNearCache(K key, V entry) {
+
+        NearCache<K, V> nearCache = getNearCache(CarbonContext.getThreadLocalCarbonContext().getTenantId());
+        if (nearCache != null) {
+            nearCache.put(key, entry);
+        }
+    }
+
+    private void removeFromNearCache(K key) {
+
+        NearCache<K, V> nearCache = getNearCache(CarbonContext.getThreadLocalCarbonContext().getTenantId());
+        if (nearCache != null) {
+            nearCache.remove(key);
+        }
+    }
+
     private void startTenantFlow(String tenantDomain) {
 
         PrivilegedCarbonContext.startTenantFlow();
@@ -422,4 +622,37 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         PrivilegedCarbonContext.getThreadLocalCarbonContext()
                 .setTenantDomain(IdentityTenantUtil.getTenantDomain(tenantId));
     }
+
+    /**
+     * Removes entries from the near cache of the tenant when they are removed, updated or expired in the cache.
+     */
+    private class NearCacheInvalidationListener extends AbstractCacheListener<K, V> implements
+            CacheEntryRemovedListener<K, V>, CacheEntryUpdatedListener<K, V>, CacheEntryExpiredListener<K, V> {
+
+        @Override
+        public void entryRemoved(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            invalidate(event);
+        }
+
+        @Override
+        public void entryUpdated(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            invalidate(event);
+        }
+
+        @Override
+        public void entryExpired(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            invalidate(event);
+        }
+
+        private void invalidate(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            NearCache<K, V> nearCache = nearCaches.get(CarbonContext.getThreadLocalCarbonContext().getTenantId());
+            if (nearCache != null && event != null) {
+                nearCache.remove(event.getKey());
+            }
+        }
+    }
 }
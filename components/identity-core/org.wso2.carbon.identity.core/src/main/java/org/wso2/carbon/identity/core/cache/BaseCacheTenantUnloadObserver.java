@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.apache.axis2.context.ConfigurationContext;
+import org.wso2.carbon.utils.AbstractAxis2ConfigurationContextObserver;
+import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
+
+/**
+ * Discards the cache handles resolved by {@link BaseCache} instances when a tenant is unloaded, so that the caches of
+ * the tenant are resolved again through the cache manager once the tenant is loaded back.
+ */
+public class BaseCacheTenantUnloadObserver extends AbstractAxis2ConfigurationContextObserver {
+
+    @Override
+    public void terminatedConfigurationContext(ConfigurationContext configurationContext) {
+
+        BaseCache.invalidateResolvedCaches(MultitenantUtils.getTenantId(configurationContext));
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A size bounded, node local cache which is kept in front of a {@link BaseCache}.
+ * <p>
+ * Entries are held in a {@link ConcurrentHashMap}, so reads do not take a lock. Eviction is approximate. Once the
+ * number of entries exceeds the capacity, a single writer removes the expired entries and then the least frequently
+ * used entries, down to a fraction of the capacity, while other writers carry on. Access frequencies are
+ * approximated with a count-min sketch which is periodically aged, so that entries which were popular in the past do
+ * not stay forever. The least recently used entry is evicted first among entries of the same frequency.
+ * Entries also expire after a fixed time to live.
+ * <p>
+ * Every removal advances an invalidation generation. A value read from the underlying cache is added with
+ * {@link #putIfNotInvalidated(Object, Object, long)}, which drops the value if an invalidation happened after the
+ * generation was read, so that a value invalidated while it was being read is not served from the near cache.
+ *
+ * @param <K> cache key type.
+ * @param <V> cache value type.
+ */
+public class NearCache<K, V> {
+
+    private static final int EVICTION_TARGET_PERCENTAGE = 95;
+
+    private final int capacity;
+    private final int evictionTarget;
+    private final long timeToLiveNanos;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final FrequencySketch sketch;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Create a near cache.
+     *
+     * @param capacity          Maximum number of entries.
+     * @param timeToLiveSeconds Time to live of an entry in seconds.
+     */
+    public NearCache(int capacity, int timeToLiveSeconds) {
+
+        this.capacity = Math.max(capacity, 1);
+        this.evictionTarget = Math.max(1, this.capacity * EVICTION_TARGET_PERCENTAGE / 100);
+        this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(timeToLiveSeconds);
+        this.sketch = new FrequencySketch(this.capacity);
+    }
+
+    /**
+     * Get the value mapped to the given key.
+     *
+     * @param key Cache key.
+     * @return Cached value, or null if the key is not cached or the entry has expired.
+     */
+    public V get(K key) {
+
+        sketch.increment(key);
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        long now = System.nanoTime();
+        if (entry.isExpired(now)) {
+            entries.remove(key, entry);
+            missCount.incrementAndGet();
+            return null;
+        }
+        entry.lastAccessNanos = now;
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * Add or replace the value mapped to the given key.
+     *
+     * @param key   Cache key.
+     * @param value Value to be cached.
+     */
+    public void put(K key, V value) {
+
+        sketch.increment(key);
+        long now = System.nanoTime();
+        entries.put(key, new Entry<>(value, now, now + timeToLiveNanos));
+        evictIfRequired();
+    }
+
+    /**
+     * Get the current invalidation generation. It is to be read before reading a value from the underlying cache
+     * which is then added with {@link #putIfNotInvalidated(Object, Object, long)}.
+     *
+     * @return Invalidation generation.
+     */
+    public long getGeneration() {
+
+        return generation.get();
+    }
+
+    /**
+     * Add the value mapped to the given key, unless an entry was removed from the near cache after the given
+     * generation was read.
+     *
+     * @param key        Cache key.
+     * @param value      Value to be cached.
+     * @param generation Invalidation generation read before the value was read from the underlying cache.
+     */
+    public void putIfNotInvalidated(K key, V value, long generation) {
+
+        if (this.generation.get() != generation) {
+            return;
+        }
+        sketch.increment(key);
+        long now = System.nanoTime();
+        Entry<V> entry = new Entry<>(value, now, now + timeToLiveNanos);
+        entries.put(key, entry);
+        // An invalidation may have removed the key between the above check and the put.
+        if (this.generation.get() != generation) {
+            entries.remove(key, entry);
+            return;
+        }
+        evictIfRequired();
+    }
+
+    /**
+     * Remove the value mapped to the given key.
+     *
+     * @param key Cache key.
+     */
+    public void remove(K key) {
+
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * Remove all the entries.
+     */
+    public void clear() {
+
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount.get();
+    }
+
+    private void evictIfRequired() {
+
+        if (entries.size() <= capacity || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Entry<V>> mapEntry : entries.entrySet()) {
+                Entry<V> entry = mapEntry.getValue();
+                if (entry.isExpired(now)) {
+                    if (entries.remove(mapEntry.getKey(), entry)) {
+                        evictionCount.incrementAndGet();
+                    }
+                } else {
+                    candidates.add(new Candidate<>(mapEntry.getKey(), entry, sketch.frequency(mapEntry.getKey()),
+                            entry.lastAccessNanos - now));
+                }
+            }
+            int excess = entries.size() - evictionTarget;
+            if (excess <= 0) {
+                return;
+            }
+            candidates.sort(Comparator.<Candidate<K, V>>comparingInt(candidate -> candidate.frequency)
+                    .thenComparingLong(candidate -> candidate.lastAccessAge));
+            for (int i = 0; i < candidates.size() && excess > 0; i++) {
+                Candidate<K, V> candidate = candidates.get(i);
+                if (entries.remove(candidate.key, candidate.entry)) {
+                    evictionCount.incrementAndGet();
+                    excess--;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiryNanos;
+        private volatile long lastAccessNanos;
+
+        private Entry(V value, long createdNanos, long expiryNanos) {
+
+            this.value = value;
+            this.lastAccessNanos = createdNanos;
+            this.expiryNanos = expiryNanos;
+        }
+
+        private boolean isExpired(long now) {
+
+            return now - expiryNanos >= 0;
+        }
+    }
+
+    private static final class Candidate<K, V> {
+
+        private final K key;
+        private final Entry<V> entry;
+        private final int frequency;
+        // Last access time relative to the start of the eviction, captured once so that the ordering is stable.
+        private final long lastAccessAge;
+
+        private Candidate(K key, Entry<V> entry, int frequency, long lastAccessAge) {
+
+            this.key = key;
+            this.entry = entry;
+            this.frequency = frequency;
+            this.lastAccessAge = lastAccessAge;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4 bit counters, used to estimate the access frequency of keys. All counters are halved
+     * once the number of recorded accesses reaches ten times the cache size. The sketch is updated without
+     * synchronization, hence concurrent updates may be lost, which only makes the estimates less accurate.
+     */
+    private static final class FrequencySketch {
+
+        private static final int DEPTH = 4;
+        private static final int MAX_FREQUENCY = 15;
+        private static final int[] SEEDS = {0x97cb3127, 0x2c1b3c6d, 0x297a2d39, 0xc2b2ae35};
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int maximumSize) {
+
+            int width = Integer.highestOneBit(Math.max(maximumSize, 8) - 1) << 1;
+            this.counters = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = maximumSize * 10;
+        }
+
+        private void increment(Object key) {
+
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = indexOf(hash, i);
+                int count = counters[i][index];
+                if (count < MAX_FREQUENCY) {
+                    counters[i][index] = (byte) (count + 1);
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private int frequency(Object key) {
+
+            int hash = spread(key.hashCode());
+            int frequency = MAX_FREQUENCY;
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, counters[i][indexOf(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private void reset() {
+
+            for (byte[] row : counters) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int depth) {
+
+            int h = (hash + SEEDS[depth]) * SEEDS[depth];
+            h ^= h >>> 16;
+            return h & mask;
+        }
+
+        private static int spread(int hash) {
+
+            int h = hash * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+/**
+ * Snapshot of the counters of the near cache of a tenant in a {@link BaseCache}.
+ */
+public class NearCacheStats {
+
+    private final String cacheName;
+    private final int tenantId;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    public NearCacheStats(String cacheName, int tenantId, long hitCount, long missCount, long evictionCount,
+                          int size) {
+
+        this.cacheName = cacheName;
+        this.tenantId = tenantId;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    public String getCacheName() {
+
+        return cacheName;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public long getHitCount() {
+
+        return hitCount;
+    }
+
+    public long getMissCount() {
+
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount;
+    }
+
+    public int getSize() {
+
+        return size;
+    }
+
+    @Override
+    public String toString() {
+
+        return "NearCacheStats{" +
+                "cacheName='" + cacheName + '\'' +
+                ", tenantId=" + tenantId +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -38,6 +38,7 @@ import org.wso2.carbon.identity.core.KeyProviderService;
 import org.wso2.carbon.identity.core.KeyStoreManagerExtension;
 import org.wso2.carbon.identity.core.SAMLSSOServiceProviderManager;
 import org.wso2.carbon.identity.core.ServiceURLBuilderFactory;
+import org.wso2.carbon.identity.core.cache.BaseCacheTenantUnloadObserver;
 import org.wso2.carbon.identity.core.migrate.MigrationClient;
 import org.wso2.carbon.identity.core.migrate.MigrationClientException;
 import org.wso2.carbon.identity.core.migrate.MigrationClientStartupObserver;
@@ -55,6 +56,7 @@ import org.wso2.carbon.identity.organization.management.service.OrganizationUser
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.registry.core.service.TenantRegistryLoader;
 import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.utils.Axis2ConfigurationContextObserver;
 import org.wso2.carbon.utils.ConfigurationContextService;
 
 @Component(
@@ -178,6 +180,10 @@ public class IdentityCoreServiceComponent {
                 }
             }
 
+            // Discard the resolved cache handles of tenants when they are unloaded.
+            ctxt.getBundleContext().registerService(Axis2ConfigurationContextObserver.class.getName(),
+                    new BaseCacheTenantUnloadObserver(), null);
+
             // Registering the SAML SSO Service Provider configuration manager.
             ctxt.getBundleContext().registerService(SAMLSSOServiceProviderManager.class.getName(),
                     new SAMLSSOServiceProviderManager(), null);
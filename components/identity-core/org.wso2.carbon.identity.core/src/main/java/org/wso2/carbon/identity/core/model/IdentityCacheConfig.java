@@ -25,6 +25,9 @@ public class IdentityCacheConfig {
     private int capacity;
     private boolean isDistributed = true;
     private boolean isTemporary = false;
+    private boolean isNearCacheEnabled = false;
+    private int nearCacheCapacity;
+    private int nearCacheTimeout;
 
     public IdentityCacheConfig(IdentityCacheConfigKey identityCacheConfigKey) {
         this.identityCacheConfigKey = identityCacheConfigKey;
@@ -73,4 +76,28 @@ public class IdentityCacheConfig {
     public void setDistributed(boolean isDistributed) {
         this.isDistributed = isDistributed;
     }
+
+    public boolean isNearCacheEnabled() {
+        return isNearCacheEnabled;
+    }
+
+    public void setNearCacheEnabled(boolean isNearCacheEnabled) {
+        this.isNearCacheEnabled = isNearCacheEnabled;
+    }
+
+    public int getNearCacheCapacity() {
+        return nearCacheCapacity;
+    }
+
+    public void setNearCacheCapacity(int nearCacheCapacity) {
+        this.nearCacheCapacity = nearCacheCapacity;
+    }
+
+    public int getNearCacheTimeout() {
+        return nearCacheTimeout;
+    }
+
+    public void setNearCacheTimeout(int nearCacheTimeout) {
+        this.nearCacheTimeout = nearCacheTimeout;
+    }
 }
@@ -66,6 +66,9 @@ public class IdentityConfigParser {
     private static Map<String, Boolean> storeProcedureBasedDAOConfigurationHolder = new HashMap<>();
     public final static String IS_DISTRIBUTED_CACHE = "isDistributed";
     public static final String IS_TEMPORARY = "isTemporary";
+    public static final String NEAR_CACHE_ENABLED = "nearCacheEnabled";
+    public static final String NEAR_CACHE_CAPACITY = "nearCacheCapacity";
+    public static final String NEAR_CACHE_TIMEOUT = "nearCacheTimeout";
     private static final String SERVICE_PROVIDER_CACHE = "ServiceProviderCache";
     private static final String SERVICE_PROVIDER_AUTH_KEY_CACHE = "ServiceProvideCache.InboundAuth";
     private static final String SERVICE_PROVIDER_ID_CACHE = "ServiceProviderCache.ID";
@@ -407,6 +410,21 @@ public class IdentityConfigParser {
                                 identityCacheConfig.setTemporary(Boolean.parseBoolean(isTemporaryCache));
                             }
 
+                            String isNearCacheEnabled = cache.getAttributeValue(new QName(NEAR_CACHE_ENABLED));
+                            if (StringUtils.isNotBlank(isNearCacheEnabled)) {
+                                identityCacheConfig.setNearCacheEnabled(Boolean.parseBoolean(isNearCacheEnabled));
+                            }
+
+                            String nearCacheCapacity = cache.getAttributeValue(new QName(NEAR_CACHE_CAPACITY));
+                            if (StringUtils.isNotBlank(nearCacheCapacity)) {
+                                identityCacheConfig.setNearCacheCapacity(Integer.parseInt(nearCacheCapacity));
+                            }
+
+                            String nearCacheTimeout = cache.getAttributeValue(new QName(NEAR_CACHE_TIMEOUT));
+                            if (StringUtils.isNotBlank(nearCacheTimeout)) {
+                                identityCacheConfig.setNearCacheTimeout(Integer.parseInt(nearCacheTimeout));
+                            }
+
                             // Add the config to container
                             identityCacheConfigurationHolder.put(identityCacheConfigKey, identityCacheConfig);
                         }
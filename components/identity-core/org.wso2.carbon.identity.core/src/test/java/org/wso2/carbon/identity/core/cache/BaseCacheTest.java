@@ -155,4 +155,23 @@ public class BaseCacheTest {
         entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test2"), "bar.com");
         assertEquals("value2", entry.getValue());
     }
+
+    @Test
+    public void testInvalidateResolvedCaches() {
+
+        TestCache.getInstance().addToCache(new TestCacheKey("test1"), new TestCacheEntry("value1"), 1);
+        TestCache.getInstance().addToCache(new TestCacheKey("test2"), new TestCacheEntry("value2"), 2);
+
+        // Discarding the resolved handles must not remove the cached entries.
+        BaseCache.invalidateResolvedCaches(1);
+
+        TestCacheEntry entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test1"), "foo.com");
+        assertEquals(entry.getValue(), "value1");
+        entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test2"), 2);
+        assertEquals(entry.getValue(), "value2");
+
+        TestCache.getInstance().addToCache(new TestCacheKey("test1"), new TestCacheEntry("newValue"), 1);
+        entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test1"), 1);
+        assertEquals(entry.getValue(), "newValue");
+    }
 }
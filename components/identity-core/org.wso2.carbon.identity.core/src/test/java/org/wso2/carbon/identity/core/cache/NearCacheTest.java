@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for the near cache.
+ */
+public class NearCacheTest {
+
+    @Test
+    public void testPutGetAndRemove() {
+
+        NearCache<String, String> nearCache = new NearCache<>(10, 60);
+        nearCache.put("key1", "value1");
+        nearCache.put("key2", "value2");
+
+        assertEquals(nearCache.get("key1"), "value1");
+        assertNull(nearCache.get("key3"));
+        assertEquals(nearCache.getHitCount(), 1);
+        assertEquals(nearCache.getMissCount(), 1);
+
+        nearCache.remove("key1");
+        assertNull(nearCache.get("key1"));
+        nearCache.clear();
+        assertEquals(nearCache.size(), 0);
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+
+        NearCache<String, String> nearCache = new NearCache<>(100, 60);
+        for (int i = 0; i < 1000; i++) {
+            nearCache.put("key" + i, "value" + i);
+        }
+        assertTrue(nearCache.size() <= 100, "Near cache holds " + nearCache.size() + " entries.");
+        assertEquals(nearCache.getEvictionCount(), 1000 - nearCache.size());
+    }
+
+    @Test
+    public void testFrequentlyUsedEntriesAreRetained() {
+
+        NearCache<String, String> nearCache = new NearCache<>(100, 60);
+        Random random = new Random(1);
+        for (int i = 0; i < 20000; i++) {
+            // A quarter of the lookups are for keys which are never seen again.
+            String key = random.nextInt(4) == 0 ? "cold" + i : "hot" + random.nextInt(50);
+            if (nearCache.get(key) == null) {
+                nearCache.put(key, "value");
+            }
+        }
+
+        int retained = 0;
+        for (int i = 0; i < 50; i++) {
+            if (nearCache.get("hot" + i) != null) {
+                retained++;
+            }
+        }
+        assertTrue(retained >= 45, "Only " + retained + " frequently used entries were retained.");
+    }
+
+    @Test
+    public void testValueIsNotCachedAfterInvalidation() {
+
+        NearCache<String, String> nearCache = new NearCache<>(10, 60);
+        long generation = nearCache.getGeneration();
+        // The entry is invalidated while the value is read from the underlying cache.
+        nearCache.remove("key");
+        nearCache.putIfNotInvalidated("key", "staleValue", generation);
+        assertNull(nearCache.get("key"));
+
+        nearCache.putIfNotInvalidated("key", "value", nearCache.getGeneration());
+        assertEquals(nearCache.get("key"), "value");
+    }
+
+    @Test
+    public void testEntryExpiry() throws Exception {
+
+        NearCache<String, String> nearCache = new NearCache<>(10, 1);
+        nearCache.put("key", "value");
+        assertEquals(nearCache.get("key"), "value");
+
+        Thread.sleep(1100);
+        assertNull(nearCache.get("key"));
+    }
+}
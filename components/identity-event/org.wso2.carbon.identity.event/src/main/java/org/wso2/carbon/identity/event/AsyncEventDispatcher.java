@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * Dispatches the events of asynchronous handler subscriptions through a set of bounded queues, each drained by its
+ * own thread. The events of a user are always queued in the same shard, and the queued events of a handler are taken
+ * in the order they were published. Within a shard, the events of the handlers with a higher priority, that is a
+ * lower priority value, are taken before the events of the other handlers.
+ * <p>
+ * A handler with a concurrency limit has its own shards, as many as the limit, so that waiting for the handler does
+ * not hold up the events of the other handlers.
+ * <p>
+ * When a shard is full, the configured overflow policy decides whether the publisher waits for space, a queued event
+ * is dropped, or the event is handled on the publisher thread. An event which is handled on the publisher thread may
+ * be handled before the events of the same user which are still queued, hence the order of the events of a user is
+ * only kept while their shard has space.
+ */
+public class AsyncEventDispatcher {
+
+    private static final Log log = LogFactory.getLog(AsyncEventDispatcher.class);
+    private static final String WORKER_NAME_PREFIX = "IdentityEventDispatcher-";
+
+    /**
+     * Behaviour when the shard of an event is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Wait up to the block timeout for space in the shard, then handle the event on the publisher thread.
+         */
+        BLOCK,
+        /**
+         * Drop the oldest queued event of the lowest priority in the shard to make space for the event.
+         */
+        DROP_OLDEST,
+        /**
+         * Handle the event on the publisher thread.
+         */
+        CALLER_RUNS
+    }
+
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final ToIntFunction<String> handlerConcurrencyLimitResolver;
+    private final Shard[] shards;
+    private final Map<String, Shard[]> handlerShards = new ConcurrentHashMap<>();
+    private final Map<String, HandlerMetrics> handlerMetrics = new ConcurrentHashMap<>();
+    private final AtomicLong dispatchSequence = new AtomicLong();
+    private final AtomicLong droppedEventCount = new AtomicLong();
+    private final AtomicLong callerRunsEventCount = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * Create and start an async event dispatcher.
+     *
+     * @param shardCount                      Number of shards, each drained by its own thread.
+     * @param queueCapacity                   Maximum number of events queued in a shard. Values below 1 mean no limit.
+     * @param overflowPolicy                  Behaviour when a shard is full.
+     * @param blockTimeoutMillis              Time to wait for space in a full shard with the BLOCK policy.
+     * @param handlerConcurrencyLimitResolver Resolves the maximum number of events a handler may handle at once, by
+     *                                        the handler name. Values below 1 mean no limit.
+     */
+    public AsyncEventDispatcher(int shardCount, int queueCapacity, OverflowPolicy overflowPolicy,
+                                long blockTimeoutMillis, ToIntFunction<String> handlerConcurrencyLimitResolver) {
+
+        this.queueCapacity = queueCapacity > 0 ? queueCapacity : Integer.MAX_VALUE;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.handlerConcurrencyLimitResolver = handlerConcurrencyLimitResolver;
+        this.shards = startShards(Math.max(1, shardCount), WORKER_NAME_PREFIX);
+        if (log.isDebugEnabled()) {
+            log.debug("Started async event dispatcher with " + shards.length + " shards of capacity " +
+                    queueCapacity + " and overflow policy " + overflowPolicy);
+        }
+    }
+
+    /**
+     * Dispatch the given event to the given handler asynchronously, with the default handler priority.
+     *
+     * @param handler Handler of the event.
+     * @param event   Event.
+     */
+    public void dispatch(AbstractEventHandler handler, Event event) {
+
+        dispatch(handler, event, IdentityCoreConstants.EVENT_LISTENER_ORDER_ID);
+    }
+
+    /**
+     * Dispatch the given event to the given handler asynchronously.
+     *
+     * @param handler  Handler of the event.
+     * @param event    Event.
+     * @param priority Priority of the handler. Events of handlers with a lower value are handled first.
+     */
+    public void dispatch(AbstractEventHandler handler, Event event, int priority) {
+
+        DispatchTask task = new DispatchTask(handler, event, priority, dispatchSequence.getAndIncrement());
+        Shard[] candidateShards = getShards(String.valueOf(handler.getName()));
+        Shard shard = candidateShards[getShardIndex(event, candidateShards.length)];
+        if (shard.offer(task)) {
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            DispatchTask droppedTask = shard.offerReplacingLeastUrgent(task);
+            if (droppedTask != null) {
+                droppedEventCount.incrementAndGet();
+                if (log.isDebugEnabled()) {
+                    log.debug("Event queue is full. Dropped event " + droppedTask.event.getEventName() +
+                            " of handler " + droppedTask.handler.getName());
+                }
+            }
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                if (shard.offer(task, blockTimeoutMillis)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // The event could not be queued, hence it is handled on the publisher thread rather than being lost.
+        callerRunsEventCount.incrementAndGet();
+        execute(task);
+    }
+
+    /**
+     * Stop draining the shards. Events still queued are not handled.
+     */
+    public void shutdown() {
+
+        running = false;
+    }
+
+    private Shard[] startShards(int shardCount, String workerNamePrefix) {
+
+        Shard[] startedShards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            Shard shard = new Shard(queueCapacity);
+            startedShards[i] = shard;
+            Thread worker = new Thread(() -> drain(shard), workerNamePrefix + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        return startedShards;
+    }
+
+    private Shard[] getShards(String handlerName) {
+
+        return handlerShards.computeIfAbsent(handlerName, key -> {
+            int limit = handlerConcurrencyLimitResolver.applyAsInt(key);
+            // Each shard handles one event at a time, hence the number of shards of a handler limits its concurrency.
+            return limit > 0 ? startShards(limit, WORKER_NAME_PREFIX + key + "-") : shards;
+        });
+    }
+
+    private void drain(Shard shard) {
+
+        while (running) {
+            try {
+                DispatchTask task = shard.poll(1, TimeUnit.SECONDS);
+                if (task != null) {
+                    execute(task);
+                }
+            } catch (InterruptedException e) {
+                log.error("Error while picking up event from event queue", e);
+            } catch (RuntimeException e) {
+                log.error("Error while dispatching event from event queue", e);
+            }
+        }
+    }
+
+    private void execute(DispatchTask task) {
+
+        String handlerName = String.valueOf(task.handler.getName());
+        if (log.isDebugEnabled()) {
+            log.debug("Executing " + handlerName + " on event " + task.event.getEventName());
+        }
+        long startTime = System.nanoTime();
+        boolean successful = false;
+        try {
+            task.handler.handleEvent(task.event);
+            successful = true;
+        } catch (IdentityEventException | RuntimeException e) {
+            log.error("Error while invoking event handler " + handlerName + " on event " +
+                    task.event.getEventName(), e);
+        } finally {
+            handlerMetrics.computeIfAbsent(handlerName, key -> new HandlerMetrics())
+                    .record(System.nanoTime() - startTime, successful);
+        }
+    }
+
+    private static int getShardIndex(Event event, int shardCount) {
+
+        Map<String, Object> eventProperties = event.getEventProperties();
+        Object userName = eventProperties != null ?
+                eventProperties.get(IdentityEventConstants.EventProperty.USER_NAME) : null;
+        if (userName == null) {
+            // Events not related to a user have no ordering requirement.
+            return ThreadLocalRandom.current().nextInt(shardCount);
+        }
+        Object tenantDomain = eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+        int hash = (tenantDomain + "/" + userName).hashCode();
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % shardCount;
+    }
+
+    /**
+     * Returns the total number of events waiting in the shards, including the shards of the handlers with a
+     * concurrency limit.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+
+        int queueDepth = 0;
+        for (Shard shard : shards) {
+            queueDepth += shard.size();
+        }
+        for (Shard[] shardsOfHandler : handlerShards.values()) {
+            if (shardsOfHandler != shards) {
+                for (Shard shard : shardsOfHandler) {
+                    queueDepth += shard.size();
+                }
+            }
+        }
+        return queueDepth;
+    }
+
+    /**
+     * Returns the number of events waiting in each of the shards shared by the handlers without a concurrency limit.
+     *
+     * @return Queue depth of each shard.
+     */
+    public int[] getShardQueueDepths() {
+
+        int[] queueDepths = new int[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            queueDepths[i] = shards[i].size();
+        }
+        return queueDepths;
+    }
+
+    public long getDroppedEventCount() {
+
+        return droppedEventCount.get();
+    }
+
+    public long getCallerRunsEventCount() {
+
+        return callerRunsEventCount.get();
+    }
+
+    /**
+     * Returns the latency metrics of the handlers, by the handler name.
+     *
+     * @return Handler metrics.
+     */
+    public Map<String, HandlerMetrics> getHandlerMetrics() {
+
+        return Collections.unmodifiableMap(handlerMetrics);
+    }
+
+    private static final class DispatchTask {
+
+        private static final Comparator<DispatchTask> URGENCY_ORDER =
+                Comparator.<DispatchTask>comparingInt(task -> task.priority).thenComparingLong(task -> task.sequence);
+
+        private final AbstractEventHandler handler;
+        private final Event event;
+        private final int priority;
+        private final long sequence;
+
+        private DispatchTask(AbstractEventHandler handler, Event event, int priority, long sequence) {
+
+            this.handler = handler;
+            this.event = event;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Bounded queue of a shard, which hands out the queued events by the priority of their handlers and then in the
+     * order they were dispatched.
+     */
+    private static final class Shard {
+
+        private final PriorityQueue<DispatchTask> tasks = new PriorityQueue<>(DispatchTask.URGENCY_ORDER);
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Condition notFull = lock.newCondition();
+        private final int capacity;
+
+        private Shard(int capacity) {
+
+            this.capacity = capacity;
+        }
+
+        private boolean offer(DispatchTask task) {
+
+            lock.lock();
+            try {
+                if (tasks.size() >= capacity) {
+                    return false;
+                }
+                enqueue(task);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean offer(DispatchTask task, long timeoutMillis) throws InterruptedException {
+
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            lock.lockInterruptibly();
+            try {
+                while (tasks.size() >= capacity) {
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    remainingNanos = notFull.awaitNanos(remainingNanos);
+                }
+                enqueue(task);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Queue the given task, dropping the oldest queued task of the lowest priority if the shard is full.
+         *
+         * @param task Task to queue.
+         * @return The dropped task, or null if no task was dropped.
+         */
+        private DispatchTask offerReplacingLeastUrgent(DispatchTask task) {
+
+            lock.lock();
+            try {
+                DispatchTask droppedTask = null;
+                if (tasks.size() >= capacity) {
+                    for (DispatchTask queuedTask : tasks) {
+                        if (droppedTask == null || queuedTask.priority > droppedTask.priority ||
+                                (queuedTask.priority == droppedTask.priority &&
+                                        queuedTask.sequence < droppedTask.sequence)) {
+                            droppedTask = queuedTask;
+                        }
+                    }
+                    removeIdentical(droppedTask);
+                }
+                enqueue(task);
+                return droppedTask;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private DispatchTask poll(long timeout, TimeUnit unit) throws InterruptedException {
+
+            long remainingNanos = unit.toNanos(timeout);
+            lock.lockInterruptibly();
+            try {
+                while (tasks.isEmpty()) {
+                    if (remainingNanos <= 0) {
+                        return null;
+                    }
+                    remainingNanos = notEmpty.awaitNanos(remainingNanos);
+                }
+                DispatchTask task = tasks.poll();
+                notFull.signal();
+                return task;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+
+            lock.lock();
+            try {
+                return tasks.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void enqueue(DispatchTask task) {
+
+            tasks.add(task);
+            notEmpty.signal();
+        }
+
+        private void removeIdentical(DispatchTask task) {
+
+            Iterator<DispatchTask> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() == task) {
+                    iterator.remove();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Counters of the events handled by a handler.
+     */
+    public static final class HandlerMetrics {
+
+        private final AtomicLong invocationCount = new AtomicLong();
+        private final AtomicLong failedInvocationCount = new AtomicLong();
+        private final AtomicLong totalLatencyNanos = new AtomicLong();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        private void record(long latencyNanos, boolean successful) {
+
+            invocationCount.incrementAndGet();
+            totalLatencyNanos.addAndGet(latencyNanos);
+            maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+            if (!successful) {
+                failedInvocationCount.incrementAndGet();
+            }
+        }
+
+        public long getInvocationCount() {
+
+            return invocationCount.get();
+        }
+
+        public long getFailedInvocationCount() {
+
+            return failedInvocationCount.get();
+        }
+
+        public long getAverageLatencyNanos() {
+
+            long invocations = invocationCount.get();
+            return invocations == 0 ? 0 : totalLatencyNanos.get() / invocations;
+        }
+
+        public long getMaxLatencyNanos() {
+
+            return maxLatencyNanos.get();
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.event;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
@@ -50,6 +51,12 @@ import java.util.Properties;
 public class IdentityEventConfigBuilder {
 
     private static final Log log = LogFactory.getLog(IdentityEventConfigBuilder.class);
+    private static final String ASYNC_QUEUE_CAPACITY = "asyncQueue.capacity";
+    private static final String ASYNC_QUEUE_OVERFLOW_POLICY = "asyncQueue.overflowPolicy";
+    private static final String ASYNC_QUEUE_BLOCK_TIMEOUT = "asyncQueue.blockTimeout";
+    private static final String ASYNC_MAX_CONCURRENCY = "async.maxConcurrency";
+    private static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 10000;
+    private static final long DEFAULT_ASYNC_QUEUE_BLOCK_TIMEOUT = 1000;
     /**
      * All properties configured in msg-mgt.properties file
      */
@@ -62,6 +69,19 @@ public class IdentityEventConfigBuilder {
      * Thread pool size for message sending task
      */
     private String threadPoolSize;
+    /**
+     * Maximum number of events queued in each shard of the async event dispatcher
+     */
+    private int asyncQueueCapacity = DEFAULT_ASYNC_QUEUE_CAPACITY;
+    /**
+     * Behaviour of the async event dispatcher when a shard is full
+     */
+    private AsyncEventDispatcher.OverflowPolicy asyncQueueOverflowPolicy =
+            AsyncEventDispatcher.OverflowPolicy.CALLER_RUNS;
+    /**
+     * Time to wait for space in a full shard with the BLOCK overflow policy
+     */
+    private long asyncQueueBlockTimeout = DEFAULT_ASYNC_QUEUE_BLOCK_TIMEOUT;
 
     private static IdentityEventConfigBuilder notificationMgtConfigBuilder = new IdentityEventConfigBuilder();
 
@@ -78,6 +98,7 @@ public class IdentityEventConfigBuilder {
         }
 
         setThreadPoolSize();
+        setAsyncQueueConfigs();
         resolveSecrets();
         moduleConfiguration = new HashMap<>();
         build();
@@ -98,6 +119,37 @@ public class IdentityEventConfigBuilder {
         threadPoolSize = (String) notificationMgtConfigProperties.remove("threadPool.size");
     }
 
+    /**
+     * Sets the async event dispatcher queue configurations read from configurations
+     */
+    private void setAsyncQueueConfigs() {
+
+        String capacity = (String) notificationMgtConfigProperties.remove(ASYNC_QUEUE_CAPACITY);
+        String overflowPolicy = (String) notificationMgtConfigProperties.remove(ASYNC_QUEUE_OVERFLOW_POLICY);
+        String blockTimeout = (String) notificationMgtConfigProperties.remove(ASYNC_QUEUE_BLOCK_TIMEOUT);
+        try {
+            if (StringUtils.isNotBlank(capacity)) {
+                asyncQueueCapacity = Integer.parseInt(capacity.trim());
+            }
+            if (StringUtils.isNotBlank(blockTimeout)) {
+                asyncQueueBlockTimeout = Long.parseLong(blockTimeout.trim());
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid async event queue configuration. Using the default capacity: " +
+                    DEFAULT_ASYNC_QUEUE_CAPACITY + " and block timeout: " + DEFAULT_ASYNC_QUEUE_BLOCK_TIMEOUT, e);
+            asyncQueueCapacity = DEFAULT_ASYNC_QUEUE_CAPACITY;
+            asyncQueueBlockTimeout = DEFAULT_ASYNC_QUEUE_BLOCK_TIMEOUT;
+        }
+        if (StringUtils.isNotBlank(overflowPolicy)) {
+            try {
+                asyncQueueOverflowPolicy = AsyncEventDispatcher.OverflowPolicy.valueOf(overflowPolicy.trim());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid async event queue overflow policy: " + overflowPolicy + ". Using the default " +
+                        "policy: " + asyncQueueOverflowPolicy);
+            }
+        }
+    }
+
     /**
      * Load properties which are defined in msg-mgt.properties file
      *
@@ -222,6 +274,44 @@ public class IdentityEventConfigBuilder {
         return threadPoolSize;
     }
 
+    public int getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    public AsyncEventDispatcher.OverflowPolicy getAsyncQueueOverflowPolicy() {
+        return asyncQueueOverflowPolicy;
+    }
+
+    public long getAsyncQueueBlockTimeout() {
+        return asyncQueueBlockTimeout;
+    }
+
+    /**
+     * Returns the maximum number of events the given module may handle at once asynchronously, configured with the
+     * async.maxConcurrency property of the module.
+     *
+     * @param moduleName Name of the module
+     * @return Maximum number of concurrent asynchronous events, or 0 if there is no limit.
+     */
+    public int getAsyncMaxConcurrency(String moduleName) {
+        ModuleConfiguration configuration = moduleConfiguration.get(moduleName);
+        if (configuration == null || configuration.getModuleProperties() == null) {
+            return 0;
+        }
+        String maxConcurrency = configuration.getModuleProperties().getProperty(moduleName + "." +
+                ASYNC_MAX_CONCURRENCY);
+        if (StringUtils.isBlank(maxConcurrency)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(maxConcurrency.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid " + ASYNC_MAX_CONCURRENCY + " value: " + maxConcurrency + " for module: " +
+                    moduleName + ". Concurrency of the module will not be limited.");
+            return 0;
+        }
+    }
+
     /**
      * There can be sensitive information like passwords in configuration file. If they are encrypted using secure
      * vault, this method will resolve them and replace with original values.
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler;
+
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.Subscription;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of the event handlers to be invoked for each event, in the order of the registered handlers.
+ * The handlers relying on the subscriptions of their module configuration are resolved to their subscribed events,
+ * and whether each subscription is asynchronous, when the index is built. The handlers overriding canHandle, or
+ * without a module configuration, are dispatched for every event and evaluated when the event is dispatched.
+ */
+public class EventHandlerDispatchIndex {
+
+    private final List<AbstractEventHandler> handlerList;
+    private final int handlerCount;
+    private final Map<String, List<Dispatch>> dispatchesByEvent;
+    private final List<Dispatch> defaultDispatches;
+
+    private EventHandlerDispatchIndex(List<AbstractEventHandler> handlerList, int handlerCount,
+                                      Map<String, List<Dispatch>> dispatchesByEvent,
+                                      List<Dispatch> defaultDispatches) {
+
+        this.handlerList = handlerList;
+        this.handlerCount = handlerCount;
+        this.dispatchesByEvent = dispatchesByEvent;
+        this.defaultDispatches = defaultDispatches;
+    }
+
+    /**
+     * Build the dispatch index of the given handlers.
+     *
+     * @param handlerList Registered event handlers, in the order they should be invoked.
+     * @return Dispatch index.
+     */
+    public static EventHandlerDispatchIndex build(List<AbstractEventHandler> handlerList) {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>(handlerList);
+        boolean[] evaluatedOnDispatch = new boolean[handlers.size()];
+        Set<String> eventNames = new LinkedHashSet<>();
+        for (int i = 0; i < handlers.size(); i++) {
+            AbstractEventHandler handler = handlers.get(i);
+            // Handlers without a module configuration are left to their own canHandle implementation.
+            evaluatedOnDispatch[i] = handler.configs == null || isOverridden(handler, "canHandle",
+                    MessageContext.class);
+            if (!evaluatedOnDispatch[i]) {
+                for (Subscription subscription : handler.configs.getSubscriptions()) {
+                    eventNames.add(subscription.getSubscriptionName());
+                }
+            }
+        }
+
+        Map<String, List<Dispatch>> dispatchesByEvent = new HashMap<>();
+        for (String eventName : eventNames) {
+            dispatchesByEvent.put(eventName, resolveDispatches(handlers, evaluatedOnDispatch, eventName));
+        }
+        return new EventHandlerDispatchIndex(handlerList, handlers.size(), dispatchesByEvent,
+                resolveDispatches(handlers, evaluatedOnDispatch, null));
+    }
+
+    /**
+     * Check whether this index was built from the current state of the given handler list. Handlers are only added
+     * to the registered handler list, hence a change of the list size means the registrations have changed.
+     *
+     * @param handlerList Registered event handlers.
+     * @return True if the index reflects the given handler list.
+     */
+    public boolean isBuiltFrom(List<AbstractEventHandler> handlerList) {
+
+        return this.handlerList == handlerList && handlerCount == handlerList.size();
+    }
+
+    /**
+     * Returns the handlers to be dispatched for the given event, in the order they should be invoked.
+     *
+     * @param eventName Event name.
+     * @return Dispatches of the event.
+     */
+    public List<Dispatch> getDispatches(String eventName) {
+
+        List<Dispatch> dispatches = dispatchesByEvent.get(eventName);
+        return dispatches != null ? dispatches : defaultDispatches;
+    }
+
+    private static List<Dispatch> resolveDispatches(List<AbstractEventHandler> handlers,
+                                                    boolean[] evaluatedOnDispatch, String eventName) {
+
+        List<Dispatch> dispatches = new ArrayList<>();
+        for (int i = 0; i < handlers.size(); i++) {
+            AbstractEventHandler handler = handlers.get(i);
+            if (evaluatedOnDispatch[i]) {
+                dispatches.add(new Dispatch(handler, true, null));
+            } else if (eventName != null && isSubscribed(handler, eventName)) {
+                dispatches.add(new Dispatch(handler, false, resolveAssociationAsync(handler, eventName)));
+            }
+        }
+        return Collections.unmodifiableList(dispatches);
+    }
+
+    private static boolean isSubscribed(AbstractEventHandler handler, String eventName) {
+
+        for (Subscription subscription : handler.configs.getSubscriptions()) {
+            if (subscription.getSubscriptionName().equals(eventName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Boolean resolveAssociationAsync(AbstractEventHandler handler, String eventName) {
+
+        if (isOverridden(handler, "isAssociationAsync", String.class)
+                || isOverridden(handler, "getSubscriptionProperty", String.class, String.class)
+                || isOverridden(handler, "getSubscriptionProperties", String.class)) {
+            return null;
+        }
+        try {
+            return handler.isAssociationAsync(eventName);
+        } catch (IdentityEventException | RuntimeException e) {
+            // Resolved again when the event is dispatched, so that the error is reported to the publisher.
+            return null;
+        }
+    }
+
+    private static boolean isOverridden(AbstractEventHandler handler, String methodName, Class<?>... parameterTypes) {
+
+        try {
+            return handler.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() !=
+                    AbstractEventHandler.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Handler to be dispatched for an event.
+     */
+    public static final class Dispatch {
+
+        private final AbstractEventHandler handler;
+        private final boolean evaluatedOnDispatch;
+        private final Boolean associationAsync;
+
+        private Dispatch(AbstractEventHandler handler, boolean evaluatedOnDispatch, Boolean associationAsync) {
+
+            this.handler = handler;
+            this.evaluatedOnDispatch = evaluatedOnDispatch;
+            this.associationAsync = associationAsync;
+        }
+
+        public AbstractEventHandler getHandler() {
+
+            return handler;
+        }
+
+        /**
+         * Check whether the handler can handle the event of the given message context.
+         *
+         * @param messageContext Message context of the event.
+         * @return True if the handler can handle the event.
+         */
+        public boolean canHandle(MessageContext messageContext) {
+
+            return !evaluatedOnDispatch || handler.canHandle(messageContext);
+        }
+
+        /**
+         * Check whether the handler should handle the given event asynchronously.
+         *
+         * @param eventName Event name.
+         * @return True if the event should be handled asynchronously.
+         * @throws IdentityEventException If an error occurs while reading the subscription.
+         */
+        public boolean isAssociationAsync(String eventName) throws IdentityEventException {
+
+            return associationAsync != null ? associationAsync : handler.isAssociationAsync(eventName);
+        }
+    }
+}
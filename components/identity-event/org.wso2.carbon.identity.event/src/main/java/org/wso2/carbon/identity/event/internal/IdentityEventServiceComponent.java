@@ -24,6 +24,7 @@ import org.osgi.service.component.ComponentContext;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.handler.MessageHandlerComparator;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
+import org.wso2.carbon.identity.event.AsyncEventDispatcher;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.IdentityEventConfigBuilder;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
@@ -58,7 +59,13 @@ public class IdentityEventServiceComponent {
     @Activate
     protected void activate(ComponentContext context) {
         try {
-            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(eventHandlerList, Integer.parseInt(IdentityEventConfigBuilder.getInstance().getThreadPoolSize())));
+            IdentityEventConfigBuilder configBuilder = IdentityEventConfigBuilder.getInstance();
+            AsyncEventDispatcher asyncEventDispatcher = new AsyncEventDispatcher(
+                    Integer.parseInt(configBuilder.getThreadPoolSize()), configBuilder.getAsyncQueueCapacity(),
+                    configBuilder.getAsyncQueueOverflowPolicy(), configBuilder.getAsyncQueueBlockTimeout(),
+                    configBuilder::getAsyncMaxConcurrency);
+            IdentityEventServiceDataHolder.getInstance().setEventMgtService(
+                    new IdentityEventServiceImpl(asyncEventDispatcher));
             context.getBundleContext().registerService(IdentityEventService.class.getName(), IdentityEventServiceDataHolder.getInstance().getEventMgtService(), null);
         } catch (IdentityEventException e) {
             log.error("Error while initiating IdentityMgtService.");
@@ -70,6 +77,10 @@ public class IdentityEventServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        IdentityEventService eventMgtService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventMgtService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventMgtService).getAsyncEventDispatcher().shutdown();
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity Management bundle is de-activated");
         }
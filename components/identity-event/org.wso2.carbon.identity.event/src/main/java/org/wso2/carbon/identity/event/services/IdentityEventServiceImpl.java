@@ -21,11 +21,12 @@ package org.wso2.carbon.identity.event.services;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import org.wso2.carbon.identity.event.EventDistributionTask;
+import org.wso2.carbon.identity.event.AsyncEventDispatcher;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.EventHandlerDispatchIndex;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
 
 import java.util.List;
@@ -33,29 +34,70 @@ import java.util.List;
 public class IdentityEventServiceImpl implements IdentityEventService {
 
     private static final Log log = LogFactory.getLog(IdentityEventServiceImpl.class);
-    private EventDistributionTask eventDistributionTask;
+    private final AsyncEventDispatcher asyncEventDispatcher;
+    private volatile EventHandlerDispatchIndex dispatchIndex;
 
+    /**
+     * @deprecated Use {@link #IdentityEventServiceImpl(AsyncEventDispatcher)} to configure the queue capacity,
+     * overflow policy and handler concurrency limits of the asynchronous event dispatching.
+     */
+    @Deprecated
     public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize) {
-        this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize);
-        if (log.isDebugEnabled()) {
-            log.debug("Starting event distribution task from Notification Management component");
-        }
-        new Thread(eventDistributionTask).start();
+
+        this(new AsyncEventDispatcher(threadPoolSize, 0, AsyncEventDispatcher.OverflowPolicy.CALLER_RUNS, 0,
+                handlerName -> 0));
+    }
+
+    public IdentityEventServiceImpl(AsyncEventDispatcher asyncEventDispatcher) {
+
+        this.asyncEventDispatcher = asyncEventDispatcher;
     }
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
-        List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
         IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-        for (final AbstractEventHandler handler : eventHandlerList) {
+        for (EventHandlerDispatchIndex.Dispatch dispatch : getDispatchIndex().getDispatches(event.getEventName())) {
 
-            if (handler.canHandle(eventContext)) {
-                if (handler.isAssociationAsync(event.getEventName())) {
-                    eventDistributionTask.addEventToQueue(event);
+            if (dispatch.canHandle(eventContext)) {
+                if (dispatch.isAssociationAsync(event.getEventName())) {
+                    // Handlers disabled through the event listener configuration are not run asynchronously.
+                    if (dispatch.getHandler().isEnabled(eventContext)) {
+                        asyncEventDispatcher.dispatch(dispatch.getHandler(), event,
+                                dispatch.getHandler().getPriority(eventContext));
+                    }
                 } else {
-                    handler.handleEvent(event);
+                    dispatch.getHandler().handleEvent(event);
                 }
             }
         }
     }
+
+    /**
+     * Returns the dispatcher of the events of asynchronous handler subscriptions, which exposes the queue depth and
+     * handler latency metrics.
+     *
+     * @return Async event dispatcher.
+     */
+    public AsyncEventDispatcher getAsyncEventDispatcher() {
+
+        return asyncEventDispatcher;
+    }
+
+    /**
+     * Returns the dispatch index of the registered event handlers. The index is rebuilt and replaced as a whole when
+     * the handler registrations change.
+     *
+     * @return Dispatch index of the registered event handlers.
+     */
+    private EventHandlerDispatchIndex getDispatchIndex() {
+
+        List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
+        EventHandlerDispatchIndex index = dispatchIndex;
+        if (index == null || !index.isBuiltFrom(eventHandlerList)) {
+            index = EventHandlerDispatchIndex.build(eventHandlerList);
+            dispatchIndex = index;
+        }
+        return index;
+    }
 }
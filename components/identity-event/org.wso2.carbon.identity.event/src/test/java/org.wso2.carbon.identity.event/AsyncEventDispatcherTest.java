@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AsyncEventDispatcherTest {
+
+    private static final String EVENT_NAME = "POST_ADD_USER";
+    private static final String SEQUENCE = "sequence";
+
+    @Test
+    public void testEventsOfUserAreHandledInOrder() throws Exception {
+
+        int usersCount = 8;
+        int eventsPerUser = 50;
+        RecordingEventHandler handler = new RecordingEventHandler(usersCount * eventsPerUser);
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(4, 0,
+                AsyncEventDispatcher.OverflowPolicy.CALLER_RUNS, 0, handlerName -> 0);
+        try {
+            for (int sequence = 0; sequence < eventsPerUser; sequence++) {
+                for (int user = 0; user < usersCount; user++) {
+                    dispatcher.dispatch(handler, newEvent("user" + user, sequence));
+                }
+            }
+            Assert.assertTrue(handler.handled.await(10, TimeUnit.SECONDS));
+
+            for (int user = 0; user < usersCount; user++) {
+                List<Integer> sequences = handler.sequencesByUser.get("user" + user);
+                Assert.assertEquals(sequences.size(), eventsPerUser);
+                for (int sequence = 0; sequence < eventsPerUser; sequence++) {
+                    Assert.assertEquals(sequences.get(sequence).intValue(), sequence);
+                }
+            }
+            AsyncEventDispatcher.HandlerMetrics metrics = dispatcher.getHandlerMetrics().get(handler.getName());
+            Assert.assertEquals(metrics.getInvocationCount(), usersCount * eventsPerUser);
+            Assert.assertEquals(metrics.getFailedInvocationCount(), 0);
+            Assert.assertEquals(dispatcher.getQueueDepth(), 0);
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDropOldestPolicy() throws Exception {
+
+        BlockingEventHandler handler = new BlockingEventHandler();
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(1, 2,
+                AsyncEventDispatcher.OverflowPolicy.DROP_OLDEST, 0, handlerName -> 0);
+        try {
+            dispatcher.dispatch(handler, newEvent("user", 0));
+            Assert.assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+            for (int sequence = 1; sequence <= 4; sequence++) {
+                dispatcher.dispatch(handler, newEvent("user", sequence));
+            }
+            Assert.assertEquals(dispatcher.getQueueDepth(), 2);
+            Assert.assertEquals(dispatcher.getShardQueueDepths()[0], 2);
+            Assert.assertEquals(dispatcher.getDroppedEventCount(), 2);
+        } finally {
+            handler.release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testCallerRunsPolicy() throws Exception {
+
+        BlockingEventHandler handler = new BlockingEventHandler();
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(1, 1,
+                AsyncEventDispatcher.OverflowPolicy.CALLER_RUNS, 0, handlerName -> 0);
+        try {
+            dispatcher.dispatch(handler, newEvent("user", 0));
+            Assert.assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+            dispatcher.dispatch(handler, newEvent("user", 1));
+
+            // The worker of the only shard is blocked and the queue is full, hence the event runs on this thread.
+            RecordingEventHandler overflowHandler = new RecordingEventHandler(1);
+            dispatcher.dispatch(overflowHandler, newEvent("user", 2));
+            Assert.assertEquals(overflowHandler.handled.getCount(), 0);
+            Assert.assertEquals(dispatcher.getCallerRunsEventCount(), 1);
+            Assert.assertEquals(handler.threadNames.size(), 1);
+        } finally {
+            handler.release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testHandlerConcurrencyLimit() throws Exception {
+
+        int eventsCount = 40;
+        ConcurrencyTrackingEventHandler handler = new ConcurrencyTrackingEventHandler(eventsCount);
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(4, 0,
+                AsyncEventDispatcher.OverflowPolicy.CALLER_RUNS, 0,
+                handlerName -> handler.getName().equals(handlerName) ? 1 : 0);
+        try {
+            for (int i = 0; i < eventsCount; i++) {
+                dispatcher.dispatch(handler, newEvent("user" + i, 0));
+            }
+            Assert.assertTrue(handler.handled.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(handler.maxConcurrency.get(), 1);
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testLimitedHandlerDoesNotHoldUpOtherHandlers() throws Exception {
+
+        BlockingEventHandler limitedHandler = new BlockingEventHandler();
+        RecordingEventHandler handler = new RecordingEventHandler(2);
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(1, 0,
+                AsyncEventDispatcher.OverflowPolicy.CALLER_RUNS, 0,
+                handlerName -> limitedHandler.getName().equals(handlerName) ? 1 : 0);
+        try {
+            dispatcher.dispatch(limitedHandler, newEvent("user", 0));
+            Assert.assertTrue(limitedHandler.started.await(5, TimeUnit.SECONDS));
+            dispatcher.dispatch(limitedHandler, newEvent("user", 1));
+
+            // The limited handler is busy with its own shard, hence the events of the other handler are handled.
+            dispatcher.dispatch(handler, newEvent("user", 0));
+            dispatcher.dispatch(handler, newEvent("user", 1));
+            Assert.assertTrue(handler.handled.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(handler.sequencesByUser.get("user"), Arrays.asList(0, 1));
+            Assert.assertEquals(dispatcher.getQueueDepth(), 1);
+            Assert.assertEquals(dispatcher.getCallerRunsEventCount(), 0);
+        } finally {
+            limitedHandler.release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testEventsOfHigherPriorityHandlersAreHandledFirst() throws Exception {
+
+        BlockingEventHandler blockingHandler = new BlockingEventHandler();
+        List<String> handledEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch handled = new CountDownLatch(4);
+        NamedEventHandler lowPriorityHandler = new NamedEventHandler("lowPriorityHandler", handledEvents, handled);
+        NamedEventHandler highPriorityHandler = new NamedEventHandler("highPriorityHandler", handledEvents, handled);
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(1, 0,
+                AsyncEventDispatcher.OverflowPolicy.CALLER_RUNS, 0, handlerName -> 0);
+        try {
+            dispatcher.dispatch(blockingHandler, newEvent("user", 0));
+            Assert.assertTrue(blockingHandler.started.await(5, TimeUnit.SECONDS));
+            dispatcher.dispatch(lowPriorityHandler, newEvent("user", 0), 100);
+            dispatcher.dispatch(lowPriorityHandler, newEvent("user", 1), 100);
+            dispatcher.dispatch(highPriorityHandler, newEvent("user", 0), 10);
+            dispatcher.dispatch(highPriorityHandler, newEvent("user", 1), 10);
+            blockingHandler.release.countDown();
+
+            Assert.assertTrue(handled.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(handledEvents, Arrays.asList("highPriorityHandler-0", "highPriorityHandler-1",
+                    "lowPriorityHandler-0", "lowPriorityHandler-1"));
+        } finally {
+            blockingHandler.release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDropOldestPolicyKeepsHigherPriorityEvents() throws Exception {
+
+        BlockingEventHandler blockingHandler = new BlockingEventHandler();
+        List<String> handledEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch handled = new CountDownLatch(2);
+        NamedEventHandler lowPriorityHandler = new NamedEventHandler("lowPriorityHandler", handledEvents, handled);
+        NamedEventHandler highPriorityHandler = new NamedEventHandler("highPriorityHandler", handledEvents, handled);
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(1, 2,
+                AsyncEventDispatcher.OverflowPolicy.DROP_OLDEST, 0, handlerName -> 0);
+        try {
+            dispatcher.dispatch(blockingHandler, newEvent("user", 0));
+            Assert.assertTrue(blockingHandler.started.await(5, TimeUnit.SECONDS));
+            dispatcher.dispatch(highPriorityHandler, newEvent("user", 0), 10);
+            dispatcher.dispatch(lowPriorityHandler, newEvent("user", 0), 100);
+            dispatcher.dispatch(highPriorityHandler, newEvent("user", 1), 10);
+            Assert.assertEquals(dispatcher.getDroppedEventCount(), 1);
+            blockingHandler.release.countDown();
+
+            Assert.assertTrue(handled.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(handledEvents, Arrays.asList("highPriorityHandler-0", "highPriorityHandler-1"));
+        } finally {
+            blockingHandler.release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    private static Event newEvent(String userName, int sequence) {
+
+        Event event = new Event(EVENT_NAME);
+        event.addEventProperty(IdentityEventConstants.EventProperty.USER_NAME, userName);
+        event.addEventProperty(IdentityEventConstants.EventProperty.TENANT_DOMAIN, "carbon.super");
+        event.addEventProperty(SEQUENCE, sequence);
+        return event;
+    }
+
+    private static class RecordingEventHandler extends AbstractEventHandler {
+
+        private final Map<String, List<Integer>> sequencesByUser = new ConcurrentHashMap<>();
+        private final CountDownLatch handled;
+
+        RecordingEventHandler(int eventsCount) {
+
+            handled = new CountDownLatch(eventsCount);
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+            String userName = (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.USER_NAME);
+            sequencesByUser.computeIfAbsent(userName, key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add((Integer) event.getEventProperties().get(SEQUENCE));
+            handled.countDown();
+        }
+    }
+
+    private static class BlockingEventHandler extends AbstractEventHandler {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            threadNames.add(Thread.currentThread().getName());
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class NamedEventHandler extends AbstractEventHandler {
+
+        private final String name;
+        private final List<String> handledEvents;
+        private final CountDownLatch handled;
+
+        NamedEventHandler(String name, List<String> handledEvents, CountDownLatch handled) {
+
+            this.name = name;
+            this.handledEvents = handledEvents;
+            this.handled = handled;
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+            handledEvents.add(name + "-" + event.getEventProperties().get(SEQUENCE));
+            handled.countDown();
+        }
+    }
+
+    private static class ConcurrencyTrackingEventHandler extends AbstractEventHandler {
+
+        private final AtomicInteger concurrency = new AtomicInteger();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private final CountDownLatch handled;
+
+        ConcurrencyTrackingEventHandler(int eventsCount) {
+
+            handled = new CountDownLatch(eventsCount);
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrency.decrementAndGet();
+                handled.countDown();
+            }
+        }
+    }
+}
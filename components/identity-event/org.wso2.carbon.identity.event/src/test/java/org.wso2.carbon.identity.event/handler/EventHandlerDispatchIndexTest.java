@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.event.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+public class EventHandlerDispatchIndexTest {
+
+    private static final String[] EVENT_NAMES = {"PRE_ADD_USER", "POST_ADD_USER", "PRE_AUTHENTICATION"};
+    private static final int HANDLER_COUNT = 60;
+
+    @Test
+    public void testDispatchesOnlySubscribedHandlersInOrder() throws IdentityEventException {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        for (int i = 0; i < HANDLER_COUNT; i++) {
+            String eventName = EVENT_NAMES[i % EVENT_NAMES.length];
+            handlers.add(new SubscribedEventHandler("handler" + i, eventName, i % 2 == 0));
+        }
+        EventHandlerDispatchIndex index = EventHandlerDispatchIndex.build(handlers);
+
+        for (int e = 0; e < EVENT_NAMES.length; e++) {
+            List<EventHandlerDispatchIndex.Dispatch> dispatches = index.getDispatches(EVENT_NAMES[e]);
+            Assert.assertEquals(dispatches.size(), HANDLER_COUNT / EVENT_NAMES.length);
+            int previousPosition = -1;
+            for (EventHandlerDispatchIndex.Dispatch dispatch : dispatches) {
+                int position = handlers.indexOf(dispatch.getHandler());
+                Assert.assertTrue(position > previousPosition, "Handlers are not dispatched in order.");
+                Assert.assertEquals(position % EVENT_NAMES.length, e);
+                Assert.assertTrue(dispatch.canHandle(newMessageContext(EVENT_NAMES[e])));
+                Assert.assertEquals(dispatch.isAssociationAsync(EVENT_NAMES[e]), position % 2 == 0);
+                previousPosition = position;
+            }
+        }
+        Assert.assertTrue(index.getDispatches("UNKNOWN_EVENT").isEmpty());
+    }
+
+    @Test
+    public void testHandlerOverridingCanHandleIsEvaluatedOnDispatch() {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        handlers.add(new SubscribedEventHandler("subscribedHandler", "POST_ADD_USER", false));
+        handlers.add(new CustomEventHandler());
+        EventHandlerDispatchIndex index = EventHandlerDispatchIndex.build(handlers);
+
+        List<EventHandlerDispatchIndex.Dispatch> dispatches = index.getDispatches("POST_ADD_USER");
+        Assert.assertEquals(dispatches.size(), 2);
+        Assert.assertSame(dispatches.get(0).getHandler(), handlers.get(0));
+        Assert.assertSame(dispatches.get(1).getHandler(), handlers.get(1));
+        Assert.assertFalse(dispatches.get(1).canHandle(newMessageContext("POST_ADD_USER")));
+
+        dispatches = index.getDispatches("CUSTOM_EVENT");
+        Assert.assertEquals(dispatches.size(), 1);
+        Assert.assertTrue(dispatches.get(0).canHandle(newMessageContext("CUSTOM_EVENT")));
+    }
+
+    @Test
+    public void testIndexIsStaleAfterHandlerRegistration() {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        handlers.add(new SubscribedEventHandler("handler1", "POST_ADD_USER", false));
+        EventHandlerDispatchIndex index = EventHandlerDispatchIndex.build(handlers);
+        Assert.assertTrue(index.isBuiltFrom(handlers));
+        Assert.assertFalse(index.isBuiltFrom(new ArrayList<>(handlers)));
+
+        handlers.add(new SubscribedEventHandler("handler2", "POST_ADD_USER", false));
+        Assert.assertFalse(index.isBuiltFrom(handlers));
+        Assert.assertEquals(EventHandlerDispatchIndex.build(handlers).getDispatches("POST_ADD_USER").size(), 2);
+    }
+
+    private static MessageContext newMessageContext(String eventName) {
+
+        return new IdentityEventMessageContext(new Event(eventName));
+    }
+
+    private static class SubscribedEventHandler extends AbstractEventHandler {
+
+        private final String name;
+
+        SubscribedEventHandler(String name, String eventName, boolean async) {
+
+            this.name = name;
+            Properties subscriptionProperties = new Properties();
+            subscriptionProperties.setProperty(name + ".subscription." + eventName + ".operationAsync",
+                    String.valueOf(async));
+            List<Subscription> subscriptions = new ArrayList<>();
+            subscriptions.add(new Subscription(eventName, subscriptionProperties));
+            init(new ModuleConfiguration(new Properties(), subscriptions));
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+
+    private static class CustomEventHandler extends AbstractEventHandler {
+
+        CustomEventHandler() {
+
+            init(new ModuleConfiguration(new Properties(), new ArrayList<>()));
+        }
+
+        @Override
+        public boolean canHandle(MessageContext messageContext) {
+
+            return "CUSTOM_EVENT".equals(((IdentityEventMessageContext) messageContext).getEvent().getEventName());
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+}
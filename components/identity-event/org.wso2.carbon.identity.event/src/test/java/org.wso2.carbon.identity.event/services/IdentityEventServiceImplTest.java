@@ -21,6 +21,7 @@ import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.AsyncEventDispatcher;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
@@ -34,6 +35,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.never;
 
 public class IdentityEventServiceImplTest extends IdentityBaseTest {
 
@@ -68,4 +71,31 @@ public class IdentityEventServiceImplTest extends IdentityBaseTest {
 
         Mockito.verify(abstractEventHandler).canHandle(any(MessageContext.class));
     }
+
+    @Test
+    public void testHandleEventSkipsDisabledAsyncHandler() throws IdentityEventException {
+
+        Event event = new Event("eventName");
+        AbstractEventHandler disabledHandler = mock(AbstractEventHandler.class);
+        doReturn(true).when(disabledHandler).canHandle(any(MessageContext.class));
+        doReturn(true).when(disabledHandler).isAssociationAsync(anyString());
+        doReturn(false).when(disabledHandler).isEnabled(any(MessageContext.class));
+        AbstractEventHandler enabledHandler = mock(AbstractEventHandler.class);
+        doReturn(true).when(enabledHandler).canHandle(any(MessageContext.class));
+        doReturn(true).when(enabledHandler).isAssociationAsync(anyString());
+        doReturn(true).when(enabledHandler).isEnabled(any(MessageContext.class));
+
+        List<AbstractEventHandler> list = new ArrayList<>();
+        list.add(disabledHandler);
+        list.add(enabledHandler);
+        IdentityEventServiceComponent.eventHandlerList = list;
+        AsyncEventDispatcher asyncEventDispatcher = mock(AsyncEventDispatcher.class);
+        IdentityEventService identityEventService = new IdentityEventServiceImpl(asyncEventDispatcher);
+        identityEventService.handleEvent(event);
+
+        Mockito.verify(asyncEventDispatcher, never()).dispatch(Mockito.eq(disabledHandler), any(Event.class),
+                anyInt());
+        Mockito.verify(asyncEventDispatcher).dispatch(Mockito.eq(enabledHandler), Mockito.eq(event), anyInt());
+        Mockito.verify(disabledHandler, never()).handleEvent(any(Event.class));
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache Key by IdP group id for IdpGroupRoleCache cache.
+ */
+public class IdpGroupIdCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 8461093725018364529L;
+
+    private final String groupId;
+
+    /**
+     * Constructor to create IdpGroupIdCacheKey.
+     *
+     * @param groupId ID of the IdP group.
+     */
+    public IdpGroupIdCacheKey(String groupId) {
+
+        this.groupId = groupId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        IdpGroupIdCacheKey that = (IdpGroupIdCacheKey) o;
+        return Objects.equals(groupId, that.groupId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(groupId);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Role ID cache based on the IdP group id.
+ */
+public class IdpGroupRoleCache extends BaseCache<IdpGroupIdCacheKey, IdpGroupRoleCacheEntry> {
+
+    private static final String CACHE_NAME = "IdpGroupRoleCache";
+    private static final Log log = LogFactory.getLog(IdpGroupRoleCache.class);
+
+    private static final IdpGroupRoleCache instance = new IdpGroupRoleCache();
+
+    private IdpGroupRoleCache() {
+
+        super(CACHE_NAME);
+        if (log.isDebugEnabled()) {
+            log.debug("Initialized IdpGroupRoleCache with cache name: " + CACHE_NAME);
+        }
+    }
+
+    /**
+     * Retrieve the singleton instance.
+     *
+     * @return Singleton instance of IdpGroupRoleCache.
+     */
+    public static IdpGroupRoleCache getInstance() {
+
+        return instance;
+    }
+}
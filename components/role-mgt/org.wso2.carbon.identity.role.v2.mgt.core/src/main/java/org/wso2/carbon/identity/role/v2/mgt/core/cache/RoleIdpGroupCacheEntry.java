@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing groupIds and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IdP Group Cache Entry for RoleIdpGroupCache cache.
+ */
+public class RoleIdpGroupCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 7320945168237450196L;
+
+    private final ArrayList<String> groupIds;
+
+    /**
+     * Constructor to create RoleIdpGroupCacheEntry.
+     *
+     * @param groupIds IDs of the IdP groups of the role to be added to the cache.
+     */
+    public RoleIdpGroupCacheEntry(List<String> groupIds) {
+
+        this.groupIds = new ArrayList<>(groupIds);
+    }
+
+    /**
+     * Get the IDs of the IdP groups of the role.
+     *
+     * @return IdP group IDs.
+     */
+    public List<String> getGroupIds() {
+
+        return new ArrayList<>(groupIds);
+    }
+}
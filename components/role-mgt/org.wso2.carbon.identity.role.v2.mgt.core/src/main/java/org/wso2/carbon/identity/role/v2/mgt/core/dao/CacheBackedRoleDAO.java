@@ -20,12 +20,29 @@ package org.wso2.carbon.identity.role.v2.mgt.core.dao;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.IdpGroupIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.IdpGroupRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.IdpGroupRoleCacheEntry;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheByName;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdpGroupCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdpGroupCacheEntry;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleNameCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCacheEntry;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.IdpGroup;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Permission;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
 import org.wso2.carbon.identity.role.v2.mgt.core.util.RoleManagementUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Cache layer implementation of the {@link RoleDAO} interface.
  * Delegates calls to the underlying RoleDAO implementation.
@@ -35,10 +52,16 @@ public class CacheBackedRoleDAO extends RoleDAOImpl {
     private static final Log LOG = LogFactory.getLog(CacheBackedRoleDAO.class);
 
     private final RoleIdCacheByName roleCacheByName;
+    private final RolePermissionCache rolePermissionCache;
+    private final RoleIdpGroupCache roleIdpGroupCache;
+    private final IdpGroupRoleCache idpGroupRoleCache;
 
     public CacheBackedRoleDAO() {
 
         roleCacheByName = RoleIdCacheByName.getInstance();
+        rolePermissionCache = RolePermissionCache.getInstance();
+        roleIdpGroupCache = RoleIdpGroupCache.getInstance();
+        idpGroupRoleCache = IdpGroupRoleCache.getInstance();
     }
 
     @Override
@@ -75,4 +98,204 @@ public class CacheBackedRoleDAO extends RoleDAOImpl {
         }
         return roleId;
     }
+
+    /*
+     * Only the permission names read for authorization are cached. getPermissionListOfRole is not served from this
+     * cache, since it returns the display names and API resource IDs of the permissions for the role management APIs.
+     */
+    @Override
+    protected Map<String, List<String>> getPermissionNamesOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, List<String>> permissionsOfRoles = new HashMap<>();
+        List<String> uncachedRoleIds = new ArrayList<>();
+        for (String roleId : roleIds) {
+            RolePermissionCacheEntry entry = rolePermissionCache.getValueFromCache(new RoleIdCacheKey(roleId),
+                    tenantDomain);
+            if (entry != null) {
+                permissionsOfRoles.put(roleId, entry.getPermissions());
+            } else {
+                uncachedRoleIds.add(roleId);
+            }
+        }
+        RoleCacheMetrics.getInstance().recordRolePermissionCacheLookups(roleIds.size() - uncachedRoleIds.size(),
+                uncachedRoleIds.size());
+        logCacheStatistics();
+        if (uncachedRoleIds.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cache hit for permissions of all the " + roleIds.size() + " roles in tenant: " +
+                        tenantDomain);
+            }
+            return permissionsOfRoles;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Getting permissions of " + uncachedRoleIds.size() + " roles in tenant: " + tenantDomain);
+        }
+
+        Map<String, List<String>> uncachedPermissionsOfRoles = super.getPermissionNamesOfRoles(uncachedRoleIds,
+                tenantDomain);
+        for (Map.Entry<String, List<String>> rolePermissions : uncachedPermissionsOfRoles.entrySet()) {
+            rolePermissionCache.addToCache(new RoleIdCacheKey(rolePermissions.getKey()),
+                    new RolePermissionCacheEntry(rolePermissions.getValue()), tenantDomain);
+        }
+        permissionsOfRoles.putAll(uncachedPermissionsOfRoles);
+        return permissionsOfRoles;
+    }
+
+    @Override
+    public void updatePermissionListOfRole(String roleId, List<Permission> addedPermissions,
+                                           List<Permission> deletedPermissions, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        super.updatePermissionListOfRole(roleId, addedPermissions, deletedPermissions, tenantDomain);
+        // Shared roles in sub organizations get their permissions from this role.
+        clearRolePermissionCache(roleId, tenantDomain);
+    }
+
+    @Override
+    public void addMainRoleToSharedRoleRelationship(String mainRoleUUID, String sharedRoleUUID,
+                                                    String mainRoleTenantDomain, String sharedRoleTenantDomain)
+            throws IdentityRoleManagementException {
+
+        super.addMainRoleToSharedRoleRelationship(mainRoleUUID, sharedRoleUUID, mainRoleTenantDomain,
+                sharedRoleTenantDomain);
+        // The shared role gets the permissions of the main role from now on, instead of its own permissions.
+        rolePermissionCache.clearCacheEntry(new RoleIdCacheKey(sharedRoleUUID), sharedRoleTenantDomain);
+    }
+
+    @Override
+    protected List<String> getIdpGroupIdsOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        RoleIdCacheKey cacheKey = new RoleIdCacheKey(roleId);
+        RoleIdpGroupCacheEntry entry = roleIdpGroupCache.getValueFromCache(cacheKey, tenantDomain);
+        if (entry != null) {
+            RoleCacheMetrics.getInstance().recordRoleIdpGroupCacheLookups(1, 0);
+            logCacheStatistics();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cache hit for IdP groups of role: " + roleId + " in tenant: " + tenantDomain);
+            }
+            return entry.getGroupIds();
+        }
+        RoleCacheMetrics.getInstance().recordRoleIdpGroupCacheLookups(0, 1);
+        logCacheStatistics();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Getting IdP groups of role: " + roleId + " in tenant: " + tenantDomain);
+        }
+        List<String> groupIds = super.getIdpGroupIdsOfRole(roleId, tenantDomain);
+        roleIdpGroupCache.addToCache(cacheKey, new RoleIdpGroupCacheEntry(groupIds), tenantDomain);
+        return groupIds;
+    }
+
+    @Override
+    protected Map<String, List<String>> getRoleIdsOfIdpGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, List<String>> roleIdsOfIdpGroups = new HashMap<>();
+        List<String> uncachedGroupIds = new ArrayList<>();
+        for (String groupId : groupIds) {
+            IdpGroupRoleCacheEntry entry = idpGroupRoleCache.getValueFromCache(new IdpGroupIdCacheKey(groupId),
+                    tenantDomain);
+            if (entry != null) {
+                roleIdsOfIdpGroups.put(groupId, entry.getRoleIds());
+            } else {
+                uncachedGroupIds.add(groupId);
+            }
+        }
+        RoleCacheMetrics.getInstance().recordIdpGroupRoleCacheLookups(groupIds.size() - uncachedGroupIds.size(),
+                uncachedGroupIds.size());
+        logCacheStatistics();
+        if (uncachedGroupIds.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cache hit for roles of all the " + groupIds.size() + " IdP groups in tenant: " +
+                        tenantDomain);
+            }
+            return roleIdsOfIdpGroups;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Getting roles of " + uncachedGroupIds.size() + " IdP groups in tenant: " + tenantDomain);
+        }
+
+        Map<String, List<String>> uncachedRoleIdsOfIdpGroups = super.getRoleIdsOfIdpGroups(uncachedGroupIds,
+                tenantDomain);
+        for (Map.Entry<String, List<String>> groupRoleIds : uncachedRoleIdsOfIdpGroups.entrySet()) {
+            idpGroupRoleCache.addToCache(new IdpGroupIdCacheKey(groupRoleIds.getKey()),
+                    new IdpGroupRoleCacheEntry(groupRoleIds.getValue()), tenantDomain);
+        }
+        roleIdsOfIdpGroups.putAll(uncachedRoleIdsOfIdpGroups);
+        return roleIdsOfIdpGroups;
+    }
+
+    @Override
+    public void updateIdpGroupListOfRole(String roleId, List<IdpGroup> newGroupList,
+                                         List<IdpGroup> deletedGroupList, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        super.updateIdpGroupListOfRole(roleId, newGroupList, deletedGroupList, tenantDomain);
+        roleIdpGroupCache.clearCacheEntry(new RoleIdCacheKey(roleId), tenantDomain);
+        for (IdpGroup idpGroup : newGroupList) {
+            idpGroupRoleCache.clearCacheEntry(new IdpGroupIdCacheKey(idpGroup.getGroupId()), tenantDomain);
+        }
+        for (IdpGroup idpGroup : deletedGroupList) {
+            idpGroupRoleCache.clearCacheEntry(new IdpGroupIdCacheKey(idpGroup.getGroupId()), tenantDomain);
+        }
+    }
+
+    @Override
+    public void deleteRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        // Shared roles and IdP group assignments are deleted along with the role, hence they are resolved before
+        // deleting it.
+        List<RoleDTO> sharedRoles = getSharedHybridRoles(roleId, IdentityTenantUtil.getTenantId(tenantDomain));
+        List<String> idpGroupIds = getIdpGroupIdsOfRole(roleId, tenantDomain);
+        super.deleteRole(roleId, tenantDomain);
+
+        clearRolePermissionCache(roleId, tenantDomain, sharedRoles);
+        roleIdpGroupCache.clearCacheEntry(new RoleIdCacheKey(roleId), tenantDomain);
+        for (String idpGroupId : idpGroupIds) {
+            idpGroupRoleCache.clearCacheEntry(new IdpGroupIdCacheKey(idpGroupId), tenantDomain);
+        }
+        // Resolving the IdP groups of each shared role costs a query per sub organization, hence the IdP group
+        // entries of the sub organizations are cleared instead.
+        for (RoleDTO sharedRole : sharedRoles) {
+            roleIdpGroupCache.clearCacheEntry(new RoleIdCacheKey(sharedRole.getId()), sharedRole.getTenantId());
+            idpGroupRoleCache.clear(sharedRole.getTenantId());
+        }
+    }
+
+    @Override
+    public void deleteRolesByApplication(String applicationId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        super.deleteRolesByApplication(applicationId, tenantDomain);
+        // The permissions and IdP group assignments of the deleted roles are removed along with them.
+        rolePermissionCache.clear(tenantDomain);
+        roleIdpGroupCache.clear(tenantDomain);
+        idpGroupRoleCache.clear(tenantDomain);
+    }
+
+    private void logCacheStatistics() {
+
+        if (LOG.isDebugEnabled() && RoleCacheMetrics.getInstance().isStatisticsLogDue()) {
+            LOG.debug("Role cache statistics. " + RoleCacheMetrics.getInstance().getStatistics());
+        }
+    }
+
+    private void clearRolePermissionCache(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        clearRolePermissionCache(roleId, tenantDomain,
+                getSharedHybridRoles(roleId, IdentityTenantUtil.getTenantId(tenantDomain)));
+    }
+
+    private void clearRolePermissionCache(String roleId, String tenantDomain, List<RoleDTO> sharedRoles) {
+
+        rolePermissionCache.clearCacheEntry(new RoleIdCacheKey(roleId), tenantDomain);
+        for (RoleDTO sharedRole : sharedRoles) {
+            rolePermissionCache.clearCacheEntry(new RoleIdCacheKey(sharedRole.getId()), sharedRole.getTenantId());
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared cached permissions of role: " + roleId + " and its " + sharedRoles.size() +
+                    " shared roles in tenant: " + tenantDomain);
+        }
+    }
 }
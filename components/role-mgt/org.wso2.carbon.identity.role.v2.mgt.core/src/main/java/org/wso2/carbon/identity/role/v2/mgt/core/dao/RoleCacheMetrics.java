@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.dao;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters for the lookups of the role permissions and the role to IdP group assignments served by the
+ * {@link CacheBackedRoleDAO}. Lookups of several roles or IdP groups are counted per role or IdP group.
+ */
+public class RoleCacheMetrics {
+
+    private static final RoleCacheMetrics instance = new RoleCacheMetrics();
+    private static final long STATISTICS_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final AtomicLong rolePermissionCacheHitCount = new AtomicLong();
+    private final AtomicLong rolePermissionCacheMissCount = new AtomicLong();
+    private final AtomicLong roleIdpGroupCacheHitCount = new AtomicLong();
+    private final AtomicLong roleIdpGroupCacheMissCount = new AtomicLong();
+    private final AtomicLong idpGroupRoleCacheHitCount = new AtomicLong();
+    private final AtomicLong idpGroupRoleCacheMissCount = new AtomicLong();
+    private final AtomicLong statisticsLoggedAtNanos = new AtomicLong(System.nanoTime());
+
+    private RoleCacheMetrics() {
+
+    }
+
+    public static RoleCacheMetrics getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Record the lookups of the permissions of roles.
+     *
+     * @param hitCount  Number of roles served from the RolePermissionCache.
+     * @param missCount Number of roles read from the database.
+     */
+    void recordRolePermissionCacheLookups(int hitCount, int missCount) {
+
+        rolePermissionCacheHitCount.addAndGet(hitCount);
+        rolePermissionCacheMissCount.addAndGet(missCount);
+    }
+
+    /**
+     * Record the lookups of the IdP groups of roles.
+     *
+     * @param hitCount  Number of roles served from the RoleIdpGroupCache.
+     * @param missCount Number of roles read from the database.
+     */
+    void recordRoleIdpGroupCacheLookups(int hitCount, int missCount) {
+
+        roleIdpGroupCacheHitCount.addAndGet(hitCount);
+        roleIdpGroupCacheMissCount.addAndGet(missCount);
+    }
+
+    /**
+     * Record the lookups of the roles of IdP groups.
+     *
+     * @param hitCount  Number of IdP groups served from the IdpGroupRoleCache.
+     * @param missCount Number of IdP groups read from the database.
+     */
+    void recordIdpGroupRoleCacheLookups(int hitCount, int missCount) {
+
+        idpGroupRoleCacheHitCount.addAndGet(hitCount);
+        idpGroupRoleCacheMissCount.addAndGet(missCount);
+    }
+
+    /**
+     * Check whether the statistics are due to be logged, which is once a minute. Only one of the concurrent callers
+     * gets true for an interval.
+     *
+     * @return Whether the statistics are due to be logged.
+     */
+    boolean isStatisticsLogDue() {
+
+        long loggedAtNanos = statisticsLoggedAtNanos.get();
+        long now = System.nanoTime();
+        return now - loggedAtNanos >= STATISTICS_LOG_INTERVAL_NANOS &&
+                statisticsLoggedAtNanos.compareAndSet(loggedAtNanos, now);
+    }
+
+    public long getRolePermissionCacheHitCount() {
+
+        return rolePermissionCacheHitCount.get();
+    }
+
+    public long getRolePermissionCacheMissCount() {
+
+        return rolePermissionCacheMissCount.get();
+    }
+
+    public long getRoleIdpGroupCacheHitCount() {
+
+        return roleIdpGroupCacheHitCount.get();
+    }
+
+    public long getRoleIdpGroupCacheMissCount() {
+
+        return roleIdpGroupCacheMissCount.get();
+    }
+
+    public long getIdpGroupRoleCacheHitCount() {
+
+        return idpGroupRoleCacheHitCount.get();
+    }
+
+    public long getIdpGroupRoleCacheMissCount() {
+
+        return idpGroupRoleCacheMissCount.get();
+    }
+
+    /**
+     * Returns the hit ratios of the caches, to be logged.
+     *
+     * @return Statistics of the role caches.
+     */
+    public String getStatistics() {
+
+        return "RolePermissionCache " +
+                formatLookups(getRolePermissionCacheHitCount(), getRolePermissionCacheMissCount()) +
+                ", RoleIdpGroupCache " +
+                formatLookups(getRoleIdpGroupCacheHitCount(), getRoleIdpGroupCacheMissCount()) +
+                ", IdpGroupRoleCache " +
+                formatLookups(getIdpGroupRoleCacheHitCount(), getIdpGroupRoleCacheMissCount()) + ".";
+    }
+
+    private static String formatLookups(long hitCount, long missCount) {
+
+        long lookupCount = hitCount + missCount;
+        long hitPercentage = lookupCount == 0 ? 0 : hitCount * 100 / lookupCount;
+        return "hits: " + hitCount + ", misses: " + missCount + ", hit ratio: " + hitPercentage + "%";
+    }
+
+    @Override
+    public String toString() {
+
+        return "RoleCacheMetrics{" +
+                "rolePermissionCacheHitCount=" + getRolePermissionCacheHitCount() +
+                ", rolePermissionCacheMissCount=" + getRolePermissionCacheMissCount() +
+                ", roleIdpGroupCacheHitCount=" + getRoleIdpGroupCacheHitCount() +
+                ", roleIdpGroupCacheMissCount=" + getRoleIdpGroupCacheMissCount() +
+                ", idpGroupRoleCacheHitCount=" + getIdpGroupRoleCacheHitCount() +
+                ", idpGroupRoleCacheMissCount=" + getIdpGroupRoleCacheMissCount() +
+                '}';
+    }
+}
@@ -83,6 +83,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -189,6 +190,7 @@ import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_LIST_OF_IDP_GROUPS_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_LIST_OF_USER_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_NAME_BY_ID_SQL;
+import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_NAMES_BY_ROLE_IDS_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_NAMES_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_TENANT_DOMAIN_BY_ID;
@@ -228,6 +230,7 @@ public class RoleDAOImpl implements RoleDAO {
     private static final String ASSOCIATED_APPLICATIONS = "associatedApplications";
     private static final String PROPERTIES = "properties";
     private static final String IS_FRAGMENT_APP = "isFragmentApp";
+    private static final int ROLE_ID_BATCH_SIZE = 100;
 
     @Override
     public RoleBasicInfo addRole(String roleName, List<String> userList, List<String> groupList,
@@ -605,21 +608,54 @@ public class RoleDAOImpl implements RoleDAO {
     public List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
             throws IdentityRoleManagementException {
 
-        List<String> permissions = new ArrayList<>();
-        List<Permission> permissionList = new ArrayList<>();
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return new ArrayList<>();
+        }
+        Map<String, List<String>> permissionsOfRoles = getPermissionNamesOfRoles(roleIds, tenantDomain);
+        Set<String> permissions = new LinkedHashSet<>();
         for (String roleId : roleIds) {
-            if (isOrganization(tenantDomain) && isSharedRole(roleId, tenantDomain)) {
-                permissionList.addAll(getPermissionsOfSharedRole(roleId, tenantDomain));
-            } else {
-                permissionList.addAll(getPermissions(roleId, tenantDomain));
+            List<String> rolePermissions = permissionsOfRoles.get(roleId);
+            if (rolePermissions != null) {
+                permissions.addAll(rolePermissions);
             }
         }
+        return new ArrayList<>(permissions);
+    }
+
+    /**
+     * Get the permission names of the given roles. Shared roles get the permissions of their main roles which are
+     * valid for sub organizations.
+     *
+     * @param roleIds      Role IDs.
+     * @param tenantDomain Tenant domain.
+     * @return Map of role ID to the permission names of the role, containing an entry for each given role.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    protected Map<String, List<String>> getPermissionNamesOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, String> mainRoleIds = isOrganization(tenantDomain) ?
+                getSharedRoleToMainRoleMappingsBySubOrg(roleIds, tenantDomain) : Collections.emptyMap();
+        Set<String> permittedRoleIds = new LinkedHashSet<>();
+        for (String roleId : roleIds) {
+            permittedRoleIds.add(mainRoleIds.getOrDefault(roleId, roleId));
+        }
+        Map<String, List<String>> scopeNamesOfRoles = getScopeNamesOfRoles(new ArrayList<>(permittedRoleIds),
+                tenantDomain);
 
-        List<Permission> distinctPermissions = permissionList.stream().distinct().collect(Collectors.toList());
-        for (Permission permission : distinctPermissions) {
-            permissions.add(permission.getName());
+        Map<String, List<String>> permissionsOfRoles = new HashMap<>();
+        for (String roleId : roleIds) {
+            String mainRoleId = mainRoleIds.get(roleId);
+            List<String> scopeNames = scopeNamesOfRoles.getOrDefault(mainRoleId != null ? mainRoleId : roleId,
+                    Collections.emptyList());
+            if (mainRoleId != null) {
+                permissionsOfRoles.put(roleId, scopeNames.stream().filter(this::isValidSubOrgPermission)
+                        .collect(Collectors.toCollection(ArrayList::new)));
+            } else {
+                permissionsOfRoles.put(roleId, new ArrayList<>(scopeNames));
+            }
         }
-        return permissions;
+        return permissionsOfRoles;
     }
 
     @Override
@@ -654,8 +690,27 @@ public class RoleDAOImpl implements RoleDAO {
     public List<IdpGroup> getIdpGroupListOfRole(String roleId, String tenantDomain)
             throws IdentityRoleManagementException {
 
-        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
         List<IdpGroup> groups = new ArrayList<>();
+        for (String groupId : getIdpGroupIdsOfRole(roleId, tenantDomain)) {
+            groups.add(new IdpGroup(groupId));
+        }
+        resolveIdpGroups(groups, tenantDomain);
+        return groups;
+    }
+
+    /**
+     * Get the IDs of the IdP groups assigned to the role.
+     *
+     * @param roleId       Role ID.
+     * @param tenantDomain Tenant domain.
+     * @return IdP group IDs.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    protected List<String> getIdpGroupIdsOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        List<String> groupIds = new ArrayList<>();
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
              NamedPreparedStatement statement = new NamedPreparedStatement(connection, GET_IDP_GROUPS_SQL)) {
 
@@ -663,7 +718,7 @@ public class RoleDAOImpl implements RoleDAO {
             statement.setInt(RoleConstants.RoleTableColumns.UM_TENANT_ID, tenantId);
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    groups.add(new IdpGroup(resultSet.getString(1)));
+                    groupIds.add(resultSet.getString(1));
                 }
             }
         } catch (SQLException e) {
@@ -671,8 +726,7 @@ public class RoleDAOImpl implements RoleDAO {
                     "Error while retrieving idp groups for role id: " + roleId + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        resolveIdpGroups(groups, tenantDomain);
-        return groups;
+        return groupIds;
     }
 
     @Override
@@ -1099,6 +1153,7 @@ public class RoleDAOImpl implements RoleDAO {
         String nameWithoutDomain = UserCoreUtil.removeDomainFromName(userName);
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
         List<RoleBasicInfo> roles = new ArrayList<>();
+        Map<String, String> organizationNames = new HashMap<>();
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
              NamedPreparedStatement statement = new NamedPreparedStatement(connection, GET_ROLE_LIST_OF_USER_SQL)) {
 
@@ -1114,12 +1169,12 @@ public class RoleDAOImpl implements RoleDAO {
                     RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                     roleBasicInfo.setAudience(audience);
                     roleBasicInfo.setAudienceId(audienceId);
-                    roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
+                    roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, organizationNames));
                     roles.add(roleBasicInfo);
                 }
             }
             if (!isOrganization(tenantDomain)) {
-                roles.add(getEveryOneRole(tenantDomain));
+                roles.add(getEveryOneRole(tenantDomain, organizationNames));
             }
         } catch (SQLException e) {
             String errorMessage =
@@ -1132,11 +1187,13 @@ public class RoleDAOImpl implements RoleDAO {
     /**
      * Get everyone role basic info.
      *
-     * @param tenantDomain Tenant domain.
+     * @param tenantDomain      Tenant domain.
+     * @param organizationNames Organization names already resolved, by organization ID.
      * @return basic info of every one role.
      * @throws IdentityRoleManagementException if error occurred while retrieving everyone role.
      */
-    private RoleBasicInfo getEveryOneRole(String tenantDomain) throws IdentityRoleManagementException {
+    private RoleBasicInfo getEveryOneRole(String tenantDomain, Map<String, String> organizationNames)
+            throws IdentityRoleManagementException {
 
         String everyOneRoleName = RoleManagementUtils.getEveryOneRoleName(tenantDomain);
         String orgId = RoleManagementUtils.getOrganizationId(tenantDomain);
@@ -1144,7 +1201,7 @@ public class RoleDAOImpl implements RoleDAO {
         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, everyOneRoleName);
         roleBasicInfo.setAudience(ORGANIZATION);
         roleBasicInfo.setAudienceId(RoleManagementUtils.getOrganizationId(tenantDomain));
-        roleBasicInfo.setAudienceName(getOrganizationName(orgId));
+        roleBasicInfo.setAudienceName(getAudienceName(ORGANIZATION, orgId, organizationNames));
         return roleBasicInfo;
     }
 
@@ -1165,6 +1222,7 @@ public class RoleDAOImpl implements RoleDAO {
         }
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
         List<RoleBasicInfo> roles = new ArrayList<>();
+        Map<String, String> organizationNames = new HashMap<>();
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
              NamedPreparedStatement statement = new NamedPreparedStatement(connection, GET_ROLE_LIST_OF_GROUP_SQL)) {
             for (String groupName : groupNamesList) {
@@ -1188,7 +1246,7 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
+                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, organizationNames));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1210,6 +1268,7 @@ public class RoleDAOImpl implements RoleDAO {
 
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
         List<RoleBasicInfo> roles = new ArrayList<>();
+        Map<String, String> organizationNames = new HashMap<>();
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
              NamedPreparedStatement statement = new NamedPreparedStatement(connection,
                      GET_ROLE_LIST_OF_IDP_GROUPS_SQL)) {
@@ -1225,7 +1284,7 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
+                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, organizationNames));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1324,20 +1383,44 @@ public class RoleDAOImpl implements RoleDAO {
     public List<String> getRoleIdListOfIdpGroups(List<String> groupIds, String tenantDomain)
             throws IdentityRoleManagementException {
 
+        Map<String, List<String>> roleIdsOfIdpGroups = getRoleIdsOfIdpGroups(groupIds, tenantDomain);
+        Set<String> roleIds = new LinkedHashSet<>();
+        for (String groupId : groupIds) {
+            List<String> groupRoleIds = roleIdsOfIdpGroups.get(groupId);
+            if (groupRoleIds != null) {
+                roleIds.addAll(groupRoleIds);
+            }
+        }
+        return new ArrayList<>(roleIds);
+    }
+
+    /**
+     * Get the IDs of the roles assigned to the given IdP groups.
+     *
+     * @param groupIds     IdP group IDs.
+     * @param tenantDomain Tenant domain.
+     * @return Map of IdP group ID to the IDs of the roles assigned to the group, containing an entry for each given
+     * group.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    protected Map<String, List<String>> getRoleIdsOfIdpGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        List<String> roleIds = new ArrayList<>();
+        Map<String, List<String>> roleIdsOfIdpGroups = new HashMap<>();
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
              NamedPreparedStatement statement = new NamedPreparedStatement(connection,
                      GET_ROLE_ID_LIST_OF_IDP_GROUPS_SQL)) {
             for (String groupId : groupIds) {
                 statement.setString(RoleConstants.RoleTableColumns.UM_GROUP_ID, groupId);
                 statement.setInt(RoleConstants.RoleTableColumns.UM_TENANT_ID, tenantId);
+                List<String> roleIds = new ArrayList<>();
                 try (ResultSet resultSet = statement.executeQuery()) {
                     while (resultSet.next()) {
-                        String roleId = resultSet.getString(1);
-                        roleIds.add(roleId);
+                        roleIds.add(resultSet.getString(1));
                     }
                 }
+                roleIdsOfIdpGroups.put(groupId, roleIds);
             }
         } catch (SQLException e) {
             String errorMessage =
@@ -1345,7 +1428,7 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return roleIds.stream().distinct().collect(Collectors.toList());
+        return roleIdsOfIdpGroups;
     }
 
     @Override
@@ -1422,20 +1505,25 @@ public class RoleDAOImpl implements RoleDAO {
         if (CollectionUtils.isEmpty(roleIds)) {
             return rolesMap;
         }
-        String query = GET_SHARED_ROLE_TO_MAIN_ROLE_MAPPINGS_BY_SUBORG_SQL +
-                String.join(", ", Collections.nCopies(roleIds.size(), "?")) + ")";
-        try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
-             NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
-
-            statement.setInt(1, IdentityTenantUtil.getTenantId(subOrgTenantDomain));
-            for (int i = 0; i < roleIds.size(); i++) {
-                statement.setString(i + 2, roleIds.get(i));
-            }
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    String sharedRoleId = resultSet.getString(1);
-                    String mainRoleId = resultSet.getString(2);
-                    rolesMap.put(sharedRoleId, mainRoleId);
+        int subOrgTenantId = IdentityTenantUtil.getTenantId(subOrgTenantDomain);
+        try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
+            // The roles are queried in batches to bound the size of the IN clause.
+            for (int from = 0; from < roleIds.size(); from += ROLE_ID_BATCH_SIZE) {
+                List<String> batch = roleIds.subList(from, Math.min(from + ROLE_ID_BATCH_SIZE, roleIds.size()));
+                String query = GET_SHARED_ROLE_TO_MAIN_ROLE_MAPPINGS_BY_SUBORG_SQL +
+                        String.join(", ", Collections.nCopies(batch.size(), "?")) + ")";
+                try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
+                    statement.setInt(1, subOrgTenantId);
+                    for (int i = 0; i < batch.size(); i++) {
+                        statement.setString(i + 2, batch.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            String sharedRoleId = resultSet.getString(1);
+                            String mainRoleId = resultSet.getString(2);
+                            rolesMap.put(sharedRoleId, mainRoleId);
+                        }
+                    }
                 }
             }
         } catch (SQLException e) {
@@ -1964,6 +2052,43 @@ public class RoleDAOImpl implements RoleDAO {
 
     }
 
+    /**
+     * Get the scope names assigned to the given roles. The roles are queried in batches to bound the size of the
+     * IN clause.
+     *
+     * @param roleIds      Role IDs.
+     * @param tenantDomain Tenant domain.
+     * @return Map of role ID to the scope names assigned to the role. Roles without scopes have no entry.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private Map<String, List<String>> getScopeNamesOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, List<String>> scopeNamesOfRoles = new HashMap<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (int from = 0; from < roleIds.size(); from += ROLE_ID_BATCH_SIZE) {
+                List<String> batch = roleIds.subList(from, Math.min(from + ROLE_ID_BATCH_SIZE, roleIds.size()));
+                String query = GET_ROLE_SCOPE_NAMES_BY_ROLE_IDS_SQL +
+                        String.join(", ", Collections.nCopies(batch.size(), "?")) + ")";
+                try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        statement.setString(i + 1, batch.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            scopeNamesOfRoles.computeIfAbsent(resultSet.getString(1), roleId -> new ArrayList<>())
+                                    .add(resultSet.getString(2));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            String errorMessage = "Error while retrieving permissions of roles in tenantDomain : " + tenantDomain;
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
+        }
+        return scopeNamesOfRoles;
+    }
+
     /**
      * Get permissions by role id.
      *
@@ -2365,6 +2490,28 @@ public class RoleDAOImpl implements RoleDAO {
         return null;
     }
 
+    /**
+     * Get Role Audience name, resolving the name of each organization audience only once across the roles being
+     * listed.
+     *
+     * @param audience          Audience.
+     * @param audienceId        Audience ID.
+     * @param organizationNames Organization names already resolved, by organization ID.
+     * @return role audience name.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private String getAudienceName(String audience, String audienceId, Map<String, String> organizationNames)
+            throws IdentityRoleManagementException {
+
+        if (!ORGANIZATION.equalsIgnoreCase(audience)) {
+            return null;
+        }
+        if (!organizationNames.containsKey(audienceId)) {
+            organizationNames.put(audienceId, getOrganizationName(audienceId));
+        }
+        return organizationNames.get(audienceId);
+    }
+
     /**
      * Get organization name.
      *
@@ -2689,6 +2836,7 @@ public class RoleDAOImpl implements RoleDAO {
             }
         }
 
+        Map<String, String> organizationNames = new HashMap<>();
         for (RoleDTO roleDTO : roleDTOs) {
             RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleDTO.getId(),
                     RoleManagementUtils.removeInternalDomain(roleDTO.getName()));
@@ -2697,7 +2845,7 @@ public class RoleDAOImpl implements RoleDAO {
                 roleBasicInfo.setAudience(roleAudience.getAudience());
                 roleBasicInfo.setAudienceId(roleAudience.getAudienceId());
                 roleBasicInfo.setAudienceName(getAudienceName(roleAudience.getAudience(),
-                        roleAudience.getAudienceId(), tenantDomain));
+                        roleAudience.getAudienceId(), organizationNames));
             }
             roles.add(roleBasicInfo);
         }
@@ -53,6 +53,9 @@ public class SQLQueries {
     public static final String GET_SCOPE_BY_ROLES_SQL = "SELECT NAME FROM ROLE_SCOPE INNER JOIN SCOPE ON " +
             "ROLE_SCOPE.SCOPE_ID = SCOPE.ID WHERE ROLE_ID IN (";
 
+    public static final String GET_ROLE_SCOPE_NAMES_BY_ROLE_IDS_SQL = "SELECT ROLE_ID, NAME FROM ROLE_SCOPE INNER " +
+            "JOIN SCOPE ON ROLE_SCOPE.SCOPE_ID = SCOPE.ID WHERE ROLE_ID IN (";
+
     public static final String GET_ASSOCIATED_APPS_BY_ROLE_ID_SQL = "SELECT APP_ID, APP_NAME FROM " +
             "APP_ROLE_ASSOCIATION INNER JOIN SP_APP ON APP_ROLE_ASSOCIATION.APP_ID = SP_APP.UUID " +
             "WHERE ROLE_ID =:ROLE_ID; AND SP_APP.TENANT_ID=:TENANT_ID;";
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.handler;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.internal.RoleManagementServiceComponentHolder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Clears the cached role permissions of a tenant and its child organizations when scopes of an API resource are
+ * deleted. Scopes are removed from the roles by the database cascade of the API resource management, hence the
+ * roles having the deleted scopes are not known to the role management.
+ */
+public class RolePermissionCacheInvalidationHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(RolePermissionCacheInvalidationHandler.class);
+    private static final String HANDLER_NAME = "RolePermissionCacheInvalidationHandler";
+    private static final Set<String> SCOPE_DELETING_EVENTS = new HashSet<>(Arrays.asList(
+            IdentityEventConstants.Event.POST_DELETE_API_RESOURCE,
+            IdentityEventConstants.Event.POST_UPDATE_API_RESOURCE,
+            IdentityEventConstants.Event.POST_DELETE_API_RESOURCE_SCOPES,
+            IdentityEventConstants.Event.POST_DELETE_SCOPE,
+            IdentityEventConstants.Event.POST_PUT_API_RESOURCE_SCOPES));
+
+    /**
+     * Overridden to handle the scope deleting events of the API resource management without a subscription in the
+     * identity-event.properties file.
+     *
+     * @param messageContext Message context of the event.
+     * @return Whether the event deletes scopes of an API resource.
+     */
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        if (!(messageContext instanceof IdentityEventMessageContext)) {
+            return false;
+        }
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return event != null && SCOPE_DELETING_EVENTS.contains(event.getEventName());
+    }
+
+    @Override
+    public boolean isAssociationAsync(String eventName) {
+
+        // Permissions must not be served from the cache once the scope deletion has returned.
+        return false;
+    }
+
+    @Override
+    public String getName() {
+
+        return HANDLER_NAME;
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        if (IdentityEventConstants.Event.POST_UPDATE_API_RESOURCE.equals(event.getEventName()) && CollectionUtils
+                .isEmpty((Collection<?>) event.getEventProperties()
+                        .get(IdentityEventConstants.EventProperty.DELETED_SCOPES))) {
+            return;
+        }
+        String tenantDomain = (String) event.getEventProperties().get(IdentityEventConstants.EventProperty
+                .TENANT_DOMAIN);
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+
+        RolePermissionCache rolePermissionCache = RolePermissionCache.getInstance();
+        rolePermissionCache.clear(tenantDomain);
+        // Shared roles in child organizations get their permissions from the roles of this tenant.
+        List<BasicOrganization> childOrganizations = getChildOrganizations(tenantDomain);
+        for (BasicOrganization childOrganization : childOrganizations) {
+            rolePermissionCache.clear(childOrganization.getOrganizationHandle());
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared cached role permissions of tenant: " + tenantDomain + " and its " +
+                    childOrganizations.size() + " child organizations on event: " + event.getEventName());
+        }
+    }
+
+    private List<BasicOrganization> getChildOrganizations(String tenantDomain) {
+
+        OrganizationManager organizationManager = RoleManagementServiceComponentHolder.getInstance()
+                .getOrganizationManager();
+        if (organizationManager == null) {
+            return Collections.emptyList();
+        }
+        try {
+            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            return organizationManager.getChildOrganizations(organizationId, true);
+        } catch (OrganizationManagementException e) {
+            LOG.error("Error while resolving the child organizations of tenant: " + tenantDomain +
+                    ". Cached role permissions of the child organizations expire with the cache entries.", e);
+            return Collections.emptyList();
+        }
+    }
+}
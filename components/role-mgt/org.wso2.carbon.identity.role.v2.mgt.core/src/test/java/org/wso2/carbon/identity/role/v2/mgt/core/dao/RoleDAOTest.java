@@ -23,6 +23,7 @@ import org.apache.commons.lang.StringUtils;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
+import org.mockito.stubbing.Answer;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -38,6 +39,7 @@ import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
 import org.wso2.carbon.identity.core.model.Node;
@@ -48,6 +50,11 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.IdpGroupRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheByName;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdpGroupCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementClientException;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementServerException;
@@ -56,6 +63,7 @@ import org.wso2.carbon.identity.role.v2.mgt.core.model.IdpGroup;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.Permission;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.Role;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.UserBasicInfo;
 import org.wso2.carbon.identity.role.v2.mgt.core.util.GroupIDResolver;
 import org.wso2.carbon.identity.role.v2.mgt.core.util.RoleManagementUtils;
@@ -72,6 +80,7 @@ import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -84,7 +93,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -95,12 +106,15 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -155,6 +169,9 @@ public class RoleDAOTest {
     private MockedStatic<UserRolesCache> userRolesCache;
     private MockedStatic<AuthorizationCache> authorizationCache;
     private MockedStatic<RoleManagementUtils> roleManagementUtils;
+    private RolePermissionCache mockRolePermissionCache;
+    private RoleIdpGroupCache mockRoleIdpGroupCache;
+    private IdpGroupRoleCache mockIdpGroupRoleCache;
 
     @Mock
     UserRealm mockUserRealm;
@@ -614,6 +631,46 @@ public class RoleDAOTest {
         Assert.assertEquals(rolePermissions, getPermissionNameList(permissions));
     }
 
+    @Test
+    public void testGetPermissionListOfMultipleRoles() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        RoleBasicInfo role1 = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        List<Permission> role2Permissions = Arrays.asList(new Permission("write", "write"),
+                new Permission("view", "view"));
+        RoleBasicInfo role2 = addRole(roleNamesList.get(1), APPLICATION_AUD, SAMPLE_APP_ID, SAMPLE_TENANT_DOMAIN,
+                role2Permissions, userIDsList, userNamesList, groupIDsList, groupNamesMap, roleDAO, false);
+        RoleBasicInfo role3 = addRole(roleNamesList.get(2), APPLICATION_AUD, SAMPLE_APP_ID, SAMPLE_TENANT_DOMAIN,
+                new ArrayList<>(), userIDsList, userNamesList, groupIDsList, groupNamesMap, roleDAO, false);
+
+        List<String> roleIds = Arrays.asList(role1.getId(), role2.getId(), role3.getId());
+        List<String> rolePermissions = roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN);
+        Assert.assertEquals(rolePermissions.size(), 3);
+        Assert.assertEqualsNoOrder(rolePermissions.toArray(), new String[]{"read", "write", "view"});
+        Assert.assertTrue(roleDAO.getPermissionListOfRoles(new ArrayList<>(), SAMPLE_TENANT_DOMAIN).isEmpty());
+
+        // Role lists longer than a batch are queried in several batches.
+        List<String> manyRoleIds = new ArrayList<>();
+        manyRoleIds.add(role1.getId());
+        for (int i = 0; i < 150; i++) {
+            manyRoleIds.add(UUID.randomUUID().toString());
+        }
+        manyRoleIds.add(role2.getId());
+        Assert.assertEqualsNoOrder(roleDAO.getPermissionListOfRoles(manyRoleIds, SAMPLE_TENANT_DOMAIN).toArray(),
+                new String[]{"read", "write", "view"});
+    }
+
     @Test
     public void testGetPermissionListOfSharedRolesInSubOrganization() throws Exception {
 
@@ -956,6 +1013,41 @@ public class RoleDAOTest {
         assertEquals(roles.size(), 3);
     }
 
+    @Test
+    public void testGetRoleListOfUserResolvesOrganizationNameOnce() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.addDomainToName(anyString(), anyString())).thenCallRealMethod();
+        addRole(roleNamesList.get(0), ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+        addRole(roleNamesList.get(1), ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+        addRole("everyone", ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+
+        OrganizationManager organizationManager = mock(OrganizationManager.class);
+        RoleManagementServiceComponentHolder.getInstance().setOrganizationManager(organizationManager);
+        when(organizationManager.getOrganizationNameById(SAMPLE_ORG_ID)).thenReturn("test-org");
+        lenient().when(organizationManager.resolveOrganizationId(anyString())).thenReturn(SAMPLE_ORG_ID);
+
+        mockRealmConfiguration();
+        List<RoleBasicInfo> roles = roleDAO.getRoleListOfUser("userID1", SAMPLE_TENANT_DOMAIN);
+        assertEquals(roles.size(), 3);
+        for (RoleBasicInfo role : roles) {
+            assertEquals(role.getAudienceName(), "test-org");
+        }
+        verify(organizationManager, times(1)).getOrganizationNameById(SAMPLE_ORG_ID);
+    }
+
     @Test
     public void testGetRoleListOfGroups() throws Exception {
 
@@ -1118,6 +1210,219 @@ public class RoleDAOTest {
                 SAMPLE_TENANT_DOMAIN));
     }
 
+    @Test
+    public void testGetIdpGroupIdsOfRoleFromCache() throws Exception {
+
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDao();
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        assignIdpGroups(role.getId(), roleDAO);
+
+        identityDatabaseUtil.clearInvocations();
+        Assert.assertEqualsNoOrder(roleDAO.getIdpGroupIdsOfRole(role.getId(), SAMPLE_TENANT_DOMAIN).toArray(),
+                new String[]{"test-group1-id", "test-group2-id"});
+        Assert.assertEqualsNoOrder(roleDAO.getIdpGroupIdsOfRole(role.getId(), SAMPLE_TENANT_DOMAIN).toArray(),
+                new String[]{"test-group1-id", "test-group2-id"});
+        // Only the first lookup reads the database.
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getUserDBConnection(false), times(1));
+
+        roleDAO.updateIdpGroupListOfRole(role.getId(), new ArrayList<>(),
+                Collections.singletonList(new IdpGroup("test-group2-id", "test-idp-id")), SAMPLE_TENANT_DOMAIN);
+        assertEquals(roleDAO.getIdpGroupIdsOfRole(role.getId(), SAMPLE_TENANT_DOMAIN),
+                Collections.singletonList("test-group1-id"));
+    }
+
+    @Test
+    public void testGetRoleIdListOfIdpGroupsFromCache() throws Exception {
+
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDao();
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        assignIdpGroups(role.getId(), roleDAO);
+        List<String> groupIds = Arrays.asList("test-group1-id", "test-group2-id");
+
+        identityDatabaseUtil.clearInvocations();
+        assertEquals(roleDAO.getRoleIdListOfIdpGroups(groupIds, SAMPLE_TENANT_DOMAIN),
+                Collections.singletonList(role.getId()));
+        assertEquals(roleDAO.getRoleIdListOfIdpGroups(groupIds, SAMPLE_TENANT_DOMAIN),
+                Collections.singletonList(role.getId()));
+        // Only the first lookup reads the database.
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getUserDBConnection(false), times(1));
+
+        roleDAO.updateIdpGroupListOfRole(role.getId(), new ArrayList<>(),
+                Collections.singletonList(new IdpGroup("test-group1-id", "test-idp-id")), SAMPLE_TENANT_DOMAIN);
+        assertTrue(roleDAO.getRoleIdListOfIdpGroups(Collections.singletonList("test-group1-id"),
+                SAMPLE_TENANT_DOMAIN).isEmpty());
+        assertEquals(roleDAO.getRoleIdListOfIdpGroups(Collections.singletonList("test-group2-id"),
+                SAMPLE_TENANT_DOMAIN), Collections.singletonList(role.getId()));
+    }
+
+    @Test
+    public void testDeleteRoleClearsCachedIdpGroups() throws Exception {
+
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDao();
+        userCoreUtil.when(() -> UserCoreUtil.addDomainToName(anyString(), anyString())).thenCallRealMethod();
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        assignIdpGroups(role.getId(), roleDAO);
+        List<String> groupIds = Arrays.asList("test-group1-id", "test-group2-id");
+        assertEquals(roleDAO.getIdpGroupIdsOfRole(role.getId(), SAMPLE_TENANT_DOMAIN).size(), 2);
+        assertEquals(roleDAO.getRoleIdListOfIdpGroups(groupIds, SAMPLE_TENANT_DOMAIN),
+                Collections.singletonList(role.getId()));
+
+        // The shared roles of the role in sub organizations are deleted along with it.
+        doReturn(Collections.singletonList(new RoleDTO(roleNamesList.get(0), "shared-role-id", 1, 2)))
+                .when(roleDAO).getSharedHybridRoles(role.getId(), SAMPLE_TENANT_ID);
+        mockRealmConfiguration();
+        AuthorizationManager authorizationManager = mock(JDBCAuthorizationManager.class);
+        when(mockUserRealm.getAuthorizationManager()).thenReturn(authorizationManager);
+        roleDAO.deleteRole(role.getId(), SAMPLE_TENANT_DOMAIN);
+
+        assertTrue(roleDAO.getIdpGroupIdsOfRole(role.getId(), SAMPLE_TENANT_DOMAIN).isEmpty());
+        assertTrue(roleDAO.getRoleIdListOfIdpGroups(groupIds, SAMPLE_TENANT_DOMAIN).isEmpty());
+        verify(mockRoleIdpGroupCache).clearCacheEntry(new RoleIdCacheKey("shared-role-id"), 2);
+        verify(mockIdpGroupRoleCache).clear(2);
+    }
+
+    @Test
+    public void testDeleteRolesByApplicationClearsCaches() throws Exception {
+
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDao();
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        assignIdpGroups(role.getId(), roleDAO);
+        List<String> roleIds = Collections.singletonList(role.getId());
+        List<String> groupIds = Arrays.asList("test-group1-id", "test-group2-id");
+        assertEquals(roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN),
+                getPermissionNameList(permissions));
+        assertEquals(roleDAO.getIdpGroupIdsOfRole(role.getId(), SAMPLE_TENANT_DOMAIN).size(), 2);
+        assertEquals(roleDAO.getRoleIdListOfIdpGroups(groupIds, SAMPLE_TENANT_DOMAIN), roleIds);
+
+        roleDAO.deleteRolesByApplication(SAMPLE_APP_ID, SAMPLE_TENANT_DOMAIN);
+        assertTrue(roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN).isEmpty());
+        assertTrue(roleDAO.getIdpGroupIdsOfRole(role.getId(), SAMPLE_TENANT_DOMAIN).isEmpty());
+        assertTrue(roleDAO.getRoleIdListOfIdpGroups(groupIds, SAMPLE_TENANT_DOMAIN).isEmpty());
+    }
+
+    @Test
+    public void testGetPermissionListOfRolesFromCache() throws Exception {
+
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDao();
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        List<String> roleIds = Collections.singletonList(role.getId());
+
+        identityDatabaseUtil.clearInvocations();
+        assertEquals(roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN),
+                getPermissionNameList(permissions));
+        assertEquals(roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN),
+                getPermissionNameList(permissions));
+        // Only the first lookup reads the database.
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getDBConnection(false), times(1));
+
+        List<Permission> newPermissions = Collections.singletonList(new Permission("view", "view"));
+        roleDAO.updatePermissionListOfRole(role.getId(), newPermissions, permissions, SAMPLE_TENANT_DOMAIN);
+        assertEquals(roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN),
+                Collections.singletonList("view"));
+    }
+
+    @Test
+    public void testUpdatePermissionListOfRoleClearsCachedPermissionsOfSharedRoles() throws Exception {
+
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDao();
+        RoleBasicInfo role = addRole(SHARED_ROLE_NAME, APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(SAMPLE_SUB_ORG_TENANT_DOMAIN)).thenReturn(2);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(2)).thenReturn(SAMPLE_SUB_ORG_TENANT_DOMAIN);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(1)).thenReturn(SAMPLE_TENANT_DOMAIN);
+        RoleBasicInfo sharedRole = addRole(SHARED_ROLE_NAME, APPLICATION_AUD, "test-app-id-3",
+                SAMPLE_SUB_ORG_TENANT_DOMAIN, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>(), new HashMap<>(), roleDAO, true);
+        roleDAO.addMainRoleToSharedRoleRelationship(role.getId(), sharedRole.getId(), SAMPLE_TENANT_DOMAIN,
+                SAMPLE_SUB_ORG_TENANT_DOMAIN);
+        organizationManagementUtil.when(() -> OrganizationManagementUtil.isOrganization(SAMPLE_TENANT_DOMAIN))
+                .thenReturn(false);
+        List<String> sharedRoleIds = Collections.singletonList(sharedRole.getId());
+        assertEquals(roleDAO.getPermissionListOfRoles(sharedRoleIds, SAMPLE_SUB_ORG_TENANT_DOMAIN),
+                getPermissionNameList(permissions));
+
+        // The shared role gets its permissions from the updated role.
+        List<Permission> newPermissions = Collections.singletonList(new Permission("view", "view"));
+        roleDAO.updatePermissionListOfRole(role.getId(), newPermissions, permissions, SAMPLE_TENANT_DOMAIN);
+        verify(mockRolePermissionCache).clearCacheEntry(new RoleIdCacheKey(sharedRole.getId()), 2);
+        assertEquals(roleDAO.getPermissionListOfRoles(sharedRoleIds, SAMPLE_SUB_ORG_TENANT_DOMAIN),
+                Collections.singletonList("view"));
+    }
+
+    @Test
+    public void testAddMainRoleToSharedRoleRelationshipClearsCachedPermissions() throws Exception {
+
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDao();
+        RoleBasicInfo role = addRole(SHARED_ROLE_NAME, APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(SAMPLE_SUB_ORG_TENANT_DOMAIN)).thenReturn(2);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(2)).thenReturn(SAMPLE_SUB_ORG_TENANT_DOMAIN);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(1)).thenReturn(SAMPLE_TENANT_DOMAIN);
+        RoleBasicInfo sharedRole = addRole(SHARED_ROLE_NAME, APPLICATION_AUD, "test-app-id-3",
+                SAMPLE_SUB_ORG_TENANT_DOMAIN, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>(), new HashMap<>(), roleDAO, true);
+        List<String> sharedRoleIds = Collections.singletonList(sharedRole.getId());
+        assertTrue(roleDAO.getPermissionListOfRoles(sharedRoleIds, SAMPLE_SUB_ORG_TENANT_DOMAIN).isEmpty());
+
+        // Once shared, the role gets the permissions of the main role.
+        roleDAO.addMainRoleToSharedRoleRelationship(role.getId(), sharedRole.getId(), SAMPLE_TENANT_DOMAIN,
+                SAMPLE_SUB_ORG_TENANT_DOMAIN);
+        assertEquals(roleDAO.getPermissionListOfRoles(sharedRoleIds, SAMPLE_SUB_ORG_TENANT_DOMAIN),
+                getPermissionNameList(permissions));
+    }
+
+    @Test
+    public void testDeleteRoleClearsCachedPermissions() throws Exception {
+
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDao();
+        userCoreUtil.when(() -> UserCoreUtil.addDomainToName(anyString(), anyString())).thenCallRealMethod();
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        List<String> roleIds = Collections.singletonList(role.getId());
+        assertEquals(roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN),
+                getPermissionNameList(permissions));
+
+        // The shared roles of the role in sub organizations are deleted along with it.
+        doReturn(Collections.singletonList(new RoleDTO(roleNamesList.get(0), "shared-role-id", 1, 2)))
+                .when(roleDAO).getSharedHybridRoles(role.getId(), SAMPLE_TENANT_ID);
+        mockRealmConfiguration();
+        AuthorizationManager authorizationManager = mock(JDBCAuthorizationManager.class);
+        when(mockUserRealm.getAuthorizationManager()).thenReturn(authorizationManager);
+        roleDAO.deleteRole(role.getId(), SAMPLE_TENANT_DOMAIN);
+
+        assertTrue(roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN).isEmpty());
+        verify(mockRolePermissionCache).clearCacheEntry(new RoleIdCacheKey(role.getId()), SAMPLE_TENANT_DOMAIN);
+        verify(mockRolePermissionCache).clearCacheEntry(new RoleIdCacheKey("shared-role-id"), 2);
+    }
+
+    @Test
+    public void testRoleCacheMetrics() throws Exception {
+
+        CacheBackedRoleDAO roleDAO = setupCacheBackedRoleDao();
+        RoleBasicInfo role = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        assignIdpGroups(role.getId(), roleDAO);
+        List<String> groupIds = Arrays.asList("test-group1-id", "test-group2-id");
+
+        RoleCacheMetrics metrics = RoleCacheMetrics.getInstance();
+        long rolePermissionCacheHitCount = metrics.getRolePermissionCacheHitCount();
+        long rolePermissionCacheMissCount = metrics.getRolePermissionCacheMissCount();
+        long roleIdpGroupCacheHitCount = metrics.getRoleIdpGroupCacheHitCount();
+        long roleIdpGroupCacheMissCount = metrics.getRoleIdpGroupCacheMissCount();
+        long idpGroupRoleCacheHitCount = metrics.getIdpGroupRoleCacheHitCount();
+        long idpGroupRoleCacheMissCount = metrics.getIdpGroupRoleCacheMissCount();
+        for (int i = 0; i < 2; i++) {
+            roleDAO.getPermissionListOfRoles(Collections.singletonList(role.getId()), SAMPLE_TENANT_DOMAIN);
+            roleDAO.getIdpGroupIdsOfRole(role.getId(), SAMPLE_TENANT_DOMAIN);
+            roleDAO.getRoleIdListOfIdpGroups(groupIds, SAMPLE_TENANT_DOMAIN);
+        }
+
+        // The first lookups miss and load the caches, the second lookups hit. IdP groups are counted per group.
+        assertEquals(metrics.getRolePermissionCacheHitCount(), rolePermissionCacheHitCount + 1);
+        assertEquals(metrics.getRolePermissionCacheMissCount(), rolePermissionCacheMissCount + 1);
+        assertEquals(metrics.getRoleIdpGroupCacheHitCount(), roleIdpGroupCacheHitCount + 1);
+        assertEquals(metrics.getRoleIdpGroupCacheMissCount(), roleIdpGroupCacheMissCount + 1);
+        assertEquals(metrics.getIdpGroupRoleCacheHitCount(), idpGroupRoleCacheHitCount + 2);
+        assertEquals(metrics.getIdpGroupRoleCacheMissCount(), idpGroupRoleCacheMissCount + 2);
+        assertTrue(metrics.getStatistics().contains("IdpGroupRoleCache hits: " + (idpGroupRoleCacheHitCount + 2)));
+    }
+
     @Test
     public void testGetUserListOfRole() throws Exception {
 
@@ -1259,6 +1564,11 @@ public class RoleDAOTest {
 
         roleDAO.addMainRoleToSharedRoleRelationship(mainRole.getId(), sharedRole.getId(), SAMPLE_TENANT_DOMAIN,
                 SAMPLE_SUB_ORG_TENANT_DOMAIN);
+        List<String> manyRoleIds = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            manyRoleIds.add(UUID.randomUUID().toString());
+        }
+        manyRoleIds.add(sharedRole.getId());
 
         return new Object[][]{
                 // Test with shared role (should return the mapping for the shared role)
@@ -1268,7 +1578,9 @@ public class RoleDAOTest {
                 // Test with shared and main roles (should return the mapping only for the shared role)
                 {Arrays.asList(sharedRole.getId(), mainRole.getId()), mainRole.getId(), 1},
                 // Test with no shared or main roles (should return an empty mapping)
-                {Collections.emptyList(), mainRole.getId(), 0}
+                {Collections.emptyList(), mainRole.getId(), 0},
+                // Test with more roles than a batch (should return the mapping of the shared role in the last batch)
+                {manyRoleIds, mainRole.getId(), 1}
         };
     }
 
@@ -1291,7 +1603,74 @@ public class RoleDAOTest {
 
     private RoleDAOImpl setupRoleDaoImpl() throws Exception {
 
-        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        return setupRoleDao(spy(new RoleDAOImpl()));
+    }
+
+    private CacheBackedRoleDAO setupCacheBackedRoleDao() throws Exception {
+
+        try (MockedStatic<RoleIdCacheByName> roleIdCacheByName = mockStatic(RoleIdCacheByName.class);
+             MockedStatic<RolePermissionCache> rolePermissionCache = mockStatic(RolePermissionCache.class);
+             MockedStatic<RoleIdpGroupCache> roleIdpGroupCache = mockStatic(RoleIdpGroupCache.class);
+             MockedStatic<IdpGroupRoleCache> idpGroupRoleCache = mockStatic(IdpGroupRoleCache.class)) {
+            mockRolePermissionCache = mockCache(RolePermissionCache.class);
+            mockRoleIdpGroupCache = mockCache(RoleIdpGroupCache.class);
+            mockIdpGroupRoleCache = mockCache(IdpGroupRoleCache.class);
+            roleIdCacheByName.when(RoleIdCacheByName::getInstance).thenReturn(mock(RoleIdCacheByName.class));
+            rolePermissionCache.when(RolePermissionCache::getInstance).thenReturn(mockRolePermissionCache);
+            roleIdpGroupCache.when(RoleIdpGroupCache::getInstance).thenReturn(mockRoleIdpGroupCache);
+            idpGroupRoleCache.when(IdpGroupRoleCache::getInstance).thenReturn(mockIdpGroupRoleCache);
+            return setupRoleDao(spy(new CacheBackedRoleDAO()));
+        }
+    }
+
+    /**
+     * Mock a role management cache which keeps the cache entries of each tenant in a map.
+     *
+     * @param cacheClass Class of the cache.
+     * @return Mocked cache.
+     */
+    private <K extends Serializable, V extends Serializable, C extends BaseCache<K, V>> C mockCache(
+            Class<C> cacheClass) {
+
+        C cache = mock(cacheClass);
+        Map<String, Map<K, V>> cacheEntries = new HashMap<>();
+        Function<Object, Map<K, V>> tenantCacheEntries = tenant -> cacheEntries.computeIfAbsent(
+                tenant instanceof Integer ? IdentityTenantUtil.getTenantDomain((Integer) tenant) : (String) tenant,
+                tenantDomain -> new HashMap<>());
+
+        lenient().doAnswer(invocation -> tenantCacheEntries.apply(invocation.getArgument(1))
+                .get(invocation.getArgument(0))).when(cache).getValueFromCache(any(), anyString());
+        lenient().doAnswer(invocation -> {
+            tenantCacheEntries.apply(invocation.getArgument(2)).put(invocation.getArgument(0),
+                    invocation.getArgument(1));
+            return null;
+        }).when(cache).addToCache(any(), any(), anyString());
+        Answer<Void> clearCacheEntry = invocation -> {
+            tenantCacheEntries.apply(invocation.getArgument(1)).remove(invocation.getArgument(0));
+            return null;
+        };
+        lenient().doAnswer(clearCacheEntry).when(cache).clearCacheEntry(any(), anyString());
+        lenient().doAnswer(clearCacheEntry).when(cache).clearCacheEntry(any(), anyInt());
+        Answer<Void> clear = invocation -> {
+            tenantCacheEntries.apply(invocation.getArgument(0)).clear();
+            return null;
+        };
+        lenient().doAnswer(clear).when(cache).clear(anyString());
+        lenient().doAnswer(clear).when(cache).clear(anyInt());
+        return cache;
+    }
+
+    private void assignIdpGroups(String roleId, RoleDAOImpl roleDAO) throws Exception {
+
+        List<IdpGroup> idpGroups = new ArrayList<>();
+        idpGroups.add(new IdpGroup("test-group1-id", "test-idp-id"));
+        idpGroups.add(new IdpGroup("test-group2-id", "test-idp-id"));
+        doNothing().when(roleDAO).validateGroupIds(anyList(), anyString());
+        roleDAO.updateIdpGroupListOfRole(roleId, idpGroups, new ArrayList<>(), SAMPLE_TENANT_DOMAIN);
+    }
+
+    private <T extends RoleDAOImpl> T setupRoleDao(T roleDAO) throws Exception {
+
         mockCacheClearing(roleDAO);
         identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
                 .thenAnswer(invocation -> getConnection());
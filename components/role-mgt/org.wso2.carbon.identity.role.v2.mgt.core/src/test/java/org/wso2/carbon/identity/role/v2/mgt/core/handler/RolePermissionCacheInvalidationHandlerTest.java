@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.handler;
+
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.internal.RoleManagementServiceComponentHolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link RolePermissionCacheInvalidationHandler}.
+ */
+@WithCarbonHome
+public class RolePermissionCacheInvalidationHandlerTest {
+
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final String ORGANIZATION_ID = "test-org-id";
+    private static final String CHILD_ORGANIZATION_HANDLE_1 = "child-org-001";
+    private static final String CHILD_ORGANIZATION_HANDLE_2 = "child-org-002";
+
+    @Mock
+    private OrganizationManager organizationManager;
+
+    @Mock
+    private RolePermissionCache rolePermissionCache;
+
+    private MockedStatic<RolePermissionCache> mockedRolePermissionCache;
+    private RolePermissionCacheInvalidationHandler handler;
+
+    @BeforeClass
+    public void init() {
+
+        openMocks(this);
+    }
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        reset(organizationManager, rolePermissionCache);
+        mockedRolePermissionCache = mockStatic(RolePermissionCache.class);
+        mockedRolePermissionCache.when(RolePermissionCache::getInstance).thenReturn(rolePermissionCache);
+        RoleManagementServiceComponentHolder.getInstance().setOrganizationManager(organizationManager);
+
+        BasicOrganization childOrganization1 = mock(BasicOrganization.class);
+        when(childOrganization1.getOrganizationHandle()).thenReturn(CHILD_ORGANIZATION_HANDLE_1);
+        BasicOrganization childOrganization2 = mock(BasicOrganization.class);
+        when(childOrganization2.getOrganizationHandle()).thenReturn(CHILD_ORGANIZATION_HANDLE_2);
+        when(organizationManager.resolveOrganizationId(TENANT_DOMAIN)).thenReturn(ORGANIZATION_ID);
+        when(organizationManager.getChildOrganizations(ORGANIZATION_ID, true))
+                .thenReturn(Arrays.asList(childOrganization1, childOrganization2));
+        handler = new RolePermissionCacheInvalidationHandler();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        mockedRolePermissionCache.close();
+        RoleManagementServiceComponentHolder.getInstance().setOrganizationManager(null);
+    }
+
+    @DataProvider
+    public Object[][] scopeDeletingEventProvider() {
+
+        return new Object[][]{
+                {IdentityEventConstants.Event.POST_DELETE_API_RESOURCE},
+                {IdentityEventConstants.Event.POST_UPDATE_API_RESOURCE},
+                {IdentityEventConstants.Event.POST_DELETE_API_RESOURCE_SCOPES},
+                {IdentityEventConstants.Event.POST_DELETE_SCOPE},
+                {IdentityEventConstants.Event.POST_PUT_API_RESOURCE_SCOPES}
+        };
+    }
+
+    @Test(dataProvider = "scopeDeletingEventProvider")
+    public void testHandleScopeDeletingEvent(String eventName) throws Exception {
+
+        Event event = buildEvent(eventName, Collections.singletonList("deleted-scope"));
+        assertTrue(handler.canHandle(new IdentityEventMessageContext(event)));
+
+        handler.handleEvent(event);
+        verify(rolePermissionCache).clear(TENANT_DOMAIN);
+        verify(rolePermissionCache).clear(CHILD_ORGANIZATION_HANDLE_1);
+        verify(rolePermissionCache).clear(CHILD_ORGANIZATION_HANDLE_2);
+    }
+
+    @Test
+    public void testHandleApiResourceUpdateWithoutDeletedScopes() throws Exception {
+
+        handler.handleEvent(buildEvent(IdentityEventConstants.Event.POST_UPDATE_API_RESOURCE, new ArrayList<>()));
+        verify(rolePermissionCache, never()).clear(anyString());
+    }
+
+    @Test
+    public void testHandleEventWhenChildOrganizationsCannotBeResolved() throws Exception {
+
+        when(organizationManager.getChildOrganizations(ORGANIZATION_ID, true))
+                .thenThrow(new OrganizationManagementException("Mocked Exception"));
+
+        handler.handleEvent(buildEvent(IdentityEventConstants.Event.POST_DELETE_SCOPE, null));
+        verify(rolePermissionCache).clear(TENANT_DOMAIN);
+        verify(rolePermissionCache, never()).clear(CHILD_ORGANIZATION_HANDLE_1);
+    }
+
+    @Test
+    public void testCanHandleOtherEvent() {
+
+        assertFalse(handler.canHandle(new IdentityEventMessageContext(
+                new Event(IdentityEventConstants.Event.POST_ADD_API_RESOURCE))));
+    }
+
+    private Event buildEvent(String eventName, Object deletedScopes) {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN, TENANT_DOMAIN);
+        eventProperties.put(IdentityEventConstants.EventProperty.DELETED_SCOPES, deletedScopes);
+        return new Event(eventName, eventProperties);
+    }
+}
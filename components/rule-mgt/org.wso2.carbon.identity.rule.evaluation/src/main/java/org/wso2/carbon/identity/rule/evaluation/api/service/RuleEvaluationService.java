@@ -22,6 +22,10 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.FlowContext;
 import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Rule evaluation service interface.
  * This interface is used to evaluate a rule.
@@ -40,4 +44,23 @@ public interface RuleEvaluationService {
     RuleEvaluationResult evaluate(String ruleId, FlowContext flowContext, String tenantDomain)
             throws RuleEvaluationException;
 
+    /**
+     * Evaluate the rules with the given rule ids against the same flow context.
+     * Implementations may resolve each field used in the rules from the flow context only once for all the rules.
+     *
+     * @param ruleIds      Rule ids.
+     * @param flowContext  Flow context.
+     * @param tenantDomain Tenant domain.
+     * @return Map of rule id to rule evaluation result, in the order of the given rule ids.
+     * @throws RuleEvaluationException If an error occurs while evaluating any of the rules.
+     */
+    default Map<String, RuleEvaluationResult> evaluate(List<String> ruleIds, FlowContext flowContext,
+                                                       String tenantDomain) throws RuleEvaluationException {
+
+        Map<String, RuleEvaluationResult> ruleEvaluationResults = new LinkedHashMap<>();
+        for (String ruleId : ruleIds) {
+            ruleEvaluationResults.put(ruleId, evaluate(ruleId, flowContext, tenantDomain));
+        }
+        return ruleEvaluationResults;
+    }
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
+import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Expression;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Rule;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.BOOLEAN;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.LIST;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.NUMBER;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.REFERENCE;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.STRING;
+
+/**
+ * Immutable evaluation plan of a rule.
+ * The operators of the expressions are resolved and the expression values are parsed to each of the supported value
+ * types once, when the rule is compiled. The expressions of each AND combined rule, and the AND combined rules of the
+ * OR combined rule, are ordered by their evaluation cost so that the cheaper checks short circuit the evaluation.
+ */
+public class CompiledRule {
+
+    // Operators
+    private static final String EQUALS = "equals";
+    private static final String NOT_EQUALS = "notEquals";
+    private static final String CONTAINS = "contains";
+
+    private final Rule rule;
+    private final CompiledExpression[][] andCombinedRules;
+
+    private CompiledRule(Rule rule, CompiledExpression[][] andCombinedRules) {
+
+        this.rule = rule;
+        this.andCombinedRules = andCombinedRules;
+    }
+
+    /**
+     * Compile the given rule.
+     *
+     * @param rule             Rule to compile.
+     * @param operatorRegistry Operator registry to resolve the operators of the expressions.
+     * @return Compiled rule.
+     */
+    public static CompiledRule compile(Rule rule, OperatorRegistry operatorRegistry) {
+
+        ORCombinedRule orRule = (ORCombinedRule) rule;
+        List<CompiledExpression[]> andCombinedRules = new ArrayList<>(orRule.getRules().size());
+        for (ANDCombinedRule andRule : orRule.getRules()) {
+            List<CompiledExpression> expressions = new ArrayList<>(andRule.getExpressions().size());
+            for (Expression expression : andRule.getExpressions()) {
+                expressions.add(new CompiledExpression(expression, operatorRegistry.getOperator(
+                        expression.getOperator())));
+            }
+            // List.sort is stable, hence expressions of the same cost keep their configured order.
+            expressions.sort(Comparator.comparingInt(CompiledExpression::getCost));
+            andCombinedRules.add(expressions.toArray(new CompiledExpression[0]));
+        }
+        andCombinedRules.sort(Comparator.comparingInt(CompiledRule::getCost));
+        return new CompiledRule(rule, andCombinedRules.toArray(new CompiledExpression[0][]));
+    }
+
+    /**
+     * Check whether this plan was compiled from the given rule instance.
+     *
+     * @param rule Rule.
+     * @return True if the plan was compiled from the given rule instance.
+     */
+    public boolean isCompiledFrom(Rule rule) {
+
+        return this.rule == rule;
+    }
+
+    /**
+     * Evaluate the rule against the given evaluation data.
+     *
+     * @param evaluationData Evaluation data.
+     * @return Evaluation result.
+     * @throws RuleEvaluationException If an error occurs while evaluating the rule.
+     */
+    public boolean evaluate(Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
+        for (CompiledExpression[] andRule : andCombinedRules) {
+            if (evaluateANDCombinedRule(andRule, evaluationData)) {
+                return true; // If any ANDCombinedRule evaluates to true, the ORCombinedRule passes
+            }
+        }
+        return false; // If none of the ANDCombinedRules pass, the ORCombinedRule fails
+    }
+
+    private static boolean evaluateANDCombinedRule(CompiledExpression[] andRule,
+                                                   Map<String, FieldValue> evaluationData)
+            throws RuleEvaluationException {
+
+        for (CompiledExpression expression : andRule) {
+            if (!expression.evaluate(evaluationData)) {
+                return false; // If any expression fails, the ANDCombinedRule fails
+            }
+        }
+        return true; // All expressions passed, the ANDCombinedRule passes
+    }
+
+    private static int getCost(CompiledExpression[] andRule) {
+
+        int cost = 0;
+        for (CompiledExpression expression : andRule) {
+            cost += expression.getCost();
+        }
+        return cost;
+    }
+
+    /**
+     * Expression of which the operator is resolved and the value is parsed to the supported value types.
+     */
+    private static final class CompiledExpression {
+
+        private final String field;
+        private final String operatorName;
+        private final Operator operator;
+        private final String stringValue;
+        private final Boolean booleanValue;
+        private final Double numberValue;
+        private final int cost;
+
+        private CompiledExpression(Expression expression, Operator operator) {
+
+            this.field = expression.getField();
+            this.operatorName = expression.getOperator();
+            this.operator = operator;
+            this.stringValue = expression.getValue().getFieldValue();
+            this.booleanValue = Boolean.parseBoolean(stringValue);
+            this.numberValue = parseNumber(stringValue);
+            this.cost = resolveCost(operatorName);
+        }
+
+        private boolean evaluate(Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
+            FieldValue fieldValue = evaluationData.get(field);
+            if (fieldValue == null) {
+                throw new RuleEvaluationException("Field value not found for the field: " + field);
+            }
+            if (operator == null) {
+                throw new RuleEvaluationException("Unsupported operator: " + operatorName);
+            }
+
+            // Evaluate based on the value type of the field
+            if (fieldValue.getValueType().equals(STRING) || fieldValue.getValueType().equals(REFERENCE)) {
+                return operator.apply(fieldValue.getValue(), stringValue);
+            } else if (fieldValue.getValueType().equals(BOOLEAN)) {
+                return operator.apply(fieldValue.getValue(), booleanValue);
+            } else if (fieldValue.getValueType().equals(NUMBER)) {
+                if (numberValue == null) {
+                    throw new NumberFormatException("Invalid number value: " + stringValue + " for the field: "
+                            + field);
+                }
+                return operator.apply(fieldValue.getValue(), numberValue);
+            } else if (fieldValue.getValueType().equals(LIST)) {
+                return applyOperatorForList(fieldValue.getValue());
+            }
+
+            throw new IllegalStateException("Unsupported value type: " + fieldValue.getValueType());
+        }
+
+        private boolean applyOperatorForList(Object fieldValue) {
+
+            List<?> list = (List<?>) fieldValue;
+
+            if (operatorName.equals(EQUALS)) {
+                return list.contains(stringValue);
+            } else if (operatorName.equals(NOT_EQUALS)) {
+                return !list.contains(stringValue);
+            }
+
+            throw new IllegalStateException("Unsupported operator: " + operatorName + " for LIST value type");
+        }
+
+        private int getCost() {
+
+            return cost;
+        }
+
+        private static Double parseNumber(String value) {
+
+            try {
+                return value == null ? null : Double.valueOf(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static int resolveCost(String operatorName) {
+
+            switch (operatorName) {
+                case EQUALS:
+                case NOT_EQUALS:
+                    return 1;
+                case CONTAINS:
+                    return 2;
+                default:
+                    return 3;
+            }
+        }
+    }
+}
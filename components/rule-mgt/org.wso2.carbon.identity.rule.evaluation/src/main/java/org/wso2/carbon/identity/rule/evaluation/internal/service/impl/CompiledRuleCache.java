@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.management.api.model.Rule;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of compiled rules.
+ * Rules are served from the rule management cache, which returns the same rule instance until the rule is updated,
+ * deleted or evicted. A compiled rule is therefore reused only for the rule instance it was compiled from, and a rule
+ * is compiled again once the rule management cache returns a new instance for it.
+ */
+public class CompiledRuleCache {
+
+    private static final CompiledRuleCache INSTANCE = new CompiledRuleCache();
+    private static final int MAX_ENTRIES = 10000;
+
+    private final Map<String, CompiledRule> compiledRules = new ConcurrentHashMap<>();
+
+    private CompiledRuleCache() {
+
+    }
+
+    public static CompiledRuleCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the compiled rule for the given rule, compiling the rule if it is not compiled yet or has been changed.
+     *
+     * @param rule             Rule.
+     * @param operatorRegistry Operator registry to resolve the operators of the expressions.
+     * @return Compiled rule.
+     */
+    public CompiledRule getCompiledRule(Rule rule, OperatorRegistry operatorRegistry) {
+
+        CompiledRule compiledRule = compiledRules.get(rule.getId());
+        if (compiledRule != null && compiledRule.isCompiledFrom(rule)) {
+            return compiledRule;
+        }
+
+        compiledRule = CompiledRule.compile(rule, operatorRegistry);
+        if (compiledRules.size() >= MAX_ENTRIES) {
+            // Entries of deleted rules are not removed otherwise, hence start over once the limit is reached.
+            compiledRules.clear();
+        }
+        compiledRules.put(rule.getId(), compiledRule);
+        return compiledRule;
+    }
+}
@@ -34,9 +34,14 @@ import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.metadata.api.exception.RuleMetadataException;
 import org.wso2.carbon.identity.rule.metadata.api.model.FieldDefinition;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -74,6 +79,58 @@ public class RuleEvaluationServiceImpl implements RuleEvaluationService {
         return new RuleEvaluationResult(ruleId, evaluationStatus);
     }
 
+    @Override
+    public Map<String, RuleEvaluationResult> evaluate(List<String> ruleIds, FlowContext flowContext,
+                                                      String tenantDomain) throws RuleEvaluationException {
+
+        Map<String, RuleEvaluationResult> evaluationResults = new LinkedHashMap<>();
+        if (ruleIds == null || ruleIds.isEmpty()) {
+            return evaluationResults;
+        }
+
+        FieldExtractor fieldExtractor = null;
+        RuleEvaluator ruleEvaluator = new RuleEvaluator(RuleEvaluationComponentServiceHolder.getInstance()
+                .getOperatorRegistry());
+        // Field values resolved so far, shared by all the rules evaluated against the flow context.
+        Map<String, FieldValue> evaluationData = new HashMap<>();
+        Set<String> requestedFieldNames = new HashSet<>();
+
+        for (String ruleId : ruleIds) {
+            if (evaluationResults.containsKey(ruleId)) {
+                continue;
+            }
+            Rule rule = getRuleFromRuleManagementService(ruleId, tenantDomain);
+
+            if (!rule.isActive()) {
+                LOG.debug("Rule: " + rule.getId() + " is inactive. Skip evaluation of rule.");
+                evaluationResults.put(ruleId, new RuleEvaluationResult(ruleId, false));
+                continue;
+            }
+
+            LOG.debug("Starting to evaluate rule: " + rule.getId() + ".");
+
+            if (fieldExtractor == null) {
+                fieldExtractor = new FieldExtractor(
+                        getRuleMetaFromRuleMetadataService(flowContext.getFlowType(), tenantDomain));
+            }
+            List<Field> unresolvedFields = new ArrayList<>();
+            for (Field field : fieldExtractor.extractFields(rule)) {
+                if (requestedFieldNames.add(field.getName())) {
+                    unresolvedFields.add(field);
+                }
+            }
+            if (!unresolvedFields.isEmpty()) {
+                evaluationData.putAll(getEvaluationData(ruleId, flowContext, tenantDomain, unresolvedFields));
+            }
+
+            boolean evaluationStatus = ruleEvaluator.evaluate(rule, evaluationData);
+            LOG.debug("Evaluated rule: " + rule.getId() + " to: " + evaluationStatus + ".");
+            evaluationResults.put(ruleId, new RuleEvaluationResult(ruleId, evaluationStatus));
+        }
+
+        return evaluationResults;
+    }
+
     private Map<String, FieldValue> getEvaluationData(String ruleId, FlowContext flowContext,
                                                       String tenantDomain, List<Field> fieldsInRule)
             throws RuleEvaluationException {
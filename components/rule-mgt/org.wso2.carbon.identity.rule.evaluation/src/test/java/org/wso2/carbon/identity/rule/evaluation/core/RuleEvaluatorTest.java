@@ -28,10 +28,13 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
 import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
 import org.wso2.carbon.identity.rule.evaluation.internal.component.RuleEvaluationComponentServiceHolder;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.CompiledRule;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.CompiledRuleCache;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.OperatorRegistry;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluator;
 import org.wso2.carbon.identity.rule.management.api.model.Expression;
 import org.wso2.carbon.identity.rule.management.api.model.FlowType;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.management.api.model.Value;
 import org.wso2.carbon.identity.rule.management.api.util.RuleBuilder;
@@ -60,7 +63,10 @@ import java.util.Objects;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class RuleEvaluatorTest {
@@ -149,6 +155,37 @@ public class RuleEvaluatorTest {
                 Collections.emptyMap());
     }
 
+    @Test
+    public void testCompiledRuleIsReusedUntilRuleChanges() throws Exception {
+
+        Rule rule = createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes();
+        CompiledRule compiledRule = CompiledRuleCache.getInstance().getCompiledRule(rule, operatorRegistry);
+        assertSame(CompiledRuleCache.getInstance().getCompiledRule(rule, operatorRegistry), compiledRule);
+
+        // An updated rule is served as a new instance with the same id.
+        Rule updatedRule = new ORCombinedRule.Builder((ORCombinedRule) rule).build();
+        assertEquals(updatedRule.getId(), rule.getId());
+        CompiledRule recompiledRule = CompiledRuleCache.getInstance().getCompiledRule(updatedRule, operatorRegistry);
+        assertNotSame(recompiledRule, compiledRule);
+        assertTrue(recompiledRule.isCompiledFrom(updatedRule));
+    }
+
+    @Test
+    public void testCheaperExpressionShortCircuitsEvaluation() throws Exception {
+
+        RuleBuilder ruleBuilder = RuleBuilder.create(FlowType.PRE_ISSUE_ACCESS_TOKEN, "tenant1");
+        ruleBuilder.addAndExpression(new Expression.Builder().field("email").operator("contains")
+                .value(new Value(Value.Type.STRING, "wso2.com")).build());
+        ruleBuilder.addAndExpression(new Expression.Builder().field("application").operator("equals")
+                .value(new Value(Value.Type.REFERENCE, "testapp")).build());
+        Rule rule = ruleBuilder.build();
+
+        // The equals expression is evaluated before the contains expression, hence the missing email is not read.
+        Map<String, FieldValue> evaluationData = new HashMap<>();
+        evaluationData.put("application", new FieldValue("application", "otherapp", ValueType.REFERENCE));
+        assertFalse(ruleEvaluator.evaluate(rule, evaluationData));
+    }
+
     private Rule createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes() throws Exception {
 
         RuleBuilder ruleBuilder = RuleBuilder.create(FlowType.PRE_ISSUE_ACCESS_TOKEN, "tenant1");
@@ -27,9 +27,11 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FlowContext;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
+import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationContext;
 import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
 import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
 import org.wso2.carbon.identity.rule.evaluation.api.provider.RuleEvaluationDataProvider;
+import org.wso2.carbon.identity.rule.evaluation.api.service.RuleEvaluationService;
 import org.wso2.carbon.identity.rule.evaluation.internal.component.RuleEvaluationComponentServiceHolder;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluationDataManager;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluationServiceImpl;
@@ -58,11 +60,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -227,6 +233,88 @@ public class RuleEvaluationServiceImplTest {
         ruleEvaluationService.evaluate(ruleId, flowContext, tenantDomain);
     }
 
+    @Test
+    public void testEvaluateMultipleRules() throws Exception {
+
+        String tenantDomain = "tenant1";
+        Rule rule1 = createRule(tenantDomain);
+        Rule rule2 = createRule(tenantDomain);
+        Rule rule3 = createRiskScoreRule(tenantDomain);
+        Rule inactiveRule = mock(Rule.class);
+        when(inactiveRule.getId()).thenReturn("inactiveRule");
+        when(inactiveRule.isActive()).thenReturn(false);
+        when(ruleManagementService.getRuleByRuleId(rule1.getId(), tenantDomain)).thenReturn(rule1);
+        when(ruleManagementService.getRuleByRuleId(rule2.getId(), tenantDomain)).thenReturn(rule2);
+        when(ruleManagementService.getRuleByRuleId(rule3.getId(), tenantDomain)).thenReturn(rule3);
+        when(ruleManagementService.getRuleByRuleId("inactiveRule", tenantDomain)).thenReturn(inactiveRule);
+
+        List<FieldValue> fieldValues = new ArrayList<>(getMockedFieldValues());
+        fieldValues.add(new FieldValue("riskScore", 5));
+        List<List<String>> requestedFields = new ArrayList<>();
+        when(ruleEvaluationDataProvider.getEvaluationData(any(), any(), any())).thenAnswer(invocation -> {
+            RuleEvaluationContext ruleEvaluationContext = invocation.getArgument(0);
+            List<String> fieldNames = ruleEvaluationContext.getFields().stream()
+                    .map(org.wso2.carbon.identity.rule.evaluation.api.model.Field::getName)
+                    .collect(Collectors.toList());
+            requestedFields.add(fieldNames);
+            return fieldValues.stream().filter(fieldValue -> fieldNames.contains(fieldValue.getName()))
+                    .collect(Collectors.toList());
+        });
+
+        FlowContext flowContext = new FlowContext(FlowType.PRE_ISSUE_ACCESS_TOKEN, Collections.emptyMap());
+        Map<String, RuleEvaluationResult> results = ruleEvaluationService.evaluate(
+                Arrays.asList(rule1.getId(), rule2.getId(), "inactiveRule", rule3.getId()), flowContext,
+                tenantDomain);
+
+        assertEquals(results.size(), 4);
+        assertTrue(results.get(rule1.getId()).isRuleSatisfied());
+        assertTrue(results.get(rule2.getId()).isRuleSatisfied());
+        assertFalse(results.get("inactiveRule").isRuleSatisfied());
+        assertFalse(results.get(rule3.getId()).isRuleSatisfied());
+
+        // Each field is resolved only once, and only when a rule needs it.
+        verify(ruleEvaluationDataProvider, times(2)).getEvaluationData(any(), any(), any());
+        assertEquals(requestedFields.get(0), Arrays.asList("application", "grantType"));
+        assertEquals(requestedFields.get(1), Collections.singletonList("riskScore"));
+    }
+
+    @Test
+    public void testDefaultEvaluateMultipleRules() throws Exception {
+
+        List<String> evaluatedRuleIds = new ArrayList<>();
+        RuleEvaluationService singleRuleEvaluationService = (ruleId, flowContext, tenantDomain) -> {
+            evaluatedRuleIds.add(ruleId);
+            return new RuleEvaluationResult(ruleId, !"rule2".equals(ruleId));
+        };
+
+        FlowContext flowContext = new FlowContext(FlowType.PRE_ISSUE_ACCESS_TOKEN, Collections.emptyMap());
+        Map<String, RuleEvaluationResult> results = singleRuleEvaluationService.evaluate(
+                Arrays.asList("rule3", "rule1", "rule2"), flowContext, "tenant1");
+
+        assertEquals(evaluatedRuleIds, Arrays.asList("rule3", "rule1", "rule2"));
+        assertEquals(new ArrayList<>(results.keySet()), Arrays.asList("rule3", "rule1", "rule2"));
+        assertTrue(results.get("rule1").isRuleSatisfied());
+        assertFalse(results.get("rule2").isRuleSatisfied());
+        assertTrue(results.get("rule3").isRuleSatisfied());
+    }
+
+    private Rule createRiskScoreRule(String tenantDomain) throws Exception {
+
+        RuleBuilder ruleBuilder =
+                RuleBuilder.create(org.wso2.carbon.identity.rule.management.api.model.FlowType.PRE_ISSUE_ACCESS_TOKEN,
+                        tenantDomain);
+
+        Expression expression1 = new Expression.Builder().field("application").operator("equals")
+                .value(new Value(Value.Type.REFERENCE, "testapp")).build();
+        ruleBuilder.addAndExpression(expression1);
+
+        Expression expression2 = new Expression.Builder().field("riskScore").operator("equals")
+                .value(new Value(Value.Type.NUMBER, "10")).build();
+        ruleBuilder.addAndExpression(expression2);
+
+        return ruleBuilder.build();
+    }
+
     private Rule createRule(String tenantDomain) throws Exception {
 
         RuleBuilder ruleBuilder =